@@ -0,0 +1,57 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access;
+
+import static org.opentcs.util.Assertions.checkArgument;
+
+import java.io.Serializable;
+
+/**
+ * Emitted to a client when events buffered for it had to be discarded because the client did not
+ * fetch them in time.
+ * <p>
+ * Since the client missed events, its view on the kernel's state may be outdated. Upon receiving
+ * this event, the client should therefore retrieve the states of the objects it is interested in
+ * from the kernel again. Events following this one were emitted after the discarded ones.
+ * </p>
+ */
+public class EventBufferOverflowEvent
+    implements
+      Serializable {
+
+  /**
+   * The number of events that were discarded.
+   */
+  private final long discardedEventCount;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param discardedEventCount The number of events that were discarded.
+   */
+  public EventBufferOverflowEvent(long discardedEventCount) {
+    checkArgument(
+        discardedEventCount > 0,
+        "discardedEventCount must be greater than 0, but is %d",
+        discardedEventCount
+    );
+    this.discardedEventCount = discardedEventCount;
+  }
+
+  /**
+   * Returns the number of events that were discarded.
+   *
+   * @return The number of events that were discarded.
+   */
+  public long getDiscardedEventCount() {
+    return discardedEventCount;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName()
+        + '{'
+        + "discardedEventCount=" + discardedEventCount
+        + '}';
+  }
+}
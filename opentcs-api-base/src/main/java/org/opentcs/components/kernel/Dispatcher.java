@@ -3,8 +3,10 @@
 package org.opentcs.components.kernel;
 
 import jakarta.annotation.Nonnull;
+import java.util.Set;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.components.kernel.dipatching.TransportOrderAssignmentException;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.ReroutingType;
 import org.opentcs.data.order.TransportOrder;
@@ -72,6 +74,26 @@ public interface Dispatcher
    */
   void dispatch();
 
+  /**
+   * Notifies the dispatcher that it should start the dispatching process for the given vehicles,
+   * e.g. because their states have changed in a way that is relevant for dispatching.
+   * <p>
+   * Implementations may restrict the dispatching process to the given vehicles, but may as well
+   * consider all vehicles. The default implementation simply calls {@link #dispatch()}.
+   * </p>
+   * <p>
+   * This method is supposed to be called only from the kernel executor thread.
+   * </p>
+   *
+   * @param vehicles The vehicles to dispatch.
+   */
+  default void dispatch(
+      @Nonnull
+      Set<TCSObjectReference<Vehicle>> vehicles
+  ) {
+    dispatch();
+  }
+
   /**
    * Notifies the dispatcher that the given transport order is to be withdrawn/aborted.
    * <p>
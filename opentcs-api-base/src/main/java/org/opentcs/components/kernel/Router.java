@@ -2,8 +2,12 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.components.kernel;
 
+import static java.util.Objects.requireNonNull;
+
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -164,6 +168,63 @@ public interface Router
       Set<TCSResourceReference<?>> resourcesToAvoid
   );
 
+  /**
+   * Returns routes from one point to each of a set of other points, passable for a given vehicle.
+   * <p>
+   * Implementations may compute the routes to all destination points at once (e.g. using a single
+   * shortest path tree), which is usually considerably cheaper than computing every single route
+   * via {@link #getRoute(Vehicle, Point, Point, Set)}. The default implementation does the latter,
+   * though.
+   * </p>
+   *
+   * @param vehicle The vehicle for which the routes must be passable.
+   * @param sourcePoint The starting point of the routes to calculate.
+   * @param destinationPoints The end points of the routes to calculate.
+   * @param resourcesToAvoid Resources to avoid when calculating the routes.
+   * @return The calculated routes, mapped to their end points. End points for which a route does
+   * not exist are not contained in the map.
+   */
+  @Nonnull
+  default Map<Point, Route> getRoutes(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Point sourcePoint,
+      @Nonnull
+      Set<Point> destinationPoints,
+      @Nonnull
+      Set<TCSResourceReference<?>> resourcesToAvoid
+  ) {
+    requireNonNull(destinationPoints, "destinationPoints");
+
+    Map<Point, Route> result = new HashMap<>();
+    for (Point destinationPoint : destinationPoints) {
+      getRoute(vehicle, sourcePoint, destinationPoint, resourcesToAvoid)
+          .ifPresent(route -> result.put(destinationPoint, route));
+    }
+    return result;
+  }
+
+  /**
+   * Prepares computing routes for the given vehicles.
+   * <p>
+   * Implementations that lazily construct data required for computing routes (e.g. routing tables)
+   * should construct it for the given vehicles here, so that it is not constructed by threads
+   * subsequently computing routes for these vehicles (e.g. in parallel on behalf of the caller).
+   * The default implementation does nothing.
+   * </p>
+   * <p>
+   * This method is supposed to be called only from the kernel executor thread.
+   * </p>
+   *
+   * @param vehicles The vehicles for which routes are to be computed.
+   */
+  default void prepareRouteComputation(
+      @Nonnull
+      Collection<Vehicle> vehicles
+  ) {
+  }
+
   /**
    * Returns the costs for travelling a route from one point to another with a
    * given vehicle.
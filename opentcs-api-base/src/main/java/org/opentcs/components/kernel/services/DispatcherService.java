@@ -3,6 +3,7 @@
 package org.opentcs.components.kernel.services;
 
 import jakarta.annotation.Nonnull;
+import java.util.Set;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.components.kernel.Dispatcher;
 import org.opentcs.components.kernel.dipatching.TransportOrderAssignmentException;
@@ -30,6 +31,28 @@ public interface DispatcherService {
   void dispatch()
       throws KernelRuntimeException;
 
+  /**
+   * Explicitly trigger the dispatching process for the given vehicles.
+   * <p>
+   * The dispatcher may restrict the dispatching process to the given vehicles, but may as well
+   * consider all vehicles. The default implementation simply calls {@link #dispatch()}.
+   * </p>
+   * <p>
+   * If called within the kernel application, this method is supposed to be called only on the
+   * kernel executor thread.
+   * </p>
+   *
+   * @param vehicles References to the vehicles to dispatch.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  default void dispatch(
+      @Nonnull
+      Set<TCSObjectReference<Vehicle>> vehicles
+  )
+      throws KernelRuntimeException {
+    dispatch();
+  }
+
   /**
    * Withdraw any order that a vehicle might be processing.
    * <p>
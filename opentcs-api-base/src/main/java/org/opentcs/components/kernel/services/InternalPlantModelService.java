@@ -2,8 +2,12 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.components.kernel.services;
 
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
 import java.util.Set;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.model.Block;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.model.TCSResourceReference;
 
@@ -27,6 +31,29 @@ public interface InternalPlantModelService
   Set<TCSResource<?>> expandResources(Set<TCSResourceReference<?>> resources)
       throws ObjectUnknownException;
 
+  /**
+   * Returns all blocks containing at least one of the given resources.
+   * <p>
+   * The default implementation checks the members of all blocks in the plant model. Implementations
+   * are expected to look the blocks up in an index instead.
+   * </p>
+   *
+   * @param resources The resources.
+   * @return The blocks containing at least one of the given resources.
+   */
+  @Nonnull
+  default Set<Block> fetchBlocksContaining(
+      @Nonnull
+      Set<TCSResourceReference<?>> resources
+  ) {
+    requireNonNull(resources, "resources");
+
+    return fetchObjects(
+        Block.class,
+        block -> block.getMembers().stream().anyMatch(resources::contains)
+    );
+  }
+
   /**
    * Loads the saved model into the kernel.
    * If there is no saved model, a new empty model will be loaded.
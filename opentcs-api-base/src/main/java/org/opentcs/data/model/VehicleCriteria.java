@@ -0,0 +1,102 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.data.model;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Declarative criteria for selecting vehicles.
+ * <p>
+ * A vehicle matches the criteria if it matches every single criterion set. Criteria that are not
+ * set (i.e. an empty set of processing states) match every vehicle.
+ * </p>
+ * <p>
+ * Unlike an arbitrary {@link Predicate}, instances of this class can be evaluated by the kernel
+ * using indexes it maintains, so passing them to
+ * {@link org.opentcs.components.kernel.services.TCSObjectService#fetchObjects(Class, Predicate)}
+ * avoids testing every single vehicle known to the kernel.
+ * </p>
+ */
+public class VehicleCriteria
+    implements
+      Predicate<Vehicle>,
+      Serializable {
+
+  /**
+   * The processing states a vehicle may be in.
+   */
+  @Nonnull
+  private final Set<Vehicle.ProcState> procStates;
+
+  /**
+   * Creates a new instance that matches every vehicle.
+   */
+  public VehicleCriteria() {
+    this(Set.of());
+  }
+
+  private VehicleCriteria(
+      @Nonnull
+      Set<Vehicle.ProcState> procStates
+  ) {
+    this.procStates = requireNonNull(procStates, "procStates");
+  }
+
+  /**
+   * Returns the processing states a vehicle may be in.
+   *
+   * @return The processing states a vehicle may be in. If empty, vehicles in any processing state
+   * match.
+   */
+  @Nonnull
+  public Set<Vehicle.ProcState> getProcStates() {
+    return procStates;
+  }
+
+  /**
+   * Creates a copy of this object, with the given processing states.
+   *
+   * @param procStates The processing states a vehicle may be in. If empty, vehicles in any
+   * processing state match.
+   * @return A copy of this object, differing in the given value.
+   */
+  public VehicleCriteria withProcStates(
+      @Nonnull
+      Set<Vehicle.ProcState> procStates
+  ) {
+    return new VehicleCriteria(Set.copyOf(procStates));
+  }
+
+  @Override
+  public boolean test(Vehicle vehicle) {
+    return procStates.isEmpty() || procStates.contains(vehicle.getProcState());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof VehicleCriteria other)) {
+      return false;
+    }
+    return procStates.equals(other.procStates);
+  }
+
+  @Override
+  public int hashCode() {
+    return procStates.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "VehicleCriteria{"
+        + "procStates=" + procStates
+        + '}';
+  }
+}
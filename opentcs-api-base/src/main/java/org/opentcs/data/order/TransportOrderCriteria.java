@@ -0,0 +1,279 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.data.order;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Declarative criteria for selecting transport orders.
+ * <p>
+ * A transport order matches the criteria if it matches every single criterion set. Criteria that
+ * are not set (i.e. an empty set of states or a {@code null} value) match every transport order.
+ * </p>
+ * <p>
+ * Unlike an arbitrary {@link Predicate}, instances of this class can be evaluated by the kernel
+ * using indexes it maintains, so passing them to
+ * {@link org.opentcs.components.kernel.services.TCSObjectService#fetchObjects(Class, Predicate)}
+ * avoids testing every single transport order known to the kernel.
+ * </p>
+ */
+public class TransportOrderCriteria
+    implements
+      Predicate<TransportOrder>,
+      Serializable {
+
+  /**
+   * The states a transport order may be in.
+   */
+  @Nonnull
+  private final Set<TransportOrder.State> states;
+  /**
+   * The type a transport order must have.
+   */
+  @Nullable
+  private final String type;
+  /**
+   * The vehicle a transport order must be intended for.
+   */
+  @Nullable
+  private final TCSObjectReference<Vehicle> intendedVehicle;
+  /**
+   * The vehicle a transport order must be processed by.
+   */
+  @Nullable
+  private final TCSObjectReference<Vehicle> processingVehicle;
+  /**
+   * The order sequence a transport order must belong to.
+   */
+  @Nullable
+  private final TCSObjectReference<OrderSequence> wrappingSequence;
+
+  /**
+   * Creates a new instance that matches every transport order.
+   */
+  public TransportOrderCriteria() {
+    this(Set.of(), null, null, null, null);
+  }
+
+  private TransportOrderCriteria(
+      @Nonnull
+      Set<TransportOrder.State> states,
+      @Nullable
+      String type,
+      @Nullable
+      TCSObjectReference<Vehicle> intendedVehicle,
+      @Nullable
+      TCSObjectReference<Vehicle> processingVehicle,
+      @Nullable
+      TCSObjectReference<OrderSequence> wrappingSequence
+  ) {
+    this.states = requireNonNull(states, "states");
+    this.type = type;
+    this.intendedVehicle = intendedVehicle;
+    this.processingVehicle = processingVehicle;
+    this.wrappingSequence = wrappingSequence;
+  }
+
+  /**
+   * Returns the states a transport order may be in.
+   *
+   * @return The states a transport order may be in. If empty, transport orders in any state match.
+   */
+  @Nonnull
+  public Set<TransportOrder.State> getStates() {
+    return states;
+  }
+
+  /**
+   * Creates a copy of this object, with the given states.
+   *
+   * @param states The states a transport order may be in. If empty, transport orders in any state
+   * match.
+   * @return A copy of this object, differing in the given value.
+   */
+  public TransportOrderCriteria withStates(
+      @Nonnull
+      Set<TransportOrder.State> states
+  ) {
+    return new TransportOrderCriteria(
+        Set.copyOf(states),
+        type,
+        intendedVehicle,
+        processingVehicle,
+        wrappingSequence
+    );
+  }
+
+  /**
+   * Returns the type a transport order must have.
+   *
+   * @return The type a transport order must have, or {@code null}, if transport orders of any type
+   * match.
+   */
+  @Nullable
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * Creates a copy of this object, with the given type.
+   *
+   * @param type The type a transport order must have, or {@code null}, if transport orders of any
+   * type match.
+   * @return A copy of this object, differing in the given value.
+   */
+  public TransportOrderCriteria withType(
+      @Nullable
+      String type
+  ) {
+    return new TransportOrderCriteria(
+        states,
+        type,
+        intendedVehicle,
+        processingVehicle,
+        wrappingSequence
+    );
+  }
+
+  /**
+   * Returns the vehicle a transport order must be intended for.
+   *
+   * @return The vehicle a transport order must be intended for, or {@code null}, if transport
+   * orders match regardless of their intended vehicle.
+   */
+  @Nullable
+  public TCSObjectReference<Vehicle> getIntendedVehicle() {
+    return intendedVehicle;
+  }
+
+  /**
+   * Creates a copy of this object, with the given intended vehicle.
+   *
+   * @param intendedVehicle The vehicle a transport order must be intended for, or {@code null}, if
+   * transport orders match regardless of their intended vehicle.
+   * @return A copy of this object, differing in the given value.
+   */
+  public TransportOrderCriteria withIntendedVehicle(
+      @Nullable
+      TCSObjectReference<Vehicle> intendedVehicle
+  ) {
+    return new TransportOrderCriteria(
+        states,
+        type,
+        intendedVehicle,
+        processingVehicle,
+        wrappingSequence
+    );
+  }
+
+  /**
+   * Returns the vehicle a transport order must be processed by.
+   *
+   * @return The vehicle a transport order must be processed by, or {@code null}, if transport
+   * orders match regardless of their processing vehicle.
+   */
+  @Nullable
+  public TCSObjectReference<Vehicle> getProcessingVehicle() {
+    return processingVehicle;
+  }
+
+  /**
+   * Creates a copy of this object, with the given processing vehicle.
+   *
+   * @param processingVehicle The vehicle a transport order must be processed by, or {@code null},
+   * if transport orders match regardless of their processing vehicle.
+   * @return A copy of this object, differing in the given value.
+   */
+  public TransportOrderCriteria withProcessingVehicle(
+      @Nullable
+      TCSObjectReference<Vehicle> processingVehicle
+  ) {
+    return new TransportOrderCriteria(
+        states,
+        type,
+        intendedVehicle,
+        processingVehicle,
+        wrappingSequence
+    );
+  }
+
+  /**
+   * Returns the order sequence a transport order must belong to.
+   *
+   * @return The order sequence a transport order must belong to, or {@code null}, if transport
+   * orders match regardless of their wrapping sequence.
+   */
+  @Nullable
+  public TCSObjectReference<OrderSequence> getWrappingSequence() {
+    return wrappingSequence;
+  }
+
+  /**
+   * Creates a copy of this object, with the given wrapping sequence.
+   *
+   * @param wrappingSequence The order sequence a transport order must belong to, or {@code null},
+   * if transport orders match regardless of their wrapping sequence.
+   * @return A copy of this object, differing in the given value.
+   */
+  public TransportOrderCriteria withWrappingSequence(
+      @Nullable
+      TCSObjectReference<OrderSequence> wrappingSequence
+  ) {
+    return new TransportOrderCriteria(
+        states,
+        type,
+        intendedVehicle,
+        processingVehicle,
+        wrappingSequence
+    );
+  }
+
+  @Override
+  public boolean test(TransportOrder order) {
+    return (states.isEmpty() || states.contains(order.getState()))
+        && (type == null || type.equals(order.getType()))
+        && (intendedVehicle == null || intendedVehicle.equals(order.getIntendedVehicle()))
+        && (processingVehicle == null || processingVehicle.equals(order.getProcessingVehicle()))
+        && (wrappingSequence == null || wrappingSequence.equals(order.getWrappingSequence()));
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof TransportOrderCriteria other)) {
+      return false;
+    }
+    return states.equals(other.states)
+        && Objects.equals(type, other.type)
+        && Objects.equals(intendedVehicle, other.intendedVehicle)
+        && Objects.equals(processingVehicle, other.processingVehicle)
+        && Objects.equals(wrappingSequence, other.wrappingSequence);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(states, type, intendedVehicle, processingVehicle, wrappingSequence);
+  }
+
+  @Override
+  public String toString() {
+    return "TransportOrderCriteria{"
+        + "states=" + states
+        + ", type=" + type
+        + ", intendedVehicle=" + intendedVehicle
+        + ", processingVehicle=" + processingVehicle
+        + ", wrappingSequence=" + wrappingSequence
+        + '}';
+  }
+}
@@ -5,11 +5,21 @@ package org.opentcs.drivers.vehicle.management;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.function.Supplier;
 import org.opentcs.drivers.vehicle.VehicleProcessModel;
 
 /**
  * Instances of this class represent events emitted by/for changes on {@link VehicleProcessModel}s.
+ * <p>
+ * An event may carry only the changed attribute's name and new value, with the serializable
+ * representation of the whole process model being created when it is requested for the first time
+ * or when the event is serialized. Receivers only interested in the change itself thus do not
+ * cause the process model to be copied.
+ * </p>
  */
 public class ProcessModelEvent
     extends
@@ -21,10 +31,21 @@ public class ProcessModelEvent
    * The attribute's name that changed in the process model.
    */
   private final String attributeChanged;
+  /**
+   * The changed attribute's new value, if known.
+   * Not serialized, as it is not necessarily serializable.
+   */
+  private final transient Object newValue;
   /**
    * A serializable representation of the corresponding process model.
+   * May be {@code null} until it is requested for the first time.
+   */
+  private VehicleProcessModelTO updatedProcessModel;
+  /**
+   * Provides the serializable representation of the corresponding process model, if it has not
+   * been created, yet.
    */
-  private final VehicleProcessModelTO updatedProcessModel;
+  private transient Supplier<VehicleProcessModelTO> processModelSupplier;
 
   /**
    * Creates a new instance.
@@ -39,9 +60,36 @@ public class ProcessModelEvent
       VehicleProcessModelTO updatedProcessModel
   ) {
     this.attributeChanged = requireNonNull(attributeChanged, "attributeChanged");
+    this.newValue = null;
     this.updatedProcessModel = requireNonNull(updatedProcessModel, "updatedProcessModel");
   }
 
+  /**
+   * Creates a new instance for a single change of the process model.
+   * <p>
+   * The given supplier is called at most once, when the serializable representation of the process
+   * model is requested for the first time or when the event is serialized. It is responsible for
+   * reading the process model in a thread-safe way.
+   * </p>
+   *
+   * @param attributeChanged The attribute's name that changed.
+   * @param newValue The changed attribute's new value.
+   * @param processModelSupplier Provides a serializable representation of the corresponding
+   * process model.
+   */
+  public ProcessModelEvent(
+      @Nonnull
+      String attributeChanged,
+      @Nullable
+      Object newValue,
+      @Nonnull
+      Supplier<VehicleProcessModelTO> processModelSupplier
+  ) {
+    this.attributeChanged = requireNonNull(attributeChanged, "attributeChanged");
+    this.newValue = newValue;
+    this.processModelSupplier = requireNonNull(processModelSupplier, "processModelSupplier");
+  }
+
   /**
    * Returns the attribute's name that changed in the process model.
    *
@@ -51,12 +99,41 @@ public class ProcessModelEvent
     return attributeChanged;
   }
 
+  /**
+   * Returns the changed attribute's new value.
+   * <p>
+   * The value is not transferred when the event is serialized, so receivers of serialized events
+   * should use the updated process model instead.
+   * </p>
+   *
+   * @return The changed attribute's new value, or {@code null}, if it is not known.
+   */
+  @Nullable
+  public Object getNewValue() {
+    return newValue;
+  }
+
   /**
    * Returns a serializable representation of the corresponding process model.
+   * <p>
+   * If the representation is created lazily, it reflects the process model's state at the time
+   * this method is called for the first time, which includes the change this event represents.
+   * </p>
    *
    * @return A serializable representation of the corresponding process model.
    */
-  public VehicleProcessModelTO getUpdatedProcessModel() {
+  public synchronized VehicleProcessModelTO getUpdatedProcessModel() {
+    if (updatedProcessModel == null) {
+      updatedProcessModel = requireNonNull(processModelSupplier.get(), "updatedProcessModel");
+      processModelSupplier = null;
+    }
     return updatedProcessModel;
   }
+
+  private void writeObject(ObjectOutputStream out)
+      throws IOException {
+    // Make sure the process model representation is included.
+    getUpdatedProcessModel();
+    out.defaultWriteObject();
+  }
 }
@@ -2,6 +2,8 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.util.event;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * A source of events that can be subscribed to.
  */
@@ -15,7 +17,30 @@ public interface EventSource {
   void subscribe(EventHandler listener);
 
   /**
-   * Unsubscribes the given listener.
+   * Subscribes the given listener to events emitted by this source that are selected by the given
+   * topic.
+   * <p>
+   * A listener may be subscribed to multiple topics, in which case it receives events selected by
+   * any of them. A listener subscribed via {@link #subscribe(EventHandler)} receives all events,
+   * regardless of any topics it is subscribed to.
+   * </p>
+   * <p>
+   * Implementations may also forward events not selected by the given topic to the listener.
+   * (The default implementation simply subscribes the listener to all events.)
+   * Listeners should therefore still check the events they receive.
+   * </p>
+   *
+   * @param listener The listener to be subscribed.
+   * @param topic The topic selecting the events the listener is interested in.
+   */
+  default void subscribe(EventHandler listener, EventTopic topic) {
+    requireNonNull(topic, "topic");
+
+    subscribe(listener);
+  }
+
+  /**
+   * Unsubscribes the given listener from all events and topics.
    *
    * @param listener The listener to be unsubscribed.
    */
@@ -0,0 +1,185 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Objects;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * Describes a subset of the events emitted by an {@link EventSource} a listener is interested in.
+ * <p>
+ * A topic selects either
+ * </p>
+ * <ul>
+ * <li>events that are instances of a given class,</li>
+ * <li>{@link TCSObjectEvent}s for objects that are instances of a given class or</li>
+ * <li>{@link TCSObjectEvent}s for a single object.</li>
+ * </ul>
+ * <p>
+ * For {@link TCSObjectEvent}s, the object is the current or, if there is none, the previous state
+ * of the object the event is about.
+ * </p>
+ */
+public final class EventTopic {
+
+  /**
+   * The class of the events.
+   */
+  private final Class<?> eventClass;
+  /**
+   * The class of the objects (in case of {@link TCSObjectEvent}s).
+   */
+  private final Class<?> objectClass;
+  /**
+   * The reference to the object (in case of {@link TCSObjectEvent}s).
+   */
+  private final TCSObjectReference<?> objectRef;
+
+  private EventTopic(
+      @Nonnull
+      Class<?> eventClass,
+      @Nullable
+      Class<?> objectClass,
+      @Nullable
+      TCSObjectReference<?> objectRef
+  ) {
+    this.eventClass = requireNonNull(eventClass, "eventClass");
+    this.objectClass = objectClass;
+    this.objectRef = objectRef;
+  }
+
+  /**
+   * Returns a topic selecting events that are instances of the given class.
+   *
+   * @param eventClass The class of the events.
+   * @return The topic.
+   */
+  @Nonnull
+  public static EventTopic ofEventClass(
+      @Nonnull
+      Class<?> eventClass
+  ) {
+    return new EventTopic(eventClass, null, null);
+  }
+
+  /**
+   * Returns a topic selecting {@link TCSObjectEvent}s for objects that are instances of the given
+   * class.
+   *
+   * @param objectClass The class of the objects.
+   * @return The topic.
+   */
+  @Nonnull
+  public static EventTopic ofObjectClass(
+      @Nonnull
+      Class<? extends TCSObject<?>> objectClass
+  ) {
+    requireNonNull(objectClass, "objectClass");
+
+    return new EventTopic(TCSObjectEvent.class, objectClass, null);
+  }
+
+  /**
+   * Returns a topic selecting {@link TCSObjectEvent}s for the referenced object.
+   *
+   * @param objectRef The reference to the object.
+   * @return The topic.
+   */
+  @Nonnull
+  public static EventTopic ofObject(
+      @Nonnull
+      TCSObjectReference<?> objectRef
+  ) {
+    requireNonNull(objectRef, "objectRef");
+
+    return new EventTopic(TCSObjectEvent.class, null, objectRef);
+  }
+
+  /**
+   * Returns the class of the events selected by this topic.
+   *
+   * @return The class of the events.
+   */
+  @Nonnull
+  public Class<?> getEventClass() {
+    return eventClass;
+  }
+
+  /**
+   * Returns the class of the objects whose {@link TCSObjectEvent}s are selected by this topic.
+   *
+   * @return The class of the objects, or {@code null}, if this topic does not select events by the
+   * objects' classes.
+   */
+  @Nullable
+  public Class<?> getObjectClass() {
+    return objectClass;
+  }
+
+  /**
+   * Returns the reference to the object whose {@link TCSObjectEvent}s are selected by this topic.
+   *
+   * @return The reference to the object, or {@code null}, if this topic does not select events for
+   * a single object.
+   */
+  @Nullable
+  public TCSObjectReference<?> getObjectRef() {
+    return objectRef;
+  }
+
+  /**
+   * Checks whether the given event is selected by this topic.
+   *
+   * @param event The event.
+   * @return {@code true} if, and only if, the given event is selected by this topic.
+   */
+  public boolean matches(Object event) {
+    if (!eventClass.isInstance(event)) {
+      return false;
+    }
+    if (objectClass == null && objectRef == null) {
+      return true;
+    }
+
+    TCSObject<?> object = ((TCSObjectEvent) event).getCurrentOrPreviousObjectState();
+    if (objectClass != null) {
+      return objectClass.isInstance(object);
+    }
+    return Objects.equals(objectRef, object.getReference());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof EventTopic)) {
+      return false;
+    }
+
+    EventTopic other = (EventTopic) obj;
+    return Objects.equals(eventClass, other.eventClass)
+        && Objects.equals(objectClass, other.objectClass)
+        && Objects.equals(objectRef, other.objectRef);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(eventClass, objectClass, objectRef);
+  }
+
+  @Override
+  public String toString() {
+    return "EventTopic{"
+        + "eventClass=" + eventClass
+        + ", objectClass=" + objectClass
+        + ", objectRef=" + objectRef
+        + '}';
+  }
+}
@@ -0,0 +1,469 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An event handler that forwards events to a delegate handler asynchronously.
+ * <p>
+ * Events are put into a bounded queue and forwarded to the delegate by a dedicated thread, so that
+ * a slow delegate does not delay the code emitting the events (e.g. the kernel executor). What
+ * happens when the queue is full is determined by the {@link OverflowPolicy}.
+ * </p>
+ * <p>
+ * Events are only forwarded while this handler is initialized. Events still queued when it is
+ * terminated are discarded.
+ * </p>
+ * <p>
+ * While events are being forwarded, the queue's statistics are logged periodically - as a warning,
+ * if events had to be dropped since the last time.
+ * </p>
+ */
+public class QueuedEventHandler
+    implements
+      EventHandler,
+      Lifecycle {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(QueuedEventHandler.class);
+  /**
+   * The interval (in ms) in which the queue's statistics are logged.
+   */
+  private static final long STATISTICS_LOG_INTERVAL = 60000;
+  /**
+   * The name of this handler, used for naming the delivery thread.
+   */
+  private final String name;
+  /**
+   * The handler to forward events to.
+   */
+  private final EventHandler delegate;
+  /**
+   * The maximum number of queued events.
+   */
+  private final int capacity;
+  /**
+   * What to do when the queue is full.
+   */
+  private final OverflowPolicy overflowPolicy;
+  /**
+   * The queued events.
+   */
+  private final Queue<QueueEntry> queue = new ArrayDeque<>();
+  /**
+   * The queued entries for object events, mapped to the references of the objects.
+   * Only used with {@link OverflowPolicy#COALESCE_BY_OBJECT}.
+   */
+  private final Map<TCSObjectReference<?>, QueueEntry> queuedObjectEvents = new HashMap<>();
+  /**
+   * The number of events forwarded to the delegate so far.
+   */
+  private long deliveredEventCount;
+  /**
+   * The number of events dropped so far (due to a full queue).
+   */
+  private long droppedEventCount;
+  /**
+   * The number of events coalesced with queued ones so far.
+   */
+  private long coalescedEventCount;
+  /**
+   * When the queue's statistics were last logged (as returned by {@link System#nanoTime()}).
+   */
+  private long statisticsLoggedAt;
+  /**
+   * The number of events dropped when the queue's statistics were last logged.
+   */
+  private long droppedEventCountLogged;
+  /**
+   * The thread forwarding events to the delegate.
+   */
+  private Thread deliveryThread;
+  /**
+   * Whether this handler is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param name The name of this handler, used for naming the delivery thread.
+   * @param delegate The handler to forward events to.
+   * @param capacity The maximum number of queued events.
+   * @param overflowPolicy What to do when the queue is full.
+   */
+  public QueuedEventHandler(
+      @Nonnull
+      String name,
+      @Nonnull
+      EventHandler delegate,
+      int capacity,
+      @Nonnull
+      OverflowPolicy overflowPolicy
+  ) {
+    this.name = requireNonNull(name, "name");
+    this.delegate = requireNonNull(delegate, "delegate");
+    this.overflowPolicy = requireNonNull(overflowPolicy, "overflowPolicy");
+    checkArgument(capacity > 0, "capacity must be greater than 0, but is %d", capacity);
+    this.capacity = capacity;
+  }
+
+  @Override
+  public void initialize() {
+    synchronized (queue) {
+      if (isInitialized()) {
+        return;
+      }
+
+      deliveryThread = new Thread(this::deliverEvents, name + "-eventDelivery");
+      deliveryThread.setDaemon(true);
+      statisticsLoggedAt = System.nanoTime();
+      initialized = true;
+      deliveryThread.start();
+    }
+  }
+
+  @Override
+  public boolean isInitialized() {
+    synchronized (queue) {
+      return initialized;
+    }
+  }
+
+  @Override
+  public void terminate() {
+    Thread thread;
+    synchronized (queue) {
+      if (!isInitialized()) {
+        return;
+      }
+
+      initialized = false;
+      thread = deliveryThread;
+      deliveryThread = null;
+      clearQueue();
+      queue.notifyAll();
+    }
+
+    if (thread != Thread.currentThread()) {
+      try {
+        thread.join();
+      }
+      catch (InterruptedException exc) {
+        Thread.currentThread().interrupt();
+        LOG.warn("{}: Interrupted while waiting for event delivery to finish.", name);
+      }
+    }
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    requireNonNull(event, "event");
+
+    synchronized (queue) {
+      if (!initialized) {
+        return;
+      }
+
+      if (overflowPolicy == OverflowPolicy.COALESCE_BY_OBJECT && coalesce(event)) {
+        coalescedEventCount++;
+        return;
+      }
+
+      while (initialized && queue.size() >= capacity) {
+        if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+          pollEvent();
+          droppedEventCount++;
+        }
+        else {
+          awaitQueueChange();
+        }
+      }
+      if (!initialized) {
+        return;
+      }
+
+      QueueEntry entry = new QueueEntry(event);
+      queue.add(entry);
+      if (overflowPolicy == OverflowPolicy.COALESCE_BY_OBJECT && event instanceof TCSObjectEvent) {
+        queuedObjectEvents.put(objectRef((TCSObjectEvent) event), entry);
+      }
+      queue.notifyAll();
+    }
+  }
+
+  /**
+   * Returns the number of events currently queued.
+   *
+   * @return The number of events currently queued.
+   */
+  public int getQueuedEventCount() {
+    synchronized (queue) {
+      return queue.size();
+    }
+  }
+
+  /**
+   * Returns how long the oldest queued event has been waiting to be forwarded (in ms).
+   *
+   * @return How long the oldest queued event has been waiting to be forwarded (in ms), or 0, if no
+   * events are queued.
+   */
+  public long getLag() {
+    synchronized (queue) {
+      QueueEntry entry = queue.peek();
+      return entry == null
+          ? 0
+          : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - entry.getQueuedAt());
+    }
+  }
+
+  /**
+   * Returns the number of events forwarded to the delegate so far.
+   *
+   * @return The number of events forwarded to the delegate so far.
+   */
+  public long getDeliveredEventCount() {
+    synchronized (queue) {
+      return deliveredEventCount;
+    }
+  }
+
+  /**
+   * Returns the number of events dropped so far because the queue was full.
+   *
+   * @return The number of events dropped so far.
+   */
+  public long getDroppedEventCount() {
+    synchronized (queue) {
+      return droppedEventCount;
+    }
+  }
+
+  /**
+   * Returns the number of events coalesced with already queued ones so far.
+   *
+   * @return The number of events coalesced so far.
+   */
+  public long getCoalescedEventCount() {
+    synchronized (queue) {
+      return coalescedEventCount;
+    }
+  }
+
+  private void deliverEvents() {
+    while (true) {
+      Object event;
+      synchronized (queue) {
+        // Stop as soon as this thread is no longer the delivery thread, even if this handler has
+        // been initialized again in the meantime.
+        while (deliveryThread == Thread.currentThread() && queue.isEmpty()) {
+          awaitQueueChange();
+        }
+        if (deliveryThread != Thread.currentThread()) {
+          return;
+        }
+        event = pollEvent();
+        queue.notifyAll();
+      }
+
+      try {
+        delegate.onEvent(event);
+      }
+      catch (Exception exc) {
+        LOG.warn("{}: Exception thrown by event handler", name, exc);
+      }
+
+      synchronized (queue) {
+        deliveredEventCount++;
+        logStatisticsIfDue();
+      }
+    }
+  }
+
+  private void logStatisticsIfDue() {
+    long now = System.nanoTime();
+    if (now - statisticsLoggedAt < TimeUnit.MILLISECONDS.toNanos(STATISTICS_LOG_INTERVAL)) {
+      return;
+    }
+
+    long recentlyDroppedEventCount = droppedEventCount - droppedEventCountLogged;
+    if (recentlyDroppedEventCount > 0) {
+      LOG.warn(
+          "{}: Dropped {} events within the last {} ms. Queued: {}, lag: {} ms",
+          name,
+          recentlyDroppedEventCount,
+          TimeUnit.NANOSECONDS.toMillis(now - statisticsLoggedAt),
+          queue.size(),
+          getLag()
+      );
+    }
+    else {
+      LOG.debug(
+          "{}: Queued: {}, lag: {} ms, delivered: {}, dropped: {}, coalesced: {}",
+          name,
+          queue.size(),
+          getLag(),
+          deliveredEventCount,
+          droppedEventCount,
+          coalescedEventCount
+      );
+    }
+    statisticsLoggedAt = now;
+    droppedEventCountLogged = droppedEventCount;
+  }
+
+  /**
+   * Coalesces the given event with a queued event for the same object, if possible.
+   *
+   * @return {@code true} if, and only if, the given event was coalesced and does not need to be
+   * queued.
+   */
+  private boolean coalesce(Object event) {
+    if (!(event instanceof TCSObjectEvent)) {
+      return false;
+    }
+
+    TCSObjectEvent newEvent = (TCSObjectEvent) event;
+    if (newEvent.getType() == TCSObjectEvent.Type.OBJECT_CREATED) {
+      return false;
+    }
+
+    QueueEntry entry = queuedObjectEvents.get(objectRef(newEvent));
+    if (entry == null) {
+      return false;
+    }
+
+    TCSObjectEvent queuedEvent = (TCSObjectEvent) entry.getEvent();
+    if (queuedEvent.getType() == TCSObjectEvent.Type.OBJECT_CREATED) {
+      if (newEvent.getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+        // The object was created and removed again - nobody needs to know about it.
+        discard(entry);
+      }
+      else {
+        entry.setEvent(
+            new TCSObjectEvent(
+                newEvent.getCurrentObjectState(),
+                null,
+                TCSObjectEvent.Type.OBJECT_CREATED
+            )
+        );
+      }
+    }
+    else if (newEvent.getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+      entry.setEvent(newEvent);
+      queuedObjectEvents.remove(objectRef(newEvent));
+    }
+    else {
+      entry.setEvent(
+          new TCSObjectEvent(
+              newEvent.getCurrentObjectState(),
+              queuedEvent.getPreviousObjectState(),
+              TCSObjectEvent.Type.OBJECT_MODIFIED
+          )
+      );
+    }
+    return true;
+  }
+
+  private Object pollEvent() {
+    QueueEntry entry = queue.poll();
+    Object event = entry.getEvent();
+    if (event instanceof TCSObjectEvent) {
+      queuedObjectEvents.remove(objectRef((TCSObjectEvent) event), entry);
+    }
+    return event;
+  }
+
+  private void discard(QueueEntry entry) {
+    if (entry.getEvent() instanceof TCSObjectEvent) {
+      queuedObjectEvents.remove(objectRef((TCSObjectEvent) entry.getEvent()), entry);
+    }
+    // Removing the entry requires a linear search, but objects being created and removed again
+    // while the events are queued should be rare.
+    queue.remove(entry);
+    queue.notifyAll();
+  }
+
+  private void clearQueue() {
+    queue.clear();
+    queuedObjectEvents.clear();
+  }
+
+  private void awaitQueueChange() {
+    try {
+      queue.wait();
+    }
+    catch (InterruptedException exc) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the event queue", exc);
+    }
+  }
+
+  private static TCSObjectReference<?> objectRef(TCSObjectEvent event) {
+    TCSObject<?> object = event.getCurrentOrPreviousObjectState();
+    return object.getReference();
+  }
+
+  /**
+   * Defines what to do when an event is to be queued while the queue is full.
+   */
+  public enum OverflowPolicy {
+    /**
+     * Block the thread emitting the event until there is space in the queue.
+     */
+    BLOCK,
+    /**
+     * Drop the oldest queued event.
+     */
+    DROP_OLDEST,
+    /**
+     * Coalesce {@link TCSObjectEvent}s with queued events for the same object, so that only the
+     * object's latest state is forwarded, and block the thread emitting an event if it cannot be
+     * coalesced and the queue is full.
+     */
+    COALESCE_BY_OBJECT;
+  }
+
+  /**
+   * An entry in the queue.
+   */
+  private static class QueueEntry {
+
+    private final long queuedAt = System.nanoTime();
+    private Object event;
+
+    QueueEntry(Object event) {
+      this.event = event;
+    }
+
+    long getQueuedAt() {
+      return queuedAt;
+    }
+
+    Object getEvent() {
+      return event;
+    }
+
+    void setEvent(Object event) {
+      this.event = event;
+    }
+  }
+}
@@ -4,13 +4,29 @@ package org.opentcs.util.event;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A plain implementation of {@link EventBus}.
+ * <p>
+ * Events are routed to listeners by the topics they are subscribed to, i.e. by the events'
+ * classes and, for {@link TCSObjectEvent}s, by the objects' classes and references, so that
+ * forwarding an event only involves the listeners interested in it.
+ * Listeners receive events in the order in which they were (first) subscribed.
+ * </p>
  */
 public class SimpleEventBus
     implements
@@ -21,9 +37,18 @@ public class SimpleEventBus
    */
   private static final Logger LOG = LoggerFactory.getLogger(SimpleEventBus.class);
   /**
-   * The listeners.
+   * The subscriptions, mapped to the respective listeners.
    */
-  private final Set<EventHandler> listeners = new CopyOnWriteArraySet<>();
+  private final Map<EventHandler, Subscription> subscriptions = new LinkedHashMap<>();
+  /**
+   * The sequence number for the next new subscription.
+   */
+  private long nextSequenceNumber;
+  /**
+   * The routes for the current subscriptions.
+   * Replaced (instead of being modified) whenever the subscriptions change.
+   */
+  private volatile Routes routes = new Routes(List.of());
 
   /**
    * Creates a new instance.
@@ -34,8 +59,8 @@ public class SimpleEventBus
   @Override
   public void onEvent(Object event) {
     try {
-      for (EventHandler listener : listeners) {
-        listener.onEvent(event);
+      for (Subscription subscription : routes.subscriptionsFor(event)) {
+        subscription.getListener().onEvent(event);
       }
     }
     catch (Exception exc) {
@@ -47,14 +72,196 @@ public class SimpleEventBus
   public void subscribe(EventHandler listener) {
     requireNonNull(listener, "listener");
 
-    listeners.add(listener);
+    synchronized (subscriptions) {
+      subscriptions.put(listener, subscriptionOf(listener).withAllEvents());
+      updateRoutes();
+    }
+  }
+
+  @Override
+  public void subscribe(EventHandler listener, EventTopic topic) {
+    requireNonNull(listener, "listener");
+    requireNonNull(topic, "topic");
+
+    synchronized (subscriptions) {
+      subscriptions.put(listener, subscriptionOf(listener).withTopic(topic));
+      updateRoutes();
+    }
   }
 
   @Override
   public void unsubscribe(EventHandler listener) {
     requireNonNull(listener, "listener");
 
-    listeners.remove(listener);
+    synchronized (subscriptions) {
+      if (subscriptions.remove(listener) != null) {
+        updateRoutes();
+      }
+    }
+  }
+
+  private Subscription subscriptionOf(EventHandler listener) {
+    Subscription subscription = subscriptions.get(listener);
+    return subscription != null
+        ? subscription
+        : new Subscription(listener, nextSequenceNumber++, false, Set.of());
   }
 
+  private void updateRoutes() {
+    routes = new Routes(new ArrayList<>(subscriptions.values()));
+  }
+
+  /**
+   * A listener's subscription.
+   */
+  private static class Subscription {
+
+    private final EventHandler listener;
+    private final long sequenceNumber;
+    private final boolean allEvents;
+    private final Set<EventTopic> topics;
+
+    Subscription(
+        EventHandler listener,
+        long sequenceNumber,
+        boolean allEvents,
+        Set<EventTopic> topics
+    ) {
+      this.listener = listener;
+      this.sequenceNumber = sequenceNumber;
+      this.allEvents = allEvents;
+      this.topics = topics;
+    }
+
+    EventHandler getListener() {
+      return listener;
+    }
+
+    long getSequenceNumber() {
+      return sequenceNumber;
+    }
+
+    boolean isAllEvents() {
+      return allEvents;
+    }
+
+    Set<EventTopic> getTopics() {
+      return topics;
+    }
+
+    Subscription withAllEvents() {
+      return new Subscription(listener, sequenceNumber, true, topics);
+    }
+
+    Subscription withTopic(EventTopic topic) {
+      Set<EventTopic> newTopics = new HashSet<>(topics);
+      newTopics.add(topic);
+      return new Subscription(listener, sequenceNumber, allEvents, Set.copyOf(newTopics));
+    }
+  }
+
+  /**
+   * The routes from events to subscriptions, derived from a set of subscriptions.
+   */
+  private static class Routes {
+
+    /**
+     * The subscriptions for all events.
+     */
+    private final List<Subscription> allEvents = new ArrayList<>();
+    /**
+     * The subscriptions to topics selecting events by their classes only, mapped to the classes.
+     */
+    private final Map<Class<?>, List<Subscription>> byEventClass = new HashMap<>();
+    /**
+     * The subscriptions to topics selecting object events by the objects' classes, mapped to the
+     * classes.
+     */
+    private final Map<Class<?>, List<Subscription>> byObjectClass = new HashMap<>();
+    /**
+     * The subscriptions to topics selecting object events for single objects, mapped to the
+     * object references.
+     */
+    private final Map<TCSObjectReference<?>, List<Subscription>> byObject = new HashMap<>();
+    /**
+     * The subscriptions receiving events of a class (regardless of any objects), mapped to the
+     * class.
+     * Filled lazily for the classes of the events actually forwarded.
+     */
+    private final Map<Class<?>, List<Subscription>> byConcreteEventClass
+        = new ConcurrentHashMap<>();
+
+    Routes(List<Subscription> subscriptions) {
+      for (Subscription subscription : subscriptions) {
+        if (subscription.isAllEvents()) {
+          allEvents.add(subscription);
+          continue;
+        }
+
+        for (EventTopic topic : subscription.getTopics()) {
+          if (topic.getObjectRef() != null) {
+            byObject.computeIfAbsent(topic.getObjectRef(), ref -> new ArrayList<>())
+                .add(subscription);
+          }
+          else if (topic.getObjectClass() != null) {
+            byObjectClass.computeIfAbsent(topic.getObjectClass(), clazz -> new ArrayList<>())
+                .add(subscription);
+          }
+          else {
+            byEventClass.computeIfAbsent(topic.getEventClass(), clazz -> new ArrayList<>())
+                .add(subscription);
+          }
+        }
+      }
+    }
+
+    /**
+     * Returns the subscriptions the given event is to be forwarded to, in the order in which the
+     * listeners were subscribed.
+     *
+     * @param event The event.
+     * @return The subscriptions.
+     */
+    List<Subscription> subscriptionsFor(Object event) {
+      List<Subscription> result = byEventClass.isEmpty()
+          ? allEvents
+          : byConcreteEventClass.computeIfAbsent(event.getClass(), this::subscriptionsForClass);
+
+      if (!(event instanceof TCSObjectEvent) || (byObjectClass.isEmpty() && byObject.isEmpty())) {
+        return result;
+      }
+
+      TCSObject<?> object = ((TCSObjectEvent) event).getCurrentOrPreviousObjectState();
+      List<Subscription> objectSubscriptions = new ArrayList<>(
+          byObject.getOrDefault(object.getReference(), List.of())
+      );
+      for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+        objectSubscriptions.addAll(byObjectClass.getOrDefault(clazz, List.of()));
+      }
+      if (objectSubscriptions.isEmpty()) {
+        return result;
+      }
+
+      objectSubscriptions.addAll(result);
+      return sortedAndDistinct(objectSubscriptions);
+    }
+
+    private List<Subscription> subscriptionsForClass(Class<?> eventClass) {
+      List<Subscription> result = new ArrayList<>(allEvents);
+      for (Map.Entry<Class<?>, List<Subscription>> entry : byEventClass.entrySet()) {
+        if (entry.getKey().isAssignableFrom(eventClass)) {
+          result.addAll(entry.getValue());
+        }
+      }
+      return sortedAndDistinct(result);
+    }
+
+    private static List<Subscription> sortedAndDistinct(List<Subscription> subscriptions) {
+      // A listener subscribed to multiple topics is still to receive every event only once.
+      return subscriptions.stream()
+          .distinct()
+          .sorted(Comparator.comparingLong(Subscription::getSequenceNumber))
+          .toList();
+    }
+  }
 }
@@ -0,0 +1,44 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.data.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link VehicleCriteria}.
+ */
+class VehicleCriteriaTest {
+
+  private Vehicle vehicle;
+
+  @BeforeEach
+  void setUp() {
+    vehicle = new Vehicle("some-vehicle").withProcState(Vehicle.ProcState.AWAITING_ORDER);
+  }
+
+  @Test
+  void matchAnyVehicleByDefault() {
+    assertThat(new VehicleCriteria().test(vehicle), is(true));
+  }
+
+  @Test
+  void matchVehiclesInGivenProcStates() {
+    assertThat(
+        new VehicleCriteria()
+            .withProcStates(Set.of(Vehicle.ProcState.IDLE, Vehicle.ProcState.AWAITING_ORDER))
+            .test(vehicle),
+        is(true)
+    );
+    assertThat(
+        new VehicleCriteria()
+            .withProcStates(Set.of(Vehicle.ProcState.IDLE))
+            .test(vehicle),
+        is(false)
+    );
+  }
+}
@@ -0,0 +1,96 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.data.order;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Unit tests for {@link TransportOrderCriteria}.
+ */
+class TransportOrderCriteriaTest {
+
+  private Vehicle vehicle;
+  private TransportOrder order;
+
+  @BeforeEach
+  void setUp() {
+    vehicle = new Vehicle("some-vehicle");
+    order = new TransportOrder("some-order", List.of())
+        .withState(TransportOrder.State.DISPATCHABLE)
+        .withType("some-type")
+        .withIntendedVehicle(vehicle.getReference());
+  }
+
+  @Test
+  void matchAnyTransportOrderByDefault() {
+    assertThat(new TransportOrderCriteria().test(order), is(true));
+  }
+
+  @Test
+  void matchTransportOrdersInGivenStates() {
+    assertThat(
+        new TransportOrderCriteria()
+            .withStates(Set.of(TransportOrder.State.RAW, TransportOrder.State.DISPATCHABLE))
+            .test(order),
+        is(true)
+    );
+    assertThat(
+        new TransportOrderCriteria()
+            .withStates(Set.of(TransportOrder.State.RAW))
+            .test(order),
+        is(false)
+    );
+  }
+
+  @Test
+  void matchTransportOrdersWithGivenType() {
+    assertThat(new TransportOrderCriteria().withType("some-type").test(order), is(true));
+    assertThat(new TransportOrderCriteria().withType("other-type").test(order), is(false));
+  }
+
+  @Test
+  void matchTransportOrdersWithGivenIntendedVehicle() {
+    assertThat(
+        new TransportOrderCriteria().withIntendedVehicle(vehicle.getReference()).test(order),
+        is(true)
+    );
+    assertThat(
+        new TransportOrderCriteria()
+            .withIntendedVehicle(new Vehicle("other-vehicle").getReference())
+            .test(order),
+        is(false)
+    );
+  }
+
+  @Test
+  void matchTransportOrdersWithGivenProcessingVehicle() {
+    assertThat(
+        new TransportOrderCriteria().withProcessingVehicle(vehicle.getReference()).test(order),
+        is(false)
+    );
+    assertThat(
+        new TransportOrderCriteria()
+            .withProcessingVehicle(vehicle.getReference())
+            .test(order.withProcessingVehicle(vehicle.getReference())),
+        is(true)
+    );
+  }
+
+  @Test
+  void matchTransportOrdersMatchingAllCriteria() {
+    TransportOrderCriteria criteria = new TransportOrderCriteria()
+        .withStates(Set.of(TransportOrder.State.DISPATCHABLE))
+        .withType("some-type")
+        .withIntendedVehicle(vehicle.getReference());
+
+    assertThat(criteria.test(order), is(true));
+    assertThat(criteria.test(order.withType("other-type")), is(false));
+  }
+}
@@ -0,0 +1,193 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Unit tests for {@link QueuedEventHandler}.
+ */
+class QueuedEventHandlerTest {
+
+  /**
+   * The events received by the delegate.
+   */
+  private BlockingQueue<Object> receivedEvents;
+  /**
+   * Blocks the delegate after it has received an event, until opened.
+   */
+  private CountDownLatch delegateGate;
+  private QueuedEventHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    receivedEvents = new LinkedBlockingQueue<>();
+    delegateGate = new CountDownLatch(1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    delegateGate.countDown();
+    handler.terminate();
+  }
+
+  @Test
+  void forwardEventsInOrder() {
+    handler = createHandler(10, QueuedEventHandler.OverflowPolicy.BLOCK);
+    delegateGate.countDown();
+
+    handler.onEvent("event-1");
+    handler.onEvent("event-2");
+    handler.onEvent("event-3");
+
+    assertThat(takeReceivedEvents(3), contains("event-1", "event-2", "event-3"));
+  }
+
+  @Test
+  void dropOldestEventsWhenQueueIsFull() {
+    handler = createHandler(2, QueuedEventHandler.OverflowPolicy.DROP_OLDEST);
+    handler.onEvent("event-1");
+    // Wait until the delegate is busy with the first event.
+    assertThat(takeReceivedEvents(1), contains("event-1"));
+
+    handler.onEvent("event-2");
+    handler.onEvent("event-3");
+    handler.onEvent("event-4");
+    handler.onEvent("event-5");
+
+    assertThat(handler.getQueuedEventCount(), is(2));
+    assertThat(handler.getDroppedEventCount(), is(2L));
+
+    delegateGate.countDown();
+
+    assertThat(takeReceivedEvents(2), contains("event-4", "event-5"));
+  }
+
+  @Test
+  void blockPublisherWhenQueueIsFull()
+      throws InterruptedException {
+    handler = createHandler(1, QueuedEventHandler.OverflowPolicy.BLOCK);
+    handler.onEvent("event-1");
+    assertThat(takeReceivedEvents(1), contains("event-1"));
+    handler.onEvent("event-2");
+
+    Thread publisher = new Thread(() -> handler.onEvent("event-3"));
+    publisher.start();
+    publisher.join(200);
+
+    assertThat(publisher.isAlive(), is(true));
+
+    delegateGate.countDown();
+    publisher.join(1000);
+
+    assertThat(publisher.isAlive(), is(false));
+    assertThat(takeReceivedEvents(2), contains("event-2", "event-3"));
+  }
+
+  @Test
+  void coalesceEventsForSameObject() {
+    handler = createHandler(10, QueuedEventHandler.OverflowPolicy.COALESCE_BY_OBJECT);
+    handler.onEvent("event-1");
+    assertThat(takeReceivedEvents(1), contains("event-1"));
+
+    Vehicle vehicleState1 = new Vehicle("vehicle-1");
+    Vehicle vehicleState2 = vehicleState1.withEnergyLevel(50);
+    Vehicle vehicleState3 = vehicleState2.withEnergyLevel(40);
+    Point point = new Point("point-1");
+    handler.onEvent(
+        new TCSObjectEvent(vehicleState2, vehicleState1, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    handler.onEvent(new TCSObjectEvent(point, null, TCSObjectEvent.Type.OBJECT_CREATED));
+    handler.onEvent(
+        new TCSObjectEvent(vehicleState3, vehicleState2, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    assertThat(handler.getQueuedEventCount(), is(2));
+    assertThat(handler.getCoalescedEventCount(), is(1L));
+
+    delegateGate.countDown();
+    List<Object> events = takeReceivedEvents(2);
+
+    TCSObjectEvent vehicleEvent = (TCSObjectEvent) events.get(0);
+    assertThat(vehicleEvent.getType(), is(TCSObjectEvent.Type.OBJECT_MODIFIED));
+    assertThat(vehicleEvent.getPreviousObjectState(), is(vehicleState1));
+    assertThat(vehicleEvent.getCurrentObjectState(), is(vehicleState3));
+    TCSObjectEvent pointEvent = (TCSObjectEvent) events.get(1);
+    assertThat(pointEvent.getCurrentObjectState(), is(point));
+  }
+
+  @Test
+  void discardEventsForObjectsCreatedAndRemovedWhileQueued()
+      throws InterruptedException {
+    handler = createHandler(10, QueuedEventHandler.OverflowPolicy.COALESCE_BY_OBJECT);
+    handler.onEvent("event-1");
+    assertThat(takeReceivedEvents(1), contains("event-1"));
+
+    Point point = new Point("point-1");
+    handler.onEvent(new TCSObjectEvent(point, null, TCSObjectEvent.Type.OBJECT_CREATED));
+    handler.onEvent(new TCSObjectEvent(null, point, TCSObjectEvent.Type.OBJECT_REMOVED));
+    handler.onEvent("event-2");
+
+    assertThat(handler.getQueuedEventCount(), is(1));
+
+    delegateGate.countDown();
+
+    assertThat(takeReceivedEvents(1), contains("event-2"));
+    assertThat(receivedEvents.poll(100, TimeUnit.MILLISECONDS), is(nullValue()));
+  }
+
+  private QueuedEventHandler createHandler(
+      int capacity,
+      QueuedEventHandler.OverflowPolicy overflowPolicy
+  ) {
+    QueuedEventHandler result = new QueuedEventHandler(
+        "test",
+        event -> {
+          receivedEvents.add(event);
+          try {
+            delegateGate.await();
+          }
+          catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+          }
+        },
+        capacity,
+        overflowPolicy
+    );
+    result.initialize();
+    return result;
+  }
+
+  private List<Object> takeReceivedEvents(int count) {
+    List<Object> result = new ArrayList<>();
+    try {
+      for (int i = 0; i < count; i++) {
+        Object event = receivedEvents.poll(1, TimeUnit.SECONDS);
+        if (event == null) {
+          break;
+        }
+        result.add(event);
+      }
+    }
+    catch (InterruptedException exc) {
+      Thread.currentThread().interrupt();
+    }
+    return result;
+  }
+}
@@ -3,6 +3,7 @@
 package org.opentcs.util.event;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
@@ -11,6 +12,10 @@ import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
 
 /**
  * Unit tests for {@link SimpleEventBus}.
@@ -42,4 +47,99 @@ class SimpleEventBusTest {
 
     assertThat(receivedObjects, is(empty()));
   }
+
+  @Test
+  void forwardEventsToSubscribersOfMatchingEventClass() {
+    List<Object> receivedObjects = new ArrayList<>();
+    eventBus.subscribe(
+        (object) -> receivedObjects.add(object),
+        EventTopic.ofEventClass(CharSequence.class)
+    );
+
+    eventBus.onEvent("some-string");
+    eventBus.onEvent(new StringBuilder("some-string-builder"));
+    eventBus.onEvent(1);
+
+    assertThat(receivedObjects, hasSize(2));
+  }
+
+  @Test
+  void forwardObjectEventsToSubscribersOfMatchingObjectClass() {
+    List<Object> receivedObjects = new ArrayList<>();
+    eventBus.subscribe(
+        (object) -> receivedObjects.add(object),
+        EventTopic.ofObjectClass(Vehicle.class)
+    );
+
+    eventBus.onEvent(objectModifiedEvent(new Vehicle("vehicle-1")));
+    eventBus.onEvent(objectModifiedEvent(new Vehicle("vehicle-2")));
+    eventBus.onEvent(objectModifiedEvent(new Point("point-1")));
+    eventBus.onEvent(new Object());
+
+    assertThat(receivedObjects, hasSize(2));
+  }
+
+  @Test
+  void forwardObjectEventsToSubscribersOfMatchingObject() {
+    Vehicle vehicle = new Vehicle("vehicle-1");
+    List<Object> receivedObjects = new ArrayList<>();
+    eventBus.subscribe(
+        (object) -> receivedObjects.add(object),
+        EventTopic.ofObject(vehicle.getReference())
+    );
+
+    eventBus.onEvent(objectModifiedEvent(vehicle));
+    eventBus.onEvent(objectModifiedEvent(new Vehicle("vehicle-2")));
+    eventBus.onEvent(objectModifiedEvent(new Point("vehicle-1")));
+
+    assertThat(receivedObjects, hasSize(1));
+  }
+
+  @Test
+  void forwardEventOnlyOnceToSubscriberOfMultipleMatchingTopics() {
+    Vehicle vehicle = new Vehicle("vehicle-1");
+    List<Object> receivedObjects = new ArrayList<>();
+    EventHandler eventHandler = (object) -> receivedObjects.add(object);
+    eventBus.subscribe(eventHandler, EventTopic.ofObject(vehicle.getReference()));
+    eventBus.subscribe(eventHandler, EventTopic.ofObjectClass(Vehicle.class));
+    eventBus.subscribe(eventHandler, EventTopic.ofEventClass(TCSObjectEvent.class));
+
+    eventBus.onEvent(objectModifiedEvent(vehicle));
+
+    assertThat(receivedObjects, hasSize(1));
+
+    eventBus.unsubscribe(eventHandler);
+    receivedObjects.clear();
+
+    eventBus.onEvent(objectModifiedEvent(vehicle));
+
+    assertThat(receivedObjects, is(empty()));
+  }
+
+  @Test
+  void forwardEventsToSubscribersInOrderOfSubscription() {
+    Vehicle vehicle = new Vehicle("vehicle-1");
+    List<String> receivedBy = new ArrayList<>();
+    eventBus.subscribe(
+        (object) -> receivedBy.add("object"),
+        EventTopic.ofObject(vehicle.getReference())
+    );
+    eventBus.subscribe((object) -> receivedBy.add("all"));
+    eventBus.subscribe(
+        (object) -> receivedBy.add("object-class"),
+        EventTopic.ofObjectClass(Vehicle.class)
+    );
+    eventBus.subscribe(
+        (object) -> receivedBy.add("event-class"),
+        EventTopic.ofEventClass(TCSObjectEvent.class)
+    );
+
+    eventBus.onEvent(objectModifiedEvent(vehicle));
+
+    assertThat(receivedBy, contains("object", "all", "object-class", "event-class"));
+  }
+
+  private TCSObjectEvent objectModifiedEvent(TCSObject<?> object) {
+    return new TCSObjectEvent(object, object, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
 }
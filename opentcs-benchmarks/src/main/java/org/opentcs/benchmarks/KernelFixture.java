@@ -0,0 +1,412 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.benchmarks;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.opentcs.access.to.order.DestinationCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.components.kernel.routing.EdgeEvaluator;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.configuration.ConfigurationBindingProvider;
+import org.opentcs.configuration.gestalt.GestaltConfigurationBindingProvider;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.services.StandardTCSObjectService;
+import org.opentcs.kernel.workingset.PlantModelManager;
+import org.opentcs.kernel.workingset.PrefixedUlidObjectNameProvider;
+import org.opentcs.kernel.workingset.TCSObjectManager;
+import org.opentcs.kernel.workingset.TCSObjectRepository;
+import org.opentcs.kernel.workingset.TransportOrderPoolManager;
+import org.opentcs.strategies.basic.routing.DefaultRouter;
+import org.opentcs.strategies.basic.routing.DefaultRouterConfiguration;
+import org.opentcs.strategies.basic.routing.DefaultRoutingGroupMapper;
+import org.opentcs.strategies.basic.routing.PointRouterFactory;
+import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorComposite;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorDistance;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorHops;
+import org.opentcs.strategies.basic.routing.jgrapht.DefaultModelGraphMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.DijkstraPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.GeneralModelGraphMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.MapperComponentsFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.PathEdgeMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.PointRouterProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.PointVertexMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+import org.opentcs.util.event.EventBus;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Wires the kernel's working set and default strategy components the same way the kernel's
+ * injection modules do, but without the overhead of a full kernel (RMI, HTTP, communication
+ * adapters etc.).
+ */
+public class KernelFixture {
+
+  /**
+   * The classpath resource containing the kernel's baseline configuration defaults.
+   */
+  private static final String DEFAULTS_RESOURCE
+      = "/org/opentcs/kernel/distribution/config/opentcs-kernel-defaults-baseline.properties";
+  /**
+   * The object used for global synchronization.
+   */
+  private final Object globalSyncObject = new Object();
+  /**
+   * The application's event bus.
+   */
+  private final EventBus eventBus = new SimpleEventBus();
+  /**
+   * The object repository.
+   */
+  private final TCSObjectRepository objectRepo = new TCSObjectRepository();
+  /**
+   * Manages the plant model.
+   */
+  private final PlantModelManager plantModelManager;
+  /**
+   * Manages transport orders.
+   */
+  private final TransportOrderPoolManager orderPoolManager;
+  /**
+   * Provides access to the objects in the repository.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * Provides the configuration.
+   */
+  private final ConfigurationBindingProvider configurationProvider;
+
+  /**
+   * Creates a new instance.
+   */
+  public KernelFixture() {
+    // Keep log output from getting in the way of measurements.
+    Logger.getLogger("").setLevel(Level.WARNING);
+
+    this.plantModelManager = new PlantModelManager(objectRepo, eventBus);
+    this.orderPoolManager = new TransportOrderPoolManager(
+        objectRepo,
+        eventBus,
+        new PrefixedUlidObjectNameProvider()
+    );
+    this.objectService = new StandardTCSObjectService(
+        globalSyncObject,
+        new TCSObjectManager(objectRepo, eventBus)
+    );
+    this.configurationProvider = createConfigurationProvider();
+  }
+
+  /**
+   * Returns the object used for global synchronization.
+   *
+   * @return The object used for global synchronization.
+   */
+  public Object getGlobalSyncObject() {
+    return globalSyncObject;
+  }
+
+  /**
+   * Returns the application's event bus.
+   *
+   * @return The application's event bus.
+   */
+  public EventBus getEventBus() {
+    return eventBus;
+  }
+
+  /**
+   * Returns the object repository.
+   *
+   * @return The object repository.
+   */
+  public TCSObjectRepository getObjectRepo() {
+    return objectRepo;
+  }
+
+  /**
+   * Returns the plant model manager.
+   *
+   * @return The plant model manager.
+   */
+  public PlantModelManager getPlantModelManager() {
+    return plantModelManager;
+  }
+
+  /**
+   * Returns the object service.
+   *
+   * @return The object service.
+   */
+  public TCSObjectService getObjectService() {
+    return objectService;
+  }
+
+  /**
+   * Returns the configuration provider.
+   *
+   * @return The configuration provider.
+   */
+  public ConfigurationBindingProvider getConfigurationProvider() {
+    return configurationProvider;
+  }
+
+  /**
+   * Creates the plant model described by the given generator and places the vehicles on their
+   * initial positions.
+   *
+   * @param generator The generator describing the plant model.
+   */
+  public void loadPlantModel(
+      @Nonnull
+      PlantModelGenerator generator
+  ) {
+    requireNonNull(generator, "generator");
+
+    plantModelManager.createPlantModelObjects(generator.generate());
+
+    for (int i = 0; i < generator.getVehicleCount(); i++) {
+      String pointName = PlantModelGenerator.pointName(generator.vehiclePointIndex(i));
+      plantModelManager.setVehiclePosition(
+          objectRepo.getObject(Vehicle.class, PlantModelGenerator.vehicleName(i)).getReference(),
+          objectRepo.getObject(Point.class, pointName).getReference()
+      );
+    }
+  }
+
+  /**
+   * Creates pick-up-and-drop transport orders between randomly selected stations of the plant
+   * model described by the given generator.
+   *
+   * @param generator The generator describing the plant model.
+   * @param count The number of transport orders to create.
+   * @param seed The seed for selecting the stations.
+   * @return The created transport orders.
+   */
+  public List<TransportOrder> createTransportOrders(
+      @Nonnull
+      PlantModelGenerator generator,
+      int count,
+      long seed
+  ) {
+    requireNonNull(generator, "generator");
+
+    Random random = new Random(seed);
+    List<TransportOrder> orders = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int source = random.nextInt(generator.getStationCount());
+      int destination = (source + 1 + random.nextInt(generator.getStationCount() - 1))
+          % generator.getStationCount();
+      orders.add(
+          orderPoolManager.createTransportOrder(
+              new TransportOrderCreationTO(
+                  String.format("TOrder-%06d-%d", i, seed),
+                  List.of(
+                      new DestinationCreationTO(
+                          PlantModelGenerator.stationName(source),
+                          PlantModelGenerator.OP_LOAD
+                      ),
+                      new DestinationCreationTO(
+                          PlantModelGenerator.stationName(destination),
+                          PlantModelGenerator.OP_UNLOAD
+                      )
+                  )
+              )
+          )
+      );
+    }
+    return orders;
+  }
+
+  /**
+   * Creates a graph provider working on the plant model in this fixture.
+   *
+   * @return The graph provider.
+   */
+  public GraphProvider createGraphProvider() {
+    ShortestPathConfiguration shortestPathConfig = configurationProvider.get(
+        ShortestPathConfiguration.PREFIX,
+        ShortestPathConfiguration.class
+    );
+    MapperComponentsFactory mapperComponentsFactory = new MapperComponentsFactory() {
+      @Override
+      public PointVertexMapper createPointVertexMapper() {
+        return new PointVertexMapper();
+      }
+
+      @Override
+      public PathEdgeMapper createPathEdgeMapper(
+          EdgeEvaluator edgeEvaluator,
+          boolean excludeLockedPaths
+      ) {
+        return new PathEdgeMapper(edgeEvaluator, excludeLockedPaths, shortestPathConfig);
+      }
+    };
+
+    return new GraphProvider(
+        objectService,
+        new GeneralModelGraphMapper(new EdgeEvaluatorHops(), mapperComponentsFactory),
+        new DefaultModelGraphMapper(
+            new EdgeEvaluatorComposite(
+                shortestPathConfig,
+                Map.of(EdgeEvaluatorDistance.CONFIGURATION_KEY, new EdgeEvaluatorDistance())
+            ),
+            mapperComponentsFactory
+        ),
+        new DefaultRoutingGroupMapper()
+    );
+  }
+
+  /**
+   * Creates a point router provider using Dijkstra's algorithm and the given graph provider.
+   *
+   * @param graphProvider The graph provider.
+   * @return The point router provider.
+   */
+  public PointRouterProvider createPointRouterProvider(
+      @Nonnull
+      GraphProvider graphProvider
+  ) {
+    requireNonNull(graphProvider, "graphProvider");
+
+    PointRouterFactory pointRouterFactory = new DijkstraPointRouterFactory(graphProvider);
+    return new PointRouterProvider(
+        objectService,
+        new ResourceAvoidanceExtractor(objectService),
+        new DefaultRoutingGroupMapper(),
+        pointRouterFactory,
+        graphProvider
+    );
+  }
+
+  /**
+   * Creates and initializes a router working on the plant model in this fixture.
+   *
+   * @return The router.
+   */
+  public DefaultRouter createRouter() {
+    DefaultRouter router = new DefaultRouter(
+        objectService,
+        createPointRouterProvider(createGraphProvider()),
+        new DefaultRoutingGroupMapper(),
+        configurationProvider.get(
+            DefaultRouterConfiguration.PREFIX,
+            DefaultRouterConfiguration.class
+        )
+    );
+    router.initialize();
+    return router;
+  }
+
+  /**
+   * Creates a proxy for the given object service interface that reads objects via this fixture's
+   * object service.
+   * All other methods (i.e. ones modifying objects) are not stubbed and fail when called.
+   *
+   * @param <T> The interface type.
+   * @param clazz The interface class.
+   * @return The proxy.
+   * @see #unstubbed(Class)
+   */
+  public <T extends TCSObjectService> T createReadOnlyService(
+      @Nonnull
+      Class<T> clazz
+  ) {
+    requireNonNull(clazz, "clazz");
+
+    return createProxy(clazz, objectService);
+  }
+
+  /**
+   * Creates a proxy for the given interface that does not stub any of its methods.
+   * Useful for satisfying constructor dependencies that are not used in a benchmark.
+   * Calling any of the proxy's methods results in an {@link UnsupportedOperationException} naming
+   * the method, so that a benchmark relying on functionality the fixture does not provide fails
+   * instead of measuring something else.
+   *
+   * @param <T> The interface type.
+   * @param clazz The interface class.
+   * @return The proxy.
+   */
+  public static <T> T unstubbed(
+      @Nonnull
+      Class<T> clazz
+  ) {
+    requireNonNull(clazz, "clazz");
+
+    return createProxy(clazz, null);
+  }
+
+  private static <T> T createProxy(
+      Class<T> clazz,
+      @Nullable
+      TCSObjectService objectService
+  ) {
+    return clazz.cast(
+        Proxy.newProxyInstance(
+            clazz.getClassLoader(),
+            new Class<?>[]{clazz},
+            (proxy, method, args) -> {
+              if (method.getDeclaringClass() == Object.class) {
+                if (method.getName().equals("equals")) {
+                  return proxy == args[0];
+                }
+                else if (method.getName().equals("hashCode")) {
+                  return System.identityHashCode(proxy);
+                }
+                return "Proxy for " + clazz.getSimpleName();
+              }
+              if (objectService != null && method.getDeclaringClass() == TCSObjectService.class) {
+                try {
+                  return method.invoke(objectService, args);
+                }
+                catch (InvocationTargetException e) {
+                  throw e.getCause();
+                }
+              }
+              throw new UnsupportedOperationException(
+                  String.format(
+                      "%s.%s() is not stubbed by the benchmark fixture.",
+                      clazz.getSimpleName(),
+                      method.getName()
+                  )
+              );
+            }
+        )
+    );
+  }
+
+  private static ConfigurationBindingProvider createConfigurationProvider() {
+    try (InputStream in = KernelFixture.class.getResourceAsStream(DEFAULTS_RESOURCE)) {
+      requireNonNull(in, "Missing resource " + DEFAULTS_RESOURCE);
+
+      Path defaultsFile = Files.createTempFile("opentcs-benchmarks-defaults-", ".properties");
+      defaultsFile.toFile().deleteOnExit();
+      Files.copy(in, defaultsFile, StandardCopyOption.REPLACE_EXISTING);
+
+      return new GestaltConfigurationBindingProvider(defaultsFile);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException("Could not provide configuration defaults", e);
+    }
+  }
+}
@@ -0,0 +1,227 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.benchmarks.PlantModelGenerator.Topology;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.InternalTransportOrderService;
+import org.opentcs.components.kernel.services.InternalVehicleService;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.drivers.vehicle.VehicleControllerPool;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
+import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
+import org.opentcs.strategies.basic.dispatching.phase.OrderFilterResult;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.AssignmentCandidateCalculator;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.DispatchingStatusMarker;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.OrderAssigner;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeOrderCandidateComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeOrderComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeVehicleCandidateComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeVehicleComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.candidate.CandidateComparatorByDeadline;
+import org.opentcs.strategies.basic.dispatching.priorization.candidate.CandidateComparatorByEnergyLevel;
+import org.opentcs.strategies.basic.dispatching.priorization.candidate.CandidateComparatorIdleFirst;
+import org.opentcs.strategies.basic.dispatching.priorization.transportorder.TransportOrderComparatorByDeadline;
+import org.opentcs.strategies.basic.dispatching.priorization.vehicle.VehicleComparatorByEnergyLevel;
+import org.opentcs.strategies.basic.dispatching.priorization.vehicle.VehicleComparatorIdleFirst;
+import org.opentcs.strategies.basic.dispatching.selection.candidates.CompositeAssignmentCandidateSelectionFilter;
+
+/**
+ * Benchmarks the assignment of transport orders to vehicles via
+ * {@link OrderAssigner#tryAssignments(java.util.Collection, java.util.Collection)}.
+ * <p>
+ * Assignments are computed with the real router, comparators and status checks, but not actually
+ * applied to vehicles and transport orders, so every benchmark operation works on the same state.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OrderAssignerBenchmark {
+
+  @Param({"GRID", "WAREHOUSE_AISLE", "LOOP"})
+  public Topology topology;
+
+  @Param({"1000", "10000", "100000"})
+  public int pointCount;
+
+  @Param({"10", "100", "1000"})
+  public int vehicleCount;
+
+  @Param({"100", "1000"})
+  public int orderCount;
+
+  private AssignmentCandidateCalculator candidateCalculator;
+  private OrderAssigner orderAssigner;
+  private List<Vehicle> vehicles;
+  private List<TransportOrder> orders;
+
+  /**
+   * Creates a new instance.
+   */
+  public OrderAssignerBenchmark() {
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    PlantModelGenerator generator = new PlantModelGenerator(topology, pointCount, vehicleCount);
+    KernelFixture fixture = new KernelFixture();
+    fixture.loadPlantModel(generator);
+    orders = fixture.createTransportOrders(generator, orderCount, 42L);
+
+    vehicles = new ArrayList<>(fixture.getObjectService().fetchObjects(Vehicle.class));
+    vehicles.sort(Comparator.comparing(Vehicle::getName));
+
+    Router router = fixture.createRouter();
+    DefaultDispatcherConfiguration configuration = fixture.getConfigurationProvider().get(
+        DefaultDispatcherConfiguration.PREFIX,
+        DefaultDispatcherConfiguration.class
+    );
+
+    candidateCalculator = new AssignmentCandidateCalculator(
+        fixture.getObjectService(),
+        router,
+        configuration
+    );
+    candidateCalculator.initialize();
+
+    orderAssigner = new OrderAssigner(
+        candidateCalculator,
+        new OrderReservationPool(),
+        new CompositeVehicleComparator(
+            configuration,
+            Map.of(
+                VehicleComparatorIdleFirst.CONFIGURATION_KEY,
+                new VehicleComparatorIdleFirst(),
+                VehicleComparatorByEnergyLevel.CONFIGURATION_KEY,
+                new VehicleComparatorByEnergyLevel()
+            )
+        ),
+        new CompositeOrderComparator(
+            configuration,
+            Map.of(
+                TransportOrderComparatorByDeadline.CONFIGURATION_KEY,
+                new TransportOrderComparatorByDeadline()
+            )
+        ),
+        new CompositeOrderCandidateComparator(
+            configuration,
+            Map.of(
+                CandidateComparatorByDeadline.CONFIGURATION_KEY,
+                new CandidateComparatorByDeadline()
+            )
+        ),
+        new CompositeVehicleCandidateComparator(
+            configuration,
+            Map.of(
+                CandidateComparatorIdleFirst.CONFIGURATION_KEY,
+                new CandidateComparatorIdleFirst(),
+                CandidateComparatorByEnergyLevel.CONFIGURATION_KEY,
+                new CandidateComparatorByEnergyLevel()
+            )
+        ),
+        new CompositeAssignmentCandidateSelectionFilter(Set.of()),
+        new NonAssigningTransportOrderUtil(fixture, configuration, router),
+        new NonMarkingDispatchingStatusMarker(fixture.getObjectService()),
+        configuration
+    );
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    candidateCalculator.terminate();
+  }
+
+  @Benchmark
+  public void tryAssignments() {
+    orderAssigner.tryAssignments(vehicles, orders);
+  }
+
+  /**
+   * A {@link TransportOrderUtil} that does not actually assign or abort any transport orders.
+   */
+  private static class NonAssigningTransportOrderUtil
+      extends
+        TransportOrderUtil {
+
+    NonAssigningTransportOrderUtil(
+        KernelFixture fixture,
+        DefaultDispatcherConfiguration configuration,
+        Router router
+    ) {
+      super(
+          fixture.createReadOnlyService(InternalTransportOrderService.class),
+          fixture.createReadOnlyService(InternalVehicleService.class),
+          configuration,
+          router,
+          KernelFixture.unstubbed(VehicleControllerPool.class)
+      );
+    }
+
+    @Override
+    public void assignTransportOrder(
+        Vehicle vehicle,
+        TransportOrder transportOrder,
+        List<DriveOrder> driveOrders
+    ) {
+    }
+
+    @Override
+    public void abortOrder(Vehicle vehicle, boolean immediateAbort) {
+    }
+  }
+
+  /**
+   * A {@link DispatchingStatusMarker} that does not add any history entries to transport orders.
+   */
+  private static class NonMarkingDispatchingStatusMarker
+      extends
+        DispatchingStatusMarker {
+
+    NonMarkingDispatchingStatusMarker(TCSObjectService objectService) {
+      super(objectService);
+    }
+
+    @Override
+    public void markOrderAsDeferred(OrderFilterResult filterResult) {
+    }
+
+    @Override
+    public void markOrderAsResumed(TransportOrder transportOrder) {
+    }
+
+    @Override
+    public void markOrderAsAssigned(TransportOrder transportOrder, Vehicle vehicle) {
+    }
+
+    @Override
+    public void markOrderAsReserved(TransportOrder transportOrder, Vehicle vehicle) {
+    }
+  }
+}
@@ -0,0 +1,72 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.benchmarks.PlantModelGenerator.Topology;
+import org.opentcs.kernel.workingset.PlantModelManager;
+import org.opentcs.kernel.workingset.TCSObjectRepository;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Benchmarks the creation of plant models via
+ * {@link PlantModelManager#createPlantModelObjects(PlantModelCreationTO)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PlantModelCreationBenchmark {
+
+  @Param({"GRID", "WAREHOUSE_AISLE", "LOOP"})
+  public Topology topology;
+
+  @Param({"1000", "10000", "100000"})
+  public int pointCount;
+
+  @Param({"10", "100", "1000"})
+  public int vehicleCount;
+
+  private PlantModelCreationTO plantModel;
+  private PlantModelManager plantModelManager;
+
+  /**
+   * Creates a new instance.
+   */
+  public PlantModelCreationBenchmark() {
+  }
+
+  @Setup(Level.Trial)
+  public void setUpTrial() {
+    // Creating the fixture also quiets the kernel's logging.
+    new KernelFixture();
+    plantModel = new PlantModelGenerator(topology, pointCount, vehicleCount).generate();
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpInvocation() {
+    // Start with an empty repository every time so clearing the previous model is not measured.
+    plantModelManager = new PlantModelManager(new TCSObjectRepository(), new SimpleEventBus());
+  }
+
+  @Benchmark
+  public PlantModelManager createPlantModelObjects() {
+    plantModelManager.createPlantModelObjects(plantModel);
+    return plantModelManager;
+  }
+}
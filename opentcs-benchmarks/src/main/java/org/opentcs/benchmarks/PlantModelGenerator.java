@@ -0,0 +1,371 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.benchmarks;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.opentcs.access.to.model.LocationCreationTO;
+import org.opentcs.access.to.model.LocationTypeCreationTO;
+import org.opentcs.access.to.model.PathCreationTO;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.model.VehicleCreationTO;
+import org.opentcs.data.model.Pose;
+import org.opentcs.data.model.Triple;
+
+/**
+ * Generates synthetic plant models of configurable size and topology for benchmarking.
+ * <p>
+ * All generated models are strongly connected, i.e. every point can be reached from every other
+ * point. Locations ("stations") are linked to points evenly distributed across the model.
+ * Generating a model with the same parameters always yields the same result.
+ * </p>
+ */
+public class PlantModelGenerator {
+
+  /**
+   * The name of the location type all generated locations are of.
+   */
+  public static final String LOCATION_TYPE_NAME = "StationType";
+  /**
+   * The operation to load cargo at a station.
+   */
+  public static final String OP_LOAD = "Load cargo";
+  /**
+   * The operation to unload cargo at a station.
+   */
+  public static final String OP_UNLOAD = "Unload cargo";
+  /**
+   * The distance between two neighbouring points (in mm).
+   */
+  private static final long POINT_SPACING = 1000;
+  /**
+   * The maximum velocity set on all generated paths (in mm/s).
+   */
+  private static final int MAX_VELOCITY = 1000;
+  /**
+   * The topology of the generated model.
+   */
+  private final Topology topology;
+  /**
+   * The number of points in the generated model.
+   */
+  private final int pointCount;
+  /**
+   * The number of vehicles in the generated model.
+   */
+  private final int vehicleCount;
+  /**
+   * The number of locations in the generated model.
+   */
+  private final int stationCount;
+  /**
+   * The points created so far.
+   */
+  private final List<PointCreationTO> points = new ArrayList<>();
+  /**
+   * The paths created so far.
+   */
+  private final List<PathCreationTO> paths = new ArrayList<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param topology The topology of the generated model.
+   * @param pointCount The number of points in the generated model.
+   * @param vehicleCount The number of vehicles in the generated model.
+   */
+  public PlantModelGenerator(
+      @Nonnull
+      Topology topology,
+      int pointCount,
+      int vehicleCount
+  ) {
+    this.topology = requireNonNull(topology, "topology");
+    checkArgument(pointCount >= 16, "pointCount must be at least 16: %s", pointCount);
+    checkArgument(vehicleCount >= 0, "vehicleCount must not be negative: %s", vehicleCount);
+    this.pointCount = pointCount;
+    this.vehicleCount = vehicleCount;
+    this.stationCount = Math.min(pointCount / 2, Math.max(2 * vehicleCount, pointCount / 50));
+  }
+
+  /**
+   * Returns the name of the point with the given index.
+   *
+   * @param index The index.
+   * @return The name of the point.
+   */
+  public static String pointName(int index) {
+    return String.format("Point-%06d", index);
+  }
+
+  /**
+   * Returns the name of the location with the given index.
+   *
+   * @param index The index.
+   * @return The name of the location.
+   */
+  public static String stationName(int index) {
+    return String.format("Station-%05d", index);
+  }
+
+  /**
+   * Returns the name of the vehicle with the given index.
+   *
+   * @param index The index.
+   * @return The name of the vehicle.
+   */
+  public static String vehicleName(int index) {
+    return String.format("Vehicle-%04d", index);
+  }
+
+  /**
+   * Returns the number of points in the generated model.
+   *
+   * @return The number of points in the generated model.
+   */
+  public int getPointCount() {
+    return pointCount;
+  }
+
+  /**
+   * Returns the number of vehicles in the generated model.
+   *
+   * @return The number of vehicles in the generated model.
+   */
+  public int getVehicleCount() {
+    return vehicleCount;
+  }
+
+  /**
+   * Returns the number of locations in the generated model.
+   *
+   * @return The number of locations in the generated model.
+   */
+  public int getStationCount() {
+    return stationCount;
+  }
+
+  /**
+   * Generates the plant model.
+   *
+   * @return The generated plant model.
+   */
+  @Nonnull
+  public PlantModelCreationTO generate() {
+    points.clear();
+    paths.clear();
+
+    switch (topology) {
+      case GRID:
+        generateGrid();
+        break;
+      case WAREHOUSE_AISLE:
+        generateWarehouseAisles();
+        break;
+      case LOOP:
+        generateLoop();
+        break;
+      default:
+        throw new IllegalArgumentException("Unhandled topology: " + topology);
+    }
+
+    return new PlantModelCreationTO(
+        String.format("%s-%d-points-%d-vehicles", topology.name(), pointCount, vehicleCount)
+    )
+        .withPoints(new ArrayList<>(points))
+        .withPaths(new ArrayList<>(paths))
+        .withLocationTypes(
+            List.of(
+                new LocationTypeCreationTO(LOCATION_TYPE_NAME)
+                    .withAllowedOperations(List.of(OP_LOAD, OP_UNLOAD))
+            )
+        )
+        .withLocations(generateStations())
+        .withVehicles(generateVehicles());
+  }
+
+  /**
+   * Creates a rectangular grid in which each point is connected to its horizontal and vertical
+   * neighbours via bidirectional paths.
+   */
+  private void generateGrid() {
+    int columns = (int) Math.ceil(Math.sqrt(pointCount));
+
+    for (int i = 0; i < pointCount; i++) {
+      addPoint(i, (i % columns) * POINT_SPACING, (i / columns) * POINT_SPACING);
+    }
+    for (int i = 0; i < pointCount; i++) {
+      if ((i + 1) % columns != 0 && i + 1 < pointCount) {
+        addPath(i, i + 1, true);
+      }
+      if (i + columns < pointCount) {
+        addPath(i, i + columns, true);
+      }
+    }
+  }
+
+  /**
+   * Creates a warehouse layout with a front and a back cross aisle and a number of parallel one-way
+   * aisles in between, with alternating driving directions.
+   */
+  private void generateWarehouseAisles() {
+    int aisleCount = Math.max(2, (int) Math.round(Math.sqrt(pointCount / 4.0)));
+    int innerPoints = pointCount - 2 * aisleCount;
+    int aisleLength = innerPoints / aisleCount;
+    int longerAisles = innerPoints % aisleCount;
+
+    int frontStart = 0;
+    int backStart = aisleCount;
+    int index = 2 * aisleCount;
+    long backY = (aisleLength + 2) * POINT_SPACING;
+
+    for (int aisle = 0; aisle < aisleCount; aisle++) {
+      addPoint(frontStart + aisle, aisle * POINT_SPACING, 0);
+    }
+    for (int aisle = 0; aisle < aisleCount; aisle++) {
+      addPoint(backStart + aisle, aisle * POINT_SPACING, backY);
+    }
+    for (int aisle = 0; aisle + 1 < aisleCount; aisle++) {
+      addPath(frontStart + aisle, frontStart + aisle + 1, true);
+      addPath(backStart + aisle, backStart + aisle + 1, true);
+    }
+
+    for (int aisle = 0; aisle < aisleCount; aisle++) {
+      int length = aisle < longerAisles ? aisleLength + 1 : aisleLength;
+      boolean towardsBack = aisle % 2 == 0;
+      int previous = towardsBack ? frontStart + aisle : backStart + aisle;
+      for (int step = 0; step < length; step++) {
+        long y = towardsBack
+            ? (step + 1) * backY / (length + 1)
+            : backY - (step + 1) * backY / (length + 1);
+        addPoint(index, aisle * POINT_SPACING, y);
+        addPath(previous, index, false);
+        previous = index;
+        index++;
+      }
+      addPath(previous, towardsBack ? backStart + aisle : frontStart + aisle, false);
+    }
+  }
+
+  /**
+   * Creates a one-way ring with bidirectional chords connecting opposite points of the ring.
+   */
+  private void generateLoop() {
+    double radius = pointCount * POINT_SPACING / (2 * Math.PI);
+    for (int i = 0; i < pointCount; i++) {
+      double angle = 2 * Math.PI * i / pointCount;
+      addPoint(i, Math.round(radius * Math.cos(angle)), Math.round(radius * Math.sin(angle)));
+    }
+    for (int i = 0; i < pointCount; i++) {
+      addPath(i, (i + 1) % pointCount, false);
+    }
+
+    int chordSpacing = Math.max(8, pointCount / 64);
+    for (int i = chordSpacing; i < pointCount / 2; i += chordSpacing) {
+      addPath(i, pointCount - i, true);
+    }
+  }
+
+  private List<LocationCreationTO> generateStations() {
+    List<LocationCreationTO> stations = new ArrayList<>(stationCount);
+    for (int i = 0; i < stationCount; i++) {
+      int pointIndex = stationPointIndex(i);
+      Triple pointPosition = points.get(pointIndex).getPose().getPosition();
+      stations.add(
+          new LocationCreationTO(
+              stationName(i),
+              LOCATION_TYPE_NAME,
+              new Triple(pointPosition.getX(), pointPosition.getY() + POINT_SPACING / 2, 0)
+          )
+              .withLink(pointName(pointIndex), Set.of())
+      );
+    }
+    return stations;
+  }
+
+  private List<VehicleCreationTO> generateVehicles() {
+    List<VehicleCreationTO> vehicles = new ArrayList<>(vehicleCount);
+    for (int i = 0; i < vehicleCount; i++) {
+      vehicles.add(new VehicleCreationTO(vehicleName(i)));
+    }
+    return vehicles;
+  }
+
+  /**
+   * Returns the index of the point the station with the given index is linked to.
+   *
+   * @param stationIndex The station's index.
+   * @return The index of the point the station is linked to.
+   */
+  public int stationPointIndex(int stationIndex) {
+    return (int) ((long) stationIndex * pointCount / stationCount);
+  }
+
+  /**
+   * Returns the index of the point the vehicle with the given index should initially be placed
+   * at.
+   * Vehicles are distributed evenly across the model.
+   *
+   * @param vehicleIndex The vehicle's index.
+   * @return The index of the point.
+   */
+  public int vehiclePointIndex(int vehicleIndex) {
+    return (int) (((long) vehicleIndex * pointCount + pointCount / 2) / Math.max(1, vehicleCount))
+        % pointCount;
+  }
+
+  private void addPoint(int index, long x, long y) {
+    // Points are expected to be created in the order of their indices.
+    checkArgument(points.size() == index, "Unexpected point index: %s", index);
+    points.add(new PointCreationTO(pointName(index)).withPose(new Pose(new Triple(x, y, 0), 0.0)));
+  }
+
+  private void addPath(int srcIndex, int destIndex, boolean bidirectional) {
+    Triple srcPosition = points.get(srcIndex).getPose().getPosition();
+    Triple destPosition = points.get(destIndex).getPose().getPosition();
+    long length = Math.max(
+        1,
+        Math.round(
+            Math.hypot(
+                destPosition.getX() - srcPosition.getX(),
+                destPosition.getY() - srcPosition.getY()
+            )
+        )
+    );
+
+    paths.add(
+        new PathCreationTO(
+            pointName(srcIndex) + " --- " + pointName(destIndex),
+            pointName(srcIndex),
+            pointName(destIndex)
+        )
+            .withLength(length)
+            .withMaxVelocity(MAX_VELOCITY)
+            .withMaxReverseVelocity(bidirectional ? MAX_VELOCITY : 0)
+    );
+  }
+
+  /**
+   * The topologies of generated plant models.
+   */
+  public enum Topology {
+    /**
+     * A rectangular grid of bidirectional paths.
+     */
+    GRID,
+    /**
+     * Parallel one-way aisles connected by bidirectional cross aisles at both ends.
+     */
+    WAREHOUSE_AISLE,
+    /**
+     * A one-way ring with bidirectional chords.
+     */
+    LOOP;
+  }
+}
@@ -0,0 +1,107 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.benchmarks.PlantModelGenerator.Topology;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.routing.DefaultRouter;
+
+/**
+ * Benchmarks route computation via {@link DefaultRouter}.
+ * <p>
+ * Routing graphs and point routers are built during setup, so only the route computation itself is
+ * measured.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RouterBenchmark {
+
+  /**
+   * The number of transport orders to route alternately.
+   */
+  private static final int ORDER_COUNT = 256;
+
+  @Param({"GRID", "WAREHOUSE_AISLE", "LOOP"})
+  public Topology topology;
+
+  @Param({"1000", "10000", "100000"})
+  public int pointCount;
+
+  @Param({"10", "100", "1000"})
+  public int vehicleCount;
+
+  private DefaultRouter router;
+  private List<Vehicle> vehicles;
+  private List<Point> vehiclePositions;
+  private List<TransportOrder> orders;
+  private int invocation;
+
+  /**
+   * Creates a new instance.
+   */
+  public RouterBenchmark() {
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    PlantModelGenerator generator = new PlantModelGenerator(topology, pointCount, vehicleCount);
+    KernelFixture fixture = new KernelFixture();
+    fixture.loadPlantModel(generator);
+    orders = fixture.createTransportOrders(generator, ORDER_COUNT, 42L);
+
+    vehicles = new ArrayList<>(fixture.getObjectService().fetchObjects(Vehicle.class));
+    vehicles.sort(Comparator.comparing(Vehicle::getName));
+    vehiclePositions = vehicles.stream()
+        .map(
+            vehicle -> fixture.getObjectService()
+                .fetchObject(Point.class, vehicle.getCurrentPosition())
+        )
+        .toList();
+
+    router = fixture.createRouter();
+    // Build the routing graph and point routers before measuring.
+    router.checkRoutability(orders.getFirst());
+  }
+
+  @Benchmark
+  public Optional<List<DriveOrder>> getRoute() {
+    int index = invocation++;
+    int vehicleIndex = Math.floorMod(index, vehicles.size());
+    return router.getRoute(
+        vehicles.get(vehicleIndex),
+        vehiclePositions.get(vehicleIndex),
+        orders.get(Math.floorMod(index, orders.size()))
+    );
+  }
+
+  @Benchmark
+  public Set<Vehicle> checkRoutability() {
+    return router.checkRoutability(orders.get(Math.floorMod(invocation++, orders.size())));
+  }
+}
@@ -0,0 +1,115 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.jgrapht.Graph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.benchmarks.PlantModelGenerator.Topology;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResourceReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.PointRouterProvider;
+
+/**
+ * Benchmarks building routing graphs and point routers via {@link GraphProvider} and
+ * {@link PointRouterProvider}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RoutingTopologyBenchmark {
+
+  /**
+   * The number of vehicles in the plant model (irrelevant for graph building).
+   */
+  private static final int VEHICLE_COUNT = 10;
+
+  @Param({"GRID", "WAREHOUSE_AISLE", "LOOP"})
+  public Topology topology;
+
+  @Param({"1000", "10000", "100000"})
+  public int pointCount;
+
+  private GraphProvider graphProvider;
+  private PointRouterProvider pointRouterProvider;
+  private Vehicle vehicle;
+  private Set<TCSResourceReference<?>> resourcesToAvoid;
+  private List<Path> paths;
+  private int invocation;
+
+  /**
+   * Creates a new instance.
+   */
+  public RoutingTopologyBenchmark() {
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    PlantModelGenerator generator = new PlantModelGenerator(topology, pointCount, VEHICLE_COUNT);
+    KernelFixture fixture = new KernelFixture();
+    fixture.loadPlantModel(generator);
+
+    graphProvider = fixture.createGraphProvider();
+    pointRouterProvider = fixture.createPointRouterProvider(fixture.createGraphProvider());
+    vehicle = fixture.getObjectService().fetchObject(
+        Vehicle.class,
+        PlantModelGenerator.vehicleName(0)
+    );
+    // Avoid a single point, as is typical for transport orders with resources to avoid.
+    resourcesToAvoid = Set.of(
+        fixture.getObjectService()
+            .fetchObject(Point.class, PlantModelGenerator.pointName(1))
+            .getReference()
+    );
+    paths = new ArrayList<>(fixture.getObjectService().fetchObjects(Path.class));
+    paths.sort(Comparator.comparing(Path::getName));
+  }
+
+  @Benchmark
+  public Graph<String, Edge> buildGraph() {
+    graphProvider.invalidate();
+    return graphProvider.getGraphResult(vehicle).getGraph();
+  }
+
+  @Benchmark
+  public PointRouter createPointRouterAvoidingResources() {
+    return pointRouterProvider.getPointRouterForVehicle(vehicle, resourcesToAvoid);
+  }
+
+  @Benchmark
+  public Map<String, PointRouter> rebuildPointRouters() {
+    pointRouterProvider.updateRoutingTopology(Set.of());
+    return pointRouterProvider.getPointRoutersByVehicleGroup();
+  }
+
+  @Benchmark
+  public Map<String, PointRouter> updatePointRoutersForSinglePath() {
+    Path path = paths.get(Math.floorMod(invocation++, paths.size()));
+    pointRouterProvider.updateRoutingTopology(Set.of(path));
+    return pointRouterProvider.getPointRoutersByVehicleGroup();
+  }
+}
@@ -0,0 +1,218 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.benchmarks;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.benchmarks.PlantModelGenerator.Topology;
+import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.scheduling.AllocationAdvisor;
+import org.opentcs.strategies.basic.scheduling.DefaultScheduler;
+import org.opentcs.strategies.basic.scheduling.ReservationPool;
+
+/**
+ * Benchmarks resource allocation via {@link DefaultScheduler}, i.e. the processing of allocations
+ * (including deferred ones) on the kernel executor.
+ * <p>
+ * Each benchmark operation lets every vehicle drive along a sequence of points, allocating the
+ * next point and freeing the previous one after each successful allocation. Vehicles start at
+ * evenly distributed points and drive in the same direction, so vehicles may catch up with each
+ * other, resulting in deferred allocations. No scheduler modules are used, i.e. only the
+ * scheduler's own bookkeeping is measured.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SchedulerBenchmark {
+
+  @Param({"GRID"})
+  public Topology topology;
+
+  @Param({"1000", "10000", "100000"})
+  public int pointCount;
+
+  @Param({"10", "100", "1000"})
+  public int vehicleCount;
+
+  /**
+   * The number of points each vehicle allocates per benchmark operation.
+   */
+  @Param({"20"})
+  public int routeLength;
+
+  private ScheduledExecutorService kernelExecutor;
+  private DefaultScheduler scheduler;
+  private List<BenchmarkClient> clients;
+
+  /**
+   * Creates a new instance.
+   */
+  public SchedulerBenchmark() {
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    PlantModelGenerator generator = new PlantModelGenerator(topology, pointCount, vehicleCount);
+    KernelFixture fixture = new KernelFixture();
+    fixture.loadPlantModel(generator);
+
+    kernelExecutor = Executors.newSingleThreadScheduledExecutor();
+    scheduler = new DefaultScheduler(
+        new AllocationAdvisor(Set.of()),
+        new ReservationPool(),
+        kernelExecutor,
+        fixture.getEventBus(),
+        fixture.getGlobalSyncObject()
+    );
+    scheduler.initialize();
+
+    // Routes do not wrap around at the end of the point sequence, so the vehicle with the last
+    // start point can always proceed and vehicles waiting for each other cannot deadlock.
+    clients = new ArrayList<>(vehicleCount);
+    for (int i = 0; i < vehicleCount; i++) {
+      int startIndex = (int) ((long) i * (pointCount - routeLength) / vehicleCount);
+      List<Set<TCSResource<?>>> route = new ArrayList<>(routeLength);
+      for (int step = 0; step < routeLength; step++) {
+        Point point = fixture.getObjectService().fetchObject(
+            Point.class,
+            PlantModelGenerator.pointName(startIndex + step)
+        );
+        route.add(Set.of(point));
+      }
+      clients.add(
+          new BenchmarkClient(
+              fixture.getObjectService()
+                  .fetchObject(Vehicle.class, PlantModelGenerator.vehicleName(i))
+                  .getReference(),
+              route,
+              scheduler
+          )
+      );
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    scheduler.terminate();
+    kernelExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  public int allocate()
+      throws InterruptedException {
+    CountDownLatch finished = new CountDownLatch(clients.size());
+    AtomicInteger failures = new AtomicInteger();
+
+    // Let the clients start on the kernel executor, as the kernel's vehicle controllers would.
+    kernelExecutor.execute(() -> clients.forEach(client -> client.start(finished, failures)));
+
+    if (!finished.await(1, TimeUnit.MINUTES)) {
+      throw new IllegalStateException("Allocations did not finish in time.");
+    }
+    return failures.get();
+  }
+
+  /**
+   * A scheduler client allocating a sequence of resource sets one after the other.
+   */
+  private static class BenchmarkClient
+      implements
+        Scheduler.Client {
+
+    private final TCSObjectReference<Vehicle> vehicleRef;
+    private final List<Set<TCSResource<?>>> route;
+    private final Scheduler scheduler;
+    private CountDownLatch finished;
+    private AtomicInteger failures;
+    private int routeIndex;
+
+    BenchmarkClient(
+        TCSObjectReference<Vehicle> vehicleRef,
+        List<Set<TCSResource<?>>> route,
+        Scheduler scheduler
+    ) {
+      this.vehicleRef = requireNonNull(vehicleRef, "vehicleRef");
+      this.route = requireNonNull(route, "route");
+      this.scheduler = requireNonNull(scheduler, "scheduler");
+    }
+
+    void start(CountDownLatch finished, AtomicInteger failures) {
+      this.finished = requireNonNull(finished, "finished");
+      this.failures = requireNonNull(failures, "failures");
+      routeIndex = 0;
+
+      scheduler.claim(this, route);
+      scheduler.allocate(this, route.get(0));
+    }
+
+    @Override
+    @Nonnull
+    public String getId() {
+      return vehicleRef.getName();
+    }
+
+    @Override
+    public TCSObjectReference<Vehicle> getRelatedVehicle() {
+      return vehicleRef;
+    }
+
+    @Override
+    public boolean allocationSuccessful(
+        @Nonnull
+        Set<TCSResource<?>> resources
+    ) {
+      if (routeIndex > 0) {
+        scheduler.free(this, route.get(routeIndex - 1));
+      }
+      routeIndex++;
+      if (routeIndex < route.size()) {
+        scheduler.allocate(this, route.get(routeIndex));
+      }
+      else {
+        scheduler.freeAll(this);
+        finished.countDown();
+      }
+      return true;
+    }
+
+    @Override
+    public void allocationFailed(
+        @Nonnull
+        Set<TCSResource<?>> resources
+    ) {
+      failures.incrementAndGet();
+      scheduler.freeAll(this);
+      finished.countDown();
+    }
+  }
+}
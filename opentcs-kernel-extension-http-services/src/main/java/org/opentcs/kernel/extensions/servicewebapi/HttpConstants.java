@@ -19,6 +19,11 @@ public class HttpConstants {
    * Content type for JSON structures.
    */
   public static final String CONTENT_TYPE_APPLICATION_JSON_UTF8 = "application/json; charset=utf-8";
+  /**
+   * Content type for streams of server-sent events.
+   */
+  public static final String CONTENT_TYPE_TEXT_EVENT_STREAM_UTF8
+      = "text/event-stream; charset=utf-8";
 
   /**
    * Prevents instantiation.
@@ -2,11 +2,16 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.kernel.extensions.servicewebapi;
 
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
 
 /**
  * Binds JSON strings to objects and vice versa.
@@ -89,4 +94,98 @@ public class JsonBinder {
     }
   }
 
+  /**
+   * Creates a writer for streaming a JSON object with a single array-valued field to the given
+   * output stream, with the array's elements being provided in chunks.
+   *
+   * @param outputStream The output stream to write to. It is flushed after every chunk, but not
+   * closed by the writer.
+   * @param fieldName The name of the array-valued field.
+   * @return The writer.
+   */
+  public JsonArrayWriter createArrayWriter(OutputStream outputStream, String fieldName) {
+    return new JsonArrayWriter(outputStream, fieldName);
+  }
+
+  /**
+   * Streams a JSON object with a single array-valued field to an output stream.
+   * <p>
+   * Nothing is written to the output stream before the first chunk of elements (or the end of the
+   * array) is written, so that e.g. errors occurring before that can still be reported instead.
+   * </p>
+   */
+  public class JsonArrayWriter {
+
+    private final OutputStream outputStream;
+    private final String fieldName;
+    private JsonGenerator generator;
+
+    private JsonArrayWriter(OutputStream outputStream, String fieldName) {
+      this.outputStream = requireNonNull(outputStream, "outputStream");
+      this.fieldName = requireNonNull(fieldName, "fieldName");
+    }
+
+    /**
+     * Writes the given chunk of array elements and flushes the output stream.
+     *
+     * @param elements The elements to be written.
+     * @throws IllegalStateException In case there was a problem writing the elements.
+     */
+    public void write(Collection<?> elements)
+        throws IllegalStateException {
+      requireNonNull(elements, "elements");
+
+      try {
+        if (generator == null) {
+          start();
+        }
+        for (Object element : elements) {
+          generator.writeObject(element);
+        }
+        generator.flush();
+      }
+      catch (IOException exc) {
+        throw new IllegalStateException("Could not produce JSON output", exc);
+      }
+    }
+
+    /**
+     * Checks whether anything has been written to the output stream, yet.
+     *
+     * @return {@code true}, if the first chunk of elements (or the end of the array) has been
+     * written.
+     */
+    public boolean isStarted() {
+      return generator != null;
+    }
+
+    /**
+     * Writes the end of the array and the enclosing object and flushes the output stream.
+     *
+     * @throws IllegalStateException In case there was a problem writing to the output stream.
+     */
+    public void finish()
+        throws IllegalStateException {
+      try {
+        if (generator == null) {
+          start();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.close();
+      }
+      catch (IOException exc) {
+        throw new IllegalStateException("Could not produce JSON output", exc);
+      }
+    }
+
+    private void start()
+        throws IOException {
+      generator = objectMapper.createGenerator(outputStream)
+          .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+          .useDefaultPrettyPrinter();
+      generator.writeStartObject();
+      generator.writeArrayFieldStart(fieldName);
+    }
+  }
 }
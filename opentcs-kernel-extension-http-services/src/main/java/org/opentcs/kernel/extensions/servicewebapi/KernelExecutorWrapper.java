@@ -14,6 +14,23 @@ import org.opentcs.customizations.kernel.KernelExecutor;
 
 /**
  * Calls callables/runnables via the kernel executor and waits for the outcome.
+ * <p>
+ * Only calls that modify the kernel's state need to be executed this way. Read-only queries (e.g.
+ * fetching objects from the object service) may be executed directly on the calling thread. This
+ * relies on the following guarantees of the kernel's services:
+ * </p>
+ * <ul>
+ * <li>Single objects are fetched without locking. Since objects are immutable, a fetched object is
+ * always a consistent snapshot of its state.</li>
+ * <li>Sets of objects and attachment information are fetched while holding the kernel's global
+ * sync object, so they never reflect a modification that is only partially done.</li>
+ * </ul>
+ * <p>
+ * Consecutive read-only calls are not atomic, though. For example, an object looked up by one call
+ * may have been removed by the time a second call uses its reference. Queries that are executed on
+ * the calling thread must therefore not depend on the kernel's state being unchanged between
+ * calls.
+ * </p>
  */
 public class KernelExecutorWrapper {
 
@@ -4,6 +4,7 @@ package org.opentcs.kernel.extensions.servicewebapi;
 
 import org.opentcs.configuration.ConfigurationEntry;
 import org.opentcs.configuration.ConfigurationPrefix;
+import org.opentcs.util.event.QueuedEventHandler;
 
 /**
  * Configuration entries for the service web API.
@@ -56,6 +57,46 @@ public interface ServiceWebApiConfiguration {
   )
   int statusEventsCapacity();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of events queued for being turned into status events "
+              + "asynchronously.",
+          "If 0, status events are created synchronously, i.e. by the thread emitting the events."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "4_1"
+  )
+  int statusEventQueueCapacity();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+          "What to do when an event is to be queued while the status event queue is full.",
+          "Possible values:",
+          "BLOCK: Block the thread emitting an event until there is space in the queue.",
+          "DROP_OLDEST: Drop the oldest queued event.",
+          "COALESCE_BY_OBJECT: Coalesce events for objects with queued events for the same "
+              + "objects, so that only the objects' latest states are forwarded, and block the "
+              + "thread emitting an event if it cannot be coalesced."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "4_2"
+  )
+  QueuedEventHandler.OverflowPolicy statusEventQueueOverflowPolicy();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of status events queued for a single client of the event stream.",
+          "If a client does not keep up and this number is exceeded, the client's stream is "
+              + "closed, and the client may resume it with a new connection."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "4_3"
+  )
+  int statusEventStreamQueueCapacity();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether to use SSL to encrypt connections.",
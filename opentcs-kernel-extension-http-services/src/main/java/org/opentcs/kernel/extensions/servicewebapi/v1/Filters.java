@@ -4,11 +4,14 @@ package org.opentcs.kernel.extensions.servicewebapi.v1;
 
 import jakarta.annotation.Nullable;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.model.VehicleCriteria;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.order.TransportOrderCriteria;
 import org.opentcs.data.peripherals.PeripheralJob;
 
 /**
@@ -35,9 +38,7 @@ public class Filters {
       @Nullable
       TCSObjectReference<Vehicle> vehicleRef
   ) {
-    return vehicleRef == null
-        ? order -> true
-        : order -> Objects.equals(vehicleRef, order.getIntendedVehicle());
+    return new TransportOrderCriteria().withIntendedVehicle(vehicleRef);
   }
 
   /**
@@ -106,7 +107,7 @@ public class Filters {
       Vehicle.ProcState procState
   ) {
     return procState == null
-        ? vehicle -> true
-        : vehicle -> Objects.equals(procState, vehicle.getProcState());
+        ? new VehicleCriteria()
+        : new VehicleCriteria().withProcStates(Set.of(procState));
   }
 }
@@ -88,14 +88,12 @@ public class PeripheralHandler {
       throws ObjectUnknownException {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
-      Location location = peripheralService.fetchObject(Location.class, name);
-      if (location == null) {
-        throw new ObjectUnknownException("Unknown location: " + name);
-      }
+    Location location = peripheralService.fetchObject(Location.class, name);
+    if (location == null) {
+      throw new ObjectUnknownException("Unknown location: " + name);
+    }
 
-      return peripheralService.fetchAttachmentInformation(location.getReference());
-    });
+    return peripheralService.fetchAttachmentInformation(location.getReference());
   }
 
 }
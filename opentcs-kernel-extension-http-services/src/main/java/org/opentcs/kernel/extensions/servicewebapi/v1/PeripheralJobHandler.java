@@ -131,39 +131,37 @@ public class PeripheralJobHandler {
       @Nullable
       String relatedTransportOrder
   ) {
-    return executorWrapper.callAndWait(() -> {
-      // If a related vehicle is set, make sure it exists.
-      TCSObjectReference<Vehicle> relatedVehicleRef
-          = Optional.ofNullable(relatedVehicle)
-              .map(name -> jobService.fetchObject(Vehicle.class, name))
-              .map(Vehicle::getReference)
-              .orElse(null);
-
-      if (relatedVehicle != null && relatedVehicleRef == null) {
-        throw new ObjectUnknownException("Unknown vehicle: " + relatedVehicle);
-      }
-
-      // If a related transport order is set, make sure it exists.
-      TCSObjectReference<TransportOrder> relatedOrderRef
-          = Optional.ofNullable(relatedTransportOrder)
-              .map(name -> jobService.fetchObject(TransportOrder.class, name))
-              .map(TransportOrder::getReference)
-              .orElse(null);
-
-      if (relatedTransportOrder != null && relatedOrderRef == null) {
-        throw new ObjectUnknownException("Unknown oransport order: " + relatedVehicle);
-      }
-
-      return jobService.fetchObjects(
-          PeripheralJob.class,
-          Filters.peripheralJobWithRelatedVehicle(relatedVehicleRef)
-              .and(Filters.peripheralJobWithRelatedTransportOrder(relatedOrderRef))
-      )
-          .stream()
-          .map(GetPeripheralJobResponseTO::fromPeripheralJob)
-          .sorted(Comparator.comparing(GetPeripheralJobResponseTO::getName))
-          .collect(Collectors.toList());
-    });
+    // If a related vehicle is set, make sure it exists.
+    TCSObjectReference<Vehicle> relatedVehicleRef
+        = Optional.ofNullable(relatedVehicle)
+            .map(name -> jobService.fetchObject(Vehicle.class, name))
+            .map(Vehicle::getReference)
+            .orElse(null);
+
+    if (relatedVehicle != null && relatedVehicleRef == null) {
+      throw new ObjectUnknownException("Unknown vehicle: " + relatedVehicle);
+    }
+
+    // If a related transport order is set, make sure it exists.
+    TCSObjectReference<TransportOrder> relatedOrderRef
+        = Optional.ofNullable(relatedTransportOrder)
+            .map(name -> jobService.fetchObject(TransportOrder.class, name))
+            .map(TransportOrder::getReference)
+            .orElse(null);
+
+    if (relatedTransportOrder != null && relatedOrderRef == null) {
+      throw new ObjectUnknownException("Unknown oransport order: " + relatedVehicle);
+    }
+
+    return jobService.fetchObjects(
+        PeripheralJob.class,
+        Filters.peripheralJobWithRelatedVehicle(relatedVehicleRef)
+            .and(Filters.peripheralJobWithRelatedTransportOrder(relatedOrderRef))
+    )
+        .stream()
+        .map(GetPeripheralJobResponseTO::fromPeripheralJob)
+        .sorted(Comparator.comparing(GetPeripheralJobResponseTO::getName))
+        .collect(Collectors.toList());
   }
 
   /**
@@ -178,13 +176,11 @@ public class PeripheralJobHandler {
   ) {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
-      PeripheralJob job = jobService.fetchObject(PeripheralJob.class, name);
-      if (job == null) {
-        throw new ObjectUnknownException("Unknown peripheral job: " + name);
-      }
+    PeripheralJob job = jobService.fetchObject(PeripheralJob.class, name);
+    if (job == null) {
+      throw new ObjectUnknownException("Unknown peripheral job: " + name);
+    }
 
-      return GetPeripheralJobResponseTO.fromPeripheralJob(job);
-    });
+    return GetPeripheralJobResponseTO.fromPeripheralJob(job);
   }
 }
@@ -7,6 +7,8 @@ import static org.opentcs.util.Assertions.checkInRange;
 
 import jakarta.inject.Inject;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import org.opentcs.access.Kernel;
@@ -26,6 +28,8 @@ import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.StatusMe
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.VehicleStatusMessage;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.EventSource;
+import org.opentcs.util.event.EventTopic;
+import org.opentcs.util.event.QueuedEventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,10 +57,18 @@ public class StatusEventDispatcher
    * The events collected.
    */
   private final SortedMap<Long, StatusMessage> events = new TreeMap<>();
+  /**
+   * The streams currently open.
+   */
+  private final Set<StatusEventStream> streams = new HashSet<>();
   /**
    * The number of events collected so far.
    */
   private long eventCount;
+  /**
+   * Forwards events to this instance asynchronously, if configured.
+   */
+  private QueuedEventHandler eventQueue;
   /**
    * Whether this instance is initialized.
    */
@@ -82,7 +94,22 @@ public class StatusEventDispatcher
       return;
     }
 
-    eventSource.subscribe(this);
+    EventHandler listener = this;
+    if (configuration.statusEventQueueCapacity() > 0) {
+      eventQueue = new QueuedEventHandler(
+          "statusEventDispatcher",
+          this,
+          configuration.statusEventQueueCapacity(),
+          configuration.statusEventQueueOverflowPolicy()
+      );
+      eventQueue.initialize();
+      listener = eventQueue;
+    }
+
+    eventSource.subscribe(listener, EventTopic.ofEventClass(KernelStateTransitionEvent.class));
+    eventSource.subscribe(listener, EventTopic.ofObjectClass(TransportOrder.class));
+    eventSource.subscribe(listener, EventTopic.ofObjectClass(Vehicle.class));
+    eventSource.subscribe(listener, EventTopic.ofObjectClass(PeripheralJob.class));
 
     initialized = true;
   }
@@ -98,7 +125,21 @@ public class StatusEventDispatcher
       return;
     }
 
-    eventSource.unsubscribe(this);
+    synchronized (events) {
+      for (StatusEventStream stream : streams) {
+        stream.close();
+      }
+      streams.clear();
+    }
+
+    if (eventQueue != null) {
+      eventSource.unsubscribe(eventQueue);
+      eventQueue.terminate();
+      eventQueue = null;
+    }
+    else {
+      eventSource.unsubscribe(this);
+    }
 
     initialized = false;
   }
@@ -150,6 +191,67 @@ public class StatusEventDispatcher
     return result;
   }
 
+  /**
+   * Opens a stream of events, starting with the collected events with sequence numbers not less
+   * than the given one, if any, followed by new events.
+   * If events with sequence numbers not less than the given one had already been discarded, the
+   * stream is marked accordingly (see {@link StatusEventStream#isEventsMissed()}).
+   *
+   * @param minSequenceNo The minimum sequence number of collected events to start the stream with.
+   * If {@code null}, the stream contains only new events.
+   * @param objectTypes The names of the types of objects to stream events for. If empty, events for
+   * all object types are streamed.
+   * @param objectNames The names of the objects to stream events for. If empty, events for all
+   * objects are streamed.
+   * @return The stream.
+   * @throws IllegalArgumentException If the given sequence number is negative or any of the given
+   * object types is unknown.
+   */
+  public StatusEventStream openStream(
+      Long minSequenceNo,
+      Set<String> objectTypes,
+      Set<String> objectNames
+  )
+      throws IllegalArgumentException {
+    if (minSequenceNo != null) {
+      checkInRange(minSequenceNo, 0, Long.MAX_VALUE, "minSequenceNo");
+    }
+
+    StatusEventStream stream = new StatusEventStream(
+        objectTypes,
+        objectNames,
+        configuration.statusEventStreamQueueCapacity()
+    );
+    synchronized (events) {
+      if (minSequenceNo != null) {
+        if (minSequenceNo < firstCollectedSequenceNo()) {
+          stream.markEventsMissed();
+        }
+        stream.replay(events.tailMap(minSequenceNo).values());
+      }
+      streams.add(stream);
+    }
+    return stream;
+  }
+
+  /**
+   * Closes the given stream.
+   *
+   * @param stream The stream.
+   */
+  public void closeStream(StatusEventStream stream) {
+    requireNonNull(stream, "stream");
+
+    synchronized (events) {
+      streams.remove(stream);
+    }
+    stream.close();
+  }
+
+  private long firstCollectedSequenceNo() {
+    return events.isEmpty() ? eventCount : events.firstKey();
+  }
+
   private void handleStateTransition(KernelStateTransitionEvent event) {
     boolean wasOn = eventCollectingOn;
     eventCollectingOn
@@ -168,40 +270,33 @@ public class StatusEventDispatcher
     TCSObject<?> object = event.getCurrentOrPreviousObjectState();
     if (object instanceof TransportOrder) {
       synchronized (events) {
-        addOrderStatusMessage((TransportOrder) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
+        addStatusMessage(
+            OrderStatusMessage.fromTransportOrder((TransportOrder) object, eventCount)
+        );
       }
     }
     else if (object instanceof Vehicle) {
       synchronized (events) {
-        addVehicleStatusMessage((Vehicle) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
+        addStatusMessage(VehicleStatusMessage.fromVehicle((Vehicle) object, eventCount));
       }
     }
     else if (object instanceof PeripheralJob) {
       synchronized (events) {
-        addPeripheralStatusMessage((PeripheralJob) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
+        addStatusMessage(
+            PeripheralJobStatusMessage.fromPeripheralJob((PeripheralJob) object, eventCount)
+        );
       }
     }
   }
 
-  private void addOrderStatusMessage(TransportOrder order, long sequenceNumber) {
-    events.put(sequenceNumber, OrderStatusMessage.fromTransportOrder(order, sequenceNumber));
-  }
-
-  private void addVehicleStatusMessage(Vehicle vehicle, long sequenceNumber) {
-    events.put(sequenceNumber, VehicleStatusMessage.fromVehicle(vehicle, sequenceNumber));
-  }
-
-  private void addPeripheralStatusMessage(PeripheralJob job, long sequenceNumber) {
-    events.put(sequenceNumber, PeripheralJobStatusMessage.fromPeripheralJob(job, sequenceNumber));
+  private void addStatusMessage(StatusMessage message) {
+    events.put(message.getSequenceNumber(), message);
+    for (StatusEventStream stream : streams) {
+      stream.offer(message);
+    }
+    eventCount++;
+    cleanUpEvents();
+    events.notifyAll();
   }
 
   private void cleanUpEvents() {
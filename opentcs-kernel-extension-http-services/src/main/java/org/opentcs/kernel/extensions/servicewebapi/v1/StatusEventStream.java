@@ -0,0 +1,264 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.Set;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.OrderStatusMessage;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.PeripheralJobStatusMessage;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.StatusMessage;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.VehicleStatusMessage;
+
+/**
+ * A stream of status messages for a single client connection.
+ * <p>
+ * Status messages are put into a bounded queue, from which they are taken by the thread serving
+ * the connection. If the client does not keep up and the queue is full, the stream is closed and
+ * marked as overflowed, so that the client can resume it with a new connection.
+ * </p>
+ */
+public class StatusEventStream {
+
+  /**
+   * The name of the object type for transport orders.
+   */
+  public static final String OBJECT_TYPE_TRANSPORT_ORDER = "TransportOrder";
+  /**
+   * The name of the object type for vehicles.
+   */
+  public static final String OBJECT_TYPE_VEHICLE = "Vehicle";
+  /**
+   * The name of the object type for peripheral jobs.
+   */
+  public static final String OBJECT_TYPE_PERIPHERAL_JOB = "PeripheralJob";
+  /**
+   * The names of all known object types.
+   */
+  public static final Set<String> OBJECT_TYPES = Set.of(
+      OBJECT_TYPE_TRANSPORT_ORDER,
+      OBJECT_TYPE_VEHICLE,
+      OBJECT_TYPE_PERIPHERAL_JOB
+  );
+  /**
+   * The names of the types of objects to stream status messages for.
+   * If empty, status messages for all object types are streamed.
+   */
+  private final Set<String> objectTypes;
+  /**
+   * The names of the objects to stream status messages for.
+   * If empty, status messages for all objects are streamed.
+   */
+  private final Set<String> objectNames;
+  /**
+   * The maximum number of queued status messages.
+   */
+  private final int capacity;
+  /**
+   * The queued status messages.
+   */
+  private final Queue<StatusMessage> messages = new ArrayDeque<>();
+  /**
+   * Whether this stream is closed.
+   */
+  private boolean closed;
+  /**
+   * Whether this stream was closed because its queue was full.
+   */
+  private boolean overflowed;
+  /**
+   * Whether status messages this stream was to be started with had already been discarded.
+   */
+  private boolean eventsMissed;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectTypes The names of the types of objects to stream status messages for. If empty,
+   * status messages for all object types are streamed.
+   * @param objectNames The names of the objects to stream status messages for. If empty, status
+   * messages for all objects are streamed.
+   * @param capacity The maximum number of queued status messages.
+   * @throws IllegalArgumentException If any of the given object types is unknown or the given
+   * capacity is less than 1.
+   */
+  public StatusEventStream(
+      @Nonnull
+      Set<String> objectTypes,
+      @Nonnull
+      Set<String> objectNames,
+      int capacity
+  )
+      throws IllegalArgumentException {
+    requireNonNull(objectTypes, "objectTypes");
+    requireNonNull(objectNames, "objectNames");
+    for (String objectType : objectTypes) {
+      checkArgument(OBJECT_TYPES.contains(objectType), "Unknown object type: %s", objectType);
+    }
+    checkArgument(capacity > 0, "capacity must be greater than 0, but is %d", capacity);
+
+    this.objectTypes = Set.copyOf(objectTypes);
+    this.objectNames = Set.copyOf(objectNames);
+    this.capacity = capacity;
+  }
+
+  /**
+   * Checks whether the given status message is to be streamed.
+   *
+   * @param message The status message.
+   * @return {@code true} if, and only if, the given status message matches this stream's filters.
+   */
+  public boolean accepts(StatusMessage message) {
+    return (objectTypes.isEmpty() || objectTypes.contains(objectType(message)))
+        && (objectNames.isEmpty() || objectNames.contains(objectName(message)));
+  }
+
+  /**
+   * Returns the next status message, waiting at most <code>timeout</code> milliseconds for one to
+   * arrive if there currently isn't any.
+   *
+   * @param timeout The maximum time to wait for a status message (in ms).
+   * @return The next status message, or {@code null}, if none arrived within the given time or
+   * this stream is closed.
+   * @throws InterruptedException If the calling thread was interrupted while waiting.
+   */
+  @Nullable
+  public StatusMessage poll(long timeout)
+      throws InterruptedException {
+    synchronized (messages) {
+      if (messages.isEmpty() && !closed) {
+        messages.wait(timeout);
+      }
+      return messages.poll();
+    }
+  }
+
+  /**
+   * Checks whether this stream is closed.
+   *
+   * @return {@code true} if, and only if, this stream is closed.
+   */
+  public boolean isClosed() {
+    synchronized (messages) {
+      return closed;
+    }
+  }
+
+  /**
+   * Checks whether this stream was closed because the client did not keep up with the status
+   * messages.
+   *
+   * @return {@code true} if, and only if, this stream was closed because its queue was full.
+   */
+  public boolean isOverflowed() {
+    synchronized (messages) {
+      return overflowed;
+    }
+  }
+
+  /**
+   * Checks whether status messages this stream was to be started with had already been discarded
+   * when it was opened, i.e. whether the client missed status messages and needs to resynchronize.
+   *
+   * @return {@code true} if, and only if, status messages this stream was to be started with had
+   * already been discarded.
+   */
+  public boolean isEventsMissed() {
+    synchronized (messages) {
+      return eventsMissed;
+    }
+  }
+
+  /**
+   * Marks this stream as missing status messages it was to be started with.
+   */
+  void markEventsMissed() {
+    synchronized (messages) {
+      eventsMissed = true;
+    }
+  }
+
+  /**
+   * Adds the given status messages (e.g. ones that occurred before this stream was opened)
+   * regardless of this stream's capacity.
+   *
+   * @param replayedMessages The status messages.
+   */
+  void replay(Collection<StatusMessage> replayedMessages) {
+    synchronized (messages) {
+      for (StatusMessage message : replayedMessages) {
+        if (accepts(message)) {
+          messages.add(message);
+        }
+      }
+      messages.notifyAll();
+    }
+  }
+
+  /**
+   * Adds the given status message if it matches this stream's filters.
+   * If the queue is full, the queued messages are discarded and this stream is closed.
+   *
+   * @param message The status message.
+   */
+  void offer(StatusMessage message) {
+    synchronized (messages) {
+      if (closed || !accepts(message)) {
+        return;
+      }
+
+      if (messages.size() >= capacity) {
+        messages.clear();
+        overflowed = true;
+        closed = true;
+      }
+      else {
+        messages.add(message);
+      }
+      messages.notifyAll();
+    }
+  }
+
+  /**
+   * Closes this stream.
+   * Status messages still queued can still be taken from it.
+   */
+  void close() {
+    synchronized (messages) {
+      closed = true;
+      messages.notifyAll();
+    }
+  }
+
+  private static String objectType(StatusMessage message) {
+    if (message instanceof OrderStatusMessage) {
+      return OBJECT_TYPE_TRANSPORT_ORDER;
+    }
+    else if (message instanceof VehicleStatusMessage) {
+      return OBJECT_TYPE_VEHICLE;
+    }
+    else if (message instanceof PeripheralJobStatusMessage) {
+      return OBJECT_TYPE_PERIPHERAL_JOB;
+    }
+    return null;
+  }
+
+  private static String objectName(StatusMessage message) {
+    if (message instanceof OrderStatusMessage) {
+      return ((OrderStatusMessage) message).getOrderName();
+    }
+    else if (message instanceof VehicleStatusMessage) {
+      return ((VehicleStatusMessage) message).getVehicleName();
+    }
+    else if (message instanceof PeripheralJobStatusMessage) {
+      return ((PeripheralJobStatusMessage) message).getName();
+    }
+    return null;
+  }
+}
@@ -124,26 +124,24 @@ public class TransportOrderHandler {
       @Nullable
       String intendedVehicle
   ) {
-    return executorWrapper.callAndWait(() -> {
-      TCSObjectReference<Vehicle> intendedVehicleRef
-          = Optional.ofNullable(intendedVehicle)
-              .map(name -> orderService.fetchObject(Vehicle.class, name))
-              .map(Vehicle::getReference)
-              .orElse(null);
-
-      if (intendedVehicle != null && intendedVehicleRef == null) {
-        throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
-      }
+    TCSObjectReference<Vehicle> intendedVehicleRef
+        = Optional.ofNullable(intendedVehicle)
+            .map(name -> orderService.fetchObject(Vehicle.class, name))
+            .map(Vehicle::getReference)
+            .orElse(null);
+
+    if (intendedVehicle != null && intendedVehicleRef == null) {
+      throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
+    }
 
-      return orderService.fetchObjects(
-          TransportOrder.class,
-          Filters.transportOrderWithIntendedVehicle(intendedVehicleRef)
-      )
-          .stream()
-          .map(GetTransportOrderResponseTO::fromTransportOrder)
-          .sorted(Comparator.comparing(GetTransportOrderResponseTO::getName))
-          .collect(Collectors.toList());
-    });
+    return orderService.fetchObjects(
+        TransportOrder.class,
+        Filters.transportOrderWithIntendedVehicle(intendedVehicleRef)
+    )
+        .stream()
+        .map(GetTransportOrderResponseTO::fromTransportOrder)
+        .sorted(Comparator.comparing(GetTransportOrderResponseTO::getName))
+        .collect(Collectors.toList());
   }
 
   /**
@@ -157,11 +155,9 @@ public class TransportOrderHandler {
       throws ObjectUnknownException {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
-      return Optional.ofNullable(orderService.fetchObject(TransportOrder.class, name))
-          .map(GetTransportOrderResponseTO::fromTransportOrder)
-          .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
-    });
+    return Optional.ofNullable(orderService.fetchObject(TransportOrder.class, name))
+        .map(GetTransportOrderResponseTO::fromTransportOrder)
+        .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
   }
 
   public OrderSequence createOrderSequence(String name, PostOrderSequenceRequestTO sequence)
@@ -202,37 +198,33 @@ public class TransportOrderHandler {
       @Nullable
       String intendedVehicle
   ) {
-    return executorWrapper.callAndWait(() -> {
-      TCSObjectReference<Vehicle> intendedVehicleRef
-          = Optional.ofNullable(intendedVehicle)
-              .map(name -> orderService.fetchObject(Vehicle.class, name))
-              .map(Vehicle::getReference)
-              .orElse(null);
-
-      if (intendedVehicle != null && intendedVehicleRef == null) {
-        throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
-      }
+    TCSObjectReference<Vehicle> intendedVehicleRef
+        = Optional.ofNullable(intendedVehicle)
+            .map(name -> orderService.fetchObject(Vehicle.class, name))
+            .map(Vehicle::getReference)
+            .orElse(null);
+
+    if (intendedVehicle != null && intendedVehicleRef == null) {
+      throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
+    }
 
-      return orderService.fetchObjects(
-          OrderSequence.class,
-          Filters.orderSequenceWithIntendedVehicle(intendedVehicleRef)
-      )
-          .stream()
-          .map(GetOrderSequenceResponseTO::fromOrderSequence)
-          .sorted(Comparator.comparing(GetOrderSequenceResponseTO::getName))
-          .collect(Collectors.toList());
-    });
+    return orderService.fetchObjects(
+        OrderSequence.class,
+        Filters.orderSequenceWithIntendedVehicle(intendedVehicleRef)
+    )
+        .stream()
+        .map(GetOrderSequenceResponseTO::fromOrderSequence)
+        .sorted(Comparator.comparing(GetOrderSequenceResponseTO::getName))
+        .collect(Collectors.toList());
   }
 
   public GetOrderSequenceResponseTO getOrderSequenceByName(String name)
       throws ObjectUnknownException {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
-      return Optional.ofNullable(orderService.fetchObject(OrderSequence.class, name))
-          .map(GetOrderSequenceResponseTO::fromOrderSequence)
-          .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
-    });
+    return Optional.ofNullable(orderService.fetchObject(OrderSequence.class, name))
+        .map(GetOrderSequenceResponseTO::fromOrderSequence)
+        .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
   }
 
   private List<DestinationCreationTO> destinations(PostTransportOrderRequestTO order) {
@@ -5,7 +5,11 @@ package org.opentcs.kernel.extensions.servicewebapi.v1;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.data.ObjectExistsException;
@@ -27,6 +31,9 @@ import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostVehicleRoutesR
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostVehicleRoutesResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PutVehicleAllowedOrderTypesTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PutVehicleEnergyLevelThresholdSetTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.StatusMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import spark.QueryParamsMap;
 import spark.Request;
 import spark.Response;
@@ -39,6 +46,16 @@ public class V1RequestHandler
     implements
       RequestHandler {
 
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(V1RequestHandler.class);
+  /**
+   * The maximum time (in ms) without writing to an event stream.
+   * Writing a comment after this time keeps the connection alive and detects disconnected clients.
+   */
+  private static final long EVENT_STREAM_KEEP_ALIVE_INTERVAL = 15000;
+
   private final JsonBinder jsonBinder;
   private final StatusEventDispatcher statusEventDispatcher;
   private final TransportOrderDispatcherHandler orderDispatcherHandler;
@@ -115,6 +132,10 @@ public class V1RequestHandler
         "/events",
         this::handleGetEvents
     );
+    service.get(
+        "/events/stream",
+        this::handleGetEventStream
+    );
     service.post(
         "/vehicles/dispatcher/trigger",
         this::handlePostDispatcherTrigger
@@ -301,6 +322,67 @@ public class V1RequestHandler
     );
   }
 
+  private Object handleGetEventStream(Request request, Response response)
+      throws IllegalArgumentException {
+    StatusEventStream stream = statusEventDispatcher.openStream(
+        streamStartSequenceNo(request),
+        queryParamValues(request, "objectType"),
+        queryParamValues(request, "objectName")
+    );
+    try {
+      response.type(HttpConstants.CONTENT_TYPE_TEXT_EVENT_STREAM_UTF8);
+      response.header("Cache-Control", "no-cache");
+      OutputStream outputStream = response.raw().getOutputStream();
+      // Send the response headers right away.
+      writeToEventStream(outputStream, ": connected\n\n");
+      if (stream.isEventsMissed()) {
+        // Let the client know that it missed events, so it can resynchronize its state.
+        writeToEventStream(
+            outputStream,
+            serverSentEvent("reset", null, "Requested status events are no longer available.")
+        );
+      }
+
+      while (true) {
+        StatusMessage message = stream.poll(EVENT_STREAM_KEEP_ALIVE_INTERVAL);
+        if (message != null) {
+          writeToEventStream(
+              outputStream,
+              serverSentEvent(
+                  "status",
+                  String.valueOf(message.getSequenceNumber()),
+                  jsonBinder.toJson(message)
+              )
+          );
+        }
+        else if (stream.isClosed()) {
+          if (stream.isOverflowed()) {
+            // Let the client know why the stream ends, so it can resume it.
+            writeToEventStream(
+                outputStream,
+                serverSentEvent("overflow", null, "Client did not keep up with status events.")
+            );
+          }
+          break;
+        }
+        else {
+          writeToEventStream(outputStream, ": keep-alive\n\n");
+        }
+      }
+    }
+    catch (IOException exc) {
+      LOG.debug("Client disconnected from event stream.", exc);
+    }
+    catch (InterruptedException exc) {
+      Thread.currentThread().interrupt();
+      LOG.debug("Interrupted while streaming events.", exc);
+    }
+    finally {
+      statusEventDispatcher.closeStream(stream);
+    }
+    return "";
+  }
+
   private Object handlePutVehicleCommAdapterEnabled(Request request, Response response)
       throws ObjectUnknownException,
         IllegalArgumentException {
@@ -327,16 +409,43 @@ public class V1RequestHandler
 
   private Object handleGetVehicleRoutes(Request request, Response response)
       throws ObjectUnknownException,
-        IllegalArgumentException {
+        IllegalArgumentException,
+        IOException {
     response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    return jsonBinder.toJson(
-        PostVehicleRoutesResponseTO.fromMap(
-            vehicleHandler.getVehicleRoutes(
-                request.params(":NAME"),
-                jsonBinder.fromJson(request.body(), PostVehicleRoutesRequestTO.class)
-            )
-        )
-    );
+    // Stream the routes from every source point as soon as they have been computed.
+    // (The request is validated completely before the first routes are computed, so invalid
+    // requests are still reported with an appropriate status code.)
+    JsonBinder.JsonArrayWriter routesWriter
+        = jsonBinder.createArrayWriter(response.raw().getOutputStream(), "routes");
+    try {
+      vehicleHandler.getVehicleRoutes(
+          request.params(":NAME"),
+          jsonBinder.fromJson(request.body(), PostVehicleRoutesRequestTO.class),
+          (sourcePoint, routes) -> routesWriter.write(
+              PostVehicleRoutesResponseTO.toRouteTOs(sourcePoint, routes)
+          )
+      );
+      routesWriter.finish();
+    }
+    catch (RuntimeException exc) {
+      if (!routesWriter.isStarted()) {
+        throw exc;
+      }
+      // The response has already been committed with a success status, so the error cannot be
+      // reported anymore. Abort the connection instead of completing a truncated response.
+      LOG.warn("Failed to compute routes after sending the first ones, aborting response.", exc);
+      abortResponse(response, exc);
+    }
+    return "";
+  }
+
+  private void abortResponse(Response response, Throwable cause) {
+    if (response.raw() instanceof org.eclipse.jetty.server.Response) {
+      ((org.eclipse.jetty.server.Response) response.raw()).getHttpChannel().abort(cause);
+    }
+    else {
+      LOG.warn("Cannot abort response of type {}.", response.raw().getClass().getName());
+    }
   }
 
   private Object handlePutVehicleCommAdapterAttachment(Request request, Response response)
@@ -708,6 +817,56 @@ public class V1RequestHandler
     }
   }
 
+  private Long streamStartSequenceNo(Request request)
+      throws IllegalArgumentException {
+    // Clients resuming an event stream (e.g. browsers reconnecting automatically) provide the
+    // sequence number of the last event received.
+    String lastEventId = request.headers("Last-Event-ID");
+    if (lastEventId != null) {
+      try {
+        return Long.parseLong(lastEventId) + 1;
+      }
+      catch (NumberFormatException exc) {
+        throw new IllegalArgumentException("Malformed Last-Event-ID: " + lastEventId);
+      }
+    }
+
+    String param = request.queryParams("minSequenceNo");
+    if (param == null) {
+      return null;
+    }
+    try {
+      return Long.parseLong(param);
+    }
+    catch (NumberFormatException exc) {
+      throw new IllegalArgumentException("Malformed minSequenceNo: " + param);
+    }
+  }
+
+  private Set<String> queryParamValues(Request request, String key) {
+    String[] values = request.queryParamsValues(key);
+    return values == null ? Set.of() : Set.of(values);
+  }
+
+  private String serverSentEvent(String eventName, String id, String data) {
+    StringBuilder result = new StringBuilder();
+    result.append("event: ").append(eventName).append('\n');
+    if (id != null) {
+      result.append("id: ").append(id).append('\n');
+    }
+    // Data spanning multiple lines has to be split into multiple data fields.
+    for (String line : data.split("\\R")) {
+      result.append("data: ").append(line).append('\n');
+    }
+    return result.append('\n').toString();
+  }
+
+  private void writeToEventStream(OutputStream outputStream, String text)
+      throws IOException {
+    outputStream.write(text.getBytes(StandardCharsets.UTF_8));
+    outputStream.flush();
+  }
+
   private long timeout(Request request)
       throws IllegalArgumentException {
     String param = request.queryParamOrDefault("timeout", "1000");
@@ -8,10 +8,13 @@ import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.services.RouterService;
 import org.opentcs.components.kernel.services.VehicleService;
@@ -72,17 +75,15 @@ public class VehicleHandler {
       String procStateName
   )
       throws IllegalArgumentException {
-    return executorWrapper.callAndWait(() -> {
-      Vehicle.ProcState pState = procStateName == null
-          ? null
-          : Vehicle.ProcState.valueOf(procStateName);
-
-      return vehicleService.fetchObjects(Vehicle.class, Filters.vehicleWithProcState(pState))
-          .stream()
-          .map(GetVehicleResponseTO::fromVehicle)
-          .sorted(Comparator.comparing(GetVehicleResponseTO::getName))
-          .collect(Collectors.toList());
-    });
+    Vehicle.ProcState pState = procStateName == null
+        ? null
+        : Vehicle.ProcState.valueOf(procStateName);
+
+    return vehicleService.fetchObjects(Vehicle.class, Filters.vehicleWithProcState(pState))
+        .stream()
+        .map(GetVehicleResponseTO::fromVehicle)
+        .sorted(Comparator.comparing(GetVehicleResponseTO::getName))
+        .collect(Collectors.toList());
   }
 
   /**
@@ -96,11 +97,9 @@ public class VehicleHandler {
       throws ObjectUnknownException {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
-      return Optional.ofNullable(vehicleService.fetchObject(Vehicle.class, name))
-          .map(GetVehicleResponseTO::fromVehicle)
-          .orElseThrow(() -> new ObjectUnknownException("Unknown vehicle: " + name));
-    });
+    return Optional.ofNullable(vehicleService.fetchObject(Vehicle.class, name))
+        .map(GetVehicleResponseTO::fromVehicle)
+        .orElseThrow(() -> new ObjectUnknownException("Unknown vehicle: " + name));
   }
 
   public void putVehicleIntegrationLevel(String name, String value)
@@ -178,14 +177,12 @@ public class VehicleHandler {
       throws ObjectUnknownException {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
-      Vehicle vehicle = vehicleService.fetchObject(Vehicle.class, name);
-      if (vehicle == null) {
-        throw new ObjectUnknownException("Unknown vehicle: " + name);
-      }
+    Vehicle vehicle = vehicleService.fetchObject(Vehicle.class, name);
+    if (vehicle == null) {
+      throw new ObjectUnknownException("Unknown vehicle: " + name);
+    }
 
-      return vehicleService.fetchAttachmentInformation(vehicle.getReference());
-    });
+    return vehicleService.fetchAttachmentInformation(vehicle.getReference());
   }
 
   public void putVehicleCommAdapter(String name, String value)
@@ -257,78 +254,128 @@ public class VehicleHandler {
     });
   }
 
-  public Map<TCSObjectReference<Point>, Route> getVehicleRoutes(
+  public Map<TCSObjectReference<Point>, Map<TCSObjectReference<Point>, Route>> getVehicleRoutes(
       String name,
       PostVehicleRoutesRequestTO request
   )
       throws ObjectUnknownException {
+    Map<TCSObjectReference<Point>, Map<TCSObjectReference<Point>, Route>> result
+        = new LinkedHashMap<>();
+    getVehicleRoutes(name, request, result::put);
+    return result;
+  }
+
+  /**
+   * Computes routes for the named vehicle, passing the routes from every source point to the given
+   * consumer as soon as they have been computed.
+   * <p>
+   * All objects referenced in the request are looked up before any routes are computed, i.e. if any
+   * of them does not exist, the consumer is not called at all.
+   * </p>
+   *
+   * @param name The name of the vehicle.
+   * @param request The request.
+   * @param consumer Receives the routes from every source point, mapped to their destination
+   * points.
+   * @throws ObjectUnknownException If any object referenced in the request does not exist.
+   * @throws IllegalArgumentException If the request is invalid or the source point is to be the
+   * vehicle's unknown position.
+   */
+  public void getVehicleRoutes(
+      String name,
+      PostVehicleRoutesRequestTO request,
+      BiConsumer<TCSObjectReference<Point>, Map<TCSObjectReference<Point>, Route>> consumer
+  )
+      throws ObjectUnknownException,
+        IllegalArgumentException {
     requireNonNull(name, "name");
     requireNonNull(request, "request");
-
-    return executorWrapper.callAndWait(() -> {
-      Vehicle vehicle = vehicleService.fetchObject(Vehicle.class, name);
-      if (vehicle == null) {
-        throw new ObjectUnknownException("Unknown vehicle: " + name);
+    requireNonNull(consumer, "consumer");
+
+    // Computing routes does not modify the kernel's state, so there is no need to do this via the
+    // kernel executor.
+    Vehicle vehicle = vehicleService.fetchObject(Vehicle.class, name);
+    if (vehicle == null) {
+      throw new ObjectUnknownException("Unknown vehicle: " + name);
+    }
+
+    Set<TCSObjectReference<Point>> sourcePointRefs = new LinkedHashSet<>();
+    if (request.getSourcePoints() != null) {
+      if (request.getSourcePoint() != null) {
+        throw new IllegalArgumentException("Either sourcePoint or sourcePoints may be set.");
       }
-
-      TCSObjectReference<Point> sourcePointRef;
-      if (request.getSourcePoint() == null) {
-        if (vehicle.getCurrentPosition() == null) {
-          throw new IllegalArgumentException("Unknown vehicle position: " + vehicle.getName());
-        }
-        sourcePointRef = vehicle.getCurrentPosition();
+      for (String sourcePointName : request.getSourcePoints()) {
+        sourcePointRefs.add(fetchSourcePoint(sourcePointName).getReference());
       }
-      else {
-        Point sourcePoint = vehicleService.fetchObject(Point.class, request.getSourcePoint());
-        if (sourcePoint == null) {
-          throw new ObjectUnknownException("Unknown source point: " + request.getSourcePoint());
-        }
-        sourcePointRef = sourcePoint.getReference();
+    }
+    else if (request.getSourcePoint() != null) {
+      sourcePointRefs.add(fetchSourcePoint(request.getSourcePoint()).getReference());
+    }
+    else {
+      if (vehicle.getCurrentPosition() == null) {
+        throw new IllegalArgumentException("Unknown vehicle position: " + vehicle.getName());
       }
-
-      Set<TCSObjectReference<Point>> destinationPointRefs = request.getDestinationPoints()
-          .stream()
-          .map(destPointName -> {
-            Point destPoint = vehicleService.fetchObject(Point.class, destPointName);
-            if (destPoint == null) {
-              throw new ObjectUnknownException("Unknown destination point: " + destPointName);
-            }
-            return destPoint.getReference();
-          })
-          .collect(Collectors.toSet());
-
-      Set<TCSResourceReference<?>> resourcesToAvoid = new HashSet<>();
-
-      if (request.getResourcesToAvoid() != null) {
-        for (String resourceName : request.getResourcesToAvoid()) {
-          Point point = vehicleService.fetchObject(Point.class, resourceName);
-          if (point != null) {
-            resourcesToAvoid.add(point.getReference());
-            continue;
-          }
-
-          Path path = vehicleService.fetchObject(Path.class, resourceName);
-          if (path != null) {
-            resourcesToAvoid.add(path.getReference());
-            continue;
+      sourcePointRefs.add(vehicle.getCurrentPosition());
+    }
+
+    Set<TCSObjectReference<Point>> destinationPointRefs = request.getDestinationPoints()
+        .stream()
+        .map(destPointName -> {
+          Point destPoint = vehicleService.fetchObject(Point.class, destPointName);
+          if (destPoint == null) {
+            throw new ObjectUnknownException("Unknown destination point: " + destPointName);
           }
+          return destPoint.getReference();
+        })
+        .collect(Collectors.toSet());
+
+    Set<TCSResourceReference<?>> resourcesToAvoid = new HashSet<>();
+
+    if (request.getResourcesToAvoid() != null) {
+      for (String resourceName : request.getResourcesToAvoid()) {
+        Point point = vehicleService.fetchObject(Point.class, resourceName);
+        if (point != null) {
+          resourcesToAvoid.add(point.getReference());
+          continue;
+        }
 
-          Location location = vehicleService.fetchObject(Location.class, resourceName);
-          if (location != null) {
-            resourcesToAvoid.add(location.getReference());
-            continue;
-          }
+        Path path = vehicleService.fetchObject(Path.class, resourceName);
+        if (path != null) {
+          resourcesToAvoid.add(path.getReference());
+          continue;
+        }
 
-          throw new ObjectUnknownException("Unknown resource: " + resourceName);
+        Location location = vehicleService.fetchObject(Location.class, resourceName);
+        if (location != null) {
+          resourcesToAvoid.add(location.getReference());
+          continue;
         }
+
+        throw new ObjectUnknownException("Unknown resource: " + resourceName);
       }
+    }
 
-      return routerService.computeRoutes(
-          vehicle.getReference(),
+    // Every source point requires a separate computation, but the routes to all destination
+    // points are computed at once.
+    for (TCSObjectReference<Point> sourcePointRef : sourcePointRefs) {
+      consumer.accept(
           sourcePointRef,
-          destinationPointRefs,
-          resourcesToAvoid
+          routerService.computeRoutes(
+              vehicle.getReference(),
+              sourcePointRef,
+              destinationPointRefs,
+              resourcesToAvoid
+          )
       );
-    });
+    }
+  }
+
+  private Point fetchSourcePoint(String name)
+      throws ObjectUnknownException {
+    Point sourcePoint = vehicleService.fetchObject(Point.class, name);
+    if (sourcePoint == null) {
+      throw new ObjectUnknownException("Unknown source point: " + name);
+    }
+    return sourcePoint;
   }
 }
@@ -16,6 +16,7 @@ import java.util.List;
 public class PostVehicleRoutesRequestTO {
 
   private String sourcePoint;
+  private List<String> sourcePoints;
   private List<String> destinationPoints;
   private List<String> resourcesToAvoid;
 
@@ -42,6 +43,19 @@ public class PostVehicleRoutesRequestTO {
     return this;
   }
 
+  @Nullable
+  public List<String> getSourcePoints() {
+    return sourcePoints;
+  }
+
+  public PostVehicleRoutesRequestTO setSourcePoints(
+      @Nullable
+      List<String> sourcePoints
+  ) {
+    this.sourcePoints = sourcePoints;
+    return this;
+  }
+
   @Nonnull
   public List<String> getDestinationPoints() {
     return destinationPoints;
@@ -39,25 +39,39 @@ public class PostVehicleRoutesResponseTO {
   }
 
   public static PostVehicleRoutesResponseTO fromMap(
-      Map<TCSObjectReference<Point>, Route> routeMap
+      Map<TCSObjectReference<Point>, Map<TCSObjectReference<Point>, Route>> routesBySourcePoint
   ) {
     return new PostVehicleRoutesResponseTO()
         .setRoutes(
-            routeMap.entrySet().stream()
-                .map(PostVehicleRoutesResponseTO::toRouteTO)
+            routesBySourcePoint.entrySet().stream()
+                .flatMap(entry -> toRouteTOs(entry.getKey(), entry.getValue()).stream())
                 .collect(Collectors.toList())
         );
   }
 
-  private static RouteTO toRouteTO(Map.Entry<TCSObjectReference<Point>, Route> entry) {
+  public static List<RouteTO> toRouteTOs(
+      TCSObjectReference<Point> sourcePoint,
+      Map<TCSObjectReference<Point>, Route> routeMap
+  ) {
+    return routeMap.entrySet().stream()
+        .map(entry -> toRouteTO(sourcePoint, entry))
+        .collect(Collectors.toList());
+  }
+
+  private static RouteTO toRouteTO(
+      TCSObjectReference<Point> sourcePoint,
+      Map.Entry<TCSObjectReference<Point>, Route> entry
+  ) {
     if (entry.getValue() == null) {
       return new RouteTO()
+          .setSourcePoint(sourcePoint.getName())
           .setDestinationPoint(entry.getKey().getName())
           .setCosts(-1)
           .setSteps(null);
     }
 
     return new RouteTO()
+        .setSourcePoint(sourcePoint.getName())
         .setDestinationPoint(entry.getKey().getName())
         .setCosts(entry.getValue().getCosts())
         .setSteps(toSteps(entry.getValue().getSteps()));
@@ -14,6 +14,7 @@ import org.opentcs.data.model.Vehicle;
  */
 public class RouteTO {
 
+  private String sourcePoint = "";
   private String destinationPoint = "";
   private long costs = -1;
   private List<Step> steps;
@@ -21,6 +22,19 @@ public class RouteTO {
   public RouteTO() {
   }
 
+  @Nonnull
+  public String getSourcePoint() {
+    return sourcePoint;
+  }
+
+  public RouteTO setSourcePoint(
+      @Nonnull
+      String sourcePoint
+  ) {
+    this.sourcePoint = requireNonNull(sourcePoint, "sourcePoint");
+    return this;
+  }
+
   @Nonnull
   public String getDestinationPoint() {
     return destinationPoint;
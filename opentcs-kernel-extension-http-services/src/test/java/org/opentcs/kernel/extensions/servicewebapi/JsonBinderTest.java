@@ -6,6 +6,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import org.approvaltests.Approvals;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,6 +41,49 @@ class JsonBinderTest {
     Approvals.verify(jsonBinder.toJson(new TestException("some-message")));
   }
 
+  @Test
+  void writeArrayInChunks() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    JsonBinder.JsonArrayWriter writer = jsonBinder.createArrayWriter(out, "objects");
+
+    assertThat(out.size(), is(0));
+    assertThat(writer.isStarted(), is(false));
+
+    writer.write(List.of(new TestObject().setName("name-1"), new TestObject().setName("name-2")));
+    assertThat(writer.isStarted(), is(true));
+    writer.write(List.of());
+    writer.write(List.of(new TestObject().setName("name-3")));
+    writer.finish();
+
+    assertThat(
+        out.toString(StandardCharsets.UTF_8),
+        is(
+            equalTo(
+                jsonBinder.toJson(
+                    new TestObjectList().setObjects(
+                        List.of(
+                            new TestObject().setName("name-1"),
+                            new TestObject().setName("name-2"),
+                            new TestObject().setName("name-3")
+                        )
+                    )
+                )
+            )
+        )
+    );
+  }
+
+  @Test
+  void writeEmptyArray() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    jsonBinder.createArrayWriter(out, "objects").finish();
+
+    assertThat(
+        out.toString(StandardCharsets.UTF_8),
+        is(equalTo(jsonBinder.toJson(new TestObjectList().setObjects(List.of()))))
+    );
+  }
+
   private static class TestObject {
 
     private String name;
@@ -52,6 +98,20 @@ class JsonBinderTest {
     }
   }
 
+  private static class TestObjectList {
+
+    private List<TestObject> objects;
+
+    public List<TestObject> getObjects() {
+      return objects;
+    }
+
+    public TestObjectList setObjects(List<TestObject> objects) {
+      this.objects = objects;
+      return this;
+    }
+  }
+
   private static class TestException
       extends
         Exception {
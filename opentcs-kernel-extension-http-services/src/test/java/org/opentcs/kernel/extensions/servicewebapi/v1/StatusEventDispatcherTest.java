@@ -7,6 +7,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,7 @@ import org.opentcs.kernel.extensions.servicewebapi.ServiceWebApiConfiguration;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetEventsResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.OrderStatusMessage;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.PeripheralJobStatusMessage;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.StatusMessage;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.VehicleStatusMessage;
 import org.opentcs.util.event.EventSource;
 import org.opentcs.util.event.SimpleEventBus;
@@ -45,6 +47,8 @@ class StatusEventDispatcherTest {
 
     given(configuration.statusEventsCapacity())
         .willReturn(10);
+    given(configuration.statusEventStreamQueueCapacity())
+        .willReturn(2);
 
     statusEventDispatcher.initialize();
   }
@@ -160,4 +164,100 @@ class StatusEventDispatcherTest {
         .isInstanceOf(PeripheralJobStatusMessage.class)
         .matches(msg -> msg.getSequenceNumber() == 2);
   }
+
+  @Test
+  void streamCollectedAndNewEventsForMatchingObjects()
+      throws InterruptedException {
+    // Arrange
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+
+    TransportOrder order = new TransportOrder("some-order", List.of());
+    Vehicle vehicle = new Vehicle("some-vehicle");
+    Vehicle otherVehicle = new Vehicle("some-other-vehicle");
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(vehicle, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(vehicle, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    // Act
+    StatusEventStream stream = statusEventDispatcher.openStream(
+        1L,
+        Set.of(StatusEventStream.OBJECT_TYPE_VEHICLE),
+        Set.of("some-vehicle")
+    );
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(otherVehicle, otherVehicle, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(vehicle, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    // Assert
+    StatusMessage replayedMessage = stream.poll(1);
+    assertThat(replayedMessage)
+        .isInstanceOf(VehicleStatusMessage.class)
+        .matches(msg -> msg.getSequenceNumber() == 1);
+    StatusMessage newMessage = stream.poll(1);
+    assertThat(newMessage)
+        .isInstanceOf(VehicleStatusMessage.class)
+        .matches(msg -> msg.getSequenceNumber() == 4);
+    assertThat(stream.poll(1)).isNull();
+  }
+
+  @Test
+  void markStreamIfRequestedEventsWereDiscarded()
+      throws InterruptedException {
+    // Arrange
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+
+    TransportOrder order = new TransportOrder("some-order", List.of());
+    for (int i = 0; i < 15; i++) {
+      statusEventDispatcher.onEvent(
+          new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+      );
+    }
+
+    // Act
+    StatusEventStream gappedStream = statusEventDispatcher.openStream(3L, Set.of(), Set.of());
+    StatusEventStream completeStream = statusEventDispatcher.openStream(5L, Set.of(), Set.of());
+
+    // Assert
+    assertThat(gappedStream.isEventsMissed()).isTrue();
+    assertThat(gappedStream.poll(1))
+        .isInstanceOf(OrderStatusMessage.class)
+        .matches(msg -> msg.getSequenceNumber() == 5);
+    assertThat(completeStream.isEventsMissed()).isFalse();
+  }
+
+  @Test
+  void closeStreamWhenClientDoesNotKeepUp()
+      throws InterruptedException {
+    // Arrange
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+    StatusEventStream stream = statusEventDispatcher.openStream(null, Set.of(), Set.of());
+
+    // Act
+    TransportOrder order = new TransportOrder("some-order", List.of());
+    for (int i = 0; i < 3; i++) {
+      statusEventDispatcher.onEvent(
+          new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+      );
+    }
+
+    // Assert
+    assertThat(stream.isClosed()).isTrue();
+    assertThat(stream.isOverflowed()).isTrue();
+    assertThat(stream.poll(1)).isNull();
+  }
 }
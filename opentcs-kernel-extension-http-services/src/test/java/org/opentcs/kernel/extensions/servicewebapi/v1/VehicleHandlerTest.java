@@ -15,7 +15,11 @@ import static org.mockito.Mockito.mock;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -181,6 +185,74 @@ class VehicleHandlerTest {
         .isThrownBy(() -> handler.getVehicleStateByName("some-other-vehicle"));
   }
 
+  @Test
+  void retrieveVehicleStatesWhileKernelExecutorIsBusy()
+      throws Exception {
+    // Arrange
+    given(vehicleService.fetchObjects(ArgumentMatchers.<Class<Vehicle>>any(), any()))
+        .willReturn(Set.of(vehicle));
+    CountDownLatch kernelExecutorReleased = new CountDownLatch(1);
+    ExecutorService kernelExecutor = busyExecutor(kernelExecutorReleased);
+    handler = new VehicleHandler(
+        vehicleService,
+        routerService,
+        new KernelExecutorWrapper(kernelExecutor)
+    );
+
+    try {
+      // Act
+      CompletableFuture<List<GetVehicleResponseTO>> vehicleStates
+          = CompletableFuture.supplyAsync(() -> handler.getVehiclesState(null));
+      CompletableFuture<GetVehicleResponseTO> vehicleState
+          = CompletableFuture.supplyAsync(() -> handler.getVehicleStateByName("some-vehicle"));
+      CompletableFuture<VehicleAttachmentInformation> attachmentInformation
+          = CompletableFuture.supplyAsync(
+              () -> handler.getVehicleCommAdapterAttachmentInformation("some-vehicle")
+          );
+
+      // Assert
+      assertThat(vehicleStates.get(1, TimeUnit.SECONDS)).hasSize(1);
+      assertThat(vehicleState.get(1, TimeUnit.SECONDS).getName()).isEqualTo("some-vehicle");
+      assertThat(attachmentInformation.get(1, TimeUnit.SECONDS)).isSameAs(attachmentInfo);
+    }
+    finally {
+      kernelExecutorReleased.countDown();
+      kernelExecutor.shutdown();
+    }
+  }
+
+  @Test
+  void updateVehicleOnlyWhenKernelExecutorIsAvailable()
+      throws Exception {
+    // Arrange
+    CountDownLatch kernelExecutorReleased = new CountDownLatch(1);
+    ExecutorService kernelExecutor = busyExecutor(kernelExecutorReleased);
+    handler = new VehicleHandler(
+        vehicleService,
+        routerService,
+        new KernelExecutorWrapper(kernelExecutor)
+    );
+
+    try {
+      // Act
+      CompletableFuture<Void> update
+          = CompletableFuture.runAsync(() -> handler.putVehiclePaused("some-vehicle", "true"));
+
+      // Assert
+      Thread.sleep(200);
+      assertThat(update).isNotDone();
+      then(vehicleService).shouldHaveNoMoreInteractions();
+
+      kernelExecutorReleased.countDown();
+      update.get(1, TimeUnit.SECONDS);
+      then(vehicleService).should().updateVehiclePaused(vehicle.getReference(), true);
+    }
+    finally {
+      kernelExecutorReleased.countDown();
+      kernelExecutor.shutdown();
+    }
+  }
+
   @ParameterizedTest
   @EnumSource(Vehicle.IntegrationLevel.class)
   void updateVehicleIntegrationLevel(Vehicle.IntegrationLevel integrationLevel) {
@@ -453,6 +525,75 @@ class VehicleHandlerTest {
         );
   }
 
+  @Test
+  void retrieveVehicleRoutesForMultiplePositionsProvidedInRequest() {
+    // Arrange
+    Point sourcePoint1 = new Point("some-source-point");
+    Point sourcePoint2 = new Point("some-source-point-2");
+    Point destinationPoint = new Point("some-destination-point");
+    given(vehicleService.fetchObject(Point.class, "some-source-point"))
+        .willReturn(sourcePoint1);
+    given(vehicleService.fetchObject(Point.class, "some-source-point-2"))
+        .willReturn(sourcePoint2);
+    given(vehicleService.fetchObject(Point.class, "some-destination-point"))
+        .willReturn(destinationPoint);
+
+    // Act & Assert: happy path
+    handler.getVehicleRoutes(
+        "some-vehicle",
+        new PostVehicleRoutesRequestTO(List.of("some-destination-point"))
+            .setSourcePoints(List.of("some-source-point", "some-source-point-2"))
+    );
+
+    then(routerService)
+        .should()
+        .computeRoutes(
+            vehicle.getReference(),
+            sourcePoint1.getReference(),
+            Set.of(destinationPoint.getReference()),
+            Set.of()
+        );
+    then(routerService)
+        .should()
+        .computeRoutes(
+            vehicle.getReference(),
+            sourcePoint2.getReference(),
+            Set.of(destinationPoint.getReference()),
+            Set.of()
+        );
+
+    // Act & Assert: nonexistent source point
+    assertThatExceptionOfType(ObjectUnknownException.class)
+        .isThrownBy(
+            () -> handler.getVehicleRoutes(
+                "some-vehicle",
+                new PostVehicleRoutesRequestTO(List.of("some-destination-point"))
+                    .setSourcePoints(List.of("some-source-point", "some-unknown-source-point"))
+            )
+        );
+
+    // Act & Assert: both single and multiple source points
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(
+            () -> handler.getVehicleRoutes(
+                "some-vehicle",
+                new PostVehicleRoutesRequestTO(List.of("some-destination-point"))
+                    .setSourcePoint("some-source-point")
+                    .setSourcePoints(List.of("some-source-point-2"))
+            )
+        );
+  }
+
+  private static ExecutorService busyExecutor(CountDownLatch releaseLatch) {
+    // Simulates a kernel executor that is busy with a long-running task, e.g. a dispatcher run.
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    executor.submit(() -> {
+      releaseLatch.await();
+      return null;
+    });
+    return executor;
+  }
+
   static class MockVehicleCommAdapterDescription
       extends
         VehicleCommAdapterDescription {
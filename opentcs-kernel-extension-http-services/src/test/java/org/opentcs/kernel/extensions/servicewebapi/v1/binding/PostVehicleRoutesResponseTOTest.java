@@ -29,6 +29,7 @@ class PostVehicleRoutesResponseTOTest {
                 .setRoutes(
                     List.of(
                         new RouteTO()
+                            .setSourcePoint("A")
                             .setDestinationPoint("C")
                             .setCosts(1376)
                             .setSteps(
@@ -46,10 +47,12 @@ class PostVehicleRoutesResponseTOTest {
                                 )
                             ),
                         new RouteTO()
+                            .setSourcePoint("A")
                             .setDestinationPoint("E")
                             .setCosts(-1)
                             .setSteps(null),
                         new RouteTO()
+                            .setSourcePoint("D")
                             .setDestinationPoint("F")
                             .setCosts(4682)
                             .setSteps(
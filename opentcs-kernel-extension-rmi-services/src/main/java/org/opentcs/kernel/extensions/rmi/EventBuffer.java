@@ -6,17 +6,28 @@ import static java.util.Objects.requireNonNull;
 import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.annotation.Nonnull;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Queue;
 import java.util.function.Predicate;
+import org.opentcs.access.EventBufferOverflowEvent;
 import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.util.event.EventHandler;
 
 /**
  * Stores events and keeps them until a client fetches them.
+ * <p>
+ * {@link TCSObjectEvent}s of type {@link TCSObjectEvent.Type#OBJECT_MODIFIED} are merged with a
+ * buffered modification event for the same object, so that the buffer holds at most one such event
+ * per object (carrying the object's first previous and last current state).
+ * If the buffer's capacity is limited and it is full nevertheless, all buffered events are
+ * discarded and the client is notified about this with an {@link EventBufferOverflowEvent} the next
+ * time it fetches events.
+ * </p>
  */
 public class EventBuffer
     implements
@@ -25,7 +36,19 @@ public class EventBuffer
   /**
    * The buffered events.
    */
-  private final Deque<Object> events = new LinkedList<>();
+  private final Queue<BufferEntry> events = new ArrayDeque<>();
+  /**
+   * The buffered entries for modification events, mapped to the references of the objects.
+   */
+  private final Map<TCSObjectReference<?>, BufferEntry> modificationEvents = new HashMap<>();
+  /**
+   * The maximum number of buffered events, or 0, if it is not limited.
+   */
+  private final int capacity;
+  /**
+   * The number of events discarded since the client last fetched events.
+   */
+  private long discardedEventCount;
   /**
    * This buffer's event filter.
    */
@@ -36,15 +59,31 @@ public class EventBuffer
   private boolean waitingClient;
 
   /**
-   * Creates a new instance
+   * Creates a new instance with an unlimited capacity.
    *
    * @param eventFilter This buffer's initial event filter.
    */
   public EventBuffer(
       @Nonnull
       Predicate<Object> eventFilter
+  ) {
+    this(eventFilter, 0);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventFilter This buffer's initial event filter.
+   * @param capacity The maximum number of buffered events, or 0, if it is not to be limited.
+   */
+  public EventBuffer(
+      @Nonnull
+      Predicate<Object> eventFilter,
+      int capacity
   ) {
     this.eventFilter = requireNonNull(eventFilter, "eventFilter");
+    checkArgument(capacity >= 0, "capacity must not be negative, but is %d", capacity);
+    this.capacity = capacity;
   }
 
   // Methods declared in interface EventListener start here
@@ -53,8 +92,11 @@ public class EventBuffer
     requireNonNull(event, "event");
     synchronized (events) {
       if (eventFilter.test(event)) {
-        if (!tryMergeWithPreviousEvent(event)) {
-          events.add(event);
+        if (!tryMergeWithBufferedEvent(event)) {
+          if (capacity > 0 && events.size() >= capacity) {
+            discardBufferedEvents();
+          }
+          addEvent(event);
         }
 
         // If the client is waiting for an event, wake it up, since there is one now.
@@ -71,6 +113,8 @@ public class EventBuffer
    * clears the buffer.
    * If the buffer is currently empty, block until an event arrives, or for the
    * specified amount of time to pass, whichever occurs first.
+   * If events were discarded since the last call, the returned list starts with an
+   * {@link EventBufferOverflowEvent}.
    *
    * @param timeout The maximum amount of time (in ms) to wait for an event to
    * arrive. Must be at least 0 (in which case this method will return
@@ -82,7 +126,7 @@ public class EventBuffer
       throws IllegalArgumentException {
     checkArgument(timeout >= 0, "timeout < 0: %s", timeout);
     synchronized (events) {
-      if (timeout > 0 && events.isEmpty()) {
+      if (timeout > 0 && events.isEmpty() && discardedEventCount == 0) {
         waitingClient = true;
         try {
           events.wait(timeout);
@@ -94,8 +138,16 @@ public class EventBuffer
           waitingClient = false;
         }
       }
-      List<Object> result = new ArrayList<>(events);
+      List<Object> result = new ArrayList<>(events.size() + 1);
+      if (discardedEventCount > 0) {
+        result.add(new EventBufferOverflowEvent(discardedEventCount));
+        discardedEventCount = 0;
+      }
+      for (BufferEntry entry : events) {
+        result.add(entry.getEvent());
+      }
       events.clear();
+      modificationEvents.clear();
       return result;
     }
   }
@@ -128,31 +180,28 @@ public class EventBuffer
   }
 
   /**
-   * If possible, merge the given new event with the previous one in the buffer.
+   * If possible, merge the given new event with a buffered modification event for the same object.
    *
    * @param event The new event.
-   * @return <code>true</code> if the new event was merged with the previous one.
+   * @return <code>true</code> if the new event was merged with a buffered one.
    */
-  private boolean tryMergeWithPreviousEvent(Object event) {
-    if (!(event instanceof TCSObjectEvent currentEvent)
-        || !(events.peekLast() instanceof TCSObjectEvent previousEvent)) {
+  private boolean tryMergeWithBufferedEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent)) {
       return false;
     }
 
-    if (currentEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED
-        || previousEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
+    TCSObjectEvent currentEvent = (TCSObjectEvent) event;
+    if (currentEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
       return false;
     }
 
-    if (!Objects.equals(
-        currentEvent.getCurrentObjectState().getReference(),
-        previousEvent.getCurrentObjectState().getReference()
-    )) {
+    BufferEntry entry = modificationEvents.get(objectRef(currentEvent));
+    if (entry == null) {
       return false;
     }
 
-    events.removeLast();
-    events.add(
+    TCSObjectEvent previousEvent = (TCSObjectEvent) entry.getEvent();
+    entry.setEvent(
         new TCSObjectEvent(
             currentEvent.getCurrentObjectState(),
             previousEvent.getPreviousObjectState(),
@@ -162,4 +211,51 @@ public class EventBuffer
 
     return true;
   }
+
+  private void addEvent(Object event) {
+    BufferEntry entry = new BufferEntry(event);
+    events.add(entry);
+
+    if (event instanceof TCSObjectEvent) {
+      TCSObjectEvent objectEvent = (TCSObjectEvent) event;
+      if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_MODIFIED) {
+        modificationEvents.put(objectRef(objectEvent), entry);
+      }
+      else {
+        // Modifications following the creation or removal of an object must not be merged with
+        // modifications preceding it.
+        modificationEvents.remove(objectRef(objectEvent));
+      }
+    }
+  }
+
+  private void discardBufferedEvents() {
+    discardedEventCount += events.size();
+    events.clear();
+    modificationEvents.clear();
+  }
+
+  private static TCSObjectReference<?> objectRef(TCSObjectEvent event) {
+    return event.getCurrentOrPreviousObjectState().getReference();
+  }
+
+  /**
+   * An entry in the buffer.
+   */
+  private static class BufferEntry {
+
+    private Object event;
+
+    BufferEntry(Object event) {
+      this.event = event;
+    }
+
+    Object getEvent() {
+      return event;
+    }
+
+    void setEvent(Object event) {
+      this.event = event;
+    }
+  }
 }
@@ -5,6 +5,7 @@ package org.opentcs.kernel.extensions.rmi;
 import org.opentcs.access.rmi.services.RemoteKernelServicePortal;
 import org.opentcs.configuration.ConfigurationEntry;
 import org.opentcs.configuration.ConfigurationPrefix;
+import org.opentcs.util.event.QueuedEventHandler;
 
 /**
  * Provides methods to configure the {@link RemoteKernelServicePortal} and the
@@ -130,6 +131,48 @@ public interface RmiKernelInterfaceConfiguration {
   )
   long clientSweepInterval();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of events queued for being forwarded to clients asynchronously.",
+          "If 0, events are forwarded synchronously, i.e. by the thread emitting them."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "3_events_1"
+  )
+  int eventQueueCapacity();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+          "What to do when an event is to be forwarded to clients while the event queue is full.",
+          "Possible values:",
+          "BLOCK: Block the thread emitting an event until there is space in the queue.",
+          "DROP_OLDEST: Drop the oldest queued event.",
+          "COALESCE_BY_OBJECT: Coalesce events for objects with queued events for the same "
+              + "objects, so that only the objects' latest states are forwarded, and block the "
+              + "thread emitting an event if it cannot be coalesced."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "3_events_2"
+  )
+  QueuedEventHandler.OverflowPolicy eventQueueOverflowPolicy();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of events buffered for a client until it fetches them.",
+          "If 0, the number of buffered events is not limited.",
+          "Modifications of an object are merged into a single buffered event. If the buffer is "
+              + "full nevertheless, all buffered events are discarded and the client is notified "
+              + "about this, so that it can retrieve the current state from the kernel again. "
+              + "(Note that the Operations Desk currently only logs such a notification.)"
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "3_events_3"
+  )
+  int clientEventBufferCapacity();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether to use SSL to encrypt connections.",
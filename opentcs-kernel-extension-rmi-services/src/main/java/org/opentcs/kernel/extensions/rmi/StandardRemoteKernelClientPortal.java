@@ -191,7 +191,11 @@ public class StandardRemoteKernelClientPortal
     // Generate a new ID for the client.
     ClientID clientId = new ClientID(userName);
     // Add an entry for the newly connected client.
-    ClientEntry clientEntry = new ClientEntry(userName, account.getPermissions());
+    ClientEntry clientEntry = new ClientEntry(
+        userName,
+        account.getPermissions(),
+        configuration.clientEventBufferCapacity()
+    );
     clientEntry.getEventBuffer().setEventFilter(eventFilter);
     userManager.registerClient(clientId, clientEntry);
     LOG.debug("New client named {} logged in", clientId.getClientName());
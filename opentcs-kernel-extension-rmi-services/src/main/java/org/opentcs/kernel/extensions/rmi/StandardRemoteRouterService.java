@@ -181,19 +181,13 @@ public class StandardRemoteRouterService
   ) {
     userManager.verifyCredentials(clientId, UserPermission.MODIFY_MODEL);
 
-    try {
-      return kernelExecutor.submit(
-          () -> routerService.computeRoutes(
-              vehicleRef,
-              sourcePointRef,
-              destinationPointRefs,
-              resourcesToAvoid
-          )
-      )
-          .get();
-    }
-    catch (InterruptedException | ExecutionException exc) {
-      throw findSuitableExceptionFor(exc);
-    }
+    // Computing routes does not modify the kernel's state, so there is no need to do this via the
+    // kernel executor.
+    return routerService.computeRoutes(
+        vehicleRef,
+        sourcePointRef,
+        destinationPointRefs,
+        resourcesToAvoid
+    );
   }
 }
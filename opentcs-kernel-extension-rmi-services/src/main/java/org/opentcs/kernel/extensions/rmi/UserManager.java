@@ -27,6 +27,7 @@ import org.opentcs.customizations.ApplicationHome;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.EventSource;
+import org.opentcs.util.event.QueuedEventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -70,6 +71,10 @@ public class UserManager
    * A handle for the task that periodically cleans up known clients and event buffers.
    */
   private ScheduledFuture<?> cleanerTaskFuture;
+  /**
+   * Forwards events to this instance asynchronously, if configured.
+   */
+  private QueuedEventHandler eventQueue;
   /**
    * Whether this kernel extension is initialized or not.
    */
@@ -112,7 +117,19 @@ public class UserManager
 
     // Register the user manager as an event listener so that the user manager can collect events
     // and pass them to known clients polling events.
-    eventSource.subscribe(this);
+    if (configuration.eventQueueCapacity() > 0) {
+      eventQueue = new QueuedEventHandler(
+          "rmiUserManager",
+          this,
+          configuration.eventQueueCapacity(),
+          configuration.eventQueueOverflowPolicy()
+      );
+      eventQueue.initialize();
+      eventSource.subscribe(eventQueue);
+    }
+    else {
+      eventSource.subscribe(this);
+    }
 
     knownUsers.clear();
     for (UserAccount curAccount : userAccountProvider.getUserAccounts()) {
@@ -149,7 +166,14 @@ public class UserManager
 
     knownUsers.clear();
 
-    eventSource.unsubscribe(this);
+    if (eventQueue != null) {
+      eventSource.unsubscribe(eventQueue);
+      eventQueue.terminate();
+      eventQueue = null;
+    }
+    else {
+      eventSource.unsubscribe(this);
+    }
 
     initialized = false;
   }
@@ -339,21 +363,34 @@ public class UserManager
     /**
      * The client's event buffer.
      */
-    private final EventBuffer eventBuffer = new EventBuffer(event -> false);
+    private final EventBuffer eventBuffer;
     /**
      * The client's alive flag.
      */
     private boolean alive = true;
 
     /**
-     * Creates a new ClientEntry.
+     * Creates a new ClientEntry with an event buffer of unlimited capacity.
      *
      * @param name The client's name.
      * @param perms The client's permissions.
      */
     public ClientEntry(String name, Set<UserPermission> perms) {
+      this(name, perms, 0);
+    }
+
+    /**
+     * Creates a new ClientEntry.
+     *
+     * @param name The client's name.
+     * @param perms The client's permissions.
+     * @param eventBufferCapacity The maximum number of events buffered for the client, or 0, if it
+     * is not to be limited.
+     */
+    public ClientEntry(String name, Set<UserPermission> perms, int eventBufferCapacity) {
       userName = requireNonNull(name, "name");
       permissions = requireNonNull(perms, "perms");
+      eventBuffer = new EventBuffer(event -> false, eventBufferCapacity);
     }
 
     /**
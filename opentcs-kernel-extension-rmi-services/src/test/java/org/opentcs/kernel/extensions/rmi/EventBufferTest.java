@@ -6,13 +6,16 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.theInstance;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.access.EventBufferOverflowEvent;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.BoundingBox;
 import org.opentcs.data.model.Point;
@@ -69,7 +72,7 @@ class EventBufferTest {
   }
 
   @Test
-  void aggregateConsecutiveTcsObjectEventsForSameObjects() {
+  void aggregateTcsObjectEventsForSameObjects() {
     Point point = new Point("point");
     Point pointA = point.withType(Point.Type.PARK_POSITION);
     Point pointB = pointA.withProperty("some-key", "some-value");
@@ -119,25 +122,24 @@ class EventBufferTest {
     eventBuffer.onEvent(event6);
 
     List<Object> result = eventBuffer.getEvents(0);
-    assertThat(result, hasSize(3));
-    assertThat(result.get(0), is(theInstance(event1)));
+    assertThat(result, hasSize(2));
 
     assertThat(
-        ((TCSObjectEvent) result.get(1)).getPreviousObjectState(),
-        is(theInstance(vehicle))
+        ((TCSObjectEvent) result.get(0)).getPreviousObjectState(),
+        is(theInstance(point))
     );
     assertThat(
-        ((TCSObjectEvent) result.get(1)).getCurrentObjectState(),
-        is(theInstance(vehicleC))
+        ((TCSObjectEvent) result.get(0)).getCurrentObjectState(),
+        is(theInstance(pointC))
     );
 
     assertThat(
-        ((TCSObjectEvent) result.get(2)).getPreviousObjectState(),
-        is(theInstance(pointA))
+        ((TCSObjectEvent) result.get(1)).getPreviousObjectState(),
+        is(theInstance(vehicle))
     );
     assertThat(
-        ((TCSObjectEvent) result.get(2)).getCurrentObjectState(),
-        is(theInstance(pointC))
+        ((TCSObjectEvent) result.get(1)).getCurrentObjectState(),
+        is(theInstance(vehicleC))
     );
   }
 
@@ -172,4 +174,61 @@ class EventBufferTest {
     assertThat(result.get(1), is(equalTo(event2)));
     assertThat(result.get(2), is(equalTo(event3)));
   }
+
+  @Test
+  void discardBufferedEventsAndReportOverflowWhenFull() {
+    eventBuffer = new EventBuffer(event -> true, 2);
+    Object event1 = new Object();
+    Object event2 = new Object();
+    Object event3 = new Object();
+
+    eventBuffer.onEvent(event1);
+    eventBuffer.onEvent(event2);
+    eventBuffer.onEvent(event3);
+
+    List<Object> result = eventBuffer.getEvents(0);
+    assertThat(result, hasSize(2));
+    assertThat(result.get(0), is(instanceOf(EventBufferOverflowEvent.class)));
+    assertThat(((EventBufferOverflowEvent) result.get(0)).getDiscardedEventCount(), is(2L));
+    assertThat(result.get(1), is(theInstance(event3)));
+    assertThat(eventBuffer.getEvents(0), is(empty()));
+  }
+
+  @Test
+  void keepAllEventsIfCapacityIsUnlimited() {
+    eventBuffer = new EventBuffer(event -> true, 0);
+    for (int i = 0; i < 100; i++) {
+      eventBuffer.onEvent(new Object());
+    }
+
+    List<Object> result = eventBuffer.getEvents(0);
+    assertThat(result, hasSize(100));
+    assertThat(result.get(0), is(not(instanceOf(EventBufferOverflowEvent.class))));
+  }
+
+  @Test
+  void mergeModificationsInsteadOfOverflowing() {
+    eventBuffer = new EventBuffer(event -> true, 1);
+    Vehicle vehicle = new Vehicle("vehicle");
+    Vehicle vehicleA = vehicle.withEnergyLevel(42);
+    Vehicle vehicleB = vehicleA.withEnergyLevel(41);
+
+    eventBuffer.onEvent(
+        new TCSObjectEvent(vehicleA, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    eventBuffer.onEvent(
+        new TCSObjectEvent(vehicleB, vehicleA, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    List<Object> result = eventBuffer.getEvents(0);
+    assertThat(result, hasSize(1));
+    assertThat(
+        ((TCSObjectEvent) result.get(0)).getPreviousObjectState(),
+        is(theInstance(vehicle))
+    );
+    assertThat(
+        ((TCSObjectEvent) result.get(0)).getCurrentObjectState(),
+        is(theInstance(vehicleB))
+    );
+  }
 }
@@ -0,0 +1,213 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.services.DispatcherService;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules dispatch runs on the kernel executor, merging requests for dispatch runs that arrive
+ * while a run is already pending into that run.
+ * <p>
+ * Additionally, consecutive runs are separated by at least the interval configured via
+ * {@link KernelApplicationConfiguration#dispatchTriggerMinimumInterval()}. Requests arriving
+ * within that interval are merged into a single run that is executed once the interval has passed.
+ * </p>
+ */
+public class CoalescingDispatchScheduler
+    implements
+      Lifecycle {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CoalescingDispatchScheduler.class);
+  /**
+   * The kernel executor.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The dispatcher in use.
+   */
+  private final DispatcherService dispatcher;
+  /**
+   * The app configuration.
+   */
+  private final KernelApplicationConfiguration configuration;
+  /**
+   * The vehicles dispatch runs have been requested for since the last run.
+   */
+  private final Set<TCSObjectReference<Vehicle>> pendingVehicles = new HashSet<>();
+  /**
+   * The future of the pending dispatch run, or {@code null}, if there is none.
+   */
+  private ScheduledFuture<?> pendingRunFuture;
+  /**
+   * Whether a dispatch run is pending.
+   */
+  private boolean runPending;
+  /**
+   * The point of time (in ms since the epoch) at which the last dispatch run was executed.
+   */
+  private long lastRunTime;
+  /**
+   * The number of dispatch runs requested.
+   */
+  private long requestedRuns;
+  /**
+   * The number of dispatch runs executed.
+   */
+  private long executedRuns;
+  /**
+   * This instance's <em>initialized</em> flag.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param kernelExecutor The kernel executor to use.
+   * @param dispatcher The dispatcher in use.
+   * @param configuration The application configuration.
+   */
+  @Inject
+  public CoalescingDispatchScheduler(
+      @KernelExecutor
+      ScheduledExecutorService kernelExecutor,
+      DispatcherService dispatcher,
+      KernelApplicationConfiguration configuration
+  ) {
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.dispatcher = requireNonNull(dispatcher, "dispatcher");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public synchronized void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+    initialized = true;
+  }
+
+  @Override
+  public synchronized boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public synchronized void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+    if (pendingRunFuture != null) {
+      pendingRunFuture.cancel(false);
+      pendingRunFuture = null;
+    }
+    runPending = false;
+    pendingVehicles.clear();
+    LOG.debug(
+        "Dispatch runs requested: {}, executed: {}",
+        requestedRuns,
+        executedRuns
+    );
+    initialized = false;
+  }
+
+  /**
+   * Requests a dispatch run on behalf of the given vehicle.
+   * <p>
+   * If a dispatch run is already pending, the request is merged into it. Otherwise, a new dispatch
+   * run is scheduled on the kernel executor.
+   * If this instance is not initialized, the request is ignored.
+   * </p>
+   *
+   * @param vehicleRef A reference to the vehicle the dispatch run is requested for.
+   */
+  public synchronized void requestDispatch(
+      @Nonnull
+      TCSObjectReference<Vehicle> vehicleRef
+  ) {
+    requireNonNull(vehicleRef, "vehicleRef");
+    if (!isInitialized()) {
+      LOG.debug("Not initialized, ignoring dispatch request for {}.", vehicleRef.getName());
+      return;
+    }
+
+    requestedRuns++;
+    pendingVehicles.add(vehicleRef);
+    if (runPending) {
+      LOG.debug("Merging dispatch request for {} into pending dispatch run.", vehicleRef.getName());
+      return;
+    }
+
+    runPending = true;
+    long delay = Math.max(
+        0,
+        lastRunTime + configuration.dispatchTriggerMinimumInterval() - System.currentTimeMillis()
+    );
+    if (delay == 0) {
+      kernelExecutor.execute(this::executeRun);
+    }
+    else {
+      pendingRunFuture = kernelExecutor.schedule(this::executeRun, delay, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Returns the number of dispatch runs requested so far.
+   *
+   * @return The number of dispatch runs requested so far.
+   */
+  public synchronized long getRequestedRuns() {
+    return requestedRuns;
+  }
+
+  /**
+   * Returns the number of dispatch runs executed so far.
+   *
+   * @return The number of dispatch runs executed so far.
+   */
+  public synchronized long getExecutedRuns() {
+    return executedRuns;
+  }
+
+  private void executeRun() {
+    Set<TCSObjectReference<Vehicle>> vehicles;
+    synchronized (this) {
+      if (!runPending) {
+        return;
+      }
+      LOG.debug(
+          "Dispatching for {} ({} dispatch runs requested, {} executed so far)...",
+          pendingVehicles,
+          requestedRuns,
+          executedRuns
+      );
+      runPending = false;
+      pendingRunFuture = null;
+      vehicles = Set.copyOf(pendingVehicles);
+      pendingVehicles.clear();
+      lastRunTime = System.currentTimeMillis();
+      executedRuns++;
+    }
+
+    // Requests arriving during the dispatch run are not merged into it, as the run may already
+    // have passed the phases relevant to the requesting vehicles.
+    dispatcher.dispatch(vehicles);
+  }
+}
@@ -92,6 +92,31 @@ public interface KernelApplicationConfiguration {
   )
   VehicleResourceManagementType vehicleResourceManagementType();
 
+  @ConfigurationEntry(
+      type = "Long",
+      description = {
+          "The minimum time (in ms) between two dispatch runs triggered by vehicle state changes.",
+          "Dispatch runs requested within this interval are merged into a single run."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "6_dispatch_trigger_1"
+  )
+  long dispatchTriggerMinimumInterval();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = {
+          "The minimum time (in ms) between two process model events published for pose changes of "
+              + "the same vehicle.",
+          "Pose changes within this interval still update the vehicle, but are not published as "
+              + "separate process model events. The latest of them is published once the interval "
+              + "has passed. 0 publishes every pose change."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "7_pose_events_1"
+  )
+  long vehiclePoseEventMinimumInterval();
+
   /**
    * Defines the different types of how vehicle resources (i.e., paths, points and locations
    * allocated by vehicles) are managed.
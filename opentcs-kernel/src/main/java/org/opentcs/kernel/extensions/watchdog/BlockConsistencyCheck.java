@@ -16,8 +16,8 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.components.kernel.services.NotificationService;
-import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Block;
@@ -66,9 +66,9 @@ public class BlockConsistencyCheck
    */
   private static final String NOTIFICATION_SOURCE = "Watchdog - Block consistency check";
   /**
-   * Object service to access the model.
+   * The plant model service to access the model.
    */
-  private final TCSObjectService objectService;
+  private final InternalPlantModelService plantModelService;
   /**
    * The service to send out user notifications.
    */
@@ -100,7 +100,7 @@ public class BlockConsistencyCheck
    * Creates a new instance.
    *
    * @param kernelExecutor The kernel executor.
-   * @param objectService The object service.
+   * @param plantModelService The plant model service.
    * @param notificationService The notification service.
    * @param configuration The watchdog configuration.
    */
@@ -108,12 +108,12 @@ public class BlockConsistencyCheck
   public BlockConsistencyCheck(
       @KernelExecutor
       ScheduledExecutorService kernelExecutor,
-      TCSObjectService objectService,
+      InternalPlantModelService plantModelService,
       NotificationService notificationService,
       WatchdogConfiguration configuration
   ) {
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
-    this.objectService = requireNonNull(objectService, "objectService");
+    this.plantModelService = requireNonNull(plantModelService, "plantModelService");
     this.notificationService = requireNonNull(notificationService, "notificationService");
     this.configuration = requireNonNull(configuration, "configuration");
   }
@@ -206,9 +206,7 @@ public class BlockConsistencyCheck
     Map<TCSResourceReference<Block>, Set<TCSObjectReference<Vehicle>>> currentOccupations
         = new HashMap<>();
 
-    Set<Block> blocks = objectService.fetchObjects(Block.class);
-
-    objectService.fetchObjects(Vehicle.class)
+    plantModelService.fetchObjects(Vehicle.class)
         .stream()
         .filter(vehicle -> {
           return vehicle.getIntegrationLevel() == TO_BE_RESPECTED
@@ -216,11 +214,12 @@ public class BlockConsistencyCheck
         })
         .filter(vehicle -> vehicle.getCurrentPosition() != null)
         .forEach(vehicle -> {
-          Point currentPoint = objectService.fetchObject(Point.class, vehicle.getCurrentPosition());
+          Point currentPoint
+              = plantModelService.fetchObject(Point.class, vehicle.getCurrentPosition());
 
-          blocks.stream()
+          plantModelService.fetchBlocksContaining(Set.of(currentPoint.getReference()))
+              .stream()
               .filter(block -> block.getType() == Block.Type.SINGLE_VEHICLE_ONLY)
-              .filter(block -> block.getMembers().contains(currentPoint.getReference()))
               .forEach(block -> {
                 currentOccupations.putIfAbsent(block.getReference(), new HashSet<>());
                 currentOccupations.get(block.getReference()).add(vehicle.getReference());
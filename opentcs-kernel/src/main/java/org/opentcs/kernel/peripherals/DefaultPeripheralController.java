@@ -24,6 +24,7 @@ import org.opentcs.drivers.peripherals.management.PeripheralProcessModelEvent;
 import org.opentcs.util.ExplainedBoolean;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventTopic;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -95,7 +96,7 @@ public class DefaultPeripheralController
       return;
     }
 
-    eventBus.subscribe(this);
+    eventBus.subscribe(this, EventTopic.ofEventClass(PeripheralProcessModelEvent.class));
 
     updatePeripheralState(commAdapter.getProcessModel().getState());
 
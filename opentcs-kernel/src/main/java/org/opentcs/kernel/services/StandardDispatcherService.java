@@ -5,6 +5,7 @@ package org.opentcs.kernel.services;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.Set;
 import org.opentcs.components.kernel.Dispatcher;
 import org.opentcs.components.kernel.dipatching.TransportOrderAssignmentException;
 import org.opentcs.components.kernel.services.DispatcherService;
@@ -62,6 +63,15 @@ public class StandardDispatcherService
     }
   }
 
+  @Override
+  public void dispatch(Set<TCSObjectReference<Vehicle>> vehicles) {
+    requireNonNull(vehicles, "vehicles");
+
+    synchronized (globalSyncObject) {
+      dispatcher.dispatch(vehicles);
+    }
+  }
+
   @Override
   public void withdrawByVehicle(TCSObjectReference<Vehicle> ref, boolean immediateAbort)
       throws ObjectUnknownException {
@@ -113,6 +113,15 @@ public class StandardPlantModelService
     }
   }
 
+  @Override
+  public Set<Block> fetchBlocksContaining(Set<TCSResourceReference<?>> resources) {
+    requireNonNull(resources, "resources");
+
+    synchronized (globalSyncObject) {
+      return plantModelManager.getBlocksContaining(resources);
+    }
+  }
+
   @Override
   public void loadPlantModel()
       throws IllegalStateException {
@@ -6,6 +6,7 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -93,8 +94,10 @@ public class StandardRouterService
     requireNonNull(destinationPointRefs, "destinationPointRefs");
     requireNonNull(resourcesToAvoid, "resourcesToAvoid");
 
+    // Route computations may lazily construct routing graphs from the sets of points and paths,
+    // and fetching sets of objects requires the global lock. Acquire it before the router's own
+    // lock, as all other callers of the router do, to avoid deadlocks.
     synchronized (globalSyncObject) {
-      Map<TCSObjectReference<Point>, Route> result = new HashMap<>();
       Vehicle vehicle = objectService.fetchObject(Vehicle.class, vehicleRef);
       if (vehicle == null) {
         throw new ObjectUnknownException("Unknown vehicle: " + vehicleRef.getName());
@@ -103,16 +106,26 @@ public class StandardRouterService
       if (sourcePoint == null) {
         throw new ObjectUnknownException("Unknown source point: " + sourcePointRef.getName());
       }
+      Map<TCSObjectReference<Point>, Point> destinationPoints = new HashMap<>();
       for (TCSObjectReference<Point> dest : destinationPointRefs) {
         Point destinationPoint = objectService.fetchObject(Point.class, dest);
         if (destinationPoint == null) {
           throw new ObjectUnknownException("Unknown destination point: " + dest.getName());
         }
-        result.put(
-            dest,
-            router.getRoute(vehicle, sourcePoint, destinationPoint, resourcesToAvoid)
-                .orElse(null)
-        );
+        destinationPoints.put(dest, destinationPoint);
+      }
+
+      // Compute the routes to all destination points at once, allowing the router to use a single
+      // shortest path tree for all of them.
+      Map<Point, Route> routes = router.getRoutes(
+          vehicle,
+          sourcePoint,
+          new HashSet<>(destinationPoints.values()),
+          resourcesToAvoid
+      );
+      Map<TCSObjectReference<Point>, Route> result = new HashMap<>();
+      for (Map.Entry<TCSObjectReference<Point>, Point> entry : destinationPoints.entrySet()) {
+        result.put(entry.getKey(), routes.get(entry.getValue()));
       }
       return result;
     }
@@ -16,11 +16,32 @@ import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.model.VehicleCriteria;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.order.TransportOrderCriteria;
+import org.opentcs.kernel.workingset.PlantModelManager;
 import org.opentcs.kernel.workingset.TCSObjectManager;
 import org.opentcs.kernel.workingset.TCSObjectRepository;
+import org.opentcs.kernel.workingset.TransportOrderPoolManager;
 
 /**
  * This class is the standard implementation of the {@link TCSObjectService} interface.
+ * <p>
+ * Single objects are fetched from the object repository without synchronizing on the global
+ * synchronization object, so reading clients do not have to wait for modifications to finish.
+ * (Objects are immutable, so a single object is always read in a consistent state.)
+ * Sets of objects, however, are fetched while synchronizing on the global synchronization object,
+ * so that they never reflect modifications of multiple objects (e.g. loading a plant model) that
+ * have been applied only partially.
+ * </p>
+ * <p>
+ * When fetching transport orders using {@link TransportOrderCriteria}, the indexes maintained by
+ * the {@link TransportOrderPoolManager} are used to narrow down the set of transport orders to be
+ * tested, if available.
+ * Likewise, when fetching vehicles using {@link VehicleCriteria}, the indexes maintained by the
+ * {@link PlantModelManager} are used.
+ * </p>
  */
 public class StandardTCSObjectService
     implements
@@ -56,18 +77,14 @@ public class StandardTCSObjectService
     requireNonNull(clazz, "clazz");
     requireNonNull(ref, "ref");
 
-    synchronized (getGlobalSyncObject()) {
-      return getObjectRepo().getObjectOrNull(clazz, ref);
-    }
+    return getObjectRepo().getObjectOrNull(clazz, ref);
   }
 
   @Override
   public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, String name) {
     requireNonNull(clazz, "clazz");
 
-    synchronized (getGlobalSyncObject()) {
-      return getObjectRepo().getObjectOrNull(clazz, name);
-    }
+    return getObjectRepo().getObjectOrNull(clazz, name);
   }
 
   @Override
@@ -75,12 +92,7 @@ public class StandardTCSObjectService
     requireNonNull(clazz, "clazz");
 
     synchronized (getGlobalSyncObject()) {
-      Set<T> objects = getObjectRepo().getObjects(clazz);
-      Set<T> copies = new HashSet<>();
-      for (T object : objects) {
-        copies.add(object);
-      }
-      return copies;
+      return getObjectRepo().getObjects(clazz);
     }
   }
 
@@ -95,6 +107,21 @@ public class StandardTCSObjectService
     requireNonNull(predicate, "predicate");
 
     synchronized (getGlobalSyncObject()) {
+      if (clazz == TransportOrder.class && predicate instanceof TransportOrderCriteria criteria) {
+        Set<T> result = new HashSet<>();
+        for (TransportOrder order : fetchTransportOrders(criteria)) {
+          result.add(clazz.cast(order));
+        }
+        return result;
+      }
+      if (clazz == Vehicle.class && predicate instanceof VehicleCriteria criteria) {
+        Set<T> result = new HashSet<>();
+        for (Vehicle vehicle : fetchVehicles(criteria)) {
+          result.add(clazz.cast(vehicle));
+        }
+        return result;
+      }
+
       return getObjectRepo().getObjects(clazz, predicate);
     }
   }
@@ -126,6 +153,73 @@ public class StandardTCSObjectService
     }
   }
 
+  private Set<TransportOrder> fetchTransportOrders(TransportOrderCriteria criteria) {
+    // Start with the candidates from the (presumably) most selective index available.
+    Set<TransportOrder> candidates;
+    if (criteria.getWrappingSequence() != null
+        && getObjectRepo().hasIndex(TransportOrderPoolManager.ORDERS_BY_WRAPPING_SEQUENCE)) {
+      candidates = getObjectRepo().getObjects(
+          TransportOrderPoolManager.ORDERS_BY_WRAPPING_SEQUENCE,
+          criteria.getWrappingSequence()
+      );
+    }
+    else if (criteria.getProcessingVehicle() != null
+        && getObjectRepo().hasIndex(TransportOrderPoolManager.ORDERS_BY_PROCESSING_VEHICLE)) {
+      candidates = getObjectRepo().getObjects(
+          TransportOrderPoolManager.ORDERS_BY_PROCESSING_VEHICLE,
+          criteria.getProcessingVehicle()
+      );
+    }
+    else if (criteria.getIntendedVehicle() != null
+        && getObjectRepo().hasIndex(TransportOrderPoolManager.ORDERS_BY_INTENDED_VEHICLE)) {
+      candidates = getObjectRepo().getObjects(
+          TransportOrderPoolManager.ORDERS_BY_INTENDED_VEHICLE,
+          criteria.getIntendedVehicle()
+      );
+    }
+    else if (!criteria.getStates().isEmpty()
+        && getObjectRepo().hasIndex(TransportOrderPoolManager.ORDERS_BY_STATE)) {
+      candidates = new HashSet<>();
+      for (TransportOrder.State state : criteria.getStates()) {
+        candidates.addAll(
+            getObjectRepo().getObjects(TransportOrderPoolManager.ORDERS_BY_STATE, state)
+        );
+      }
+    }
+    else if (criteria.getType() != null
+        && getObjectRepo().hasIndex(TransportOrderPoolManager.ORDERS_BY_TYPE)) {
+      candidates = getObjectRepo().getObjects(
+          TransportOrderPoolManager.ORDERS_BY_TYPE,
+          criteria.getType()
+      );
+    }
+    else {
+      candidates = getObjectRepo().getObjects(TransportOrder.class);
+    }
+
+    candidates.removeIf(order -> !criteria.test(order));
+    return candidates;
+  }
+
+  private Set<Vehicle> fetchVehicles(VehicleCriteria criteria) {
+    Set<Vehicle> candidates;
+    if (!criteria.getProcStates().isEmpty()
+        && getObjectRepo().hasIndex(PlantModelManager.VEHICLES_BY_PROC_STATE)) {
+      candidates = new HashSet<>();
+      for (Vehicle.ProcState procState : criteria.getProcStates()) {
+        candidates.addAll(
+            getObjectRepo().getObjects(PlantModelManager.VEHICLES_BY_PROC_STATE, procState)
+        );
+      }
+    }
+    else {
+      candidates = getObjectRepo().getObjects(Vehicle.class);
+    }
+
+    candidates.removeIf(vehicle -> !criteria.test(vehicle));
+    return candidates;
+  }
+
   protected Object getGlobalSyncObject() {
     return globalSyncObject;
   }
@@ -24,6 +24,10 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.ResourceAllocationException;
 import org.opentcs.components.kernel.Scheduler;
@@ -32,6 +36,7 @@ import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.components.kernel.services.InternalVehicleService;
 import org.opentcs.components.kernel.services.NotificationService;
 import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.TCSObjectReference;
@@ -55,11 +60,13 @@ import org.opentcs.drivers.vehicle.VehicleCommAdapter;
 import org.opentcs.drivers.vehicle.VehicleController;
 import org.opentcs.drivers.vehicle.VehicleProcessModel;
 import org.opentcs.drivers.vehicle.management.ProcessModelEvent;
+import org.opentcs.drivers.vehicle.management.VehicleProcessModelTO;
 import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.kernel.vehicles.transformers.VehicleDataTransformerRegistry;
 import org.opentcs.util.ExplainedBoolean;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventTopic;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -102,6 +109,10 @@ public class DefaultVehicleController
    * The event bus we should register with and send events to.
    */
   private final EventBus eventBus;
+  /**
+   * The kernel executor.
+   */
+  private final ScheduledExecutorService kernelExecutor;
   /**
    * The vehicle controlled by this controller/the communication adapter.
    */
@@ -156,6 +167,16 @@ public class DefaultVehicleController
    */
   private final Map<MovementCommand, MovementCommand> transformedToOriginalCommands
       = new HashMap<>();
+  /**
+   * The point of time (as returned by {@link System#nanoTime()}) at which the last process model
+   * event for a pose change was published, or {@code null}, if none has been published, yet.
+   */
+  private Long lastPoseEventPublished;
+  /**
+   * The future of the pending process model event for the latest pose change, or {@code null}, if
+   * there is none.
+   */
+  private ScheduledFuture<?> pendingPoseEventFuture;
 
   /**
    * Creates a new instance associated with the given vehicle.
@@ -168,6 +189,7 @@ public class DefaultVehicleController
    * @param dispatcherService The kernel's dispatcher service.
    * @param scheduler The scheduler managing resource allocations.
    * @param eventBus The event bus this instance should register with and send events to.
+   * @param kernelExecutor The kernel executor.
    * @param componentsFactory A factory for various components related to a vehicle controller.
    * @param movementCommandMapper Maps drive orders to movement commands.
    * @param configuration The configuration to use.
@@ -196,6 +218,9 @@ public class DefaultVehicleController
       @ApplicationEventBus
       EventBus eventBus,
       @Nonnull
+      @KernelExecutor
+      ScheduledExecutorService kernelExecutor,
+      @Nonnull
       VehicleControllerComponentsFactory componentsFactory,
       @Nonnull
       MovementCommandMapper movementCommandMapper,
@@ -214,6 +239,7 @@ public class DefaultVehicleController
     this.dispatcherService = requireNonNull(dispatcherService, "dispatcherService");
     this.scheduler = requireNonNull(scheduler, "scheduler");
     this.eventBus = requireNonNull(eventBus, "eventBus");
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     requireNonNull(componentsFactory, "componentsFactory");
     this.peripheralInteractor
         = componentsFactory.createPeripheralInteractor(vehicle.getReference());
@@ -243,7 +269,7 @@ public class DefaultVehicleController
       return;
     }
 
-    eventBus.subscribe(this);
+    eventBus.subscribe(this, EventTopic.ofObject(vehicle.getReference()));
 
     vehicleService.updateVehicleRechargeOperation(
         vehicle.getReference(),
@@ -283,6 +309,10 @@ public class DefaultVehicleController
     peripheralInteractor.terminate();
 
     commAdapter.getProcessModel().removePropertyChangeListener(this);
+    if (pendingPoseEventFuture != null) {
+      pendingPoseEventFuture.cancel(false);
+      pendingPoseEventFuture = null;
+    }
     // Reset the vehicle's position.
     updatePosition(null, null);
     updateVehiclePose(new Pose(null, Double.NaN));
@@ -831,6 +861,92 @@ public class DefaultVehicleController
     dispatcherService.withdrawByVehicle(vehicle.getReference(), false);
   }
 
+  /**
+   * Publishes a process model event for the given change of the process model.
+   * <p>
+   * Events for pose changes are published at most once per configured interval. A pose change
+   * within the interval results in a single event being published once the interval has passed, so
+   * that the latest pose is always published eventually.
+   * </p>
+   */
+  private void publishProcessModelEvent(PropertyChangeEvent evt) {
+    if (!Objects.equals(evt.getPropertyName(), VehicleProcessModel.Attribute.POSE.name())) {
+      eventBus.onEvent(createProcessModelEvent(evt.getPropertyName(), evt.getNewValue()));
+      return;
+    }
+
+    if (pendingPoseEventFuture != null) {
+      // The pending event will include this pose change.
+      return;
+    }
+
+    long delay = lastPoseEventPublished == null
+        ? 0
+        : configuration.vehiclePoseEventMinimumInterval()
+            - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastPoseEventPublished);
+    if (delay <= 0) {
+      publishPoseEvent((Pose) evt.getNewValue());
+    }
+    else {
+      pendingPoseEventFuture = kernelExecutor.schedule(
+          this::publishPendingPoseEvent,
+          delay,
+          TimeUnit.MILLISECONDS
+      );
+    }
+  }
+
+  private void publishPendingPoseEvent() {
+    if (pendingPoseEventFuture == null) {
+      // Cancelled in the meantime.
+      return;
+    }
+    pendingPoseEventFuture = null;
+    publishPoseEvent(commAdapter.getProcessModel().getPose());
+  }
+
+  private void publishPoseEvent(Pose pose) {
+    lastPoseEventPublished = System.nanoTime();
+    eventBus.onEvent(createProcessModelEvent(VehicleProcessModel.Attribute.POSE.name(), pose));
+  }
+
+  /**
+   * Creates a process model event carrying only the given change.
+   * The serializable representation of the whole process model is created only if a receiver
+   * requests it (e.g. when the event is forwarded to the kernel control center).
+   */
+  private ProcessModelEvent createProcessModelEvent(
+      String attributeChanged,
+      @Nullable
+      Object newValue
+  ) {
+    Thread modifyingThread = Thread.currentThread();
+    return new ProcessModelEvent(
+        attributeChanged,
+        newValue,
+        () -> createTransferableProcessModel(modifyingThread)
+    );
+  }
+
+  private VehicleProcessModelTO createTransferableProcessModel(Thread modifyingThread) {
+    // The process model is not thread-safe, so read it on the thread modifying it, i.e. the kernel
+    // executor.
+    if (Thread.currentThread() == modifyingThread) {
+      return commAdapter.createTransferableProcessModel();
+    }
+
+    try {
+      return kernelExecutor.submit(() -> commAdapter.createTransferableProcessModel()).get();
+    }
+    catch (InterruptedException exc) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while creating transferable process model", exc);
+    }
+    catch (ExecutionException exc) {
+      throw new IllegalStateException("Could not create transferable process model", exc);
+    }
+  }
+
   private void onPostMovementInteractionFailed() {
     // Implementation remark: This method is called only for interactions where a peripheral job
     // with the completion required flag set has failed.
@@ -841,12 +957,7 @@ public class DefaultVehicleController
 
   @SuppressWarnings("unchecked")
   private void handleProcessModelEvent(PropertyChangeEvent evt) {
-    eventBus.onEvent(
-        new ProcessModelEvent(
-            evt.getPropertyName(),
-            commAdapter.createTransferableProcessModel()
-        )
-    );
+    publishProcessModelEvent(evt);
 
     if (Objects.equals(evt.getPropertyName(), VehicleProcessModel.Attribute.POSITION.name())) {
       updateVehiclePosition((String) evt.getNewValue());
@@ -28,6 +28,7 @@ import org.opentcs.data.peripherals.PeripheralOperation;
 import org.opentcs.drivers.vehicle.MovementCommand;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.EventSource;
+import org.opentcs.util.event.EventTopic;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -113,7 +114,7 @@ public class PeripheralInteractor
       return;
     }
 
-    eventSource.subscribe(this);
+    eventSource.subscribe(this, EventTopic.ofObjectClass(PeripheralJob.class));
 
     initialized = true;
   }
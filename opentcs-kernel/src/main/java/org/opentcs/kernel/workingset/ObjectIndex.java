@@ -0,0 +1,103 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.function.Function;
+import org.opentcs.data.TCSObject;
+
+/**
+ * Describes a secondary index of the objects in a {@link TCSObjectRepository}, i.e. a mapping of
+ * the objects of a specific class by a key derived from each object.
+ * <p>
+ * Instances of this class only describe an index. The index data itself is kept and maintained by
+ * the repository an index is registered with (see
+ * {@link TCSObjectRepository#addIndex(ObjectIndex)}).
+ * Indexes are identified by instance, i.e. the same instance has to be used for registering an
+ * index and for looking up objects via that index.
+ * </p>
+ *
+ * @param <T> The type of objects indexed.
+ * @param <K> The type of the index keys.
+ */
+public class ObjectIndex<T extends TCSObject<T>, K> {
+
+  /**
+   * A name describing this index.
+   */
+  private final String name;
+  /**
+   * The class of objects indexed.
+   */
+  private final Class<T> objectClass;
+  /**
+   * Derives an object's key from the object.
+   */
+  private final Function<T, K> keyFunction;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param name A name describing this index.
+   * @param objectClass The class of objects indexed.
+   * @param keyFunction Derives an object's key from the object. May return {@code null} for objects
+   * that are not to be indexed.
+   */
+  public ObjectIndex(
+      @Nonnull
+      String name,
+      @Nonnull
+      Class<T> objectClass,
+      @Nonnull
+      Function<T, K> keyFunction
+  ) {
+    this.name = requireNonNull(name, "name");
+    this.objectClass = requireNonNull(objectClass, "objectClass");
+    this.keyFunction = requireNonNull(keyFunction, "keyFunction");
+  }
+
+  /**
+   * Returns a name describing this index.
+   *
+   * @return A name describing this index.
+   */
+  @Nonnull
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the class of objects indexed.
+   *
+   * @return The class of objects indexed.
+   */
+  @Nonnull
+  public Class<T> getObjectClass() {
+    return objectClass;
+  }
+
+  /**
+   * Returns the key the given object is indexed by.
+   *
+   * @param object The object.
+   * @return The key the given object is indexed by, or {@code null}, if the object is not indexed.
+   */
+  @Nullable
+  public K getKey(
+      @Nonnull
+      T object
+  ) {
+    return keyFunction.apply(object);
+  }
+
+  @Override
+  public String toString() {
+    return "ObjectIndex{"
+        + "name=" + name
+        + ", objectClass=" + objectClass
+        + '}';
+  }
+}
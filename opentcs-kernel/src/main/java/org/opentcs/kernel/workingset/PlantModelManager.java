@@ -71,6 +71,11 @@ public class PlantModelManager
    * This class's Logger.
    */
   private static final Logger LOG = LoggerFactory.getLogger(PlantModelManager.class);
+  /**
+   * An index of vehicles by their processing states.
+   */
+  public static final ObjectIndex<Vehicle, Vehicle.ProcState> VEHICLES_BY_PROC_STATE
+      = new ObjectIndex<>("vehiclesByProcState", Vehicle.class, Vehicle::getProcState);
   /**
    * This model's name.
    */
@@ -79,6 +84,15 @@ public class PlantModelManager
    * This model's properties.
    */
   private Map<String, String> properties = new HashMap<>();
+  /**
+   * References to the blocks containing a resource, mapped to the resource's reference.
+   * <p>
+   * Since the members of blocks cannot be modified, this only needs to be updated when blocks are
+   * created or removed, i.e. when the model is (re)created.
+   * </p>
+   */
+  private final Map<TCSResourceReference<?>, Set<TCSResourceReference<Block>>> blocksByMember
+      = new HashMap<>();
 
   /**
    * Creates a new model.
@@ -95,6 +109,8 @@ public class PlantModelManager
       EventHandler eventHandler
   ) {
     super(objectRepo, eventHandler);
+
+    objectRepo.addIndex(VEHICLES_BY_PROC_STATE);
   }
 
   /**
@@ -154,6 +170,7 @@ public class PlantModelManager
           TCSObjectEvent.Type.OBJECT_REMOVED
       );
     }
+    blocksByMember.clear();
   }
 
   /**
@@ -1046,20 +1063,13 @@ public class PlantModelManager
       throws ObjectUnknownException {
     requireNonNull(resources, "resources");
 
-    Set<Block> blocks = getObjectRepo().getObjects(Block.class);
-
     // First, collect the given references plus references to all members of blocks that contain the
     // given references in a set.
     // We could look up all resources and add them to the result immediately, but by first
     // collecting all references, we ensure that we look up each resource only once.
-    Set<TCSResourceReference<?>> refsToLookUp = new HashSet<>();
-    for (TCSResourceReference<?> resourceRef : resources) {
-      refsToLookUp.add(resourceRef);
-
-      blocks.stream()
-          .filter(block -> block.getMembers().contains(resourceRef))
-          .flatMap(block -> block.getMembers().stream())
-          .forEach(memberRef -> refsToLookUp.add(memberRef));
+    Set<TCSResourceReference<?>> refsToLookUp = new HashSet<>(resources);
+    for (Block block : getBlocksContaining(resources)) {
+      refsToLookUp.addAll(block.getMembers());
     }
 
     // Look up and return the actual resources.
@@ -1068,6 +1078,29 @@ public class PlantModelManager
         .collect(Collectors.toSet());
   }
 
+  /**
+   * Returns all blocks containing at least one of the given resources.
+   *
+   * @param resources The resources.
+   * @return The blocks containing at least one of the given resources.
+   */
+  public Set<Block> getBlocksContaining(
+      @Nonnull
+      Set<TCSResourceReference<?>> resources
+  ) {
+    requireNonNull(resources, "resources");
+
+    Set<TCSResourceReference<Block>> blockRefs = new HashSet<>();
+    for (TCSResourceReference<?> resourceRef : resources) {
+      blockRefs.addAll(blocksByMember.getOrDefault(resourceRef, Set.of()));
+    }
+
+    // Look up the blocks, as their properties may have been modified since they were indexed.
+    return blockRefs.stream()
+        .map(blockRef -> getObjectRepo().getObject(Block.class, blockRef))
+        .collect(Collectors.toSet());
+  }
+
   private List<PeripheralOperation> mapPeripheralOperationTOs(
       List<PeripheralOperationCreationTO> creationTOs
   ) {
@@ -1622,6 +1655,10 @@ public class PlantModelManager
         .withProperties(to.getProperties())
         .withLayout(new Block.Layout(to.getLayout().getColor()));
     getObjectRepo().addObject(newBlock);
+    for (TCSResourceReference<?> memberRef : members) {
+      blocksByMember.computeIfAbsent(memberRef, ref -> new HashSet<>())
+          .add(newBlock.getReference());
+    }
     emitObjectEvent(
         newBlock,
         null,
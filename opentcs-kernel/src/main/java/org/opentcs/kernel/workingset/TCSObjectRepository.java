@@ -7,11 +7,12 @@ import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
@@ -20,7 +21,16 @@ import org.opentcs.data.TCSObjectReference;
 /**
  * A container for <code>TCSObject</code>s belonging together.
  * <p>
- * Provides access to a set of data objects and ensures they have unique names.
+ * Provides access to a set of data objects and ensures they have unique names. In addition to
+ * the objects' names, objects can be looked up via secondary indexes registered with the
+ * repository (see {@link ObjectIndex}).
+ * </p>
+ * <p>
+ * Methods that only read objects may be called concurrently with each other and with methods
+ * modifying the repository's content. Since the objects themselves are immutable, readers always
+ * see a consistent state of every single object, and sets of objects returned are snapshots that
+ * are not affected by subsequent modifications. Methods modifying the repository's content must be
+ * synchronized externally, though.
  * </p>
  */
 public class TCSObjectRepository {
@@ -28,7 +38,16 @@ public class TCSObjectRepository {
   /**
    * The objects contained in this pool, mapped by their names, grouped by their classes.
    */
-  private final Map<Class<?>, Map<String, TCSObject<?>>> objects = new HashMap<>();
+  private final Map<Class<?>, Map<String, TCSObject<?>>> objects = new ConcurrentHashMap<>();
+  /**
+   * All objects contained in this pool, mapped by their names.
+   */
+  private final Map<String, TCSObject<?>> objectsByName = new ConcurrentHashMap<>();
+  /**
+   * The names of indexed objects, mapped by their keys, mapped by the respective indexes.
+   */
+  private final Map<ObjectIndex<?, ?>, Map<Object, Set<String>>> indexes
+      = new ConcurrentHashMap<>();
 
   /**
    * Creates a new instance.
@@ -54,12 +73,10 @@ public class TCSObjectRepository {
       throw new ObjectExistsException("Object name already exists: " + newObject.getName());
     }
 
-    Map<String, TCSObject<?>> objectsByName = objects.get(newObject.getClass());
-    if (objectsByName == null) {
-      objectsByName = new HashMap<>();
-      objects.put(newObject.getClass(), objectsByName);
-    }
+    objects.computeIfAbsent(newObject.getClass(), clazz -> new ConcurrentHashMap<>())
+        .put(newObject.getName(), newObject);
     objectsByName.put(newObject.getName(), newObject);
+    updateIndexes(null, newObject);
   }
 
   /**
@@ -92,6 +109,8 @@ public class TCSObjectRepository {
     );
 
     objects.get(object.getClass()).put(object.getName(), object);
+    objectsByName.put(object.getName(), object);
+    updateIndexes(oldObject, object);
   }
 
   /**
@@ -198,11 +217,7 @@ public class TCSObjectRepository {
   ) {
     requireNonNull(name, "name");
 
-    return objects.values().stream()
-        .map(objectsByName -> objectsByName.get(name))
-        .filter(object -> object != null)
-        .findAny()
-        .orElse(null);
+    return objectsByName.get(name);
   }
 
   /**
@@ -291,9 +306,13 @@ public class TCSObjectRepository {
       @Nonnull
       Class<T> clazz
   ) {
-    return objects.getOrDefault(clazz, Map.of()).values().stream()
-        .map(object -> clazz.cast(object))
-        .collect(Collectors.toSet());
+    requireNonNull(clazz, "clazz");
+
+    Set<T> result = new HashSet<>();
+    for (TCSObject<?> object : objects.getOrDefault(clazz, Map.of()).values()) {
+      result.add(clazz.cast(object));
+    }
+    return result;
   }
 
   /**
@@ -315,10 +334,14 @@ public class TCSObjectRepository {
     requireNonNull(clazz, "clazz");
     requireNonNull(predicate, "predicate");
 
-    return objects.getOrDefault(clazz, Map.of()).values().stream()
-        .map(object -> clazz.cast(object))
-        .filter(predicate)
-        .collect(Collectors.toSet());
+    Set<T> result = new HashSet<>();
+    for (TCSObject<?> object : objects.getOrDefault(clazz, Map.of()).values()) {
+      T castObject = clazz.cast(object);
+      if (predicate.test(castObject)) {
+        result.add(castObject);
+      }
+    }
+    return result;
   }
 
   /**
@@ -341,10 +364,135 @@ public class TCSObjectRepository {
     if (obj == null) {
       throw new ObjectUnknownException(ref);
     }
+    objectsByName.remove(obj.getName());
+    updateIndexes(obj, null);
     return obj;
   }
 
+  /**
+   * Registers the given index with this repository.
+   * <p>
+   * Objects already contained in this repository are indexed immediately; objects added, replaced
+   * or removed later are indexed incrementally. Registering an index that is already registered
+   * has no effect.
+   * </p>
+   *
+   * @param <T> The type of objects indexed.
+   * @param <K> The type of the index keys.
+   * @param index The index to be registered.
+   */
+  public <T extends TCSObject<T>, K> void addIndex(
+      @Nonnull
+      ObjectIndex<T, K> index
+  ) {
+    requireNonNull(index, "index");
+
+    if (indexes.containsKey(index)) {
+      return;
+    }
+
+    Map<Object, Set<String>> namesByKey = new ConcurrentHashMap<>();
+    for (T object : getObjects(index.getObjectClass())) {
+      K key = index.getKey(object);
+      if (key != null) {
+        namesByKey.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(object.getName());
+      }
+    }
+    indexes.put(index, namesByKey);
+  }
+
+  /**
+   * Checks whether the given index is registered with this repository.
+   *
+   * @param index The index.
+   * @return {@code true} if, and only if, the given index is registered with this repository.
+   */
+  public boolean hasIndex(
+      @Nonnull
+      ObjectIndex<?, ?> index
+  ) {
+    requireNonNull(index, "index");
+
+    return indexes.containsKey(index);
+  }
+
+  /**
+   * Returns a set of objects that are indexed with the given key in the given index.
+   *
+   * @param <T> The objects' type.
+   * @param <K> The type of the index keys.
+   * @param index The index to be used.
+   * @param key The key to look up.
+   * @return A set of objects that are indexed with the given key in the given index. If no such
+   * objects exist, the returned set is empty.
+   * @throws IllegalArgumentException If the given index is not registered with this repository.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>, K> Set<T> getObjects(
+      @Nonnull
+      ObjectIndex<T, K> index,
+      @Nonnull
+      K key
+  )
+      throws IllegalArgumentException {
+    requireNonNull(index, "index");
+    requireNonNull(key, "key");
+    Map<Object, Set<String>> namesByKey = indexes.get(index);
+    checkArgument(namesByKey != null, "Index not registered: %s", index);
+
+    Map<String, TCSObject<?>> objectsOfClass
+        = objects.getOrDefault(index.getObjectClass(), Map.of());
+    Set<T> result = new HashSet<>();
+    for (String name : namesByKey.getOrDefault(key, Set.of())) {
+      TCSObject<?> object = objectsOfClass.get(name);
+      // Re-check the key, as the index might be modified concurrently.
+      if (object != null && key.equals(index.getKey(index.getObjectClass().cast(object)))) {
+        result.add(index.getObjectClass().cast(object));
+      }
+    }
+    return result;
+  }
+
   private boolean containsName(String name) {
-    return objects.values().stream().anyMatch(objectsByName -> objectsByName.containsKey(name));
+    return objectsByName.containsKey(name);
+  }
+
+  private void updateIndexes(
+      @Nullable
+      TCSObject<?> oldObject,
+      @Nullable
+      TCSObject<?> newObject
+  ) {
+    for (Map.Entry<ObjectIndex<?, ?>, Map<Object, Set<String>>> entry : indexes.entrySet()) {
+      Object oldKey = indexKey(entry.getKey(), oldObject);
+      Object newKey = indexKey(entry.getKey(), newObject);
+      if (Objects.equals(oldKey, newKey)) {
+        continue;
+      }
+
+      Map<Object, Set<String>> namesByKey = entry.getValue();
+      if (newKey != null) {
+        namesByKey.computeIfAbsent(newKey, key -> ConcurrentHashMap.newKeySet())
+            .add(newObject.getName());
+      }
+      if (oldKey != null) {
+        namesByKey.computeIfPresent(oldKey, (key, names) -> {
+          names.remove(oldObject.getName());
+          return names.isEmpty() ? null : names;
+        });
+      }
+    }
+  }
+
+  @Nullable
+  private static <T extends TCSObject<T>> Object indexKey(
+      ObjectIndex<T, ?> index,
+      @Nullable
+      TCSObject<?> object
+  ) {
+    if (!index.getObjectClass().isInstance(object)) {
+      return null;
+    }
+    return index.getKey(index.getObjectClass().cast(object));
   }
 }
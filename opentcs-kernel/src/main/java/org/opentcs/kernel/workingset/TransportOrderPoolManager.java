@@ -52,6 +52,46 @@ public class TransportOrderPoolManager
    * This class's Logger.
    */
   private static final Logger LOG = LoggerFactory.getLogger(TransportOrderPoolManager.class);
+  /**
+   * An index of transport orders by their states.
+   */
+  public static final ObjectIndex<TransportOrder, TransportOrder.State> ORDERS_BY_STATE
+      = new ObjectIndex<>("transportOrdersByState", TransportOrder.class, TransportOrder::getState);
+  /**
+   * An index of transport orders by their intended vehicles.
+   * Transport orders without an intended vehicle are not indexed.
+   */
+  public static final ObjectIndex<TransportOrder, TCSObjectReference<Vehicle>>
+      ORDERS_BY_INTENDED_VEHICLE = new ObjectIndex<>(
+          "transportOrdersByIntendedVehicle",
+          TransportOrder.class,
+          TransportOrder::getIntendedVehicle
+      );
+  /**
+   * An index of transport orders by their processing vehicles.
+   * Transport orders without a processing vehicle are not indexed.
+   */
+  public static final ObjectIndex<TransportOrder, TCSObjectReference<Vehicle>>
+      ORDERS_BY_PROCESSING_VEHICLE = new ObjectIndex<>(
+          "transportOrdersByProcessingVehicle",
+          TransportOrder.class,
+          TransportOrder::getProcessingVehicle
+      );
+  /**
+   * An index of transport orders by their wrapping sequences.
+   * Transport orders not belonging to any order sequence are not indexed.
+   */
+  public static final ObjectIndex<TransportOrder, TCSObjectReference<OrderSequence>>
+      ORDERS_BY_WRAPPING_SEQUENCE = new ObjectIndex<>(
+          "transportOrdersByWrappingSequence",
+          TransportOrder.class,
+          TransportOrder::getWrappingSequence
+      );
+  /**
+   * An index of transport orders by their types.
+   */
+  public static final ObjectIndex<TransportOrder, String> ORDERS_BY_TYPE
+      = new ObjectIndex<>("transportOrdersByType", TransportOrder.class, TransportOrder::getType);
   /**
    * Provides names for transport orders and order sequences.
    */
@@ -76,6 +116,12 @@ public class TransportOrderPoolManager
   ) {
     super(objectRepo, eventHandler);
     this.objectNameProvider = requireNonNull(orderNameProvider, "orderNameProvider");
+
+    objectRepo.addIndex(ORDERS_BY_STATE);
+    objectRepo.addIndex(ORDERS_BY_INTENDED_VEHICLE);
+    objectRepo.addIndex(ORDERS_BY_PROCESSING_VEHICLE);
+    objectRepo.addIndex(ORDERS_BY_WRAPPING_SEQUENCE);
+    objectRepo.addIndex(ORDERS_BY_TYPE);
   }
 
   /**
@@ -2,19 +2,30 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.opentcs.common.SameThreadExecutorService;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.ReroutingType;
+import org.opentcs.kernel.CoalescingDispatchScheduler;
 import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.kernel.VehicleDispatchTrigger;
 import org.opentcs.util.event.EventBus;
@@ -24,9 +35,11 @@ import org.opentcs.util.event.EventBus;
  */
 public class VehicleDispatchTriggerTest {
 
+  private ScheduledExecutorService kernelExecutor;
   private EventBus eventBus;
   private KernelApplicationConfiguration config;
   private DispatcherService dispatcher;
+  private CoalescingDispatchScheduler dispatchScheduler;
 
   private VehicleDispatchTrigger trigger;
 
@@ -36,12 +49,21 @@ public class VehicleDispatchTriggerTest {
     dispatcher = mock(DispatcherService.class);
     config = mock(KernelApplicationConfiguration.class);
     when(config.rerouteOnDriveOrderFinished()).thenReturn(false);
+    when(config.dispatchTriggerMinimumInterval()).thenReturn(0L);
+    // Execute tasks immediately by default.
+    kernelExecutor = mock(ScheduledExecutorService.class);
+    doAnswer(invocation -> {
+      invocation.getArgument(0, Runnable.class).run();
+      return null;
+    }).when(kernelExecutor).execute(any(Runnable.class));
+    dispatchScheduler = new CoalescingDispatchScheduler(kernelExecutor, dispatcher, config);
     trigger = new VehicleDispatchTrigger(
-        new SameThreadExecutorService(),
+        dispatchScheduler,
         eventBus,
         dispatcher,
         config
     );
+    trigger.initialize();
   }
 
   @Test
@@ -61,7 +83,7 @@ public class VehicleDispatchTriggerTest {
         )
     );
 
-    verify(dispatcher).dispatch();
+    verify(dispatcher).dispatch(Set.of(vehicleNew.getReference()));
   }
 
   @Test
@@ -81,7 +103,7 @@ public class VehicleDispatchTriggerTest {
         )
     );
 
-    verify(dispatcher, never()).dispatch();
+    verify(dispatcher, never()).dispatch(any());
   }
 
   @Test
@@ -101,7 +123,7 @@ public class VehicleDispatchTriggerTest {
         )
     );
 
-    verify(dispatcher).dispatch();
+    verify(dispatcher).dispatch(Set.of(vehicleNew.getReference()));
   }
 
   @Test
@@ -119,7 +141,7 @@ public class VehicleDispatchTriggerTest {
         )
     );
 
-    verify(dispatcher).dispatch();
+    verify(dispatcher).dispatch(Set.of(vehicleNew.getReference()));
   }
 
   @Test
@@ -137,7 +159,7 @@ public class VehicleDispatchTriggerTest {
         )
     );
 
-    verify(dispatcher).dispatch();
+    verify(dispatcher).dispatch(Set.of(vehicleNew.getReference()));
   }
 
   @Test
@@ -157,8 +179,54 @@ public class VehicleDispatchTriggerTest {
         )
     );
 
-    verify(dispatcher).dispatch();
+    verify(dispatcher).dispatch(Set.of(vehicleNew.getReference()));
     verify(dispatcher).reroute(vehicleNew.getReference(), ReroutingType.REGULAR);
   }
 
+  @Test
+  void coalesceDispatchRequestsWhileRunPending() {
+    // Collect tasks instead of executing them immediately.
+    List<Runnable> tasks = new ArrayList<>();
+    doAnswer(invocation -> {
+      tasks.add(invocation.getArgument(0, Runnable.class));
+      return null;
+    }).when(kernelExecutor).execute(any(Runnable.class));
+
+    Set<TCSObjectReference<Vehicle>> vehicleRefs = new HashSet<>();
+    for (int i = 0; i < 3; i++) {
+      Vehicle vehicleOld = new Vehicle("someVehicle-" + i)
+          .withIntegrationLevel(Vehicle.IntegrationLevel.TO_BE_UTILIZED)
+          .withProcState(Vehicle.ProcState.IDLE)
+          .withState(Vehicle.State.IDLE)
+          .withEnergyLevel(100);
+      Vehicle vehicleNew = vehicleOld.withEnergyLevel(99);
+      vehicleRefs.add(vehicleNew.getReference());
+
+      trigger.onEvent(
+          new TCSObjectEvent(
+              vehicleNew,
+              vehicleOld,
+              TCSObjectEvent.Type.OBJECT_MODIFIED
+          )
+      );
+    }
+
+    assertThat(tasks.size(), is(1));
+    tasks.forEach(Runnable::run);
+
+    verify(dispatcher, times(1)).dispatch(vehicleRefs);
+    assertThat(dispatchScheduler.getRequestedRuns(), is(3L));
+    assertThat(dispatchScheduler.getExecutedRuns(), is(1L));
+  }
+
+  @Test
+  void ignoreDispatchRequestsWhenNotInitialized() {
+    trigger.terminate();
+
+    dispatchScheduler.requestDispatch(new Vehicle("someVehicle").getReference());
+
+    verify(kernelExecutor, never()).execute(any(Runnable.class));
+    verify(dispatcher, never()).dispatch(any());
+    assertThat(dispatchScheduler.getRequestedRuns(), is(0L));
+  }
 }
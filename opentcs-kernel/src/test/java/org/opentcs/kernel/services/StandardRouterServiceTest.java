@@ -0,0 +1,72 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.services;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.kernel.workingset.PlantModelManager;
+
+/**
+ * Unit tests for {@link StandardRouterService}.
+ */
+class StandardRouterServiceTest {
+
+  private Object globalSyncObject;
+  private Router router;
+  private TCSObjectService objectService;
+  private StandardRouterService routerService;
+
+  @BeforeEach
+  void setUp() {
+    globalSyncObject = new Object();
+    router = mock();
+    objectService = mock();
+    routerService = new StandardRouterService(
+        globalSyncObject,
+        router,
+        mock(PlantModelManager.class),
+        objectService
+    );
+  }
+
+  @Test
+  void computeRoutesWhileHoldingGlobalLock() {
+    Vehicle vehicle = new Vehicle("Vehicle-01");
+    Point sourcePoint = new Point("Point-01");
+    Point destinationPoint = new Point("Point-02");
+    when(objectService.fetchObject(Vehicle.class, vehicle.getReference())).thenReturn(vehicle);
+    when(objectService.fetchObject(Point.class, sourcePoint.getReference()))
+        .thenReturn(sourcePoint);
+    when(objectService.fetchObject(Point.class, destinationPoint.getReference()))
+        .thenReturn(destinationPoint);
+    // The router may construct point routers lazily, which requires the global lock. Since it holds
+    // its own lock while doing so, the global lock has to be acquired first.
+    when(router.getRoutes(any(), any(), any(), any()))
+        .thenAnswer(invocation -> {
+          assertThat(Thread.holdsLock(globalSyncObject), is(true));
+          return Map.of();
+        });
+
+    routerService.computeRoutes(
+        vehicle.getReference(),
+        sourcePoint.getReference(),
+        Set.of(destinationPoint.getReference()),
+        Set.of()
+    );
+
+    verify(router).getRoutes(any(), any(), any(), any());
+  }
+}
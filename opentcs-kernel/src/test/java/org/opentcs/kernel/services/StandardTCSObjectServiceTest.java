@@ -0,0 +1,110 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.services;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.model.VehicleCriteria;
+import org.opentcs.kernel.workingset.PlantModelManager;
+import org.opentcs.kernel.workingset.TCSObjectManager;
+import org.opentcs.kernel.workingset.TCSObjectRepository;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Unit tests for {@link StandardTCSObjectService}.
+ */
+class StandardTCSObjectServiceTest {
+
+  private Object globalSyncObject;
+  private TCSObjectRepository objectRepo;
+  private StandardTCSObjectService objectService;
+
+  @BeforeEach
+  void setUp() {
+    globalSyncObject = new Object();
+    objectRepo = new TCSObjectRepository();
+    objectService = new StandardTCSObjectService(
+        globalSyncObject,
+        new TCSObjectManager(objectRepo, new SimpleEventBus())
+    );
+  }
+
+  @Test
+  void fetchSingleObjectsWhileModificationIsInProgress()
+      throws Exception {
+    Point point1 = new Point("Point-00001");
+    CompletableFuture<Point> fetchedPoint;
+
+    synchronized (globalSyncObject) {
+      objectRepo.addObject(point1);
+      fetchedPoint = CompletableFuture.supplyAsync(
+          () -> objectService.fetchObject(Point.class, "Point-00001")
+      );
+
+      assertThat(fetchedPoint.get(1, TimeUnit.SECONDS), is(point1));
+    }
+  }
+
+  @Test
+  void fetchSetsOfObjectsOnlyAfterModificationIsFinished()
+      throws Exception {
+    Point point1 = new Point("Point-00001");
+    Point point2 = new Point("Point-00002");
+    CompletableFuture<Set<Point>> fetchedPoints;
+
+    synchronized (globalSyncObject) {
+      // Simulate a modification of multiple objects, e.g. loading a plant model.
+      objectRepo.addObject(point1);
+      fetchedPoints = CompletableFuture.supplyAsync(() -> objectService.fetchObjects(Point.class));
+
+      assertThat(isCompletedWithin(fetchedPoints, 200), is(false));
+
+      objectRepo.addObject(point2);
+    }
+
+    assertThat(fetchedPoints.get(1, TimeUnit.SECONDS), containsInAnyOrder(point1, point2));
+  }
+
+  @Test
+  void fetchVehiclesByProcStateUsingIndex() {
+    objectRepo.addIndex(PlantModelManager.VEHICLES_BY_PROC_STATE);
+    Vehicle vehicle1 = new Vehicle("Vehicle-00001").withProcState(Vehicle.ProcState.IDLE);
+    Vehicle vehicle2 = new Vehicle("Vehicle-00002").withProcState(Vehicle.ProcState.AWAITING_ORDER);
+    Vehicle vehicle3 = new Vehicle("Vehicle-00003")
+        .withProcState(Vehicle.ProcState.PROCESSING_ORDER);
+    objectRepo.addObject(vehicle1);
+    objectRepo.addObject(vehicle2);
+    objectRepo.addObject(vehicle3);
+
+    assertThat(
+        objectService.fetchObjects(
+            Vehicle.class,
+            new VehicleCriteria().withProcStates(
+                Set.of(Vehicle.ProcState.IDLE, Vehicle.ProcState.PROCESSING_ORDER)
+            )
+        ),
+        containsInAnyOrder(vehicle1, vehicle3)
+    );
+  }
+
+  private static boolean isCompletedWithin(CompletableFuture<?> future, long timeout)
+      throws Exception {
+    try {
+      future.get(timeout, TimeUnit.MILLISECONDS);
+      return true;
+    }
+    catch (TimeoutException exc) {
+      return false;
+    }
+  }
+}
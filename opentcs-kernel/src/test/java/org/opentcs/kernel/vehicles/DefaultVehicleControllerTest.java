@@ -6,9 +6,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -18,9 +20,15 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.opentcs.DataObjectFactory;
 import org.opentcs.components.kernel.Scheduler;
@@ -45,6 +53,7 @@ import org.opentcs.drivers.vehicle.VehicleCommAdapter;
 import org.opentcs.drivers.vehicle.VehicleCommAdapterEvent;
 import org.opentcs.drivers.vehicle.VehicleDataTransformerFactory;
 import org.opentcs.drivers.vehicle.VehicleProcessModel;
+import org.opentcs.drivers.vehicle.management.ProcessModelEvent;
 import org.opentcs.drivers.vehicle.management.VehicleProcessModelTO;
 import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.kernel.vehicles.transformers.VehicleDataTransformerRegistry;
@@ -114,6 +123,14 @@ class DefaultVehicleControllerTest {
    * A (mocked) peripheral interactor.
    */
   private PeripheralInteractor peripheralInteractor;
+  /**
+   * The kernel application's configuration.
+   */
+  private KernelApplicationConfiguration configuration;
+  /**
+   * The (mocked) kernel executor.
+   */
+  private ScheduledExecutorService kernelExecutor;
   /**
    * The instance we're testing.
    */
@@ -130,6 +147,8 @@ class DefaultVehicleControllerTest {
     vehicleService = mock(InternalVehicleService.class);
     componentsFactory = mock(VehicleControllerComponentsFactory.class);
     peripheralInteractor = mock(PeripheralInteractor.class);
+    configuration = mock(KernelApplicationConfiguration.class);
+    kernelExecutor = mock(ScheduledExecutorService.class);
     dataTransformerFactory = mock(VehicleDataTransformerFactory.class);
     poseTransformer = mock(IncomingPoseTransformer.class);
     movementCommandTransformer = mock(MovementCommandTransformer.class);
@@ -152,6 +171,9 @@ class DefaultVehicleControllerTest {
     doReturn(vehicle).when(vehicleService).fetchObject(Vehicle.class, vehicle.getReference());
     doReturn(vehicle).when(vehicleService).fetchObject(Vehicle.class, vehicle.getName());
 
+    doReturn(mock(ScheduledFuture.class)).when(kernelExecutor)
+        .schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
     doReturn(peripheralInteractor).when(componentsFactory)
         .createPeripheralInteractor(vehicle.getReference());
 
@@ -166,9 +188,10 @@ class DefaultVehicleControllerTest {
         mock(DispatcherService.class),
         scheduler,
         eventBus,
+        kernelExecutor,
         componentsFactory,
         mock(MovementCommandMapper.class),
-        mock(KernelApplicationConfiguration.class),
+        configuration,
         new CommandProcessingTracker(),
         dataTransformerRegistry
     );
@@ -269,6 +292,120 @@ class DefaultVehicleControllerTest {
     assertEquals(eventString, event.getAppendix());
   }
 
+  @Test
+  void shouldRateLimitProcessModelEventsForPoseChanges() {
+    doReturn(60000L).when(configuration).vehiclePoseEventMinimumInterval();
+    final List<ProcessModelEvent> eventsReceived = new ArrayList<>();
+    eventBus.subscribe(event -> {
+      if (event instanceof ProcessModelEvent) {
+        eventsReceived.add((ProcessModelEvent) event);
+      }
+    });
+
+    Pose firstPose = new Pose(new Triple(211, 391, 0), 7.5);
+    Pose secondPose = new Pose(new Triple(212, 392, 0), 8.5);
+    Pose thirdPose = new Pose(new Triple(213, 393, 0), 9.5);
+    vehicleModel.setPose(firstPose);
+    vehicleModel.setPose(secondPose);
+    vehicleModel.setPose(thirdPose);
+    vehicleModel.setEnergyLevel(80);
+
+    assertEquals(2, eventsReceived.size());
+    assertEquals(
+        VehicleProcessModel.Attribute.POSE.name(),
+        eventsReceived.get(0).getAttributeChanged()
+    );
+    assertEquals(
+        VehicleProcessModel.Attribute.ENERGY_LEVEL.name(),
+        eventsReceived.get(1).getAttributeChanged()
+    );
+    // Every pose change is still forwarded to the kernel.
+    verify(vehicleService).updateVehiclePose(vehicle.getReference(), firstPose);
+    verify(vehicleService).updateVehiclePose(vehicle.getReference(), secondPose);
+    verify(vehicleService).updateVehiclePose(vehicle.getReference(), thirdPose);
+  }
+
+  @Test
+  void shouldPublishTrailingProcessModelEventForRateLimitedPoseChanges() {
+    doReturn(60000L).when(configuration).vehiclePoseEventMinimumInterval();
+    final List<ProcessModelEvent> eventsReceived = new ArrayList<>();
+    eventBus.subscribe(event -> {
+      if (event instanceof ProcessModelEvent) {
+        eventsReceived.add((ProcessModelEvent) event);
+      }
+    });
+
+    vehicleModel.setPose(new Pose(new Triple(211, 391, 0), 7.5));
+    vehicleModel.setPose(new Pose(new Triple(212, 392, 0), 8.5));
+    vehicleModel.setPose(new Pose(new Triple(213, 393, 0), 9.5));
+
+    assertEquals(1, eventsReceived.size());
+    // A single event is scheduled for all pose changes within the interval.
+    ArgumentCaptor<Runnable> trailingEvent = ArgumentCaptor.forClass(Runnable.class);
+    verify(kernelExecutor, times(1))
+        .schedule(trailingEvent.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+    trailingEvent.getValue().run();
+
+    assertEquals(2, eventsReceived.size());
+    assertEquals(
+        VehicleProcessModel.Attribute.POSE.name(),
+        eventsReceived.get(1).getAttributeChanged()
+    );
+    assertEquals(vehicleModelTO, eventsReceived.get(1).getUpdatedProcessModel());
+  }
+
+  @Test
+  void shouldPublishProcessModelEventsCarryingOnlyTheChange() {
+    final List<ProcessModelEvent> eventsReceived = new ArrayList<>();
+    eventBus.subscribe(event -> {
+      if (event instanceof ProcessModelEvent) {
+        eventsReceived.add((ProcessModelEvent) event);
+      }
+    });
+
+    vehicleModel.setEnergyLevel(80);
+
+    assertEquals(1, eventsReceived.size());
+    assertEquals(
+        VehicleProcessModel.Attribute.ENERGY_LEVEL.name(),
+        eventsReceived.get(0).getAttributeChanged()
+    );
+    assertEquals(80, eventsReceived.get(0).getNewValue());
+    // The transferable process model is created only when a receiver requests it.
+    verify(commAdapter, never()).createTransferableProcessModel();
+    assertEquals(vehicleModelTO, eventsReceived.get(0).getUpdatedProcessModel());
+    assertEquals(vehicleModelTO, eventsReceived.get(0).getUpdatedProcessModel());
+    verify(commAdapter, times(1)).createTransferableProcessModel();
+  }
+
+  @Test
+  void shouldCreateTransferableProcessModelOnKernelExecutorForOtherThreads()
+      throws Exception {
+    when(kernelExecutor.submit(any(Callable.class)))
+        .thenAnswer(
+            invocation -> CompletableFuture.completedFuture(
+                invocation.getArgument(0, Callable.class).call()
+            )
+        );
+    final List<ProcessModelEvent> eventsReceived = new ArrayList<>();
+    eventBus.subscribe(event -> {
+      if (event instanceof ProcessModelEvent) {
+        eventsReceived.add((ProcessModelEvent) event);
+      }
+    });
+
+    vehicleModel.setEnergyLevel(80);
+
+    // The process model is not thread-safe, so it must not be read on the receiver's thread.
+    assertEquals(
+        vehicleModelTO,
+        CompletableFuture.supplyAsync(() -> eventsReceived.get(0).getUpdatedProcessModel())
+            .get(1, TimeUnit.SECONDS)
+    );
+    verify(kernelExecutor).submit(any(Callable.class));
+  }
+
   // Test cases for implementation of interface VehicleController start here.
   @Test
   void shouldHaveIdempotentEnabledState() {
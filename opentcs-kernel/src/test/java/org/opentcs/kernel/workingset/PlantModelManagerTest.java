@@ -190,4 +190,56 @@ class PlantModelManagerTest {
         hasSize(5)
     );
   }
+
+  @Test
+  void getBlocksContainingResources() {
+    plantModelManager.createPlantModelObjects(
+        new PlantModelCreationTO("some-plant-model")
+            .withPoint(new PointCreationTO("point-in-block-1"))
+            .withPoint(new PointCreationTO("point-in-both-blocks"))
+            .withPoint(new PointCreationTO("point-in-block-2"))
+            .withPoint(new PointCreationTO("point-outside-of-blocks"))
+            .withBlock(
+                new BlockCreationTO("block-1")
+                    .withMemberNames(Set.of("point-in-block-1", "point-in-both-blocks"))
+            )
+            .withBlock(
+                new BlockCreationTO("block-2")
+                    .withMemberNames(Set.of("point-in-block-2", "point-in-both-blocks"))
+            )
+    );
+
+    Point pointInBlock1 = objectRepo.getObject(Point.class, "point-in-block-1");
+    Point pointInBothBlocks = objectRepo.getObject(Point.class, "point-in-both-blocks");
+    Point pointInBlock2 = objectRepo.getObject(Point.class, "point-in-block-2");
+    Point pointOutsideOfBlocks = objectRepo.getObject(Point.class, "point-outside-of-blocks");
+    Block block1 = objectRepo.getObject(Block.class, "block-1");
+    Block block2 = objectRepo.getObject(Block.class, "block-2");
+
+    assertThat(
+        plantModelManager.getBlocksContaining(Set.of(pointInBlock1.getReference())),
+        is(equalTo(Set.of(block1)))
+    );
+    assertThat(
+        plantModelManager.getBlocksContaining(Set.of(pointInBothBlocks.getReference())),
+        is(equalTo(Set.of(block1, block2)))
+    );
+    assertThat(
+        plantModelManager.getBlocksContaining(
+            Set.of(pointInBlock1.getReference(), pointInBlock2.getReference())
+        ),
+        is(equalTo(Set.of(block1, block2)))
+    );
+    assertThat(
+        plantModelManager.getBlocksContaining(Set.of(pointOutsideOfBlocks.getReference())),
+        is(empty())
+    );
+
+    plantModelManager.clear();
+
+    assertThat(
+        plantModelManager.getBlocksContaining(Set.of(pointInBothBlocks.getReference())),
+        is(empty())
+    );
+  }
 }
@@ -6,6 +6,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -24,6 +25,9 @@ import org.opentcs.data.model.Point;
  */
 class TCSObjectRepositoryTest {
 
+  private static final ObjectIndex<Point, Point.Type> POINTS_BY_TYPE
+      = new ObjectIndex<>("pointsByType", Point.class, Point::getType);
+
   private TCSObjectRepository pool;
 
   @BeforeEach
@@ -174,6 +178,23 @@ class TCSObjectRepositoryTest {
     assertThat(paths, is(empty()));
   }
 
+  @Test
+  void returnedObjectsAreNotAffectedBySubsequentModifications() {
+    Point pointV1 = new Point("Point-00001").withType(Point.Type.HALT_POSITION);
+    Point pointV2 = pointV1.withType(Point.Type.PARK_POSITION);
+    Point point2 = new Point("Point-00002");
+
+    pool.addObject(pointV1);
+
+    Set<Point> points = pool.getObjects(Point.class);
+
+    pool.replaceObject(pointV2);
+    pool.addObject(point2);
+
+    assertThat(points, contains(pointV1));
+    assertThat(points.iterator().next().getType(), is(Point.Type.HALT_POSITION));
+  }
+
   @Test
   void replaceObjectWithSameName() {
     Point pointV1 = new Point("some-point").withType(Point.Type.HALT_POSITION);
@@ -228,4 +249,67 @@ class TCSObjectRepositoryTest {
     // Another object with the same name.
     assertThrows(ObjectExistsException.class, () -> pool.addObject(new Point("some-point")));
   }
+
+  @Test
+  void removeObjectByName() {
+    Point point1 = new Point("Point-00001");
+
+    pool.addObject(point1);
+    pool.removeObject(point1.getReference());
+
+    assertThat(pool.getObjectOrNull("Point-00001"), is(nullValue()));
+    // The name should be available again.
+    pool.addObject(new LocationType("Point-00001"));
+    assertThat(pool.getObjectOrNull("Point-00001"), is(instanceOf(LocationType.class)));
+  }
+
+  @Test
+  void returnObjectsByIndex() {
+    Point point1 = new Point("Point-00001").withType(Point.Type.HALT_POSITION);
+    Point point2 = new Point("Point-00002").withType(Point.Type.PARK_POSITION);
+    Point point3 = new Point("Point-00003").withType(Point.Type.HALT_POSITION);
+
+    pool.addObject(point1);
+    pool.addIndex(POINTS_BY_TYPE);
+    pool.addObject(point2);
+    pool.addObject(point3);
+
+    assertThat(
+        pool.getObjects(POINTS_BY_TYPE, Point.Type.HALT_POSITION),
+        containsInAnyOrder(point1, point3)
+    );
+    assertThat(pool.getObjects(POINTS_BY_TYPE, Point.Type.PARK_POSITION), contains(point2));
+  }
+
+  @Test
+  void updateIndexOnReplaceObject() {
+    Point pointV1 = new Point("Point-00001").withType(Point.Type.HALT_POSITION);
+    Point pointV2 = pointV1.withType(Point.Type.PARK_POSITION);
+
+    pool.addIndex(POINTS_BY_TYPE);
+    pool.addObject(pointV1);
+    pool.replaceObject(pointV2);
+
+    assertThat(pool.getObjects(POINTS_BY_TYPE, Point.Type.HALT_POSITION), is(empty()));
+    assertThat(pool.getObjects(POINTS_BY_TYPE, Point.Type.PARK_POSITION), contains(pointV2));
+  }
+
+  @Test
+  void updateIndexOnRemoveObject() {
+    Point point1 = new Point("Point-00001").withType(Point.Type.HALT_POSITION);
+
+    pool.addIndex(POINTS_BY_TYPE);
+    pool.addObject(point1);
+    pool.removeObject(point1.getReference());
+
+    assertThat(pool.getObjects(POINTS_BY_TYPE, Point.Type.HALT_POSITION), is(empty()));
+  }
+
+  @Test
+  void throwOnGetObjectsByUnregisteredIndex() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> pool.getObjects(POINTS_BY_TYPE, Point.Type.HALT_POSITION)
+    );
+  }
 }
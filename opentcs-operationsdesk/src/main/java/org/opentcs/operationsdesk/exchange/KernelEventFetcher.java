@@ -7,6 +7,7 @@ import static org.opentcs.util.Assertions.checkInRange;
 
 import jakarta.inject.Inject;
 import java.util.List;
+import org.opentcs.access.EventBufferOverflowEvent;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.KernelServicePortal;
@@ -203,6 +204,12 @@ public class KernelEventFetcher
             // If the kernel switches to SHUTDOWN, remember to shut down.
             shutDown = stateEvent.getEnteredState() == Kernel.State.SHUTDOWN;
           }
+          else if (event instanceof EventBufferOverflowEvent) {
+            LOG.warn(
+                "Kernel discarded {} events that were not fetched in time.",
+                ((EventBufferOverflowEvent) event).getDiscardedEventCount()
+            );
+          }
         }
       }
       catch (KernelRuntimeException exc) {
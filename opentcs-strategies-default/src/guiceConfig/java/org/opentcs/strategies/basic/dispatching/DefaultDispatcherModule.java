@@ -11,6 +11,7 @@ import org.opentcs.customizations.kernel.KernelInjectionModule;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.ReroutingType;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.AssignmentCandidateCalculator;
 import org.opentcs.strategies.basic.dispatching.phase.parking.DefaultParkingPositionSupplier;
 import org.opentcs.strategies.basic.dispatching.phase.parking.ParkingPositionSupplier;
 import org.opentcs.strategies.basic.dispatching.phase.recharging.DefaultRechargePositionSupplier;
@@ -112,6 +113,8 @@ public class DefaultDispatcherModule
 
     bind(OrderReservationPool.class)
         .in(Singleton.class);
+    bind(AssignmentCandidateCalculator.class)
+        .in(Singleton.class);
 
     bind(ParkingPositionSupplier.class)
         .to(DefaultParkingPositionSupplier.class)
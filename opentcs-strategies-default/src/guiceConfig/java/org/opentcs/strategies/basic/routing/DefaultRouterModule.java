@@ -14,11 +14,14 @@ import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorHops;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorTravelTime;
 import org.opentcs.strategies.basic.routing.edgeevaluator.ExplicitPropertiesConfiguration;
 import org.opentcs.strategies.basic.routing.jgrapht.BellmanFordPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.ContractionHierarchyPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.DijkstraPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.FloydWarshallPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.LandmarkPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.MapperComponentsFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+import org.opentcs.strategies.basic.routing.jgrapht.TablePointRouterFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -81,6 +84,18 @@ public class DefaultRouterModule
         bind(PointRouterFactory.class)
             .to(FloydWarshallPointRouterFactory.class);
         break;
+      case TABLE:
+        bind(PointRouterFactory.class)
+            .to(TablePointRouterFactory.class);
+        break;
+      case LANDMARKS:
+        bind(PointRouterFactory.class)
+            .to(LandmarkPointRouterFactory.class);
+        break;
+      case CONTRACTION_HIERARCHY:
+        bind(PointRouterFactory.class)
+            .to(ContractionHierarchyPointRouterFactory.class);
+        break;
       default:
         LOG.warn(
             "Unhandled algorithm selected ({}), falling back to Dijkstra's algorithm.",
@@ -8,6 +8,7 @@ import static java.util.Objects.requireNonNull;
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -16,9 +17,11 @@ import org.opentcs.components.kernel.dipatching.TransportOrderAssignmentExceptio
 import org.opentcs.components.kernel.dipatching.TransportOrderAssignmentVeto;
 import org.opentcs.components.kernel.services.InternalVehicleService;
 import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.ReroutingType;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.AssignmentCandidateCalculator;
 import org.opentcs.strategies.basic.dispatching.phase.assignment.OrderAssigner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,6 +64,8 @@ public class DefaultDispatcher
 
   private final OrderAssigner orderAssigner;
 
+  private final AssignmentCandidateCalculator candidateCalculator;
+
   private final TransportOrderAssignmentChecker transportOrderAssignmentChecker;
 
   private ScheduledFuture<?> periodicDispatchTaskFuture;
@@ -81,6 +86,7 @@ public class DefaultDispatcher
    * @param configuration The dispatcher configuration.
    * @param rerouteUtil The reroute util.
    * @param orderAssigner Handles assignments of transport orders to vehicles.
+   * @param candidateCalculator Computes assignment candidates.
    * @param transportOrderAssignmentChecker Checks whether the assignment of transport orders to
    * vehicles is possible.
    */
@@ -96,6 +102,7 @@ public class DefaultDispatcher
       DefaultDispatcherConfiguration configuration,
       RerouteUtil rerouteUtil,
       OrderAssigner orderAssigner,
+      AssignmentCandidateCalculator candidateCalculator,
       TransportOrderAssignmentChecker transportOrderAssignmentChecker
   ) {
     this.orderReservationPool = requireNonNull(orderReservationPool, "orderReservationPool");
@@ -110,6 +117,7 @@ public class DefaultDispatcher
     this.configuration = requireNonNull(configuration, "configuration");
     this.rerouteUtil = requireNonNull(rerouteUtil, "rerouteUtil");
     this.orderAssigner = requireNonNull(orderAssigner, "orderAssigner");
+    this.candidateCalculator = requireNonNull(candidateCalculator, "candidateCalculator");
     this.transportOrderAssignmentChecker = requireNonNull(
         transportOrderAssignmentChecker,
         "transportOrderAssignmentChecker"
@@ -126,6 +134,7 @@ public class DefaultDispatcher
 
     transportOrderUtil.initialize();
     orderReservationPool.clear();
+    candidateCalculator.initialize();
 
     fullDispatchTask.initialize();
 
@@ -155,6 +164,7 @@ public class DefaultDispatcher
     periodicDispatchTaskFuture = null;
 
     fullDispatchTask.terminate();
+    candidateCalculator.terminate();
 
     initialized = false;
   }
@@ -170,6 +180,19 @@ public class DefaultDispatcher
     fullDispatchTask.run();
   }
 
+  @Override
+  public void dispatch(Set<TCSObjectReference<Vehicle>> vehicles) {
+    requireNonNull(vehicles, "vehicles");
+
+    if (!configuration.vehicleScopedDispatching()) {
+      dispatch();
+      return;
+    }
+
+    LOG.debug("Executing dispatch task for {}...", vehicles);
+    fullDispatchTask.run(vehicles);
+  }
+
   @Override
   public void withdrawOrder(TransportOrder order, boolean immediateAbort) {
     requireNonNull(order, "order");
@@ -79,6 +79,45 @@ public interface DefaultDispatcherConfiguration {
   )
   long deadlineAtRiskPeriod();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The number of threads used for computing assignment candidates (i.e. routes of "
+              + "vehicles for transport orders) in parallel.",
+          "If 1, candidates are computed sequentially on the kernel executor."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_assign_special_1"
+  )
+  int candidateComputationParallelism();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+          "The strategy used for assigning free transport orders to vehicles.",
+          "Possible values:",
+          "GREEDY: Assign orders one by one, picking the best candidate for each vehicle/order "
+              + "according to the configured priorities.",
+          "MIN_COST_MATCHING: Assign orders to vehicles such that the sum of the vehicles' "
+              + "routing costs is minimal."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "0_assign_special_2"
+  )
+  OrderAssignmentStrategy orderAssignmentStrategy();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum time (in ms) to spend on computing a min-cost matching, including the "
+              + "computation of assignment candidates.",
+          "If exceeded, orders are assigned greedily instead."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "0_assign_special_3"
+  )
+  long minCostMatchingTimeBudget();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether orders to the current position with no operation should be assigned.",
@@ -161,6 +200,33 @@ public interface DefaultDispatcherConfiguration {
   )
   long idleVehicleRedispatchingInterval();
 
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether dispatch runs triggered for specific vehicles (e.g. because their states "
+              + "changed) should only consider these vehicles instead of all vehicles.",
+          "Full dispatch runs are still performed periodically and when explicitly requested."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "9_misc_1"
+  )
+  boolean vehicleScopedDispatching();
+
+  /**
+   * The available strategies for assigning free transport orders to vehicles.
+   */
+  enum OrderAssignmentStrategy {
+    /**
+     * Assign orders one by one, picking the best candidate for each vehicle/order according to the
+     * configured priorities.
+     */
+    GREEDY,
+    /**
+     * Assign orders to vehicles such that the sum of the vehicles' routing costs is minimal.
+     */
+    MIN_COST_MATCHING;
+  }
+
   /**
    * The available strategies for situations in which rerouting is not possible.
    */
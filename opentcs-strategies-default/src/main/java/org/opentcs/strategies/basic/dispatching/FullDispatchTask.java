@@ -4,8 +4,12 @@ package org.opentcs.strategies.basic.dispatching;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
+import java.util.Set;
 import org.opentcs.components.Lifecycle;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.dispatching.phase.AssignReservedOrdersPhase;
 import org.opentcs.strategies.basic.dispatching.phase.AssignSequenceSuccessorsPhase;
 import org.opentcs.strategies.basic.dispatching.phase.CheckNewOrdersPhase;
@@ -149,6 +153,36 @@ public class FullDispatchTask
     LOG.debug("Finished full dispatch run.");
   }
 
+  /**
+   * Performs a dispatch run considering only the given vehicles.
+   * <p>
+   * Phases that are not concerned with specific vehicles (i.e. checking new transport orders) are
+   * run as in a full dispatch run.
+   * </p>
+   *
+   * @param vehicles The vehicles to be considered.
+   */
+  public final void run(
+      @Nonnull
+      Set<TCSObjectReference<Vehicle>> vehicles
+  ) {
+    requireNonNull(vehicles, "vehicles");
+
+    LOG.debug("Starting dispatch run for {}...", vehicles);
+
+    checkNewOrdersPhase.run();
+    // Check what vehicles involved in a process should do.
+    finishWithdrawalsPhase.run(vehicles);
+    assignNextDriveOrdersPhase.run(vehicles);
+    assignSequenceSuccessorsPhase.run(vehicles);
+    // Check what vehicles not already in a process should do.
+    assignOrders(vehicles);
+    rechargeVehicles(vehicles);
+    parkVehicles(vehicles);
+
+    LOG.debug("Finished dispatch run for {}.", vehicles);
+  }
+
   /**
    * Assignment of orders to vehicles.
    * <p>
@@ -160,6 +194,19 @@ public class FullDispatchTask
     assignFreeOrdersPhase.run();
   }
 
+  /**
+   * Assignment of orders to the given vehicles.
+   * <p>
+   * Default: Assigns reserved and then free orders to the given vehicles.
+   * </p>
+   *
+   * @param vehicles The vehicles to be considered.
+   */
+  protected void assignOrders(Set<TCSObjectReference<Vehicle>> vehicles) {
+    assignReservedOrdersPhase.run(vehicles);
+    assignFreeOrdersPhase.run(vehicles);
+  }
+
   /**
    * Recharging of vehicles.
    * <p>
@@ -170,6 +217,19 @@ public class FullDispatchTask
     rechargeIdleVehiclesPhase.run();
   }
 
+  /**
+   * Recharging of the given vehicles.
+   * <p>
+   * Default: Sends the given vehicles to recharge locations if they are idle and have a degraded
+   * energy level.
+   * </p>
+   *
+   * @param vehicles The vehicles to be considered.
+   */
+  protected void rechargeVehicles(Set<TCSObjectReference<Vehicle>> vehicles) {
+    rechargeIdleVehiclesPhase.run(vehicles);
+  }
+
   /**
    * Parking of vehicles.
    * <p>
@@ -181,4 +241,18 @@ public class FullDispatchTask
     prioritizedParkingPhase.run();
     parkIdleVehiclesPhase.run();
   }
+
+  /**
+   * Parking of the given vehicles.
+   * <p>
+   * Default: Sends the given vehicles to parking positions if they are idle.
+   * </p>
+   *
+   * @param vehicles The vehicles to be considered.
+   */
+  protected void parkVehicles(Set<TCSObjectReference<Vehicle>> vehicles) {
+    prioritizedReparkPhase.run(vehicles);
+    prioritizedParkingPhase.run(vehicles);
+    parkIdleVehiclesPhase.run(vehicles);
+  }
 }
@@ -5,9 +5,11 @@ package org.opentcs.strategies.basic.dispatching;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.Set;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.model.VehicleCriteria;
 import org.opentcs.data.order.TransportOrder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +29,13 @@ public class PeriodicVehicleRedispatchingTask
    * This class's Logger.
    */
   private static final Logger LOG = LoggerFactory.getLogger(PeriodicVehicleRedispatchingTask.class);
+  /**
+   * Selects vehicles in processing states that allow them to process a (new) transport order.
+   */
+  private static final VehicleCriteria VEHICLES_IDLE_OR_PROCESSING_ORDER
+      = new VehicleCriteria().withProcStates(
+          Set.of(Vehicle.ProcState.IDLE, Vehicle.ProcState.PROCESSING_ORDER)
+      );
 
   private final DispatcherService dispatcherService;
 
@@ -51,7 +60,8 @@ public class PeriodicVehicleRedispatchingTask
   public void run() {
     // If there are any vehicles that could process a transport order,
     // trigger the dispatcher once.
-    objectService.fetchObjects(Vehicle.class, this::couldProcessTransportOrder).stream()
+    objectService.fetchObjects(Vehicle.class, VEHICLES_IDLE_OR_PROCESSING_ORDER).stream()
+        .filter(this::couldProcessTransportOrder)
         .findAny()
         .ifPresent(vehicle -> {
           LOG.debug("Vehicle {} could process transport order, triggering dispatcher ...", vehicle);
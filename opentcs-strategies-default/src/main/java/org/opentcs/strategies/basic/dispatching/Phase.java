@@ -2,7 +2,14 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.dispatching;
 
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.Set;
+import java.util.function.Predicate;
 import org.opentcs.components.Lifecycle;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
 
 /**
  * Describes a reusable dispatching (sub-)task with a life cycle.
@@ -12,4 +19,37 @@ public interface Phase
       Runnable,
       Lifecycle {
 
+  /**
+   * Runs this phase, considering only the given vehicles.
+   * <p>
+   * Default: Runs this phase for the vehicles accepted by a filter matching the given vehicles (see
+   * {@link #run(Predicate)}).
+   * </p>
+   *
+   * @param vehicles The vehicles to be considered.
+   */
+  default void run(
+      @Nonnull
+      Set<TCSObjectReference<Vehicle>> vehicles
+  ) {
+    requireNonNull(vehicles, "vehicles");
+
+    run(vehicle -> vehicles.contains(vehicle.getReference()));
+  }
+
+  /**
+   * Runs this phase, considering only the vehicles accepted by the given filter.
+   * <p>
+   * Default: Runs this phase for all vehicles (see {@link #run()}). Phases concerned with specific
+   * vehicles should override this method to consider only the vehicles accepted by the filter.
+   * </p>
+   *
+   * @param vehicleFilter The filter the vehicles to be considered must pass.
+   */
+  default void run(
+      @Nonnull
+      Predicate<Vehicle> vehicleFilter
+  ) {
+    run();
+  }
 }
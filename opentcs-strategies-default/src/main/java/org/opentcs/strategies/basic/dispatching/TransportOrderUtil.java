@@ -9,6 +9,7 @@ import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
@@ -19,6 +20,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.order.TransportOrderCriteria;
 import org.opentcs.drivers.vehicle.VehicleController;
 import org.opentcs.drivers.vehicle.VehicleControllerPool;
 import org.slf4j.Logger;
@@ -35,6 +37,11 @@ public class TransportOrderUtil
    * This class's logger.
    */
   private static final Logger LOG = LoggerFactory.getLogger(TransportOrderUtil.class);
+  /**
+   * Selects transport orders in state {@link TransportOrder.State#ACTIVE}.
+   */
+  private static final TransportOrderCriteria ACTIVE_ORDERS
+      = new TransportOrderCriteria().withStates(Set.of(TransportOrder.State.ACTIVE));
   /**
    * The transport order service.
    */
@@ -146,8 +153,7 @@ public class TransportOrderUtil
    * marking them as DISPATCHABLE.
    */
   public void markNewDispatchableOrders() {
-    transportOrderService.fetchObjects(TransportOrder.class).stream()
-        .filter(order -> order.hasState(TransportOrder.State.ACTIVE))
+    transportOrderService.fetchObjects(TransportOrder.class, ACTIVE_ORDERS).stream()
         .filter(order -> !hasUnfinishedDependencies(order))
         .forEach(
             order -> updateTransportOrderState(
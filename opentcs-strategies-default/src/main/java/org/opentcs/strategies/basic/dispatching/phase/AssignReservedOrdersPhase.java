@@ -4,9 +4,11 @@ package org.opentcs.strategies.basic.dispatching.phase;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Point;
@@ -90,7 +92,17 @@ public class AssignReservedOrdersPhase
 
   @Override
   public void run() {
-    for (Vehicle vehicle : objectService.fetchObjects(Vehicle.class)) {
+    run(vehicle -> true);
+  }
+
+  @Override
+  public void run(
+      @Nonnull
+      Predicate<Vehicle> vehicleFilter
+  ) {
+    requireNonNull(vehicleFilter, "vehicleFilter");
+
+    for (Vehicle vehicle : objectService.fetchObjects(Vehicle.class, vehicleFilter)) {
       if (availableForReservedOrders(vehicle)) {
         checkForReservedOrder(vehicle);
       }
@@ -4,12 +4,16 @@ package org.opentcs.strategies.basic.dispatching.phase;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.model.VehicleCriteria;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
@@ -24,6 +28,11 @@ public class AssignSequenceSuccessorsPhase
     implements
       Phase {
 
+  /**
+   * Selects vehicles in processing state {@link Vehicle.ProcState#IDLE}.
+   */
+  private static final VehicleCriteria IDLE_VEHICLES
+      = new VehicleCriteria().withProcStates(Set.of(Vehicle.ProcState.IDLE));
   /**
    * The object service
    */
@@ -82,12 +91,19 @@ public class AssignSequenceSuccessorsPhase
 
   @Override
   public void run() {
-    for (Vehicle vehicle : objectService.fetchObjects(
-        Vehicle.class,
-        this::readyForNextInSequence
-    )) {
-      tryAssignNextOrderInSequence(vehicle);
-    }
+    run(vehicle -> true);
+  }
+
+  @Override
+  public void run(
+      @Nonnull
+      Predicate<Vehicle> vehicleFilter
+  ) {
+    requireNonNull(vehicleFilter, "vehicleFilter");
+
+    objectService.fetchObjects(Vehicle.class, IDLE_VEHICLES).stream()
+        .filter(vehicleFilter.and(this::readyForNextInSequence))
+        .forEach(vehicle -> tryAssignNextOrderInSequence(vehicle));
   }
 
   private void tryAssignNextOrderInSequence(Vehicle vehicle) {
@@ -5,9 +5,11 @@ package org.opentcs.strategies.basic.dispatching.phase;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.Set;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.order.TransportOrderCriteria;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
@@ -20,6 +22,11 @@ public class CheckNewOrdersPhase
     implements
       Phase {
 
+  /**
+   * Selects transport orders in state {@link TransportOrder.State#RAW}.
+   */
+  private static final TransportOrderCriteria RAW_ORDERS
+      = new TransportOrderCriteria().withStates(Set.of(TransportOrder.State.RAW));
   /**
    * The object service
    */
@@ -74,7 +81,7 @@ public class CheckNewOrdersPhase
 
   @Override
   public void run() {
-    objectService.fetchObjects(TransportOrder.class, this::inRawState).stream()
+    objectService.fetchObjects(TransportOrder.class, RAW_ORDERS).stream()
         .forEach(order -> checkRawTransportOrder(order));
   }
 
@@ -103,8 +110,4 @@ public class CheckNewOrdersPhase
       );
     }
   }
-
-  private boolean inRawState(TransportOrder order) {
-    return order.hasState(TransportOrder.State.RAW);
-  }
 }
@@ -4,9 +4,13 @@ package org.opentcs.strategies.basic.dispatching.phase;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
+import java.util.Set;
+import java.util.function.Predicate;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.model.VehicleCriteria;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
@@ -18,6 +22,11 @@ public class FinishWithdrawalsPhase
     implements
       Phase {
 
+  /**
+   * Selects vehicles in processing state {@link Vehicle.ProcState#AWAITING_ORDER}.
+   */
+  private static final VehicleCriteria VEHICLES_AWAITING_ORDER
+      = new VehicleCriteria().withProcStates(Set.of(Vehicle.ProcState.AWAITING_ORDER));
   /**
    * The object service
    */
@@ -60,8 +69,18 @@ public class FinishWithdrawalsPhase
 
   @Override
   public void run() {
-    objectService.fetchObjects(Vehicle.class).stream()
-        .filter(vehicle -> vehicle.hasProcState(Vehicle.ProcState.AWAITING_ORDER))
+    run(vehicle -> true);
+  }
+
+  @Override
+  public void run(
+      @Nonnull
+      Predicate<Vehicle> vehicleFilter
+  ) {
+    requireNonNull(vehicleFilter, "vehicleFilter");
+
+    objectService.fetchObjects(Vehicle.class, VEHICLES_AWAITING_ORDER).stream()
+        .filter(vehicleFilter)
         .filter(vehicle -> hasWithdrawnTransportOrder(vehicle))
         .forEach(vehicle -> transportOrderUtil.finishAbortion(vehicle));
   }
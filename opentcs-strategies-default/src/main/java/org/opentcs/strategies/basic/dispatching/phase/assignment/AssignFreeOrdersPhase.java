@@ -4,14 +4,18 @@ package org.opentcs.strategies.basic.dispatching.phase.assignment;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.order.TransportOrderCriteria;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.phase.OrderFilterResult;
 import org.opentcs.strategies.basic.dispatching.phase.VehicleFilterResult;
@@ -34,6 +38,11 @@ public class AssignFreeOrdersPhase
    * This class's Logger.
    */
   private static final Logger LOG = LoggerFactory.getLogger(AssignFreeOrdersPhase.class);
+  /**
+   * Selects transport orders in state {@link TransportOrder.State#DISPATCHABLE}.
+   */
+  private static final TransportOrderCriteria DISPATCHABLE_ORDERS
+      = new TransportOrderCriteria().withStates(Set.of(TransportOrder.State.DISPATCHABLE));
   /**
    * The object service.
    */
@@ -114,8 +123,18 @@ public class AssignFreeOrdersPhase
 
   @Override
   public void run() {
+    run(vehicle -> true);
+  }
+
+  @Override
+  public void run(
+      @Nonnull
+      Predicate<Vehicle> vehicleFilter
+  ) {
+    requireNonNull(vehicleFilter, "vehicleFilter");
+
     Map<Boolean, List<VehicleFilterResult>> vehiclesSplitByFilter
-        = objectService.fetchObjects(Vehicle.class, isAvailableForAnyOrder)
+        = objectService.fetchObjects(Vehicle.class, vehicleFilter.and(isAvailableForAnyOrder))
             .stream()
             .map(vehicle -> new VehicleFilterResult(vehicle, vehicleSelectionFilter.apply(vehicle)))
             .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
@@ -132,8 +151,9 @@ public class AssignFreeOrdersPhase
     // Select only dispatchable orders first, then apply the composite filter, handle
     // the orders that can be tried as usual and mark the others as filtered (if they aren't, yet).
     Map<Boolean, List<OrderFilterResult>> ordersSplitByFilter
-        = objectService.fetchObjects(TransportOrder.class, isFreelyDispatchableToAnyVehicle)
+        = objectService.fetchObjects(TransportOrder.class, DISPATCHABLE_ORDERS)
             .stream()
+            .filter(isFreelyDispatchableToAnyVehicle)
             .map(order -> new OrderFilterResult(order, transportOrderSelectionFilter.apply(order)))
             .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
 
@@ -4,11 +4,15 @@ package org.opentcs.strategies.basic.dispatching.phase.assignment;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
+import java.util.Set;
+import java.util.function.Predicate;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.components.kernel.services.InternalVehicleService;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.model.VehicleCriteria;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.drivers.vehicle.VehicleControllerPool;
 import org.opentcs.strategies.basic.dispatching.Phase;
@@ -28,6 +32,11 @@ public class AssignNextDriveOrdersPhase
    * This class's Logger.
    */
   private static final Logger LOG = LoggerFactory.getLogger(AssignNextDriveOrdersPhase.class);
+  /**
+   * Selects vehicles in processing state {@link Vehicle.ProcState#AWAITING_ORDER}.
+   */
+  private static final VehicleCriteria VEHICLES_AWAITING_ORDER
+      = new VehicleCriteria().withProcStates(Set.of(Vehicle.ProcState.AWAITING_ORDER));
   private final InternalTransportOrderService transportOrderService;
   private final InternalVehicleService vehicleService;
   /**
@@ -82,8 +91,18 @@ public class AssignNextDriveOrdersPhase
 
   @Override
   public void run() {
-    transportOrderService.fetchObjects(Vehicle.class).stream()
-        .filter(vehicle -> vehicle.hasProcState(Vehicle.ProcState.AWAITING_ORDER))
+    run(vehicle -> true);
+  }
+
+  @Override
+  public void run(
+      @Nonnull
+      Predicate<Vehicle> vehicleFilter
+  ) {
+    requireNonNull(vehicleFilter, "vehicleFilter");
+
+    transportOrderService.fetchObjects(Vehicle.class, VEHICLES_AWAITING_ORDER).stream()
+        .filter(vehicleFilter)
         .forEach(vehicle -> checkForNextDriveOrder(vehicle));
   }
 
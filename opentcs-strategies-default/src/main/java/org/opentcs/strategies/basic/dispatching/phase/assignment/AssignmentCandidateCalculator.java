@@ -0,0 +1,233 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes assignment candidates, i.e. the routes of vehicles for processing transport orders.
+ * <p>
+ * Depending on {@link DefaultDispatcherConfiguration#candidateComputationParallelism()},
+ * candidates are either computed sequentially on the calling thread or in parallel using a
+ * dedicated thread pool. In both cases, the order of the returned candidates corresponds to the
+ * order of the given vehicles/transport orders, so that assignment decisions based on them do not
+ * depend on the order in which the candidates' computations finished.
+ * </p>
+ * <p>
+ * Note that computing candidates in parallel requires the router (including any custom edge
+ * evaluators) to support concurrent route computations. Since the calling thread usually holds the
+ * kernel's global lock while waiting for the candidates, the threads computing them must not
+ * require that lock. The vehicles' positions are therefore fetched on the calling thread, and the
+ * router is prepared for computing routes for the vehicles (see
+ * {@link Router#prepareRouteComputation(Collection)}) before the computations are distributed.
+ * </p>
+ */
+public class AssignmentCandidateCalculator
+    implements
+      Lifecycle {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(AssignmentCandidateCalculator.class);
+  /**
+   * The object service.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * The router computing the routes.
+   */
+  private final Router router;
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
+  /**
+   * The pool computing candidates in parallel, or {@code null}, if candidates are computed
+   * sequentially.
+   */
+  private ForkJoinPool pool;
+  /**
+   * Indicates whether this component is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service.
+   * @param router The router computing the routes.
+   * @param configuration The dispatcher configuration.
+   */
+  @Inject
+  public AssignmentCandidateCalculator(
+      TCSObjectService objectService,
+      Router router,
+      DefaultDispatcherConfiguration configuration
+  ) {
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.router = requireNonNull(router, "router");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    int parallelism = configuration.candidateComputationParallelism();
+    if (parallelism > 1) {
+      LOG.debug("Computing assignment candidates using {} threads.", parallelism);
+      pool = new ForkJoinPool(parallelism);
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    if (pool != null) {
+      pool.shutdown();
+      pool = null;
+    }
+
+    initialized = false;
+  }
+
+  /**
+   * Computes the candidates for assigning the given transport orders to the given vehicle.
+   *
+   * @param vehicle The vehicle.
+   * @param orders The transport orders.
+   * @return The candidates for all transport orders the vehicle can be routed for, in the order of
+   * the given transport orders.
+   */
+  @Nonnull
+  public List<AssignmentCandidate> computeCandidates(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Collection<TransportOrder> orders
+  ) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(orders, "orders");
+
+    Point vehiclePosition = objectService.fetchObject(Point.class, vehicle.getCurrentPosition());
+    return compute(
+        List.of(vehicle),
+        orders,
+        order -> computeCandidate(vehicle, vehiclePosition, order)
+    );
+  }
+
+  /**
+   * Computes the candidates for assigning the given transport order to the given vehicles.
+   *
+   * @param vehicles The vehicles.
+   * @param order The transport order.
+   * @return The candidates for all vehicles that can be routed for the transport order, in the
+   * order of the given vehicles.
+   */
+  @Nonnull
+  public List<AssignmentCandidate> computeCandidates(
+      @Nonnull
+      Collection<Vehicle> vehicles,
+      @Nonnull
+      TransportOrder order
+  ) {
+    requireNonNull(vehicles, "vehicles");
+    requireNonNull(order, "order");
+
+    Map<Vehicle, Point> vehiclePositions = new LinkedHashMap<>();
+    for (Vehicle vehicle : vehicles) {
+      vehiclePositions.put(
+          vehicle,
+          objectService.fetchObject(Point.class, vehicle.getCurrentPosition())
+      );
+    }
+    return compute(
+        vehicles,
+        vehiclePositions.entrySet(),
+        entry -> computeCandidate(entry.getKey(), entry.getValue(), order)
+    );
+  }
+
+  /**
+   * Computes the candidate for assigning the given transport order to the given vehicle.
+   *
+   * @param vehicle The vehicle.
+   * @param vehiclePosition The vehicle's current position.
+   * @param order The transport order.
+   * @return The candidate, or an empty optional, if the vehicle cannot be routed for the order.
+   */
+  @Nonnull
+  public Optional<AssignmentCandidate> computeCandidate(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Point vehiclePosition,
+      @Nonnull
+      TransportOrder order
+  ) {
+    return router.getRoute(vehicle, vehiclePosition, order)
+        .map(driveOrders -> new AssignmentCandidate(vehicle, order, driveOrders));
+  }
+
+  private <T> List<AssignmentCandidate> compute(
+      Collection<Vehicle> vehicles,
+      Collection<T> items,
+      Function<T, Optional<AssignmentCandidate>> candidateFunction
+  ) {
+    if (pool == null || items.size() < 2) {
+      return toCandidates(items.stream(), candidateFunction);
+    }
+
+    // Let the router construct anything it would otherwise construct lazily (and possibly require
+    // the global lock for) while computing the routes, as long as we are on the calling thread.
+    router.prepareRouteComputation(vehicles);
+
+    // Parallel streams run on the pool of the task that creates them. The resulting list retains
+    // the encounter order of the given items.
+    return pool.submit(() -> toCandidates(items.parallelStream(), candidateFunction)).join();
+  }
+
+  private <T> List<AssignmentCandidate> toCandidates(
+      Stream<T> items,
+      Function<T, Optional<AssignmentCandidate>> candidateFunction
+  ) {
+    return items.map(candidateFunction)
+        .flatMap(Optional::stream)
+        .toList();
+  }
+}
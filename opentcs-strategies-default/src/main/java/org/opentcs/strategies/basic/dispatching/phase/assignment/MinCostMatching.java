@@ -0,0 +1,240 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Computes minimum-cost matchings in complete bipartite graphs given by a cost matrix, using the
+ * Hungarian method.
+ * <p>
+ * Entries of the cost matrix may be {@link #INFEASIBLE} to indicate that the respective row and
+ * column must not be matched. Matchings maximize the number of feasible pairs first and minimize
+ * their costs second.
+ * </p>
+ * <p>
+ * To rule out arithmetic overflows, costs exceeding a limit depending on the size of the cost
+ * matrix (see {@link #costLimit(int)}) are treated as if they were equal to that limit.
+ * </p>
+ */
+public class MinCostMatching {
+
+  /**
+   * Marks a pair of row and column that must not be matched.
+   */
+  public static final long INFEASIBLE = -1;
+  /**
+   * Indicates that a row has not been matched with any column.
+   */
+  public static final int UNMATCHED = -1;
+  /**
+   * The point of time (as per {@link System#nanoTime()}) after which the computation is aborted.
+   */
+  private final long deadline;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param timeBudget The maximum time (in ns) that may pass between the creation of this instance
+   * and the end of a computation. This allows the time budget to also cover the preparation of the
+   * cost matrix.
+   */
+  public MinCostMatching(long timeBudget) {
+    checkArgument(timeBudget >= 0, "timeBudget < 0");
+    this.deadline = System.nanoTime() + timeBudget;
+  }
+
+  /**
+   * Checks whether this instance's time budget is exceeded.
+   *
+   * @return {@code true} if, and only if, this instance's time budget is exceeded.
+   */
+  public boolean isTimeBudgetExceeded() {
+    return System.nanoTime() - deadline >= 0;
+  }
+
+  /**
+   * Computes a minimum-cost matching for the given cost matrix.
+   *
+   * @param costs The cost matrix, with {@code costs[row][column]} being the non-negative costs for
+   * matching the given row and column, or {@link #INFEASIBLE}. All rows must have the same length.
+   * @return For every row, the index of the column it is matched with, or {@link #UNMATCHED}.
+   * An empty optional, if the time budget was exceeded.
+   */
+  @Nonnull
+  public Optional<int[]> compute(
+      @Nonnull
+      long[][] costs
+  ) {
+    requireNonNull(costs, "costs");
+
+    int rowCount = costs.length;
+    int columnCount = rowCount == 0 ? 0 : costs[0].length;
+    if (rowCount == 0 || columnCount == 0) {
+      int[] result = new int[rowCount];
+      Arrays.fill(result, UNMATCHED);
+      return Optional.of(result);
+    }
+
+    long[][] effectiveCosts = toEffectiveCosts(costs, rowCount, columnCount);
+    if (rowCount <= columnCount) {
+      return solve(effectiveCosts, rowCount, columnCount)
+          .map(rowMatches -> dropInfeasible(costs, rowMatches));
+    }
+
+    // The algorithm requires at most as many rows as columns, so solve the transposed problem.
+    long[][] transposed = new long[columnCount][rowCount];
+    for (int row = 0; row < rowCount; row++) {
+      for (int column = 0; column < columnCount; column++) {
+        transposed[column][row] = effectiveCosts[row][column];
+      }
+    }
+    return solve(transposed, columnCount, rowCount)
+        .map(columnMatches -> {
+          int[] rowMatches = new int[rowCount];
+          Arrays.fill(rowMatches, UNMATCHED);
+          for (int column = 0; column < columnCount; column++) {
+            rowMatches[columnMatches[column]] = column;
+          }
+          return dropInfeasible(costs, rowMatches);
+        });
+  }
+
+  /**
+   * Replaces infeasible entries with costs higher than those of any matching consisting of feasible
+   * pairs only, so that minimizing costs maximizes the number of feasible pairs first.
+   * Feasible entries are capped at the cost limit for the given matrix size.
+   */
+  private long[][] toEffectiveCosts(long[][] costs, int rowCount, int columnCount) {
+    int pairCount = Math.min(rowCount, columnCount);
+    long costLimit = costLimit(pairCount);
+    long maxCosts = 0;
+    for (long[] rowCosts : costs) {
+      checkArgument(rowCosts.length == columnCount, "Rows have different lengths");
+      for (long cost : rowCosts) {
+        checkArgument(cost >= 0 || cost == INFEASIBLE, "Invalid costs: %s", cost);
+        maxCosts = Math.max(maxCosts, Math.min(cost, costLimit));
+      }
+    }
+    long infeasibleCosts = (maxCosts + 1) * (pairCount + 1);
+
+    long[][] result = new long[rowCount][];
+    for (int row = 0; row < rowCount; row++) {
+      result[row] = new long[columnCount];
+      for (int column = 0; column < columnCount; column++) {
+        long cost = costs[row][column];
+        result[row][column] = cost == INFEASIBLE ? infeasibleCosts : Math.min(cost, costLimit);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the maximum costs of a single pair for which no arithmetic overflow can occur.
+   * <p>
+   * The costs of infeasible pairs are {@code pairCount + 1} times the maximum costs of feasible
+   * pairs, and the potentials and slack values used by the algorithm are sums of at most
+   * {@code 2 * (pairCount + 1)} of such costs. Limiting the costs of feasible pairs accordingly
+   * (with some additional headroom) keeps all of these values within the range of {@code long}.
+   * </p>
+   *
+   * @param pairCount The maximum number of pairs in a matching.
+   * @return The maximum costs of a single pair.
+   */
+  static long costLimit(int pairCount) {
+    long factor = pairCount + 2L;
+    return Long.MAX_VALUE / factor / factor / 4 - 1;
+  }
+
+  /**
+   * Solves the assignment problem for the given costs, with at most as many rows as columns.
+   * <p>
+   * This is the O(rows² * columns) variant of the Hungarian method using row and column potentials
+   * and shortest augmenting paths.
+   * </p>
+   */
+  private Optional<int[]> solve(long[][] costs, int rowCount, int columnCount) {
+    // Arrays are 1-based; index 0 of the column arrays is a virtual column used as the starting
+    // point of augmenting paths.
+    long[] rowPotentials = new long[rowCount + 1];
+    long[] columnPotentials = new long[columnCount + 1];
+    int[] rowOfColumn = new int[columnCount + 1];
+    int[] previousColumn = new int[columnCount + 1];
+    long[] minSlack = new long[columnCount + 1];
+    boolean[] visited = new boolean[columnCount + 1];
+
+    for (int row = 1; row <= rowCount; row++) {
+      if (isTimeBudgetExceeded()) {
+        return Optional.empty();
+      }
+
+      rowOfColumn[0] = row;
+      int currentColumn = 0;
+      Arrays.fill(minSlack, Long.MAX_VALUE);
+      Arrays.fill(visited, false);
+      do {
+        visited[currentColumn] = true;
+        int currentRow = rowOfColumn[currentColumn];
+        long delta = Long.MAX_VALUE;
+        int nextColumn = 0;
+        for (int column = 1; column <= columnCount; column++) {
+          if (!visited[column]) {
+            long slack = costs[currentRow - 1][column - 1]
+                - rowPotentials[currentRow]
+                - columnPotentials[column];
+            if (slack < minSlack[column]) {
+              minSlack[column] = slack;
+              previousColumn[column] = currentColumn;
+            }
+            if (minSlack[column] < delta) {
+              delta = minSlack[column];
+              nextColumn = column;
+            }
+          }
+        }
+        for (int column = 0; column <= columnCount; column++) {
+          if (visited[column]) {
+            rowPotentials[rowOfColumn[column]] += delta;
+            columnPotentials[column] -= delta;
+          }
+          else {
+            minSlack[column] -= delta;
+          }
+        }
+        currentColumn = nextColumn;
+      }
+      while (rowOfColumn[currentColumn] != 0);
+
+      // Augment along the path found.
+      do {
+        int column = previousColumn[currentColumn];
+        rowOfColumn[currentColumn] = rowOfColumn[column];
+        currentColumn = column;
+      }
+      while (currentColumn != 0);
+    }
+
+    int[] result = new int[rowCount];
+    Arrays.fill(result, UNMATCHED);
+    for (int column = 1; column <= columnCount; column++) {
+      if (rowOfColumn[column] != 0) {
+        result[rowOfColumn[column] - 1] = column - 1;
+      }
+    }
+    return Optional.of(result);
+  }
+
+  private int[] dropInfeasible(long[][] costs, int[] rowMatches) {
+    for (int row = 0; row < rowMatches.length; row++) {
+      if (rowMatches[row] != UNMATCHED && costs[row][rowMatches[row]] == INFEASIBLE) {
+        rowMatches[row] = UNMATCHED;
+      }
+    }
+    return rowMatches;
+  }
+}
@@ -7,18 +7,19 @@ import static java.util.Objects.requireNonNull;
 import jakarta.inject.Inject;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import org.opentcs.components.kernel.Router;
-import org.opentcs.components.kernel.services.TCSObjectService;
-import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderConstants;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration.OrderAssignmentStrategy;
 import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 import org.opentcs.strategies.basic.dispatching.phase.AssignmentState;
@@ -41,13 +42,9 @@ public class OrderAssigner {
    */
   private static final Logger LOG = LoggerFactory.getLogger(OrderAssigner.class);
   /**
-   * The object service.
+   * Computes assignment candidates.
    */
-  private final TCSObjectService objectService;
-  /**
-   * The Router instance calculating route costs.
-   */
-  private final Router router;
+  private final AssignmentCandidateCalculator candidateCalculator;
   /**
    * Stores reservations of orders for vehicles.
    */
@@ -78,11 +75,14 @@ public class OrderAssigner {
    * Provides methods to check and update the dispatching status of transport orders.
    */
   private final DispatchingStatusMarker dispatchingStatusMarker;
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
 
   @Inject
   public OrderAssigner(
-      TCSObjectService objectService,
-      Router router,
+      AssignmentCandidateCalculator candidateCalculator,
       OrderReservationPool orderReservationPool,
       CompositeVehicleComparator vehicleComparator,
       CompositeOrderComparator orderComparator,
@@ -90,10 +90,10 @@ public class OrderAssigner {
       CompositeVehicleCandidateComparator vehicleCandidateComparator,
       CompositeAssignmentCandidateSelectionFilter assignmentCandidateSelectionFilter,
       TransportOrderUtil transportOrderUtil,
-      DispatchingStatusMarker dispatchingStatusMarker
+      DispatchingStatusMarker dispatchingStatusMarker,
+      DefaultDispatcherConfiguration configuration
   ) {
-    this.router = requireNonNull(router, "router");
-    this.objectService = requireNonNull(objectService, "objectService");
+    this.candidateCalculator = requireNonNull(candidateCalculator, "candidateCalculator");
     this.orderReservationPool = requireNonNull(orderReservationPool, "orderReservationPool");
     this.vehicleComparator = requireNonNull(vehicleComparator, "vehicleComparator");
     this.orderComparator = requireNonNull(orderComparator, "orderComparator");
@@ -114,6 +114,7 @@ public class OrderAssigner {
         dispatchingStatusMarker,
         "dispatchingStatusMarker"
     );
+    this.configuration = requireNonNull(configuration, "configuration");
   }
 
   /**
@@ -133,7 +134,10 @@ public class OrderAssigner {
     );
 
     AssignmentState assignmentState = new AssignmentState();
-    if (availableVehicles.size() < availableOrders.size()) {
+    if (configuration.orderAssignmentStrategy() == OrderAssignmentStrategy.MIN_COST_MATCHING) {
+      tryMinCostAssignments(availableVehicles, availableOrders, assignmentState);
+    }
+    else if (availableVehicles.size() < availableOrders.size()) {
       availableVehicles.stream()
           .sorted(vehicleComparator)
           .forEach(vehicle -> tryAssignOrder(vehicle, availableOrders, assignmentState));
@@ -165,18 +169,16 @@ public class OrderAssigner {
   ) {
     LOG.debug("Trying to find transport order for vehicle '{}'...", vehicle.getName());
 
-    Point vehiclePosition = objectService.fetchObject(Point.class, vehicle.getCurrentPosition());
+    List<TransportOrder> assignableOrders = availableOrders.stream()
+        .filter(
+            order -> (!assignmentState.wasAssignedToVehicle(order)
+                && vehicleCanTakeOrder(vehicle, order)
+                && orderAssignableToVehicle(order, vehicle))
+        )
+        .toList();
 
     Map<Boolean, List<CandidateFilterResult>> ordersSplitByFilter
-        = availableOrders.stream()
-            .filter(
-                order -> (!assignmentState.wasAssignedToVehicle(order)
-                    && vehicleCanTakeOrder(vehicle, order)
-                    && orderAssignableToVehicle(order, vehicle))
-            )
-            .map(order -> computeCandidate(vehicle, vehiclePosition, order))
-            .filter(optCandidate -> optCandidate.isPresent())
-            .map(optCandidate -> optCandidate.get())
+        = candidateCalculator.computeCandidates(vehicle, assignableOrders).stream()
             .map(
                 candidate -> new CandidateFilterResult(
                     candidate,
@@ -203,22 +205,16 @@ public class OrderAssigner {
   ) {
     LOG.debug("Trying to find vehicle for transport order '{}'...", order.getName());
 
+    List<Vehicle> assignableVehicles = availableVehicles.stream()
+        .filter(
+            vehicle -> (!assignmentState.wasAssignedToOrder(vehicle)
+                && vehicleCanTakeOrder(vehicle, order)
+                && orderAssignableToVehicle(order, vehicle))
+        )
+        .toList();
+
     Map<Boolean, List<CandidateFilterResult>> ordersSplitByFilter
-        = availableVehicles.stream()
-            .filter(
-                vehicle -> (!assignmentState.wasAssignedToOrder(vehicle)
-                    && vehicleCanTakeOrder(vehicle, order)
-                    && orderAssignableToVehicle(order, vehicle))
-            )
-            .map(
-                vehicle -> computeCandidate(
-                    vehicle,
-                    objectService.fetchObject(Point.class, vehicle.getCurrentPosition()),
-                    order
-                )
-            )
-            .filter(optCandidate -> optCandidate.isPresent())
-            .map(optCandidate -> optCandidate.get())
+        = candidateCalculator.computeCandidates(assignableVehicles, order).stream()
             .map(
                 candidate -> new CandidateFilterResult(
                     candidate,
@@ -238,6 +234,144 @@ public class OrderAssigner {
         .ifPresent(candidate -> assignOrder(candidate, assignmentState));
   }
 
+  /**
+   * Assigns transport orders to vehicles such that the sum of the vehicles' initial routing costs
+   * is minimal.
+   * <p>
+   * The transport orders considered are limited to the most important ones (according to the
+   * configured order priorities) that at least one vehicle can take, up to the number of vehicles
+   * available. The configured time budget covers both the computation of the assignment candidates
+   * and the matching. If it is exceeded, transport orders are assigned greedily instead, based on
+   * the candidates computed so far. Vehicles for which no candidates were computed yet are then
+   * handled as with greedy assignment, so that this never takes considerably longer than greedy
+   * assignment would.
+   * </p>
+   */
+  private void tryMinCostAssignments(
+      Collection<Vehicle> availableVehicles,
+      Collection<TransportOrder> availableOrders,
+      AssignmentState assignmentState
+  ) {
+    MinCostMatching minCostMatching = new MinCostMatching(
+        TimeUnit.MILLISECONDS.toNanos(configuration.minCostMatchingTimeBudget())
+    );
+    List<Vehicle> vehicles = availableVehicles.stream()
+        .sorted(vehicleComparator)
+        .toList();
+    Map<TransportOrder, Map<Vehicle, AssignmentCandidate>> candidatesByOrder = new HashMap<>();
+    int processedVehicleCount = 0;
+    while (processedVehicleCount < vehicles.size() && !minCostMatching.isTimeBudgetExceeded()) {
+      computeCandidates(
+          vehicles.get(processedVehicleCount),
+          availableOrders,
+          candidatesByOrder,
+          assignmentState
+      );
+      processedVehicleCount++;
+    }
+
+    List<Vehicle> processedVehicles = vehicles.subList(0, processedVehicleCount);
+    List<TransportOrder> orders = availableOrders.stream()
+        .filter(candidatesByOrder::containsKey)
+        .sorted(orderComparator)
+        .limit(processedVehicles.size())
+        .toList();
+
+    if (processedVehicleCount < vehicles.size()) {
+      LOG.warn(
+          "Time budget exceeded while computing candidates for {} of {} vehicles, "
+              + "assigning greedily.",
+          processedVehicleCount,
+          vehicles.size()
+      );
+      assignGreedily(processedVehicles, orders, candidatesByOrder, assignmentState);
+      vehicles.subList(processedVehicleCount, vehicles.size())
+          .forEach(vehicle -> tryAssignOrder(vehicle, availableOrders, assignmentState));
+      return;
+    }
+
+    long[][] costs = new long[vehicles.size()][orders.size()];
+    for (int row = 0; row < vehicles.size(); row++) {
+      for (int column = 0; column < orders.size(); column++) {
+        AssignmentCandidate candidate = candidatesByOrder.get(orders.get(column))
+            .get(vehicles.get(row));
+        costs[row][column] = candidate == null
+            ? MinCostMatching.INFEASIBLE
+            : candidate.getInitialRoutingCosts();
+      }
+    }
+
+    Optional<int[]> matching = minCostMatching.compute(costs);
+    if (matching.isEmpty()) {
+      LOG.warn(
+          "Time budget exceeded while matching {} transport orders and {} vehicles, "
+              + "assigning greedily.",
+          orders.size(),
+          vehicles.size()
+      );
+      assignGreedily(vehicles, orders, candidatesByOrder, assignmentState);
+      return;
+    }
+
+    int[] columnOfRow = matching.get();
+    for (int row = 0; row < vehicles.size(); row++) {
+      if (columnOfRow[row] != MinCostMatching.UNMATCHED) {
+        assignOrder(
+            candidatesByOrder.get(orders.get(columnOfRow[row])).get(vehicles.get(row)),
+            assignmentState
+        );
+      }
+    }
+  }
+
+  private void computeCandidates(
+      Vehicle vehicle,
+      Collection<TransportOrder> availableOrders,
+      Map<TransportOrder, Map<Vehicle, AssignmentCandidate>> candidatesByOrder,
+      AssignmentState assignmentState
+  ) {
+    List<TransportOrder> assignableOrders = availableOrders.stream()
+        .filter(
+            order -> vehicleCanTakeOrder(vehicle, order)
+                && orderAssignableToVehicle(order, vehicle)
+        )
+        .toList();
+
+    for (AssignmentCandidate candidate : candidateCalculator.computeCandidates(
+        vehicle,
+        assignableOrders
+    )) {
+      CandidateFilterResult filterResult = new CandidateFilterResult(
+          candidate,
+          assignmentCandidateSelectionFilter.apply(candidate)
+      );
+      if (filterResult.isFiltered()) {
+        assignmentState.addFilteredOrder(filterResult.toFilterResult());
+      }
+      else {
+        candidatesByOrder.computeIfAbsent(candidate.getTransportOrder(), o -> new HashMap<>())
+            .put(vehicle, candidate);
+      }
+    }
+  }
+
+  private void assignGreedily(
+      List<Vehicle> vehicles,
+      List<TransportOrder> orders,
+      Map<TransportOrder, Map<Vehicle, AssignmentCandidate>> candidatesByOrder,
+      AssignmentState assignmentState
+  ) {
+    for (Vehicle vehicle : vehicles) {
+      orders.stream()
+          .filter(order -> !assignmentState.wasAssignedToVehicle(order))
+          .map(order -> candidatesByOrder.get(order).get(vehicle))
+          .filter(Objects::nonNull)
+          .sorted(orderCandidateComparator)
+          .findFirst()
+          .ifPresent(candidate -> assignOrder(candidate, assignmentState));
+    }
+  }
+
   private void assignOrder(AssignmentCandidate candidate, AssignmentState assignmentState) {
     // If the vehicle currently has a (dispensable) order, we may not assign the new one here
     // directly, but must abort the old one (DefaultDispatcher.abortOrder()) and wait for the
@@ -279,15 +413,6 @@ public class OrderAssigner {
     }
   }
 
-  private Optional<AssignmentCandidate> computeCandidate(
-      Vehicle vehicle,
-      Point vehiclePosition,
-      TransportOrder order
-  ) {
-    return router.getRoute(vehicle, vehiclePosition, order)
-        .map(driveOrders -> new AssignmentCandidate(vehicle, order, driveOrders));
-  }
-
   private boolean vehicleCanTakeOrder(Vehicle vehicle, TransportOrder order) {
     return !vehicle.isEnergyLevelCritical()
         || Objects.equals(
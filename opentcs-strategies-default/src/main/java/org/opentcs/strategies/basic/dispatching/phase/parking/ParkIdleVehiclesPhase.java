@@ -4,7 +4,9 @@ package org.opentcs.strategies.basic.dispatching.phase.parking;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
+import java.util.function.Predicate;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.data.model.Vehicle;
@@ -55,13 +57,23 @@ public class ParkIdleVehiclesPhase
 
   @Override
   public void run() {
+    run(vehicle -> true);
+  }
+
+  @Override
+  public void run(
+      @Nonnull
+      Predicate<Vehicle> vehicleFilter
+  ) {
+    requireNonNull(vehicleFilter, "vehicleFilter");
+
     if (!getConfiguration().parkIdleVehicles()) {
       return;
     }
 
     LOG.debug("Looking for vehicles to send to parking positions...");
 
-    getOrderService().fetchObjects(Vehicle.class).stream()
+    getOrderService().fetchObjects(Vehicle.class, vehicleFilter).stream()
         .filter(vehicle -> vehicleSelectionFilter.apply(vehicle).isEmpty())
         .forEach(vehicle -> createParkingOrder(vehicle));
   }
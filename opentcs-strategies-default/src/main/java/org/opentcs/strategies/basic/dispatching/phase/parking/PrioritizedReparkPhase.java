@@ -4,7 +4,9 @@ package org.opentcs.strategies.basic.dispatching.phase.parking;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
+import java.util.function.Predicate;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.data.model.Point;
@@ -57,6 +59,16 @@ public class PrioritizedReparkPhase
 
   @Override
   public void run() {
+    run(vehicle -> true);
+  }
+
+  @Override
+  public void run(
+      @Nonnull
+      Predicate<Vehicle> vehicleFilter
+  ) {
+    requireNonNull(vehicleFilter, "vehicleFilter");
+
     if (!getConfiguration().parkIdleVehicles()
         || !getConfiguration().considerParkingPositionPriorities()
         || !getConfiguration().reparkVehiclesToHigherPriorityPositions()) {
@@ -65,7 +77,7 @@ public class PrioritizedReparkPhase
 
     LOG.debug("Looking for parking vehicles to send to higher prioritized parking positions...");
 
-    getOrderService().fetchObjects(Vehicle.class).stream()
+    getOrderService().fetchObjects(Vehicle.class, vehicleFilter).stream()
         .filter(vehicle -> vehicleSelectionFilter.apply(vehicle).isEmpty())
         .sorted((vehicle1, vehicle2) -> {
           // Sort the vehicles based on the priority of the parking position they occupy
@@ -4,10 +4,12 @@ package org.opentcs.strategies.basic.dispatching.phase.recharging;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import org.opentcs.access.to.order.DestinationCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.Router;
@@ -117,11 +119,21 @@ public class RechargeIdleVehiclesPhase
 
   @Override
   public void run() {
+    run(vehicle -> true);
+  }
+
+  @Override
+  public void run(
+      @Nonnull
+      Predicate<Vehicle> vehicleFilter
+  ) {
+    requireNonNull(vehicleFilter, "vehicleFilter");
+
     if (!configuration.rechargeIdleVehicles()) {
       return;
     }
 
-    orderService.fetchObjects(Vehicle.class).stream()
+    orderService.fetchObjects(Vehicle.class, vehicleFilter).stream()
         .filter(vehicle -> vehicleSelectionFilter.apply(vehicle).isEmpty())
         .forEach(vehicle -> createRechargeOrder(vehicle));
   }
@@ -8,6 +8,7 @@ import static org.opentcs.strategies.basic.routing.PointRouter.INFINITE_COSTS;
 import jakarta.inject.Inject;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -16,6 +17,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
@@ -35,6 +38,18 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A basic {@link Router} implementation.
+ * <p>
+ * Since the point routers used for computing routes are not modified once they have been created,
+ * routes may be computed concurrently. Only (re)initialization and updates of the routing topology
+ * require exclusive access.
+ * </p>
+ * <p>
+ * Note that point routers are constructed lazily, which requires fetching sets of objects and thus
+ * the kernel's global lock. To avoid deadlocks, callers are expected to hold the global lock
+ * whenever they call this router, so that it is always acquired before the router's own lock.
+ * The only exception are threads computing routes on behalf of such a caller, for vehicles the
+ * caller has called {@link #prepareRouteComputation(Collection)} for.
+ * </p>
  */
 public class DefaultRouter
     implements
@@ -64,10 +79,15 @@ public class DefaultRouter
    * The routes selected for each vehicle.
    */
   private final Map<Vehicle, List<DriveOrder>> routesByVehicle = new ConcurrentHashMap<>();
+  /**
+   * Guards the point routers: Computing routes requires the read lock, (re)initialization and
+   * updates of the routing topology require the write lock.
+   */
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
   /**
    * Indicates whether this component is enabled.
    */
-  private boolean initialized;
+  private volatile boolean initialized;
 
   /**
    * Creates a new instance.
@@ -96,11 +116,15 @@ public class DefaultRouter
       return;
     }
 
-    synchronized (this) {
+    lock.writeLock().lock();
+    try {
       routesByVehicle.clear();
       pointRouterProvider.invalidate();
       initialized = true;
     }
+    finally {
+      lock.writeLock().unlock();
+    }
   }
 
   @Override
@@ -114,27 +138,36 @@ public class DefaultRouter
       return;
     }
 
-    synchronized (this) {
+    lock.writeLock().lock();
+    try {
       routesByVehicle.clear();
       pointRouterProvider.invalidate();
       initialized = false;
     }
+    finally {
+      lock.writeLock().unlock();
+    }
   }
 
   @Override
   public void updateRoutingTopology(Set<Path> paths) {
     requireNonNull(paths, "paths");
 
-    synchronized (this) {
+    lock.writeLock().lock();
+    try {
       pointRouterProvider.updateRoutingTopology(paths);
     }
+    finally {
+      lock.writeLock().unlock();
+    }
   }
 
   @Override
   public Set<Vehicle> checkRoutability(TransportOrder order) {
     requireNonNull(order, "order");
 
-    synchronized (this) {
+    lock.readLock().lock();
+    try {
       Set<Vehicle> result = new HashSet<>();
       List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
       DriveOrder[] driveOrders
@@ -154,13 +187,17 @@ public class DefaultRouter
       }
       return result;
     }
+    finally {
+      lock.readLock().unlock();
+    }
   }
 
   @Override
   public boolean checkGeneralRoutability(TransportOrder order) {
     requireNonNull(order, "order");
 
-    synchronized (this) {
+    lock.readLock().lock();
+    try {
       List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
       DriveOrder[] driveOrders
           = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
@@ -174,6 +211,9 @@ public class DefaultRouter
       }
       return true;
     }
+    finally {
+      lock.readLock().unlock();
+    }
   }
 
   @Override
@@ -186,19 +226,18 @@ public class DefaultRouter
     requireNonNull(sourcePoint, "sourcePoint");
     requireNonNull(transportOrder, "transportOrder");
 
-    synchronized (this) {
+    lock.readLock().lock();
+    try {
       List<DriveOrder> driveOrderList = transportOrder.getFutureDriveOrders();
       DriveOrder[] driveOrders = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
       PointRouter pointRouter = pointRouterProvider.getPointRouterForVehicle(
           vehicle,
           transportOrder
       );
-      OrderRouteParameterStruct params = new OrderRouteParameterStruct(driveOrders, pointRouter);
-      OrderRouteResultStruct resultStruct = new OrderRouteResultStruct(driveOrderList.size());
-      computeCheapestOrderRoute(sourcePoint, params, 0, resultStruct);
-      return (resultStruct.bestCosts == Long.MAX_VALUE)
-          ? Optional.empty()
-          : Optional.of(Arrays.asList(resultStruct.bestRoute));
+      return computeCheapestOrderRoute(sourcePoint, driveOrders, pointRouter);
+    }
+    finally {
+      lock.readLock().unlock();
     }
   }
 
@@ -214,19 +253,62 @@ public class DefaultRouter
     requireNonNull(destinationPoint, "destinationPoint");
     requireNonNull(resourcesToAvoid, "resourcesToAvoid");
 
-    synchronized (this) {
+    lock.readLock().lock();
+    try {
       PointRouter pointRouter = pointRouterProvider
           .getPointRouterForVehicle(vehicle, resourcesToAvoid);
       List<Route.Step> steps = pointRouter.getRouteSteps(sourcePoint, destinationPoint);
       if (steps == null) {
         return Optional.empty();
       }
-      if (steps.isEmpty()) {
-        // If the list of steps is empty, we're already at the destination point
-        // Create a single step without a path.
-        steps.add(new Route.Step(null, null, sourcePoint, Vehicle.Orientation.UNDEFINED, 0, 0));
+      return Optional.of(toRoute(sourcePoint, steps));
+    }
+    finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public Map<Point, Route> getRoutes(
+      Vehicle vehicle,
+      Point sourcePoint,
+      Set<Point> destinationPoints,
+      Set<TCSResourceReference<?>> resourcesToAvoid
+  ) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(sourcePoint, "sourcePoint");
+    requireNonNull(destinationPoints, "destinationPoints");
+    requireNonNull(resourcesToAvoid, "resourcesToAvoid");
+
+    lock.readLock().lock();
+    try {
+      PointRouter pointRouter = pointRouterProvider
+          .getPointRouterForVehicle(vehicle, resourcesToAvoid);
+      Map<Point, Route> result = new HashMap<>();
+      pointRouter.getRouteSteps(sourcePoint, destinationPoints).forEach(
+          (destinationPoint, steps) -> result.put(destinationPoint, toRoute(sourcePoint, steps))
+      );
+      return result;
+    }
+    finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void prepareRouteComputation(Collection<Vehicle> vehicles) {
+    requireNonNull(vehicles, "vehicles");
+
+    lock.readLock().lock();
+    try {
+      // Construct the point routers for the vehicles' routing groups (and thus the routing graphs
+      // they are based on) now, so that computing routes does not require the global lock.
+      for (Vehicle vehicle : vehicles) {
+        pointRouterProvider.getPointRouterForVehicle(vehicle, Set.of());
       }
-      return Optional.of(new Route(steps));
+    }
+    finally {
+      lock.readLock().unlock();
     }
   }
 
@@ -243,11 +325,15 @@ public class DefaultRouter
     requireNonNull(destinationPoint, "destinationPoint");
     requireNonNull(resourcesToAvoid, "resourcesToAvoid");
 
-    synchronized (this) {
+    lock.readLock().lock();
+    try {
       return pointRouterProvider
           .getPointRouterForVehicle(vehicle, resourcesToAvoid)
           .getCosts(sourcePoint, destinationPoint);
     }
+    finally {
+      lock.readLock().unlock();
+    }
   }
 
   @Deprecated
@@ -255,7 +341,8 @@ public class DefaultRouter
   public void selectRoute(Vehicle vehicle, List<DriveOrder> driveOrders) {
     requireNonNull(vehicle, "vehicle");
 
-    synchronized (this) {
+    lock.readLock().lock();
+    try {
       if (driveOrders == null) {
         // XXX Should we remember the vehicle's current position, maybe?
         routesByVehicle.remove(vehicle);
@@ -264,20 +351,28 @@ public class DefaultRouter
         routesByVehicle.put(vehicle, driveOrders);
       }
     }
+    finally {
+      lock.readLock().unlock();
+    }
   }
 
   @Deprecated
   @Override
   public Map<Vehicle, List<DriveOrder>> getSelectedRoutes() {
-    synchronized (this) {
+    lock.readLock().lock();
+    try {
       return new HashMap<>(routesByVehicle);
     }
+    finally {
+      lock.readLock().unlock();
+    }
   }
 
   @Deprecated
   @Override
   public Set<Point> getTargetedPoints() {
-    synchronized (this) {
+    lock.readLock().lock();
+    try {
       Set<Point> result = new HashSet<>();
       for (List<DriveOrder> curOrderList : routesByVehicle.values()) {
         DriveOrder finalOrder = curOrderList.get(curOrderList.size() - 1);
@@ -285,6 +380,9 @@ public class DefaultRouter
       }
       return result;
     }
+    finally {
+      lock.readLock().unlock();
+    }
   }
 
   /**
@@ -331,75 +429,105 @@ public class DefaultRouter
   }
 
   /**
-   * Compute the cheapest route along a list of drive orders/checkpoints.
+   * Computes the cheapest route along a list of drive orders/checkpoints.
+   * <p>
+   * For every drive order (in reverse order) and every point the vehicle could start it at, the
+   * costs of the cheapest route to the end of the list are computed using only the point router's
+   * costs. Route steps are then computed only for the drive orders' routes along the cheapest
+   * combination of checkpoints. Among combinations with equal costs, the first one in the order of
+   * the drive orders' destination points is selected.
+   * </p>
    *
-   * @param startPoint The current checkpoint which to start at.
-   * @param params A struct describing parameters for the route to be computed.
-   * @param hopIndex The current index in the list of drive orders/checkpoints.
-   * @param result A struct for keeping the (partial) result in.
+   * @param sourcePoint The point at which the route is supposed to start.
+   * @param driveOrders The drive orders, in the order they are to be processed.
+   * @param pointRouter The point router to use.
+   * @return The drive orders with their routes, or an empty optional, if there is no route.
    */
-  private void computeCheapestOrderRoute(
-      Point startPoint,
-      OrderRouteParameterStruct params,
-      int hopIndex,
-      OrderRouteResultStruct result
+  private Optional<List<DriveOrder>> computeCheapestOrderRoute(
+      Point sourcePoint,
+      DriveOrder[] driveOrders,
+      PointRouter pointRouter
   ) {
-    assert startPoint != null;
-    assert params != null;
-    assert result != null;
-    // If we haven't reached the final drive order in the list, yet...
-    if (hopIndex < params.driveOrders.length) {
-      // ...try every possible destination point of the current drive order as
-      // the next checkpoint and recursively route from there.
-      final long currentRouteCosts = result.currentCosts;
-      Set<Point> destPoints = getDestinationPoints(params.driveOrders[hopIndex]);
-      // If the set of destination points contains the starting point, keep only
-      // that one. This is just a shortcut - it is the cheapest way to go.
-      if (!configuration.routeToCurrentPosition() && destPoints.contains(startPoint)) {
-        LOG.debug("Shortcutting route to {}", startPoint);
-        destPoints.clear();
-        destPoints.add(startPoint);
-      }
-      boolean routable = false;
-      for (Point curDestPoint : destPoints) {
-        final long hopCosts = params.pointRouter.getCosts(startPoint, curDestPoint);
-        if (hopCosts == INFINITE_COSTS) {
-          continue;
+    assert sourcePoint != null;
+    assert driveOrders != null;
+    assert pointRouter != null;
+
+    int hopCount = driveOrders.length;
+    // The points at which each hop could start, i.e. the source point for the first hop and the
+    // destination points of the respective previous drive order for all others, with an
+    // additional entry for the destination points of the last drive order.
+    List<List<Point>> checkpoints = new ArrayList<>(hopCount + 1);
+    checkpoints.add(List.of(sourcePoint));
+    for (DriveOrder driveOrder : driveOrders) {
+      checkpoints.add(new ArrayList<>(getDestinationPoints(driveOrder)));
+    }
+
+    // For every hop and every checkpoint it could start at, the costs of the cheapest route to the
+    // end of the list and the index of the checkpoint to continue with.
+    long[][] remainingCosts = new long[hopCount + 1][];
+    int[][] nextCheckpoints = new int[hopCount][];
+    remainingCosts[hopCount] = new long[checkpoints.get(hopCount).size()];
+    for (int hop = hopCount - 1; hop >= 0; hop--) {
+      List<Point> startPoints = checkpoints.get(hop);
+      List<Point> destPoints = checkpoints.get(hop + 1);
+      remainingCosts[hop] = new long[startPoints.size()];
+      nextCheckpoints[hop] = new int[startPoints.size()];
+      Arrays.fill(remainingCosts[hop], INFINITE_COSTS);
+
+      for (int start = 0; start < startPoints.size(); start++) {
+        Point startPoint = startPoints.get(start);
+        // If the set of destination points contains the starting point, consider only that one.
+        // This is just a shortcut - it is the cheapest way to go.
+        int shortcut = configuration.routeToCurrentPosition() ? -1 : destPoints.indexOf(startPoint);
+        if (shortcut >= 0) {
+          LOG.debug("Shortcutting route to {}", startPoint);
         }
-        // Get the list of steps for the route of the current drive order.
-        List<Route.Step> steps = params.pointRouter.getRouteSteps(startPoint, curDestPoint);
-        if (steps.isEmpty()) {
-          // If the list of steps returned is empty, we're already at the
-          // destination point of the drive order - create a single step
-          // without a path.
-          steps = new ArrayList<>(1);
-          steps.add(new Route.Step(null, null, startPoint, Vehicle.Orientation.UNDEFINED, 0, 0));
+
+        for (int dest = 0; dest < destPoints.size(); dest++) {
+          if ((shortcut >= 0 && dest != shortcut)
+              || remainingCosts[hop + 1][dest] == INFINITE_COSTS) {
+            continue;
+          }
+          long hopCosts = pointRouter.getCosts(startPoint, destPoints.get(dest));
+          if (hopCosts == INFINITE_COSTS) {
+            continue;
+          }
+          long costs = hopCosts + remainingCosts[hop + 1][dest];
+          if (costs < remainingCosts[hop][start]) {
+            remainingCosts[hop][start] = costs;
+            nextCheckpoints[hop][start] = dest;
+          }
         }
-        // Create a route from the list of steps gathered.
-        Route hopRoute = new Route(steps);
-        // Copy the current drive order, add the computed route to it and
-        // place it in the result struct.
-        DriveOrder hopOrder = params.driveOrders[hopIndex].withRoute(hopRoute);
-        result.currentRoute[hopIndex] = hopOrder;
-        // Calculate the costs for the route so far, too.
-        result.currentCosts = currentRouteCosts + hopRoute.getCosts();
-        computeCheapestOrderRoute(curDestPoint, params, hopIndex + 1, result);
-        // Remember that we did find at least one route that works.
-        routable = true;
-      }
-      if (!routable) {
-        // Setting currentCosts is not strictly necessary for this algorithm,
-        // but might help with debugging.
-        result.currentCosts = Long.MAX_VALUE;
       }
     }
-    // If we have reached the final drive order, ...
-    else // If the route computed is cheaper than the best route found so far,
-      // replace the latter.
-      if (result.currentCosts < result.bestCosts) {
-        System.arraycopy(result.currentRoute, 0, result.bestRoute, 0, result.currentRoute.length);
-        result.bestCosts = result.currentCosts;
+
+    if (remainingCosts[0][0] == INFINITE_COSTS) {
+      return Optional.empty();
+    }
+
+    List<DriveOrder> result = new ArrayList<>(hopCount);
+    int checkpoint = 0;
+    for (int hop = 0; hop < hopCount; hop++) {
+      Point startPoint = checkpoints.get(hop).get(checkpoint);
+      checkpoint = nextCheckpoints[hop][checkpoint];
+      List<Route.Step> steps = pointRouter.getRouteSteps(
+          startPoint,
+          checkpoints.get(hop + 1).get(checkpoint)
+      );
+      if (steps == null) {
+        // The point router may not find a route despite having reported finite costs for it, e.g.
+        // if its routing graph has been replaced in the meantime.
+        return Optional.empty();
       }
+      if (steps.isEmpty()) {
+        // If the list of steps returned is empty, we're already at the destination point of the
+        // drive order - create a single step without a path.
+        steps = new ArrayList<>(1);
+        steps.add(new Route.Step(null, null, startPoint, Vehicle.Orientation.UNDEFINED, 0, 0));
+      }
+      result.add(driveOrders[hop].withRoute(new Route(steps)));
+    }
+    return Optional.of(result);
   }
 
   /**
@@ -461,6 +589,23 @@ public class DefaultRouter
     }
   }
 
+  /**
+   * Creates a route consisting of the given steps.
+   *
+   * @param sourcePoint The point at which the route starts.
+   * @param steps The steps, as computed by a point router. If the list is empty, a single step
+   * without a path is added to it.
+   * @return The route.
+   */
+  private Route toRoute(Point sourcePoint, List<Route.Step> steps) {
+    if (steps.isEmpty()) {
+      // If the list of steps is empty, we're already at the destination point
+      // Create a single step without a path.
+      steps.add(new Route.Step(null, null, sourcePoint, Vehicle.Orientation.UNDEFINED, 0, 0));
+    }
+    return new Route(steps);
+  }
+
   /**
    * Returns all vehicles within the given routing group.
    *
@@ -476,71 +621,4 @@ public class DefaultRouter
     }
     return result;
   }
-
-  /**
-   * Contains parameters for a route to be computed.
-   */
-  private static final class OrderRouteParameterStruct {
-
-    /**
-     * The drive orders containing the route's checkpoints.
-     */
-    private final DriveOrder[] driveOrders;
-    /**
-     * The point router for the vehicle type.
-     */
-    private final PointRouter pointRouter;
-
-    /**
-     * Creates a new OrderRouteParameterStruct.
-     *
-     * @param driveOrders A list of drive orders to be processed as checkpoints
-     * of the route to be computed.
-     * @param pointRouter The point router for the vehicle type.
-     */
-    OrderRouteParameterStruct(
-        DriveOrder[] driveOrders,
-        PointRouter pointRouter
-    ) {
-      this.driveOrders = requireNonNull(driveOrders, "driveOrders");
-      this.pointRouter = requireNonNull(pointRouter, "pointRouter");
-    }
-  }
-
-  /**
-   * A struct supporting cheapest route calculation.
-   */
-  private static final class OrderRouteResultStruct {
-
-    /**
-     * The (possibly partial) route currently being examined.
-     */
-    private DriveOrder[] currentRoute;
-    /**
-     * The costs of the route currently being examined.
-     */
-    private long currentCosts;
-    /**
-     * The best route found so far.
-     */
-    private DriveOrder[] bestRoute;
-    /**
-     * The costs of the best route found so far.
-     */
-    private long bestCosts;
-
-    /**
-     * Creates a new OrderRouteResultStruct.
-     *
-     * @param driveOrderCount The number of <code>DriveOrder</code>s in the
-     * <code>TransportOrder</code> for which this struct is to store the
-     * routing result.
-     */
-    OrderRouteResultStruct(int driveOrderCount) {
-      currentRoute = new DriveOrder[driveOrderCount];
-      currentCosts = 0;
-      bestRoute = new DriveOrder[driveOrderCount];
-      bestCosts = Long.MAX_VALUE;
-    }
-  }
 }
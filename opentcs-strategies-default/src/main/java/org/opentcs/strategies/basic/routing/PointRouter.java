@@ -4,7 +4,10 @@ package org.opentcs.strategies.basic.routing;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.order.Route;
@@ -32,6 +35,35 @@ public interface PointRouter {
    */
   List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint);
 
+  /**
+   * Returns lists of route steps to travel from a given source point to each of the given
+   * destination points.
+   * <p>
+   * Implementations may compute the routes to all destination points at once, e.g. using a single
+   * shortest path tree rooted at the source point. The default implementation computes every route
+   * separately via {@link #getRouteSteps(Point, Point)}.
+   * </p>
+   *
+   * @param srcPoint The source point.
+   * @param destPoints The destination points.
+   * @return The lists of steps (as returned by {@link #getRouteSteps(Point, Point)}) mapped to
+   * their destination points. Destination points to which no route exists are not contained in the
+   * map.
+   */
+  default Map<Point, List<Route.Step>> getRouteSteps(Point srcPoint, Set<Point> destPoints) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoints, "destPoints");
+
+    Map<Point, List<Route.Step>> result = new HashMap<>();
+    for (Point destPoint : destPoints) {
+      List<Route.Step> steps = getRouteSteps(srcPoint, destPoint);
+      if (steps != null) {
+        result.put(destPoint, steps);
+      }
+    }
+    return result;
+  }
+
   /**
    * Returns the costs for travelling the shortest route from one point to another.
    *
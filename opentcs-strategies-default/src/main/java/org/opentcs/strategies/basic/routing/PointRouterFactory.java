@@ -45,4 +45,14 @@ public interface PointRouterFactory {
       Set<Point> pointsToExclude,
       Set<Path> pathsToExclude
   );
+
+  /**
+   * Invalidates any state this factory keeps about routing graphs or point routers it has already
+   * created, e.g. because a new plant model has been loaded.
+   * <p>
+   * This default implementation does nothing.
+   * </p>
+   */
+  default void invalidate() {
+  }
 }
@@ -0,0 +1,211 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opentcs.components.kernel.routing.GroupMapper;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.PointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider.GraphResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates {@link PointRouter} instances working on {@link IndexedGraph}s, with the actual
+ * implementations created by subclasses.
+ * <p>
+ * Point routers are created only once per routing graph. Points and paths to be excluded are
+ * applied to them as {@link RoutingMask}s instead of deriving new routing graphs.
+ * </p>
+ * <p>
+ * When the routing graph of a routing group is replaced by one with only the weights of existing
+ * edges changed (e.g. after paths have been locked or unlocked), the point router previously
+ * created for the routing group is {@link MaskablePointRouter#withUpdatedGraph updated} instead of
+ * creating a new one from scratch.
+ * </p>
+ */
+public abstract class AbstractIndexedPointRouterFactory
+    implements
+      PointRouterFactory {
+
+  private static final Logger LOG
+      = LoggerFactory.getLogger(AbstractIndexedPointRouterFactory.class);
+  private final GraphProvider graphProvider;
+  private final GroupMapper routingGroupMapper;
+  /**
+   * The point routers most recently created for (vehicle) routing groups.
+   */
+  private final Map<String, CachedPointRouter> pointRoutersByRoutingGroup
+      = new ConcurrentHashMap<>();
+  /**
+   * The general point router most recently created.
+   */
+  private CachedPointRouter generalPointRouter;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graphProvider Provides routing graphs for vehicles.
+   * @param routingGroupMapper Used to map vehicles to their routing groups.
+   */
+  public AbstractIndexedPointRouterFactory(
+      @Nonnull
+      GraphProvider graphProvider,
+      @Nonnull
+      GroupMapper routingGroupMapper
+  ) {
+    this.graphProvider = requireNonNull(graphProvider, "graphProvider");
+    this.routingGroupMapper = requireNonNull(routingGroupMapper, "routingGroupMapper");
+  }
+
+  @Override
+  public PointRouter createPointRouter(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Set<Point> pointsToExclude,
+      @Nonnull
+      Set<Path> pathsToExclude
+  ) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(pointsToExclude, "pointsToExclude");
+    requireNonNull(pathsToExclude, "pathsToExclude");
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    GraphResult graphResult = graphProvider.getGraphResult(vehicle);
+    PointRouter router = pointRoutersByRoutingGroup
+        .compute(
+            routingGroupMapper.apply(vehicle),
+            (routingGroup, cachedRouter) -> getPointRouter(cachedRouter, graphResult)
+        )
+        .getPointRouter()
+        .withExclusions(pointsToExclude, pathsToExclude);
+
+    LOG.debug(
+        "Created point router for {} in {} milliseconds.",
+        vehicle.getName(),
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return router;
+  }
+
+  @Override
+  public PointRouter createGeneralPointRouter(
+      @Nonnull
+      Set<Point> pointsToExclude,
+      @Nonnull
+      Set<Path> pathsToExclude
+  ) {
+    requireNonNull(pointsToExclude, "pointsToExclude");
+    requireNonNull(pathsToExclude, "pathsToExclude");
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    PointRouter router = getGeneralPointRouter(graphProvider.getGeneralGraphResult())
+        .withExclusions(pointsToExclude, pathsToExclude);
+
+    LOG.debug(
+        "Created a general point router in {} milliseconds.",
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return router;
+  }
+
+  /**
+   * Discards the point routers created so far, so that they are not reused for routing graphs of
+   * a different plant model, in which paths with the same names may connect different points.
+   */
+  @Override
+  public synchronized void invalidate() {
+    pointRoutersByRoutingGroup.clear();
+    generalPointRouter = null;
+  }
+
+  /**
+   * Returns a point router working on the given graph.
+   *
+   * @param graph The graph.
+   * @return A point router working on the given graph.
+   */
+  protected abstract MaskablePointRouter createPointRouter(IndexedGraph graph);
+
+  private synchronized MaskablePointRouter getGeneralPointRouter(GraphResult graphResult) {
+    generalPointRouter = getPointRouter(generalPointRouter, graphResult);
+    return generalPointRouter.getPointRouter();
+  }
+
+  /**
+   * Returns a point router for the given graph result, reusing or updating the given cached one, if
+   * possible.
+   */
+  private CachedPointRouter getPointRouter(
+      @Nullable
+      CachedPointRouter cachedRouter,
+      GraphResult graphResult
+  ) {
+    if (cachedRouter != null && cachedRouter.getGraphResult() == graphResult) {
+      return cachedRouter;
+    }
+
+    if (cachedRouter != null) {
+      Optional<IndexedGraph> updatedGraph = cachedRouter.getGraph()
+          .withWeightsOf(graphResult.getGraph(), graphResult.getPointBase());
+      if (updatedGraph.isPresent()) {
+        LOG.debug("Updating point router for changed edge weights...");
+        return new CachedPointRouter(
+            graphResult,
+            updatedGraph.get(),
+            cachedRouter.getPointRouter().withUpdatedGraph(updatedGraph.get())
+        );
+      }
+    }
+
+    IndexedGraph graph = new IndexedGraph(graphResult.getGraph(), graphResult.getPointBase());
+    return new CachedPointRouter(graphResult, graph, createPointRouter(graph));
+  }
+
+  /**
+   * A point router along with the graph result it was created for.
+   */
+  private static class CachedPointRouter {
+
+    private final GraphResult graphResult;
+    private final IndexedGraph graph;
+    private final MaskablePointRouter pointRouter;
+
+    CachedPointRouter(
+        GraphResult graphResult,
+        IndexedGraph graph,
+        MaskablePointRouter pointRouter
+    ) {
+      this.graphResult = graphResult;
+      this.graph = graph;
+      this.pointRouter = pointRouter;
+    }
+
+    GraphResult getGraphResult() {
+      return graphResult;
+    }
+
+    IndexedGraph getGraph() {
+      return graph;
+    }
+
+    MaskablePointRouter getPointRouter() {
+      return pointRouter;
+    }
+  }
+}
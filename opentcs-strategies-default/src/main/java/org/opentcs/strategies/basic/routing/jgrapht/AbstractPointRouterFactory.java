@@ -5,11 +5,15 @@ package org.opentcs.strategies.basic.routing.jgrapht;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.graph.MaskSubgraph;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
@@ -22,6 +26,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Creates {@link PointRouter} instances with algorithm implementations created by subclasses.
+ * <p>
+ * Points and paths to be excluded are masked in a view of the respective routing graph instead of
+ * deriving a new routing graph from it.
+ * </p>
  */
 public abstract class AbstractPointRouterFactory
     implements
@@ -29,6 +37,11 @@ public abstract class AbstractPointRouterFactory
 
   private static final Logger LOG = LoggerFactory.getLogger(AbstractPointRouterFactory.class);
   private final GraphProvider graphProvider;
+  /**
+   * The points of graph results, mapped by their names.
+   */
+  private final Map<GraphResult, Map<String, Point>> pointsByGraphResult
+      = Collections.synchronizedMap(new WeakHashMap<>());
 
   /**
    * Creates a new instance.
@@ -57,15 +70,11 @@ public abstract class AbstractPointRouterFactory
 
     long timeStampBefore = System.currentTimeMillis();
 
-    GraphProvider.GraphResult graphResult;
-    if (pointsToExclude.isEmpty() && pathsToExclude.isEmpty()) {
-      graphResult = graphProvider.getGraphResult(vehicle);
-    }
-    else {
-      graphResult = graphProvider.getDerivedGraphResult(vehicle, pointsToExclude, pathsToExclude);
-    }
-
-    PointRouter router = createPointRouter(graphResult);
+    PointRouter router = createPointRouter(
+        graphProvider.getGraphResult(vehicle),
+        pointsToExclude,
+        pathsToExclude
+    );
 
     LOG.debug(
         "Created point router for {} in {} milliseconds.",
@@ -88,15 +97,11 @@ public abstract class AbstractPointRouterFactory
 
     long timeStampBefore = System.currentTimeMillis();
 
-    GraphProvider.GraphResult graphResult;
-    if (pointsToExclude.isEmpty() && pathsToExclude.isEmpty()) {
-      graphResult = graphProvider.getGeneralGraphResult();
-    }
-    else {
-      graphResult = graphProvider.getDerivedGeneralGraphResult(pointsToExclude, pathsToExclude);
-    }
-
-    PointRouter router = createPointRouter(graphResult);
+    PointRouter router = createPointRouter(
+        graphProvider.getGeneralGraphResult(),
+        pointsToExclude,
+        pathsToExclude
+    );
 
     LOG.debug(
         "Created a general point router in {} milliseconds.",
@@ -116,21 +121,49 @@ public abstract class AbstractPointRouterFactory
       Graph<String, Edge> graph
   );
 
-  private PointRouter createPointRouter(GraphResult graphResult) {
-    Set<Point> points = new HashSet<>(graphResult.getPointBase());
-    points.removeAll(graphResult.getExcludedPoints());
-
-    PointRouter router = new ShortestPathPointRouter(
-        createShortestPathAlgorithm(graphResult.getGraph()),
-        points
+  private PointRouter createPointRouter(
+      GraphResult graphResult,
+      Set<Point> pointsToExclude,
+      Set<Path> pathsToExclude
+  ) {
+    Graph<String, Edge> graph = maskGraph(graphResult.getGraph(), pointsToExclude, pathsToExclude);
+    Map<String, Point> points = pointsByGraphResult.computeIfAbsent(
+        graphResult,
+        result -> ShortestPathPointRouter.toPointsByName(result.getPointBase())
     );
+    PointRouter router = new ShortestPathPointRouter(createShortestPathAlgorithm(graph), points);
     // Make a single request for a route from one point to a different one to make sure the
     // point router is primed. (Some implementations are initialized lazily.)
-    if (points.size() >= 2) {
-      Iterator<Point> pointIter = points.iterator();
-      router.getRouteSteps(pointIter.next(), pointIter.next());
+    List<Point> primingPoints = points.values().stream()
+        .filter(point -> graph.containsVertex(point.getName()))
+        .limit(2)
+        .toList();
+    if (primingPoints.size() == 2) {
+      router.getRouteSteps(primingPoints.get(0), primingPoints.get(1));
     }
 
     return router;
   }
+
+  private Graph<String, Edge> maskGraph(
+      Graph<String, Edge> graph,
+      Set<Point> pointsToExclude,
+      Set<Path> pathsToExclude
+  ) {
+    if (pointsToExclude.isEmpty() && pathsToExclude.isEmpty()) {
+      return graph;
+    }
+
+    Set<String> pointNamesToExclude = pointsToExclude.stream()
+        .map(Point::getName)
+        .collect(Collectors.toSet());
+    Set<String> pathNamesToExclude = pathsToExclude.stream()
+        .map(Path::getName)
+        .collect(Collectors.toSet());
+    return new MaskSubgraph<>(
+        graph,
+        pointNamesToExclude::contains,
+        edge -> pathNamesToExclude.contains(edge.getPath().getName())
+    );
+  }
 }
@@ -0,0 +1,350 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Computes routes between points using A* search on an {@link IndexedGraph}, with lower bounds for
+ * the costs of routes provided by subclasses.
+ * <p>
+ * Vertices and edges excluded by the router's {@link RoutingMask} are skipped during searches.
+ * </p>
+ * <p>
+ * Routes to multiple destinations are computed using a single (unguided) search, which is
+ * continued until all of the destinations have been reached.
+ * </p>
+ */
+abstract class AbstractSearchingPointRouter
+    implements
+      PointRouter {
+
+  /**
+   * The graph.
+   */
+  protected final IndexedGraph graph;
+  /**
+   * The mask to apply to the graph.
+   */
+  private final RoutingMask mask;
+  /**
+   * Search states available for reuse, so that concurrent searches do not share state.
+   */
+  final Queue<SearchState> searchStates;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph.
+   * @param mask The mask to apply to the graph.
+   * @param searchStates Search states available for reuse. May be shared by routers working on the
+   * same graph.
+   */
+  AbstractSearchingPointRouter(
+      IndexedGraph graph,
+      RoutingMask mask,
+      Queue<SearchState> searchStates
+  ) {
+    this.graph = requireNonNull(graph, "graph");
+    this.mask = requireNonNull(mask, "mask");
+    this.searchStates = requireNonNull(searchStates, "searchStates");
+  }
+
+  @Override
+  public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return new ArrayList<>();
+    }
+
+    int source = graph.indexOf(srcPoint.getName());
+    int destination = graph.indexOf(destPoint.getName());
+    if (!isSearchable(source, destination)) {
+      return null;
+    }
+
+    SearchState state = acquireSearchState();
+    try {
+      if (search(state, source, destination) == Double.POSITIVE_INFINITY) {
+        return null;
+      }
+      return graph.toSteps(source, destination, state::predecessorEdge);
+    }
+    finally {
+      searchStates.add(state);
+    }
+  }
+
+  @Override
+  public Map<Point, List<Route.Step>> getRouteSteps(Point srcPoint, Set<Point> destPoints) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoints, "destPoints");
+
+    Map<Point, List<Route.Step>> result = new HashMap<>();
+    Map<Integer, Point> destPointsByVertex = new HashMap<>();
+    int source = graph.indexOf(srcPoint.getName());
+    for (Point destPoint : destPoints) {
+      if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+        result.put(destPoint, new ArrayList<>());
+        continue;
+      }
+      int destination = graph.indexOf(destPoint.getName());
+      if (isSearchable(source, destination)) {
+        destPointsByVertex.put(destination, destPoint);
+      }
+    }
+    if (destPointsByVertex.isEmpty()) {
+      return result;
+    }
+
+    int[] destinations = destPointsByVertex.keySet().stream()
+        .mapToInt(Integer::intValue)
+        .sorted()
+        .toArray();
+    SearchState state = acquireSearchState();
+    try {
+      searchAll(state, source, destinations);
+      for (int destination : destinations) {
+        if (state.costs(destination) != Double.POSITIVE_INFINITY) {
+          result.put(
+              destPointsByVertex.get(destination),
+              graph.toSteps(source, destination, state::predecessorEdge)
+          );
+        }
+      }
+      return result;
+    }
+    finally {
+      searchStates.add(state);
+    }
+  }
+
+  @Override
+  public long getCosts(
+      TCSObjectReference<Point> srcPointRef,
+      TCSObjectReference<Point> destPointRef
+  ) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRef, "destPointRef");
+
+    if (Objects.equals(srcPointRef.getName(), destPointRef.getName())) {
+      return 0;
+    }
+
+    int source = graph.indexOf(srcPointRef.getName());
+    int destination = graph.indexOf(destPointRef.getName());
+    if (!isSearchable(source, destination)) {
+      return INFINITE_COSTS;
+    }
+
+    SearchState state = acquireSearchState();
+    try {
+      double costs = search(state, source, destination);
+      return costs == Double.POSITIVE_INFINITY ? INFINITE_COSTS : (long) costs;
+    }
+    finally {
+      searchStates.add(state);
+    }
+  }
+
+  /**
+   * Returns a lower bound for the costs of the shortest route from the given vertex to the given
+   * destination.
+   * <p>
+   * The lower bounds must be consistent, i.e. the lower bound for a vertex must not be greater
+   * than the weight of an edge from that vertex to a second one plus the lower bound for the
+   * second one.
+   * </p>
+   *
+   * @param vertex The vertex.
+   * @param destination The destination vertex.
+   * @return The lower bound.
+   */
+  protected abstract double lowerBound(int vertex, int destination);
+
+  /**
+   * Checks whether a route from the given source to the given destination may exist.
+   *
+   * @param source The source vertex.
+   * @param destination The destination vertex.
+   * @return {@code false}, if it is known that no such route exists.
+   */
+  protected boolean mayBeReachable(int source, int destination) {
+    return true;
+  }
+
+  private boolean isSearchable(int source, int destination) {
+    return source >= 0
+        && destination >= 0
+        && !mask.isVertexExcluded(source)
+        && !mask.isVertexExcluded(destination)
+        && mayBeReachable(source, destination);
+  }
+
+  /**
+   * Searches the shortest route from the given source to the given destination.
+   *
+   * @return The costs of the shortest route, or {@link Double#POSITIVE_INFINITY}, if there is no
+   * route.
+   */
+  private double search(SearchState state, int source, int destination) {
+    state.reset();
+    state.updateCosts(source, 0, IndexedGraph.NO_EDGE);
+    state.queue.add(source, lowerBound(source, destination));
+
+    while (!state.queue.isEmpty()) {
+      int vertex = state.queue.poll();
+      if (vertex == destination) {
+        return state.costs(destination);
+      }
+      if (!state.settle(vertex)) {
+        // Outdated queue entry.
+        continue;
+      }
+
+      relaxEdges(state, vertex, destination);
+    }
+
+    return Double.POSITIVE_INFINITY;
+  }
+
+  /**
+   * Searches the shortest routes from the given source to all of the given destinations, without
+   * any guidance by lower bounds.
+   * <p>
+   * After the search, the costs of destinations that have not been reached are infinite.
+   * </p>
+   *
+   * @param destinations The destination vertices, sorted in ascending order.
+   */
+  private void searchAll(SearchState state, int source, int[] destinations) {
+    state.reset();
+    state.updateCosts(source, 0, IndexedGraph.NO_EDGE);
+    state.queue.add(source, 0);
+
+    int remainingDestinations = destinations.length;
+    while (!state.queue.isEmpty() && remainingDestinations > 0) {
+      int vertex = state.queue.poll();
+      if (!state.settle(vertex)) {
+        // Outdated queue entry.
+        continue;
+      }
+      if (Arrays.binarySearch(destinations, vertex) >= 0) {
+        remainingDestinations--;
+      }
+
+      relaxEdges(state, vertex, IndexedGraph.NO_VERTEX);
+    }
+  }
+
+  /**
+   * Relaxes the edges leaving the given (settled) vertex.
+   *
+   * @param destination The destination vertex whose lower bounds are to be used for prioritizing
+   * the vertices reached, or {@link IndexedGraph#NO_VERTEX} to prioritize them by their costs only.
+   */
+  private void relaxEdges(SearchState state, int vertex, int destination) {
+    double vertexCosts = state.costs(vertex);
+    for (int edge = graph.outgoingStart(vertex); edge < graph.outgoingEnd(vertex); edge++) {
+      int neighbour = graph.edgeTarget(edge);
+      if (mask.isEdgeExcluded(edge) || mask.isVertexExcluded(neighbour)) {
+        continue;
+      }
+
+      double neighbourCosts = vertexCosts + graph.edgeWeight(edge);
+      if (neighbourCosts < state.costs(neighbour)) {
+        state.updateCosts(neighbour, neighbourCosts, edge);
+        state.queue.add(
+            neighbour,
+            destination == IndexedGraph.NO_VERTEX
+                ? neighbourCosts
+                : neighbourCosts + lowerBound(neighbour, destination)
+        );
+      }
+    }
+  }
+
+  private SearchState acquireSearchState() {
+    SearchState state = searchStates.poll();
+    return state == null ? new SearchState(graph.getPointCount()) : state;
+  }
+
+  /**
+   * The state of a single search.
+   * <p>
+   * Instead of being cleared before every search, entries are marked with the number of the search
+   * they were written in, so that reusing a state does not require touching every vertex.
+   * </p>
+   */
+  static class SearchState {
+
+    private final IndexedGraph.VertexQueue queue = new IndexedGraph.VertexQueue();
+    private final double[] costs;
+    private final int[] predecessorEdges;
+    private final int[] searchNumbers;
+    private final boolean[] settled;
+    private int searchNumber;
+
+    SearchState(int vertexCount) {
+      costs = new double[vertexCount];
+      predecessorEdges = new int[vertexCount];
+      searchNumbers = new int[vertexCount];
+      settled = new boolean[vertexCount];
+    }
+
+    void reset() {
+      queue.clear();
+      searchNumber++;
+      if (searchNumber == 0) {
+        // Overflow - entries written in earlier searches may be considered current again.
+        Arrays.fill(searchNumbers, 0);
+        searchNumber = 1;
+      }
+    }
+
+    double costs(int vertex) {
+      return searchNumbers[vertex] == searchNumber ? costs[vertex] : Double.POSITIVE_INFINITY;
+    }
+
+    int predecessorEdge(int vertex) {
+      return predecessorEdges[vertex];
+    }
+
+    void updateCosts(int vertex, double vertexCosts, int predecessorEdge) {
+      if (searchNumbers[vertex] != searchNumber) {
+        searchNumbers[vertex] = searchNumber;
+        settled[vertex] = false;
+      }
+      costs[vertex] = vertexCosts;
+      predecessorEdges[vertex] = predecessorEdge;
+    }
+
+    /**
+     * Marks the given vertex as settled.
+     *
+     * @return {@code false}, if the vertex was already settled.
+     */
+    boolean settle(int vertex) {
+      if (settled[vertex]) {
+        return false;
+      }
+      settled[vertex] = true;
+      return true;
+    }
+  }
+}
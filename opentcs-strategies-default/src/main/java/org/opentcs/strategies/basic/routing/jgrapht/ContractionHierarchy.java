@@ -0,0 +1,454 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * The metric-independent part of a customizable contraction hierarchy for an
+ * {@link IndexedGraph}.
+ * <p>
+ * Vertices are ranked using nested dissection of the undirected graph underlying the indexed
+ * graph and then eliminated one after another in the order of their ranks. When a vertex is
+ * eliminated, its remaining neighbours are connected with each other. The resulting arcs (each
+ * connecting a vertex with a higher-ranked one) do not depend on any edge weights, so the same
+ * hierarchy can be customized for different weights or sets of excluded points and paths without
+ * recomputing it.
+ * </p>
+ * <p>
+ * The higher-ranked neighbours of every vertex are exactly its ancestors in the elimination tree,
+ * in which every vertex's parent is its lowest-ranked higher neighbour. Searches can therefore be
+ * performed by following the elimination tree from the source and destination vertices to its
+ * root, without any priority queue.
+ * </p>
+ */
+class ContractionHierarchy {
+
+  /**
+   * Indicates that a vertex does not have a parent in the elimination tree.
+   */
+  static final int NO_VERTEX = -1;
+  /**
+   * The rank of every vertex.
+   */
+  private final int[] ranks;
+  /**
+   * The vertices, ordered by their ranks.
+   */
+  private final int[] verticesByRank;
+  /**
+   * The parent of every vertex in the elimination tree.
+   */
+  private final int[] parents;
+  /**
+   * The offsets of every vertex's arcs in the arc arrays, with an additional entry marking the end
+   * of the last vertex's arcs.
+   */
+  private final int[] arcOffsets;
+  /**
+   * The lower-ranked vertex of every arc.
+   */
+  private final int[] arcTails;
+  /**
+   * The higher-ranked vertex of every arc. The arcs of every vertex are sorted by the ranks of
+   * their higher-ranked vertices.
+   */
+  private final int[] arcHeads;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph to create the hierarchy for.
+   */
+  ContractionHierarchy(IndexedGraph graph) {
+    requireNonNull(graph, "graph");
+
+    int[][] neighbours = undirectedNeighbours(graph);
+    int vertexCount = neighbours.length;
+
+    verticesByRank = computeOrder(neighbours);
+    ranks = new int[vertexCount];
+    for (int rank = 0; rank < vertexCount; rank++) {
+      ranks[verticesByRank[rank]] = rank;
+    }
+
+    int[][] higherNeighbours = eliminateVertices(neighbours);
+    parents = new int[vertexCount];
+    arcOffsets = new int[vertexCount + 1];
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      arcOffsets[vertex + 1] = arcOffsets[vertex] + higherNeighbours[vertex].length;
+    }
+    arcTails = new int[arcOffsets[vertexCount]];
+    arcHeads = new int[arcOffsets[vertexCount]];
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      int[] heads = higherNeighbours[vertex];
+      parents[vertex] = heads.length == 0 ? NO_VERTEX : heads[0];
+      Arrays.fill(arcTails, arcOffsets[vertex], arcOffsets[vertex + 1], vertex);
+      System.arraycopy(heads, 0, arcHeads, arcOffsets[vertex], heads.length);
+    }
+  }
+
+  /**
+   * Returns the number of vertices.
+   *
+   * @return The number of vertices.
+   */
+  int getVertexCount() {
+    return ranks.length;
+  }
+
+  /**
+   * Returns the number of arcs.
+   *
+   * @return The number of arcs.
+   */
+  int getArcCount() {
+    return arcHeads.length;
+  }
+
+  /**
+   * Returns the rank of the given vertex.
+   *
+   * @param vertex The vertex.
+   * @return The rank of the given vertex.
+   */
+  int rank(int vertex) {
+    return ranks[vertex];
+  }
+
+  /**
+   * Returns the vertex with the given rank.
+   *
+   * @param rank The rank.
+   * @return The vertex with the given rank.
+   */
+  int vertexWithRank(int rank) {
+    return verticesByRank[rank];
+  }
+
+  /**
+   * Returns the parent of the given vertex in the elimination tree.
+   *
+   * @param vertex The vertex.
+   * @return The parent of the given vertex, or {@link #NO_VERTEX}, if the vertex is a root.
+   */
+  int parent(int vertex) {
+    return parents[vertex];
+  }
+
+  /**
+   * Returns the offset of the given vertex's first arc.
+   *
+   * @param vertex The vertex.
+   * @return The offset of the given vertex's first arc.
+   */
+  int arcsStart(int vertex) {
+    return arcOffsets[vertex];
+  }
+
+  /**
+   * Returns the offset following the given vertex's last arc.
+   *
+   * @param vertex The vertex.
+   * @return The offset following the given vertex's last arc.
+   */
+  int arcsEnd(int vertex) {
+    return arcOffsets[vertex + 1];
+  }
+
+  /**
+   * Returns the lower-ranked vertex of the given arc.
+   *
+   * @param arc The arc.
+   * @return The lower-ranked vertex of the given arc.
+   */
+  int arcTail(int arc) {
+    return arcTails[arc];
+  }
+
+  /**
+   * Returns the higher-ranked vertex of the given arc.
+   *
+   * @param arc The arc.
+   * @return The higher-ranked vertex of the given arc.
+   */
+  int arcHead(int arc) {
+    return arcHeads[arc];
+  }
+
+  /**
+   * Returns the arc connecting the given vertices.
+   *
+   * @param tail The lower-ranked vertex.
+   * @param head The higher-ranked vertex.
+   * @return The arc connecting the given vertices.
+   * @throws IllegalArgumentException If the given vertices are not connected by an arc.
+   */
+  int arc(int tail, int head) {
+    int low = arcOffsets[tail];
+    int high = arcOffsets[tail + 1] - 1;
+    int headRank = ranks[head];
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int middleRank = ranks[arcHeads[middle]];
+      if (middleRank < headRank) {
+        low = middle + 1;
+      }
+      else if (middleRank > headRank) {
+        high = middle - 1;
+      }
+      else {
+        return middle;
+      }
+    }
+    throw new IllegalArgumentException("No arc from " + tail + " to " + head);
+  }
+
+  /**
+   * Returns the neighbours of every vertex in the undirected graph underlying the given graph.
+   */
+  private static int[][] undirectedNeighbours(IndexedGraph graph) {
+    int vertexCount = graph.getPointCount();
+    List<Set<Integer>> neighbours = new ArrayList<>(vertexCount);
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      neighbours.add(new HashSet<>());
+    }
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      for (int edge = graph.outgoingStart(vertex); edge < graph.outgoingEnd(vertex); edge++) {
+        int target = graph.edgeTarget(edge);
+        if (target != vertex) {
+          neighbours.get(vertex).add(target);
+          neighbours.get(target).add(vertex);
+        }
+      }
+    }
+
+    int[][] result = new int[vertexCount][];
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      result[vertex] = neighbours.get(vertex).stream()
+          .mapToInt(Integer::intValue)
+          .sorted()
+          .toArray();
+    }
+    return result;
+  }
+
+  /**
+   * Orders the vertices using nested dissection.
+   * <p>
+   * Every connected set of vertices is split by a separator - the vertices at the median distance
+   * from a peripheral vertex, which separate the vertices closer to it from those farther away.
+   * The separator is ranked above the remaining vertices, which are then ordered the same way.
+   * This keeps the number of arcs and the height of the elimination tree small for the sparse,
+   * almost planar graphs of typical plant models.
+   * </p>
+   *
+   * @param neighbours The neighbours of every vertex.
+   * @return The vertices, ordered by their ranks.
+   */
+  private static int[] computeOrder(int[][] neighbours) {
+    int vertexCount = neighbours.length;
+    int[] result = new int[vertexCount];
+    // Marks the vertices of the set currently being processed, and the vertices visited while
+    // processing it.
+    int[] setMarks = new int[vertexCount];
+    int[] visitMarks = new int[vertexCount];
+    int[] distances = new int[vertexCount];
+    int mark = 0;
+
+    // Sets of vertices to be ordered, along with the lowest rank to be assigned to them.
+    Deque<int[]> pendingSets = new ArrayDeque<>();
+    Deque<Integer> pendingLowestRanks = new ArrayDeque<>();
+    pendingSets.push(IntStream.range(0, vertexCount).toArray());
+    pendingLowestRanks.push(0);
+    while (!pendingSets.isEmpty()) {
+      int[] vertices = pendingSets.pop();
+      int lowestRank = pendingLowestRanks.pop();
+      if (vertices.length <= 2) {
+        System.arraycopy(vertices, 0, result, lowestRank, vertices.length);
+        continue;
+      }
+
+      mark++;
+      int componentMark = mark;
+      for (int vertex : vertices) {
+        setMarks[vertex] = mark;
+      }
+
+      int[] component = breadthFirstSearch(
+          vertices[0], neighbours, setMarks, mark, visitMarks, mark, distances
+      );
+      if (component.length < vertices.length) {
+        // Not connected - order the component found and the remaining vertices separately.
+        int[] remaining = Arrays.stream(vertices)
+            .filter(vertex -> visitMarks[vertex] != componentMark)
+            .toArray();
+        pendingSets.push(component);
+        pendingLowestRanks.push(lowestRank);
+        pendingSets.push(remaining);
+        pendingLowestRanks.push(lowestRank + component.length);
+        continue;
+      }
+
+      // Search again from the vertex found last, which is likely to be on the periphery.
+      mark++;
+      for (int vertex : vertices) {
+        setMarks[vertex] = mark;
+      }
+      int[] levels = breadthFirstSearch(
+          component[component.length - 1], neighbours, setMarks, mark, visitMarks, mark, distances
+      );
+      int separatorDistance = selectSeparatorDistance(levels, distances);
+      if (separatorDistance < 0) {
+        // No proper separator (e.g. for a clique) - simply rank the vertices in the order found.
+        System.arraycopy(levels, 0, result, lowestRank, levels.length);
+        continue;
+      }
+
+      int[] separator = Arrays.stream(levels)
+          .filter(vertex -> distances[vertex] == separatorDistance)
+          .toArray();
+      int[] remaining = Arrays.stream(levels)
+          .filter(vertex -> distances[vertex] != separatorDistance)
+          .toArray();
+      System.arraycopy(
+          separator,
+          0,
+          result,
+          lowestRank + remaining.length,
+          separator.length
+      );
+      pendingSets.push(remaining);
+      pendingLowestRanks.push(lowestRank);
+    }
+
+    return result;
+  }
+
+  /**
+   * Selects the distance of the vertices to be used as a separator, preferring the smallest set of
+   * vertices among those splitting the remaining vertices in a balanced way.
+   *
+   * @param levels The vertices visited by a breadth-first search, in the order they were visited.
+   * @param distances The distances of the visited vertices.
+   * @return The distance of the separator vertices, or -1, if there is no proper separator.
+   */
+  private static int selectSeparatorDistance(int[] levels, int[] distances) {
+    int maxDistance = distances[levels[levels.length - 1]];
+    int[] levelSizes = new int[maxDistance + 1];
+    for (int vertex : levels) {
+      levelSizes[distances[vertex]]++;
+    }
+
+    int result = distances[levels[levels.length / 2]];
+    int verticesBefore = levelSizes[0];
+    for (int distance = 1; distance < maxDistance; distance++) {
+      if (verticesBefore >= levels.length / 4
+          && verticesBefore + levelSizes[distance] <= levels.length - levels.length / 4
+          && levelSizes[distance] < levelSizes[result]) {
+        result = distance;
+      }
+      verticesBefore += levelSizes[distance];
+    }
+
+    return result == 0 || result == maxDistance ? -1 : result;
+  }
+
+  /**
+   * Performs a breadth-first search starting at the given vertex, visiting only vertices marked as
+   * belonging to the set being processed.
+   *
+   * @return The vertices visited, in the order they were visited.
+   */
+  private static int[] breadthFirstSearch(
+      int start,
+      int[][] neighbours,
+      int[] setMarks,
+      int setMark,
+      int[] visitMarks,
+      int visitMark,
+      int[] distances
+  ) {
+    List<Integer> visited = new ArrayList<>();
+    visited.add(start);
+    visitMarks[start] = visitMark;
+    distances[start] = 0;
+    for (int i = 0; i < visited.size(); i++) {
+      int vertex = visited.get(i);
+      for (int neighbour : neighbours[vertex]) {
+        if (setMarks[neighbour] == setMark && visitMarks[neighbour] != visitMark) {
+          visitMarks[neighbour] = visitMark;
+          distances[neighbour] = distances[vertex] + 1;
+          visited.add(neighbour);
+        }
+      }
+    }
+    return visited.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /**
+   * Eliminates all vertices in the order of their ranks, connecting the higher-ranked neighbours
+   * of every eliminated vertex with each other.
+   * <p>
+   * Instead of inserting the connections explicitly, the higher-ranked neighbours of every vertex
+   * are determined as its original higher-ranked neighbours along with those of its children in
+   * the elimination tree.
+   * </p>
+   *
+   * @param neighbours The neighbours of every vertex.
+   * @return The higher-ranked neighbours of every vertex, sorted by their ranks.
+   */
+  private int[][] eliminateVertices(int[][] neighbours) {
+    int vertexCount = neighbours.length;
+    int[][] higherNeighbours = new int[vertexCount][];
+    List<List<Integer>> children = new ArrayList<>(vertexCount);
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      children.add(new ArrayList<>());
+    }
+    // Marks the vertices already collected as higher-ranked neighbours of the current vertex.
+    int[] collectedMarks = new int[vertexCount];
+    Arrays.fill(collectedMarks, -1);
+
+    for (int rank = 0; rank < vertexCount; rank++) {
+      int vertex = verticesByRank[rank];
+      collectedMarks[vertex] = rank;
+      // The ranks of the vertex's higher-ranked neighbours.
+      List<Integer> collected = new ArrayList<>();
+      for (int neighbour : neighbours[vertex]) {
+        if (ranks[neighbour] > rank && collectedMarks[neighbour] != rank) {
+          collectedMarks[neighbour] = rank;
+          collected.add(ranks[neighbour]);
+        }
+      }
+      for (int child : children.get(vertex)) {
+        for (int neighbour : higherNeighbours[child]) {
+          if (collectedMarks[neighbour] != rank) {
+            collectedMarks[neighbour] = rank;
+            collected.add(ranks[neighbour]);
+          }
+        }
+      }
+      children.set(vertex, null);
+
+      higherNeighbours[vertex] = collected.stream()
+          .mapToInt(Integer::intValue)
+          .sorted()
+          .map(neighbourRank -> verticesByRank[neighbourRank])
+          .toArray();
+      if (higherNeighbours[vertex].length > 0) {
+        children.get(higherNeighbours[vertex][0]).add(vertex);
+      }
+    }
+
+    return higherNeighbours;
+  }
+}
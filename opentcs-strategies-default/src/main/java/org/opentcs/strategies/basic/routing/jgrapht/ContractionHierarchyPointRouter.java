@@ -0,0 +1,569 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Computes routes between points using a customizable contraction hierarchy.
+ * <p>
+ * The {@link ContractionHierarchy hierarchy} is computed once per graph and then customized with
+ * the graph's edge weights: for every arc of the hierarchy, the costs of the cheapest route between
+ * its two vertices via lower-ranked vertices are computed in both directions. Queries then only
+ * have to follow the elimination tree from the source and destination vertices to its root, which
+ * touches only a small fraction of the graph's vertices and does not require a priority queue.
+ * For routes from one source to multiple destinations, the part of the search starting at the
+ * source is done only once.
+ * </p>
+ * <p>
+ * Routers {@link #withExclusions excluding} points and paths and routers for
+ * {@link #withUpdatedGraph updated} edge weights share the hierarchy with this router and only
+ * repeat the customization. As the same points and paths are usually excluded for many queries
+ * (e.g. for all route computations for a transport order), routers customized for the most
+ * recently used exclusions are cached and reused.
+ * </p>
+ * <p>
+ * This implementation is intended for very large plant models with many route computations.
+ * </p>
+ * <p>
+ * <em>Note that this implementation does not integrate static routes.</em>
+ * </p>
+ */
+public class ContractionHierarchyPointRouter
+    implements
+      MaskablePointRouter {
+
+  /**
+   * The maximum number of routers customized for exclusions to be cached.
+   * Every one of them requires memory proportional to the number of arcs of the hierarchy.
+   */
+  private static final int MAX_CACHED_EXCLUSION_ROUTERS = 8;
+  private final IndexedGraph graph;
+  private final ContractionHierarchy hierarchy;
+  private final RoutingMask mask;
+  /**
+   * The costs of every arc in upward direction, i.e. from its lower-ranked to its higher-ranked
+   * vertex.
+   */
+  private final double[] upwardCosts;
+  /**
+   * The costs of every arc in downward direction.
+   */
+  private final double[] downwardCosts;
+  /**
+   * For every arc in upward direction, the edge it represents, or {@link IndexedGraph#NO_EDGE}, if
+   * it represents a route via a lower-ranked vertex.
+   */
+  private final int[] upwardEdges;
+  /**
+   * For every arc in downward direction, the edge it represents, or {@link IndexedGraph#NO_EDGE},
+   * if it represents a route via a lower-ranked vertex.
+   */
+  private final int[] downwardEdges;
+  /**
+   * For every arc in upward direction, the lower-ranked vertex the represented route leads via, or
+   * {@link ContractionHierarchy#NO_VERTEX}.
+   */
+  private final int[] upwardVias;
+  /**
+   * For every arc in downward direction, the lower-ranked vertex the represented route leads via,
+   * or {@link ContractionHierarchy#NO_VERTEX}.
+   */
+  private final int[] downwardVias;
+  /**
+   * Search states available for reuse, so that concurrent searches do not share state.
+   */
+  private final Queue<SearchState> searchStates;
+  /**
+   * The routers customized for exclusions, shared by all routers working on the same graph.
+   */
+  private final Map<RoutingMask, ContractionHierarchyPointRouter> exclusionRouters;
+
+  /**
+   * Creates a new instance, computing the contraction hierarchy for the given graph.
+   *
+   * @param graph The graph.
+   */
+  public ContractionHierarchyPointRouter(IndexedGraph graph) {
+    this(
+        requireNonNull(graph, "graph"),
+        new ContractionHierarchy(graph),
+        RoutingMask.NONE,
+        new ExclusionRouterCache()
+    );
+  }
+
+  private ContractionHierarchyPointRouter(
+      IndexedGraph graph,
+      ContractionHierarchy hierarchy,
+      RoutingMask mask,
+      Map<RoutingMask, ContractionHierarchyPointRouter> exclusionRouters
+  ) {
+    this.graph = graph;
+    this.hierarchy = hierarchy;
+    this.mask = mask;
+    this.searchStates = new ConcurrentLinkedQueue<>();
+    this.exclusionRouters = exclusionRouters;
+
+    int arcCount = hierarchy.getArcCount();
+    upwardCosts = new double[arcCount];
+    downwardCosts = new double[arcCount];
+    upwardEdges = new int[arcCount];
+    downwardEdges = new int[arcCount];
+    upwardVias = new int[arcCount];
+    downwardVias = new int[arcCount];
+    customize();
+  }
+
+  @Override
+  public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return new ArrayList<>();
+    }
+
+    int source = graph.indexOf(srcPoint.getName());
+    int destination = graph.indexOf(destPoint.getName());
+    if (!isSearchable(source, destination)) {
+      return null;
+    }
+
+    SearchState state = acquireSearchState();
+    try {
+      int meetingVertex = search(state, source, destination);
+      if (meetingVertex == ContractionHierarchy.NO_VERTEX) {
+        return null;
+      }
+      return graph.toSteps(unpackRoute(state, source, destination, meetingVertex));
+    }
+    finally {
+      state.resetForward(hierarchy, source);
+      state.resetBackward(hierarchy, destination);
+      searchStates.add(state);
+    }
+  }
+
+  @Override
+  public Map<Point, List<Route.Step>> getRouteSteps(Point srcPoint, Set<Point> destPoints) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoints, "destPoints");
+
+    Map<Point, List<Route.Step>> result = new HashMap<>();
+    int source = graph.indexOf(srcPoint.getName());
+    SearchState state = acquireSearchState();
+    boolean forwardSearched = false;
+    try {
+      for (Point destPoint : destPoints) {
+        if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+          result.put(destPoint, new ArrayList<>());
+          continue;
+        }
+        int destination = graph.indexOf(destPoint.getName());
+        if (!isSearchable(source, destination)) {
+          continue;
+        }
+
+        if (!forwardSearched) {
+          searchForward(state, source);
+          forwardSearched = true;
+        }
+        int meetingVertex = searchBackward(state, destination);
+        if (meetingVertex != ContractionHierarchy.NO_VERTEX) {
+          result.put(
+              destPoint,
+              graph.toSteps(unpackRoute(state, source, destination, meetingVertex))
+          );
+        }
+        state.resetBackward(hierarchy, destination);
+      }
+      return result;
+    }
+    finally {
+      if (forwardSearched) {
+        state.resetForward(hierarchy, source);
+      }
+      searchStates.add(state);
+    }
+  }
+
+  @Override
+  public long getCosts(
+      TCSObjectReference<Point> srcPointRef,
+      TCSObjectReference<Point> destPointRef
+  ) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRef, "destPointRef");
+
+    if (Objects.equals(srcPointRef.getName(), destPointRef.getName())) {
+      return 0;
+    }
+
+    int source = graph.indexOf(srcPointRef.getName());
+    int destination = graph.indexOf(destPointRef.getName());
+    if (!isSearchable(source, destination)) {
+      return INFINITE_COSTS;
+    }
+
+    SearchState state = acquireSearchState();
+    try {
+      int meetingVertex = search(state, source, destination);
+      if (meetingVertex == ContractionHierarchy.NO_VERTEX) {
+        return INFINITE_COSTS;
+      }
+      return (long) (state.forwardCosts[meetingVertex] + state.backwardCosts[meetingVertex]);
+    }
+    finally {
+      state.resetForward(hierarchy, source);
+      state.resetBackward(hierarchy, destination);
+      searchStates.add(state);
+    }
+  }
+
+  @Override
+  public PointRouter withExclusions(Set<Point> pointsToExclude, Set<Path> pathsToExclude) {
+    requireNonNull(pointsToExclude, "pointsToExclude");
+    requireNonNull(pathsToExclude, "pathsToExclude");
+
+    if (pointsToExclude.isEmpty() && pathsToExclude.isEmpty()) {
+      return this;
+    }
+
+    RoutingMask exclusionMask = new RoutingMask(graph, pointsToExclude, pathsToExclude);
+    if (exclusionMask.isEmpty()) {
+      return this;
+    }
+
+    synchronized (exclusionRouters) {
+      ContractionHierarchyPointRouter router = exclusionRouters.get(exclusionMask);
+      if (router != null) {
+        return router;
+      }
+    }
+
+    // Customize outside of the lock, so that queries with other exclusions are not blocked.
+    ContractionHierarchyPointRouter router
+        = new ContractionHierarchyPointRouter(graph, hierarchy, exclusionMask, exclusionRouters);
+    synchronized (exclusionRouters) {
+      ContractionHierarchyPointRouter cachedRouter = exclusionRouters.putIfAbsent(
+          exclusionMask,
+          router
+      );
+      return cachedRouter == null ? router : cachedRouter;
+    }
+  }
+
+  @Override
+  public MaskablePointRouter withUpdatedGraph(IndexedGraph updatedGraph) {
+    requireNonNull(updatedGraph, "updatedGraph");
+    checkArgument(
+        updatedGraph.sharesStructureWith(graph),
+        "updatedGraph does not share its structure with this router's graph"
+    );
+
+    return new ContractionHierarchyPointRouter(
+        updatedGraph,
+        hierarchy,
+        RoutingMask.NONE,
+        new ExclusionRouterCache()
+    );
+  }
+
+  /**
+   * Computes the costs of all arcs for the graph's edge weights, ignoring excluded vertices and
+   * edges.
+   * <p>
+   * Arcs are initialized with the weights of the edges connecting their vertices directly. Then,
+   * for every vertex in the order of their ranks, the routes between every pair of its
+   * higher-ranked neighbours via the vertex are considered for the arc connecting them.
+   * </p>
+   */
+  private void customize() {
+    Arrays.fill(upwardCosts, Double.POSITIVE_INFINITY);
+    Arrays.fill(downwardCosts, Double.POSITIVE_INFINITY);
+    Arrays.fill(upwardEdges, IndexedGraph.NO_EDGE);
+    Arrays.fill(downwardEdges, IndexedGraph.NO_EDGE);
+    Arrays.fill(upwardVias, ContractionHierarchy.NO_VERTEX);
+    Arrays.fill(downwardVias, ContractionHierarchy.NO_VERTEX);
+
+    for (int vertex = 0; vertex < hierarchy.getVertexCount(); vertex++) {
+      if (mask.isVertexExcluded(vertex)) {
+        continue;
+      }
+      for (int edge = graph.outgoingStart(vertex); edge < graph.outgoingEnd(vertex); edge++) {
+        int target = graph.edgeTarget(edge);
+        double weight = graph.edgeWeight(edge);
+        if (target == vertex || mask.isVertexExcluded(target) || mask.isEdgeExcluded(edge)) {
+          continue;
+        }
+
+        if (hierarchy.rank(vertex) < hierarchy.rank(target)) {
+          int arc = hierarchy.arc(vertex, target);
+          if (weight < upwardCosts[arc]) {
+            upwardCosts[arc] = weight;
+            upwardEdges[arc] = edge;
+          }
+        }
+        else {
+          int arc = hierarchy.arc(target, vertex);
+          if (weight < downwardCosts[arc]) {
+            downwardCosts[arc] = weight;
+            downwardEdges[arc] = edge;
+          }
+        }
+      }
+    }
+
+    for (int rank = 0; rank < hierarchy.getVertexCount(); rank++) {
+      int vertex = hierarchy.vertexWithRank(rank);
+      int arcsEnd = hierarchy.arcsEnd(vertex);
+      for (int lowerArc = hierarchy.arcsStart(vertex); lowerArc < arcsEnd; lowerArc++) {
+        for (int upperArc = lowerArc + 1; upperArc < arcsEnd; upperArc++) {
+          int arc = hierarchy.arc(hierarchy.arcHead(lowerArc), hierarchy.arcHead(upperArc));
+          double upwardViaCosts = downwardCosts[lowerArc] + upwardCosts[upperArc];
+          if (upwardViaCosts < upwardCosts[arc]) {
+            upwardCosts[arc] = upwardViaCosts;
+            upwardEdges[arc] = IndexedGraph.NO_EDGE;
+            upwardVias[arc] = vertex;
+          }
+          double downwardViaCosts = downwardCosts[upperArc] + upwardCosts[lowerArc];
+          if (downwardViaCosts < downwardCosts[arc]) {
+            downwardCosts[arc] = downwardViaCosts;
+            downwardEdges[arc] = IndexedGraph.NO_EDGE;
+            downwardVias[arc] = vertex;
+          }
+        }
+      }
+    }
+  }
+
+  private boolean isSearchable(int source, int destination) {
+    return source >= 0
+        && destination >= 0
+        && !mask.isVertexExcluded(source)
+        && !mask.isVertexExcluded(destination);
+  }
+
+  /**
+   * Searches the shortest route from the given source to the given destination by following the
+   * elimination tree upwards from both of them, in the order of the vertices' ranks.
+   *
+   * @return The vertex on the shortest route with the highest rank, or
+   * {@link ContractionHierarchy#NO_VERTEX}, if there is no route.
+   */
+  private int search(SearchState state, int source, int destination) {
+    searchForward(state, source);
+    return searchBackward(state, destination);
+  }
+
+  /**
+   * Computes the costs of the shortest routes from the given source to all of its ancestors in the
+   * elimination tree, using upward arcs only.
+   */
+  private void searchForward(SearchState state, int source) {
+    state.forwardCosts[source] = 0;
+    for (int vertex = source; vertex != ContractionHierarchy.NO_VERTEX;) {
+      relaxArcs(vertex, upwardCosts, state.forwardCosts, state.forwardArcs);
+      vertex = hierarchy.parent(vertex);
+    }
+  }
+
+  /**
+   * Computes the costs of the shortest routes from all ancestors of the given destination in the
+   * elimination tree to the destination, using downward arcs only, and finds the ancestor at which
+   * the route from the source (as computed by a preceding forward search) is cheapest.
+   *
+   * @return The vertex on the shortest route with the highest rank, or
+   * {@link ContractionHierarchy#NO_VERTEX}, if there is no route.
+   */
+  private int searchBackward(SearchState state, int destination) {
+    state.backwardCosts[destination] = 0;
+
+    double bestCosts = Double.POSITIVE_INFINITY;
+    int meetingVertex = ContractionHierarchy.NO_VERTEX;
+    for (int vertex = destination; vertex != ContractionHierarchy.NO_VERTEX;) {
+      double costs = state.forwardCosts[vertex] + state.backwardCosts[vertex];
+      if (costs < bestCosts) {
+        bestCosts = costs;
+        meetingVertex = vertex;
+      }
+      relaxArcs(vertex, downwardCosts, state.backwardCosts, state.backwardArcs);
+      vertex = hierarchy.parent(vertex);
+    }
+
+    return meetingVertex;
+  }
+
+  private void relaxArcs(int vertex, double[] arcCosts, double[] costs, int[] predecessorArcs) {
+    double vertexCosts = costs[vertex];
+    if (vertexCosts == Double.POSITIVE_INFINITY) {
+      return;
+    }
+
+    for (int arc = hierarchy.arcsStart(vertex); arc < hierarchy.arcsEnd(vertex); arc++) {
+      int head = hierarchy.arcHead(arc);
+      double headCosts = vertexCosts + arcCosts[arc];
+      if (headCosts < costs[head]) {
+        costs[head] = headCosts;
+        predecessorArcs[head] = arc;
+      }
+    }
+  }
+
+  /**
+   * Translates the route found by a search to the edges it consists of.
+   */
+  private int[] unpackRoute(SearchState state, int source, int destination, int meetingVertex) {
+    // Collect the arcs leading from the source up to the meeting vertex and from the meeting
+    // vertex down to the destination.
+    List<Integer> routeArcs = new ArrayList<>();
+    for (int vertex = meetingVertex; vertex != source;) {
+      int arc = state.forwardArcs[vertex];
+      routeArcs.add(upwardArc(arc));
+      vertex = hierarchy.arcTail(arc);
+    }
+    Collections.reverse(routeArcs);
+    for (int vertex = meetingVertex; vertex != destination;) {
+      int arc = state.backwardArcs[vertex];
+      routeArcs.add(downwardArc(arc));
+      vertex = hierarchy.arcTail(arc);
+    }
+
+    // Arcs are processed from the end of the deque, so add them in reverse order.
+    Deque<Integer> pendingArcs = new ArrayDeque<>();
+    for (int i = routeArcs.size() - 1; i >= 0; i--) {
+      pendingArcs.addLast(routeArcs.get(i));
+    }
+
+    // Replace arcs representing routes via lower-ranked vertices with the two arcs connecting these
+    // vertices, until only arcs representing edges are left.
+    List<Integer> routeEdges = new ArrayList<>();
+    while (!pendingArcs.isEmpty()) {
+      int directedArc = pendingArcs.removeLast();
+      int arc = directedArc >>> 1;
+      boolean upward = isUpward(directedArc);
+      int via = upward ? upwardVias[arc] : downwardVias[arc];
+      if (via == ContractionHierarchy.NO_VERTEX) {
+        routeEdges.add(upward ? upwardEdges[arc] : downwardEdges[arc]);
+        continue;
+      }
+
+      int tailArc = hierarchy.arc(via, hierarchy.arcTail(arc));
+      int headArc = hierarchy.arc(via, hierarchy.arcHead(arc));
+      if (upward) {
+        // Tail -> via -> head
+        pendingArcs.addLast(upwardArc(headArc));
+        pendingArcs.addLast(downwardArc(tailArc));
+      }
+      else {
+        // Head -> via -> tail
+        pendingArcs.addLast(upwardArc(tailArc));
+        pendingArcs.addLast(downwardArc(headArc));
+      }
+    }
+
+    return routeEdges.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  private static int upwardArc(int arc) {
+    return arc << 1;
+  }
+
+  private static int downwardArc(int arc) {
+    return (arc << 1) | 1;
+  }
+
+  private static boolean isUpward(int directedArc) {
+    return (directedArc & 1) == 0;
+  }
+
+  private SearchState acquireSearchState() {
+    SearchState state = searchStates.poll();
+    return state == null ? new SearchState(hierarchy.getVertexCount()) : state;
+  }
+
+  /**
+   * A cache of routers customized for exclusions, evicting the least recently used ones.
+   * <p>
+   * Access to instances must be synchronized on them.
+   * </p>
+   */
+  private static class ExclusionRouterCache
+      extends
+        LinkedHashMap<RoutingMask, ContractionHierarchyPointRouter> {
+
+    ExclusionRouterCache() {
+      super(16, 0.75f, true);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(
+        Map.Entry<RoutingMask, ContractionHierarchyPointRouter> eldest
+    ) {
+      return size() > MAX_CACHED_EXCLUSION_ROUTERS;
+    }
+  }
+
+  /**
+   * The state of a single search.
+   */
+  private static class SearchState {
+
+    private final double[] forwardCosts;
+    private final double[] backwardCosts;
+    private final int[] forwardArcs;
+    private final int[] backwardArcs;
+
+    SearchState(int vertexCount) {
+      forwardCosts = new double[vertexCount];
+      backwardCosts = new double[vertexCount];
+      forwardArcs = new int[vertexCount];
+      backwardArcs = new int[vertexCount];
+      Arrays.fill(forwardCosts, Double.POSITIVE_INFINITY);
+      Arrays.fill(backwardCosts, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Resets the entries written during a forward search, which are limited to the ancestors of
+     * the search's source in the elimination tree.
+     */
+    void resetForward(ContractionHierarchy hierarchy, int source) {
+      for (int vertex = source; vertex != ContractionHierarchy.NO_VERTEX;) {
+        forwardCosts[vertex] = Double.POSITIVE_INFINITY;
+        vertex = hierarchy.parent(vertex);
+      }
+    }
+
+    /**
+     * Resets the entries written during a backward search, which are limited to the ancestors of
+     * the search's destination in the elimination tree.
+     */
+    void resetBackward(ContractionHierarchy hierarchy, int destination) {
+      for (int vertex = destination; vertex != ContractionHierarchy.NO_VERTEX;) {
+        backwardCosts[vertex] = Double.POSITIVE_INFINITY;
+        vertex = hierarchy.parent(vertex);
+      }
+    }
+  }
+}
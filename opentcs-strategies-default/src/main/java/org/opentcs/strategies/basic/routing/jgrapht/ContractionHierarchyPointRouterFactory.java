@@ -0,0 +1,36 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import org.opentcs.components.kernel.routing.GroupMapper;
+
+/**
+ * Creates {@link ContractionHierarchyPointRouter} instances.
+ */
+public class ContractionHierarchyPointRouterFactory
+    extends
+      AbstractIndexedPointRouterFactory {
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graphProvider Provides routing graphs for vehicles.
+   * @param routingGroupMapper Used to map vehicles to their routing groups.
+   */
+  @Inject
+  public ContractionHierarchyPointRouterFactory(
+      @Nonnull
+      GraphProvider graphProvider,
+      @Nonnull
+      GroupMapper routingGroupMapper
+  ) {
+    super(graphProvider, routingGroupMapper);
+  }
+
+  @Override
+  protected MaskablePointRouter createPointRouter(IndexedGraph graph) {
+    return new ContractionHierarchyPointRouter(graph);
+  }
+}
@@ -12,7 +12,6 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.WeakHashMap;
 import org.jgrapht.Graph;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.components.kernel.routing.GroupMapper;
@@ -26,6 +25,10 @@ import org.opentcs.data.model.Vehicle;
  * <p>
  * This provider caches computed routing graphs until it is {@link #invalidate() invalidated}.
  * </p>
+ * <p>
+ * Instances of this class are thread-safe. The {@link GraphResult}s provided contain snapshots of
+ * the sets of points and paths they were computed with, so they are not affected by later updates.
+ * </p>
  */
 public class GraphProvider {
 
@@ -33,15 +36,10 @@ public class GraphProvider {
   private final ModelGraphMapper defaultModelGraphMapper;
   private final ModelGraphMapper generalModelGraphMapper;
   private final GroupMapper routingGroupMapper;
-  private final GraphMutator graphMutator;
   /**
    * Contains {@link GraphResult}s mapped to (vehicle) routing groups.
    */
   private final Map<String, GraphResult> graphResultsByRoutingGroup = new HashMap<>();
-  /**
-   * A cache for derived {@link GraphResult}s.
-   */
-  private final Map<String, GraphResult> derivedGraphResults = new WeakHashMap<>();
   /**
    * The set of points that is currently used for computing routing graphs.
    */
@@ -64,7 +62,6 @@ public class GraphProvider {
    * @param defaultModelGraphMapper Maps the points and paths to a graph.
    * @param generalModelGraphMapper Maps the points and paths to a graph.
    * @param routingGroupMapper Used to map vehicles to their routing groups.
-   * @param graphMutator Provides methods for mutating {@link GraphResult}s.
    */
   @Inject
   public GraphProvider(
@@ -75,9 +72,7 @@ public class GraphProvider {
       @Nonnull
       DefaultModelGraphMapper defaultModelGraphMapper,
       @Nonnull
-      GroupMapper routingGroupMapper,
-      @Nonnull
-      GraphMutator graphMutator
+      GroupMapper routingGroupMapper
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.defaultModelGraphMapper = requireNonNull(
@@ -89,17 +84,15 @@ public class GraphProvider {
         "generalModelGraphMapper"
     );
     this.routingGroupMapper = requireNonNull(routingGroupMapper, "routingGroupMapper");
-    this.graphMutator = requireNonNull(graphMutator, "graphMutator");
   }
 
   /**
    * Invalidates any graphs that have already been calculated.
    */
-  public void invalidate() {
+  public synchronized void invalidate() {
     currentPointBase.clear();
     currentPathBase.clear();
     graphResultsByRoutingGroup.clear();
-    derivedGraphResults.clear();
     generalGraphResult = null;
   }
 
@@ -109,13 +102,13 @@ public class GraphProvider {
    * @param vehicle The vehicle.
    * @return A {@link GraphResult} containing the routing graph for the given vehicle.
    */
-  public GraphResult getGraphResult(Vehicle vehicle) {
+  public synchronized GraphResult getGraphResult(Vehicle vehicle) {
     return graphResultsByRoutingGroup.computeIfAbsent(
         routingGroupMapper.apply(vehicle),
         routingGroup -> new GraphResult(
             vehicle,
-            getCurrentPointBase().getResources(),
-            getCurrentPathBase().getResources(),
+            Set.copyOf(getCurrentPointBase().getResources()),
+            Set.copyOf(getCurrentPathBase().getResources()),
             Set.of(),
             Set.of(),
             defaultModelGraphMapper.translateModel(
@@ -133,12 +126,12 @@ public class GraphProvider {
    *
    * @return A {@link GraphResult} containing the routing graph.
    */
-  public GraphResult getGeneralGraphResult() {
+  public synchronized GraphResult getGeneralGraphResult() {
     if (generalGraphResult == null) {
       generalGraphResult = new GraphResult(
           new Vehicle("Dummy"),
-          getCurrentPointBase().getResources(),
-          getCurrentPathBase().getResources(),
+          Set.copyOf(getCurrentPointBase().getResources()),
+          Set.copyOf(getCurrentPathBase().getResources()),
           Set.of(),
           Set.of(),
           generalModelGraphMapper.translateModel(
@@ -152,53 +145,6 @@ public class GraphProvider {
     return generalGraphResult;
   }
 
-  /**
-   * Returns a {@link GraphResult} that is derived from the given vehicle's "default" routing graph
-   * in such a way that the given sets of points and paths are not included.
-   *
-   * @param vehicle The vehicle.
-   * @param pointsToExclude The set of points to not include in the derived routing graph.
-   * @param pathsToExclude The set of paths to not include in the derived routing graph.
-   * @return The derived {@link GraphResult}.
-   */
-  public GraphResult getDerivedGraphResult(
-      @Nonnull
-      Vehicle vehicle,
-      @Nonnull
-      Set<Point> pointsToExclude,
-      @Nonnull
-      Set<Path> pathsToExclude
-  ) {
-    requireNonNull(vehicle, "vehicle");
-    requireNonNull(pointsToExclude, "pointsToExclude");
-    requireNonNull(pathsToExclude, "pathsToExclude");
-
-    return derivedGraphResults.computeIfAbsent(
-        derivedGraphResultCacheKey(vehicle, pointsToExclude, pathsToExclude),
-        key -> graphMutator.deriveGraph(pointsToExclude, pathsToExclude, getGraphResult(vehicle))
-    );
-  }
-
-  /**
-   * Returns a {@link GraphResult} that is derived from the general routing graph in such a way
-   * that the given sets of points and paths are not included.
-   *
-   * @param pointsToExclude The set of points to not include in the derived routing graph.
-   * @param pathsToExclude The set of paths to not include in the derived routing graph.
-   * @return The derived {@link GraphResult}.
-   */
-  public GraphResult getDerivedGeneralGraphResult(
-      @Nonnull
-      Set<Point> pointsToExclude,
-      @Nonnull
-      Set<Path> pathsToExclude
-  ) {
-    requireNonNull(pointsToExclude, "pointsToExclude");
-    requireNonNull(pathsToExclude, "pathsToExclude");
-
-    return graphMutator.deriveGraph(pointsToExclude, pathsToExclude, getGeneralGraphResult());
-  }
-
   /**
    * Updates any {@link GraphResult}s that have already been calculated using the given paths.
    * <p>
@@ -208,7 +154,7 @@ public class GraphProvider {
    *
    * @param paths The paths to use for the update.
    */
-  public void updateGraphResults(
+  public synchronized void updateGraphResults(
       @Nonnull
       Collection<Path> paths
   ) {
@@ -221,13 +167,14 @@ public class GraphProvider {
     // Ensure the path base is up-to-date.
     getCurrentPathBase().updateResources(paths);
 
+    Set<Path> pathBase = Set.copyOf(getCurrentPathBase().getResources());
     for (Map.Entry<String, GraphResult> entry : Set.copyOf(graphResultsByRoutingGroup.entrySet())) {
       graphResultsByRoutingGroup.put(
           entry.getKey(),
           new GraphResult(
               entry.getValue().getVehicle(),
               entry.getValue().getPointBase(),
-              getCurrentPathBase().getResources(),
+              pathBase,
               Set.of(),
               Set.of(),
               defaultModelGraphMapper.updateGraph(
@@ -240,23 +187,6 @@ public class GraphProvider {
     }
   }
 
-  private String derivedGraphResultCacheKey(
-      Vehicle vehicle,
-      Set<Point> pointsToExclude,
-      Set<Path> pathsToExclude
-  ) {
-    // Concat the different hash code values (e.g. instead of simply calculating the sum) to
-    // minimize risk of hash collisions.
-    return String.format(
-        "routingGroup(%s)_pointBase(%s)_pathBase(%s)_excludedPoints(%s)_excludedPaths(%s)",
-        routingGroupMapper.apply(vehicle).hashCode(),
-        getCurrentPointBase().getHash(),
-        getCurrentPathBase().getHash(),
-        pointsHashCode(pointsToExclude),
-        pathsHashCode(pathsToExclude)
-    );
-  }
-
   private HashedResourceSet<Point> getCurrentPointBase() {
     if (currentPointBase.isEmpty()) {
       currentPointBase.overrideResources(objectService.fetchObjects(Point.class));
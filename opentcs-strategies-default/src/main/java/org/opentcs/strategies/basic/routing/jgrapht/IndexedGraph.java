@@ -0,0 +1,706 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import org.jgrapht.Graph;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+
+/**
+ * A compact, immutable representation of a routing graph.
+ * <p>
+ * Vertices (points) are mapped to consecutive {@code int} indices and edges are stored in
+ * compressed sparse row format, i.e. in primitive arrays grouped by their source vertices. This
+ * allows shortest path computations that do not allocate any objects per vertex or edge visited.
+ * </p>
+ * <p>
+ * Points are indexed in the lexicographical order of their names, so that indices (and thus, the
+ * results of computations with equal costs) do not depend on the iteration order of the original
+ * graph.
+ * </p>
+ * <p>
+ * When the weights of a graph's edges change (e.g. because paths have been locked or unlocked), an
+ * {@link #withWeightsOf updated} instance sharing the vertices and edges of the original one can be
+ * created, allowing point routers to repair their precomputed data instead of recomputing it.
+ * </p>
+ */
+public class IndexedGraph {
+
+  /**
+   * Indicates that a vertex does not have a predecessor edge.
+   */
+  static final int NO_EDGE = -1;
+  /**
+   * Indicates the absence of a vertex (e.g. a destination vertex).
+   */
+  static final int NO_VERTEX = -1;
+  /**
+   * Marks a vertex whose shortest route has not been checked yet during an update.
+   */
+  private static final byte UNKNOWN = 0;
+  /**
+   * Marks a vertex whose shortest route is affected by an update.
+   */
+  private static final byte AFFECTED = 1;
+  /**
+   * Marks a vertex whose shortest route is not affected by an update.
+   */
+  private static final byte UNAFFECTED = 2;
+  /**
+   * The indexed points.
+   */
+  private final Point[] points;
+  /**
+   * Maps point names to point indices.
+   */
+  private final Map<String, Integer> pointIndices;
+  /**
+   * The offsets of every vertex's outgoing edges in the edge arrays, with an additional entry
+   * marking the end of the last vertex's edges.
+   */
+  private final int[] outgoingOffsets;
+  /**
+   * The source vertex of every edge.
+   */
+  private final int[] edgeSources;
+  /**
+   * The target vertex of every edge.
+   */
+  private final int[] edgeTargets;
+  /**
+   * The weight of every edge.
+   */
+  private final double[] edgeWeights;
+  /**
+   * The original edges.
+   */
+  private final Edge[] edges;
+  /**
+   * The offsets of every vertex's incoming edges in {@link #incomingEdges}, with an additional
+   * entry marking the end of the last vertex's edges.
+   */
+  private final int[] incomingOffsets;
+  /**
+   * The indices of all edges, grouped by their target vertices.
+   */
+  private final int[] incomingEdges;
+  /**
+   * Maps path names to the indices of the edges representing the respective paths.
+   */
+  private final Map<String, int[]> edgesByPathName;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph to be represented.
+   * @param points The points to be indexed. Points that are not vertices of the given graph are
+   * ignored.
+   */
+  public IndexedGraph(
+      @Nonnull
+      Graph<String, Edge> graph,
+      @Nonnull
+      Collection<Point> points
+  ) {
+    requireNonNull(graph, "graph");
+    requireNonNull(points, "points");
+
+    this.points = points.stream()
+        .filter(point -> graph.containsVertex(point.getName()))
+        .sorted(Comparator.comparing(Point::getName))
+        .toArray(Point[]::new);
+    pointIndices = new HashMap<>();
+    for (int i = 0; i < this.points.length; i++) {
+      pointIndices.put(this.points[i].getName(), i);
+    }
+
+    List<Edge> indexedEdges = graph.edgeSet().stream()
+        .filter(
+            edge -> pointIndices.containsKey(graph.getEdgeSource(edge))
+                && pointIndices.containsKey(graph.getEdgeTarget(edge))
+        )
+        .toList();
+    int vertexCount = this.points.length;
+    int edgeCount = indexedEdges.size();
+
+    outgoingOffsets = new int[vertexCount + 1];
+    incomingOffsets = new int[vertexCount + 1];
+    for (Edge edge : indexedEdges) {
+      outgoingOffsets[pointIndices.get(graph.getEdgeSource(edge)) + 1]++;
+      incomingOffsets[pointIndices.get(graph.getEdgeTarget(edge)) + 1]++;
+    }
+    for (int i = 0; i < vertexCount; i++) {
+      outgoingOffsets[i + 1] += outgoingOffsets[i];
+      incomingOffsets[i + 1] += incomingOffsets[i];
+    }
+
+    edgeSources = new int[edgeCount];
+    edgeTargets = new int[edgeCount];
+    edgeWeights = new double[edgeCount];
+    edges = new Edge[edgeCount];
+    incomingEdges = new int[edgeCount];
+    int[] nextOutgoing = Arrays.copyOf(outgoingOffsets, vertexCount);
+    int[] nextIncoming = Arrays.copyOf(incomingOffsets, vertexCount);
+    for (Edge edge : indexedEdges) {
+      int source = pointIndices.get(graph.getEdgeSource(edge));
+      int target = pointIndices.get(graph.getEdgeTarget(edge));
+      int edgeIndex = nextOutgoing[source]++;
+      edgeSources[edgeIndex] = source;
+      edgeTargets[edgeIndex] = target;
+      edgeWeights[edgeIndex] = graph.getEdgeWeight(edge);
+      edges[edgeIndex] = edge;
+      incomingEdges[nextIncoming[target]++] = edgeIndex;
+    }
+    edgesByPathName = new HashMap<>();
+    for (int i = 0; i < edgeCount; i++) {
+      edgesByPathName.merge(
+          edges[i].getPath().getName(),
+          new int[]{i},
+          (existing, added) -> IntStream.concat(IntStream.of(existing), IntStream.of(added))
+              .toArray()
+      );
+    }
+  }
+
+  /**
+   * Creates a new instance sharing the vertices and edges of the given one.
+   *
+   * @param baseGraph The graph whose vertices and edges are to be shared.
+   * @param points The indexed points, in the same order as in the given graph.
+   * @param edges The original edges, in the same order as in the given graph.
+   * @param edgeWeights The weights of the edges.
+   */
+  private IndexedGraph(
+      IndexedGraph baseGraph,
+      Point[] points,
+      Edge[] edges,
+      double[] edgeWeights
+  ) {
+    this.points = points;
+    this.pointIndices = baseGraph.pointIndices;
+    this.outgoingOffsets = baseGraph.outgoingOffsets;
+    this.edgeSources = baseGraph.edgeSources;
+    this.edgeTargets = baseGraph.edgeTargets;
+    this.edgeWeights = edgeWeights;
+    this.edges = edges;
+    this.incomingOffsets = baseGraph.incomingOffsets;
+    this.incomingEdges = baseGraph.incomingEdges;
+    this.edgesByPathName = baseGraph.edgesByPathName;
+  }
+
+  /**
+   * Returns a representation of the given graph that shares the vertices and edges of this one,
+   * with the edges' weights taken from the given graph.
+   * <p>
+   * Edges of this graph that are not contained in the given graph (e.g. because the respective
+   * paths have been locked) are retained with infinite weights, so that they can get their weights
+   * back when the paths are unlocked again.
+   * </p>
+   *
+   * @param graph The graph to be represented.
+   * @param points The points to be indexed. Points that are not vertices of the given graph are
+   * ignored.
+   * @return The representation of the given graph, or an empty optional, if the given graph's
+   * vertices differ from this one's or the given graph contains edges not contained in this one
+   * (including edges of paths with the same names, but connecting different vertices).
+   */
+  public Optional<IndexedGraph> withWeightsOf(
+      @Nonnull
+      Graph<String, Edge> graph,
+      @Nonnull
+      Collection<Point> points
+  ) {
+    requireNonNull(graph, "graph");
+    requireNonNull(points, "points");
+
+    Point[] updatedPoints = points.stream()
+        .filter(point -> graph.containsVertex(point.getName()))
+        .sorted(Comparator.comparing(Point::getName))
+        .toArray(Point[]::new);
+    if (updatedPoints.length != this.points.length) {
+      return Optional.empty();
+    }
+    for (int i = 0; i < updatedPoints.length; i++) {
+      if (!Objects.equals(updatedPoints[i].getName(), this.points[i].getName())) {
+        return Optional.empty();
+      }
+    }
+
+    Edge[] updatedEdges = Arrays.copyOf(edges, edges.length);
+    double[] updatedEdgeWeights = new double[edges.length];
+    Arrays.fill(updatedEdgeWeights, Double.POSITIVE_INFINITY);
+    BitSet matchedEdges = new BitSet(edges.length);
+    for (Edge edge : graph.edgeSet()) {
+      Integer sourceIndex = pointIndices.get(graph.getEdgeSource(edge));
+      Integer targetIndex = pointIndices.get(graph.getEdgeTarget(edge));
+      if (sourceIndex == null || targetIndex == null) {
+        continue;
+      }
+
+      int edgeIndex = indexOf(edge, sourceIndex, targetIndex);
+      if (edgeIndex < 0 || matchedEdges.get(edgeIndex)) {
+        return Optional.empty();
+      }
+      matchedEdges.set(edgeIndex);
+      updatedEdges[edgeIndex] = edge;
+      updatedEdgeWeights[edgeIndex] = graph.getEdgeWeight(edge);
+    }
+
+    return Optional.of(new IndexedGraph(this, updatedPoints, updatedEdges, updatedEdgeWeights));
+  }
+
+  /**
+   * Checks whether the given graph shares its vertices and edges with this one, i.e. whether one
+   * of them has been created from the other one via {@link #withWeightsOf}.
+   *
+   * @param graph The graph.
+   * @return {@code true}, if the given graph shares its vertices and edges with this one.
+   */
+  boolean sharesStructureWith(IndexedGraph graph) {
+    return outgoingOffsets == graph.outgoingOffsets;
+  }
+
+  /**
+   * Returns the number of indexed points.
+   *
+   * @return The number of indexed points.
+   */
+  public int getPointCount() {
+    return points.length;
+  }
+
+  /**
+   * Returns the index of the point with the given name.
+   *
+   * @param pointName The name of the point.
+   * @return The index of the point, or -1, if the point is not part of this graph.
+   */
+  public int indexOf(
+      @Nonnull
+      String pointName
+  ) {
+    Integer index = pointIndices.get(pointName);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * Returns the number of indexed edges.
+   *
+   * @return The number of indexed edges.
+   */
+  int getEdgeCount() {
+    return edges.length;
+  }
+
+  /**
+   * Returns the indices of the edges representing the path with the given name.
+   *
+   * @param pathName The name of the path.
+   * @return The indices of the edges representing the path (which may be empty, e.g. if the path
+   * is not part of this graph).
+   */
+  int[] edgesOf(String pathName) {
+    return edgesByPathName.getOrDefault(pathName, new int[0]);
+  }
+
+  /**
+   * Computes the costs of the shortest routes from the given source vertex to all vertices (or,
+   * if {@code reverse} is set, from all vertices to the given vertex) using Dijkstra's algorithm.
+   *
+   * @param source The source vertex (or the target vertex, if {@code reverse} is set).
+   * @param reverse Whether to follow edges in reverse direction.
+   * @param costs Filled with the costs for every vertex, with {@link Double#POSITIVE_INFINITY} for
+   * vertices that are not reachable.
+   * @param predecessorEdges If not {@code null}, filled with the index of the last edge on the
+   * shortest route to every vertex (or the first edge, if {@code reverse} is set), or
+   * {@link #NO_EDGE}.
+   */
+  void computeCosts(int source, boolean reverse, double[] costs, int[] predecessorEdges) {
+    Arrays.fill(costs, Double.POSITIVE_INFINITY);
+    if (predecessorEdges != null) {
+      Arrays.fill(predecessorEdges, NO_EDGE);
+    }
+
+    VertexQueue queue = new VertexQueue();
+    costs[source] = 0;
+    queue.add(source, 0);
+    while (!queue.isEmpty()) {
+      double vertexCosts = queue.peekKey();
+      int vertex = queue.poll();
+      if (vertexCosts > costs[vertex]) {
+        // Outdated queue entry.
+        continue;
+      }
+
+      int start = reverse ? incomingOffsets[vertex] : outgoingOffsets[vertex];
+      int end = reverse ? incomingOffsets[vertex + 1] : outgoingOffsets[vertex + 1];
+      for (int i = start; i < end; i++) {
+        int edge = reverse ? incomingEdges[i] : i;
+        int neighbour = reverse ? edgeSources[edge] : edgeTargets[edge];
+        double neighbourCosts = vertexCosts + edgeWeights[edge];
+        if (neighbourCosts < costs[neighbour]) {
+          costs[neighbour] = neighbourCosts;
+          if (predecessorEdges != null) {
+            predecessorEdges[neighbour] = edge;
+          }
+          queue.add(neighbour, neighbourCosts);
+        }
+      }
+    }
+  }
+
+  /**
+   * Checks whether changing the weights of the given edges affects the costs of the shortest routes
+   * from a source vertex, as computed for the given previous graph.
+   *
+   * @param previousGraph The graph the costs were computed for, sharing its vertices and edges with
+   * this one.
+   * @param changedEdges The edges whose weights differ between the previous graph and this one.
+   * @param costs The costs computed for the previous graph.
+   * @param predecessorEdges The predecessor edges computed for the previous graph.
+   * @return {@code true}, if the costs or predecessor edges need to be
+   * {@link #updateCosts updated}.
+   */
+  boolean affectsCosts(
+      IndexedGraph previousGraph,
+      int[] changedEdges,
+      double[] costs,
+      int[] predecessorEdges
+  ) {
+    for (int edge : changedEdges) {
+      if (edgeWeights[edge] > previousGraph.edgeWeights[edge]) {
+        if (predecessorEdges[edgeTargets[edge]] == edge) {
+          return true;
+        }
+      }
+      else if (costs[edgeSources[edge]] + edgeWeights[edge] < costs[edgeTargets[edge]]) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Updates the costs of the shortest routes from the given source vertex to all vertices, as
+   * computed for the given previous graph, to the weights of this graph's edges.
+   * <p>
+   * Only the costs of vertices whose shortest routes contain an edge whose weight has increased
+   * are reset. They are then recomputed together with the costs of vertices that can be reached
+   * more cheaply via an edge whose weight has decreased, using Dijkstra's algorithm starting at
+   * these vertices. The costs of all other vertices remain untouched.
+   * </p>
+   *
+   * @param source The source vertex.
+   * @param previousGraph The graph the costs were computed for, sharing its vertices and edges with
+   * this one.
+   * @param changedEdges The edges whose weights differ between the previous graph and this one.
+   * @param costs The costs computed for the previous graph, to be updated in place.
+   * @param predecessorEdges The predecessor edges computed for the previous graph, to be updated in
+   * place.
+   */
+  void updateCosts(
+      int source,
+      IndexedGraph previousGraph,
+      int[] changedEdges,
+      double[] costs,
+      int[] predecessorEdges
+  ) {
+    BitSet increasedEdges = new BitSet(edges.length);
+    for (int edge : changedEdges) {
+      if (edgeWeights[edge] > previousGraph.edgeWeights[edge]) {
+        increasedEdges.set(edge);
+      }
+    }
+
+    // Determine the vertices whose shortest routes contain an edge whose weight has increased by
+    // following the predecessor edges, remembering the result for every vertex visited.
+    byte[] states = new byte[points.length];
+    int[] visited = new int[points.length];
+    for (int vertex = 0; vertex < points.length; vertex++) {
+      int visitedCount = 0;
+      int current = vertex;
+      while (states[current] == UNKNOWN) {
+        int edge = predecessorEdges[current];
+        if (current == source || edge == NO_EDGE) {
+          states[current] = UNAFFECTED;
+        }
+        else if (increasedEdges.get(edge)) {
+          states[current] = AFFECTED;
+        }
+        else {
+          visited[visitedCount++] = current;
+          current = edgeSources[edge];
+        }
+      }
+      for (int i = 0; i < visitedCount; i++) {
+        states[visited[i]] = states[current];
+      }
+    }
+
+    for (int vertex = 0; vertex < points.length; vertex++) {
+      if (states[vertex] == AFFECTED) {
+        costs[vertex] = Double.POSITIVE_INFINITY;
+        predecessorEdges[vertex] = NO_EDGE;
+      }
+    }
+
+    VertexQueue queue = new VertexQueue();
+    for (int vertex = 0; vertex < points.length; vertex++) {
+      if (states[vertex] != AFFECTED) {
+        continue;
+      }
+      for (int i = incomingOffsets[vertex]; i < incomingOffsets[vertex + 1]; i++) {
+        int edge = incomingEdges[i];
+        int neighbour = edgeSources[edge];
+        if (states[neighbour] != AFFECTED
+            && costs[neighbour] + edgeWeights[edge] < costs[vertex]) {
+          costs[vertex] = costs[neighbour] + edgeWeights[edge];
+          predecessorEdges[vertex] = edge;
+        }
+      }
+      if (costs[vertex] != Double.POSITIVE_INFINITY) {
+        queue.add(vertex, costs[vertex]);
+      }
+    }
+    for (int edge : changedEdges) {
+      int edgeSource = edgeSources[edge];
+      int edgeTarget = edgeTargets[edge];
+      if (costs[edgeSource] + edgeWeights[edge] < costs[edgeTarget]) {
+        costs[edgeTarget] = costs[edgeSource] + edgeWeights[edge];
+        predecessorEdges[edgeTarget] = edge;
+        queue.add(edgeTarget, costs[edgeTarget]);
+      }
+    }
+
+    while (!queue.isEmpty()) {
+      double vertexCosts = queue.peekKey();
+      int vertex = queue.poll();
+      if (vertexCosts > costs[vertex]) {
+        // Outdated queue entry.
+        continue;
+      }
+
+      for (int edge = outgoingOffsets[vertex]; edge < outgoingOffsets[vertex + 1]; edge++) {
+        int neighbour = edgeTargets[edge];
+        double neighbourCosts = vertexCosts + edgeWeights[edge];
+        if (neighbourCosts < costs[neighbour]) {
+          costs[neighbour] = neighbourCosts;
+          predecessorEdges[neighbour] = edge;
+          queue.add(neighbour, neighbourCosts);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the point with the given index.
+   *
+   * @param index The index.
+   * @return The point.
+   */
+  Point getPoint(int index) {
+    return points[index];
+  }
+
+  /**
+   * Returns the offset of the given vertex's first outgoing edge.
+   *
+   * @param vertex The vertex.
+   * @return The offset of the given vertex's first outgoing edge.
+   */
+  int outgoingStart(int vertex) {
+    return outgoingOffsets[vertex];
+  }
+
+  /**
+   * Returns the offset following the given vertex's last outgoing edge.
+   *
+   * @param vertex The vertex.
+   * @return The offset following the given vertex's last outgoing edge.
+   */
+  int outgoingEnd(int vertex) {
+    return outgoingOffsets[vertex + 1];
+  }
+
+  /**
+   * Returns the target vertex of the given edge.
+   *
+   * @param edge The edge.
+   * @return The target vertex of the given edge.
+   */
+  int edgeTarget(int edge) {
+    return edgeTargets[edge];
+  }
+
+  /**
+   * Returns the weight of the given edge.
+   *
+   * @param edge The edge.
+   * @return The weight of the given edge.
+   */
+  double edgeWeight(int edge) {
+    return edgeWeights[edge];
+  }
+
+  /**
+   * Translates the route ending at the given target vertex to route steps.
+   *
+   * @param source The route's source vertex.
+   * @param target The route's target vertex.
+   * @param predecessorEdges Provides the index of the last edge on the route to any vertex.
+   * @return The route steps.
+   */
+  List<Route.Step> toSteps(int source, int target, IntUnaryOperator predecessorEdges) {
+    int edgeCount = 0;
+    for (int vertex = target; vertex != source; edgeCount++) {
+      vertex = edgeSources[predecessorEdges.applyAsInt(vertex)];
+    }
+    int[] routeEdges = new int[edgeCount];
+    for (int i = edgeCount - 1, vertex = target; i >= 0; i--) {
+      routeEdges[i] = predecessorEdges.applyAsInt(vertex);
+      vertex = edgeSources[routeEdges[i]];
+    }
+
+    return toSteps(routeEdges);
+  }
+
+  /**
+   * Translates the route consisting of the given edges to route steps.
+   *
+   * @param routeEdges The indices of the route's edges, in the order they are travelled.
+   * @return The route steps.
+   */
+  List<Route.Step> toSteps(int[] routeEdges) {
+    List<Route.Step> result = new ArrayList<>(routeEdges.length);
+    int routeIndex = 0;
+    for (int edge : routeEdges) {
+      Point sourcePoint = points[edgeSources[edge]];
+      result.add(
+          new Route.Step(
+              edges[edge].getPath(),
+              sourcePoint,
+              points[edgeTargets[edge]],
+              orientation(edges[edge], sourcePoint),
+              routeIndex,
+              (long) edgeWeights[edge]
+          )
+      );
+      routeIndex++;
+    }
+    return result;
+  }
+
+  /**
+   * Returns the index of the edge of this graph that corresponds to the given one, i.e. that
+   * belongs to the same path, has the same direction and connects the same vertices.
+   * (A path with the same name may connect other points after a plant model has been reloaded.)
+   */
+  private int indexOf(Edge edge, int sourceIndex, int targetIndex) {
+    for (int edgeIndex : edgesOf(edge.getPath().getName())) {
+      if (edges[edgeIndex].isTravellingReverse() == edge.isTravellingReverse()
+          && edgeSources[edgeIndex] == sourceIndex
+          && edgeTargets[edgeIndex] == targetIndex) {
+        return edgeIndex;
+      }
+    }
+    return -1;
+  }
+
+  private Vehicle.Orientation orientation(Edge edge, Point graphSourcePoint) {
+    return Objects.equals(edge.getPath().getSourcePoint(), graphSourcePoint.getReference())
+        ? Vehicle.Orientation.FORWARD
+        : Vehicle.Orientation.BACKWARD;
+  }
+
+  /**
+   * A priority queue of vertices, implemented as a binary min-heap on primitive arrays.
+   * <p>
+   * The queue does not support decreasing keys. Instead, vertices are added again with their
+   * decreased keys, and outdated entries are to be skipped by the caller.
+   * </p>
+   */
+  static class VertexQueue {
+
+    private int[] vertices = new int[16];
+    private double[] keys = new double[16];
+    private int size;
+
+    VertexQueue() {
+    }
+
+    boolean isEmpty() {
+      return size == 0;
+    }
+
+    void clear() {
+      size = 0;
+    }
+
+    void add(int vertex, double key) {
+      if (size == vertices.length) {
+        vertices = Arrays.copyOf(vertices, size * 2);
+        keys = Arrays.copyOf(keys, size * 2);
+      }
+
+      int i = size++;
+      while (i > 0) {
+        int parent = (i - 1) >>> 1;
+        if (keys[parent] <= key) {
+          break;
+        }
+        vertices[i] = vertices[parent];
+        keys[i] = keys[parent];
+        i = parent;
+      }
+      vertices[i] = vertex;
+      keys[i] = key;
+    }
+
+    double peekKey() {
+      return keys[0];
+    }
+
+    int poll() {
+      int result = vertices[0];
+      size--;
+      int lastVertex = vertices[size];
+      double lastKey = keys[size];
+
+      int i = 0;
+      int half = size >>> 1;
+      while (i < half) {
+        int child = 2 * i + 1;
+        if (child + 1 < size && keys[child + 1] < keys[child]) {
+          child++;
+        }
+        if (lastKey <= keys[child]) {
+          break;
+        }
+        vertices[i] = vertices[child];
+        keys[i] = keys[child];
+        i = child;
+      }
+      vertices[i] = lastVertex;
+      keys[i] = lastKey;
+
+      return result;
+    }
+  }
+}
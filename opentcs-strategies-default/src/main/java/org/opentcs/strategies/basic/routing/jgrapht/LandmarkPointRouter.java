@@ -0,0 +1,180 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Computes routes between points using A* search with landmark-based lower bounds (ALT).
+ * <p>
+ * For a small number of landmark points, the costs of the shortest routes from every landmark to
+ * all points and from all points to every landmark are precomputed, requiring 16 bytes per
+ * landmark and point. Using the triangle inequality, these costs provide lower bounds for the
+ * costs between any two points, which guide the search towards the destination. Additionally,
+ * they allow detecting most pairs of points without any route between them in constant time.
+ * </p>
+ * <p>
+ * Since excluding points and paths from the graph does not make any routes cheaper, the
+ * precomputed costs remain valid lower bounds for routers {@link #withExclusions excluding}
+ * points and paths.
+ * </p>
+ * <p>
+ * For the same reason, the precomputed costs are reused when the router is
+ * {@link #withUpdatedGraph updated} for edge weights that have only increased (e.g. because paths
+ * have been locked). They are only recomputed if any edge weights have decreased.
+ * </p>
+ * <p>
+ * This implementation is intended for plant models that are too large for precomputing the costs
+ * for all pairs of points (see {@link TablePointRouter}).
+ * </p>
+ * <p>
+ * <em>Note that this implementation does not integrate static routes.</em>
+ * </p>
+ */
+public class LandmarkPointRouter
+    extends
+      AbstractSearchingPointRouter
+    implements
+      MaskablePointRouter {
+
+  /**
+   * The costs of the shortest routes from every landmark to every vertex.
+   */
+  private final double[][] costsFromLandmarks;
+  /**
+   * The costs of the shortest routes from every vertex to every landmark.
+   */
+  private final double[][] costsToLandmarks;
+
+  /**
+   * Creates a new instance, selecting landmarks in the given graph and computing their costs.
+   *
+   * @param graph The graph.
+   * @param landmarkCount The (maximum) number of landmarks to select.
+   */
+  public LandmarkPointRouter(IndexedGraph graph, int landmarkCount) {
+    super(graph, RoutingMask.NONE, new ConcurrentLinkedQueue<>());
+    checkArgument(landmarkCount > 0, "landmarkCount <= 0");
+
+    int count = Math.min(landmarkCount, graph.getPointCount());
+    this.costsFromLandmarks = new double[count][graph.getPointCount()];
+    this.costsToLandmarks = new double[count][graph.getPointCount()];
+    selectLandmarks();
+  }
+
+  private LandmarkPointRouter(LandmarkPointRouter baseRouter, RoutingMask mask) {
+    super(baseRouter.graph, mask, baseRouter.searchStates);
+    this.costsFromLandmarks = baseRouter.costsFromLandmarks;
+    this.costsToLandmarks = baseRouter.costsToLandmarks;
+  }
+
+  private LandmarkPointRouter(LandmarkPointRouter previousRouter, IndexedGraph updatedGraph) {
+    super(updatedGraph, RoutingMask.NONE, previousRouter.searchStates);
+
+    IndexedGraph previousGraph = previousRouter.graph;
+    boolean anyWeightDecreased = IntStream.range(0, updatedGraph.getEdgeCount())
+        .anyMatch(edge -> updatedGraph.edgeWeight(edge) < previousGraph.edgeWeight(edge));
+    if (anyWeightDecreased) {
+      int count = previousRouter.costsFromLandmarks.length;
+      this.costsFromLandmarks = new double[count][updatedGraph.getPointCount()];
+      this.costsToLandmarks = new double[count][updatedGraph.getPointCount()];
+      selectLandmarks();
+    }
+    else {
+      this.costsFromLandmarks = previousRouter.costsFromLandmarks;
+      this.costsToLandmarks = previousRouter.costsToLandmarks;
+    }
+  }
+
+  @Override
+  public PointRouter withExclusions(Set<Point> pointsToExclude, Set<Path> pathsToExclude) {
+    requireNonNull(pointsToExclude, "pointsToExclude");
+    requireNonNull(pathsToExclude, "pathsToExclude");
+
+    if (pointsToExclude.isEmpty() && pathsToExclude.isEmpty()) {
+      return this;
+    }
+
+    return new LandmarkPointRouter(
+        this,
+        new RoutingMask(graph, pointsToExclude, pathsToExclude)
+    );
+  }
+
+  @Override
+  public MaskablePointRouter withUpdatedGraph(IndexedGraph updatedGraph) {
+    requireNonNull(updatedGraph, "updatedGraph");
+    checkArgument(
+        updatedGraph.sharesStructureWith(graph),
+        "updatedGraph does not share its structure with this router's graph"
+    );
+
+    return new LandmarkPointRouter(this, updatedGraph);
+  }
+
+  @Override
+  protected double lowerBound(int vertex, int destination) {
+    double result = 0;
+    for (int i = 0; i < costsFromLandmarks.length; i++) {
+      double[] fromLandmark = costsFromLandmarks[i];
+      if (fromLandmark[vertex] != Double.POSITIVE_INFINITY
+          && fromLandmark[destination] != Double.POSITIVE_INFINITY) {
+        result = Math.max(result, fromLandmark[destination] - fromLandmark[vertex]);
+      }
+      double[] toLandmark = costsToLandmarks[i];
+      if (toLandmark[vertex] != Double.POSITIVE_INFINITY
+          && toLandmark[destination] != Double.POSITIVE_INFINITY) {
+        result = Math.max(result, toLandmark[vertex] - toLandmark[destination]);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  protected boolean mayBeReachable(int source, int destination) {
+    for (int i = 0; i < costsFromLandmarks.length; i++) {
+      if ((costsFromLandmarks[i][source] != Double.POSITIVE_INFINITY
+          && costsFromLandmarks[i][destination] == Double.POSITIVE_INFINITY)
+          || (costsToLandmarks[i][destination] != Double.POSITIVE_INFINITY
+              && costsToLandmarks[i][source] == Double.POSITIVE_INFINITY)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Selects landmarks using the farthest-point heuristic, i.e. every landmark is the vertex with
+   * the highest costs from the closest landmark selected before. Vertices not reachable from any
+   * landmark selected before are preferred, so that every strongly connected component of the
+   * graph gets a landmark (if there are enough of them).
+   */
+  private void selectLandmarks() {
+    double[] minCosts = new double[graph.getPointCount()];
+    Arrays.fill(minCosts, Double.POSITIVE_INFINITY);
+
+    int landmark = 0;
+    for (int i = 0; i < costsFromLandmarks.length; i++) {
+      graph.computeCosts(landmark, false, costsFromLandmarks[i], null);
+      graph.computeCosts(landmark, true, costsToLandmarks[i], null);
+
+      int nextLandmark = -1;
+      for (int vertex = 0; vertex < minCosts.length; vertex++) {
+        minCosts[vertex] = Math.min(minCosts[vertex], costsFromLandmarks[i][vertex]);
+        if (nextLandmark < 0 || minCosts[vertex] > minCosts[nextLandmark]) {
+          nextLandmark = vertex;
+        }
+      }
+      landmark = nextLandmark;
+    }
+  }
+}
@@ -0,0 +1,44 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import org.opentcs.components.kernel.routing.GroupMapper;
+
+/**
+ * Creates {@link LandmarkPointRouter} instances.
+ */
+public class LandmarkPointRouterFactory
+    extends
+      AbstractIndexedPointRouterFactory {
+
+  private final ShortestPathConfiguration configuration;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graphProvider Provides routing graphs for vehicles.
+   * @param routingGroupMapper Used to map vehicles to their routing groups.
+   * @param configuration The configuration.
+   */
+  @Inject
+  public LandmarkPointRouterFactory(
+      @Nonnull
+      GraphProvider graphProvider,
+      @Nonnull
+      GroupMapper routingGroupMapper,
+      @Nonnull
+      ShortestPathConfiguration configuration
+  ) {
+    super(graphProvider, routingGroupMapper);
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  protected MaskablePointRouter createPointRouter(IndexedGraph graph) {
+    return new LandmarkPointRouter(graph, configuration.landmarkCount());
+  }
+}
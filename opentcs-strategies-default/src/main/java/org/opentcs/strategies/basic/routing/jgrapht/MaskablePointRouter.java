@@ -0,0 +1,53 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import jakarta.annotation.Nonnull;
+import java.util.Set;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * A point router that can provide variants of itself that exclude sets of points and paths,
+ * without the need to construct a new routing graph.
+ * <p>
+ * Additionally, such point routers can be updated for changed edge weights, reusing as much of
+ * their precomputed data as possible.
+ * </p>
+ */
+public interface MaskablePointRouter
+    extends
+      PointRouter {
+
+  /**
+   * Returns a point router computing routes like this one, but excluding the given points and
+   * paths.
+   *
+   * @param pointsToExclude The points to exclude.
+   * @param pathsToExclude The paths to exclude.
+   * @return The point router.
+   */
+  @Nonnull
+  PointRouter withExclusions(
+      @Nonnull
+      Set<Point> pointsToExclude,
+      @Nonnull
+      Set<Path> pathsToExclude
+  );
+
+  /**
+   * Returns a point router computing routes like this one, but on the given updated graph.
+   *
+   * @param updatedGraph The updated graph, which must share its vertices and edges with this
+   * router's graph (see {@link IndexedGraph#withWeightsOf}).
+   * @return The point router.
+   * @throws IllegalArgumentException If the given graph does not share its vertices and edges with
+   * this router's graph.
+   */
+  @Nonnull
+  MaskablePointRouter withUpdatedGraph(
+      @Nonnull
+      IndexedGraph updatedGraph
+  );
+}
@@ -74,6 +74,7 @@ public class PointRouterProvider {
   public void invalidate() {
     pointRoutersByVehicleGroup.clear();
     graphProvider.invalidate();
+    pointRouterFactory.invalidate();
   }
 
   /**
@@ -92,6 +93,7 @@ public class PointRouterProvider {
 
     if (paths.isEmpty()) {
       graphProvider.invalidate();
+      pointRouterFactory.invalidate();
     }
     else {
       graphProvider.updateGraphResults(paths);
@@ -0,0 +1,123 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.Set;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+
+/**
+ * Marks vertices and edges of an {@link IndexedGraph} to be excluded from route searches.
+ * <p>
+ * A mask only requires a bit per vertex and edge of the graph, allowing routes avoiding a set of
+ * resources to be computed on the original graph instead of a graph derived from it.
+ * </p>
+ */
+public class RoutingMask {
+
+  /**
+   * A mask not excluding any vertices or edges.
+   */
+  public static final RoutingMask NONE = new RoutingMask(new BitSet(), new BitSet());
+  /**
+   * The indices of the excluded vertices.
+   */
+  private final BitSet excludedVertices;
+  /**
+   * The indices of the excluded edges.
+   */
+  private final BitSet excludedEdges;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph the mask is to be applied to.
+   * @param pointsToExclude The points to exclude.
+   * @param pathsToExclude The paths to exclude.
+   */
+  public RoutingMask(
+      @Nonnull
+      IndexedGraph graph,
+      @Nonnull
+      Set<Point> pointsToExclude,
+      @Nonnull
+      Set<Path> pathsToExclude
+  ) {
+    requireNonNull(graph, "graph");
+    requireNonNull(pointsToExclude, "pointsToExclude");
+    requireNonNull(pathsToExclude, "pathsToExclude");
+
+    excludedVertices = new BitSet();
+    for (Point point : pointsToExclude) {
+      int vertex = graph.indexOf(point.getName());
+      if (vertex >= 0) {
+        excludedVertices.set(vertex);
+      }
+    }
+
+    excludedEdges = new BitSet();
+    for (Path path : pathsToExclude) {
+      for (int edge : graph.edgesOf(path.getName())) {
+        excludedEdges.set(edge);
+      }
+    }
+  }
+
+  private RoutingMask(BitSet excludedVertices, BitSet excludedEdges) {
+    this.excludedVertices = excludedVertices;
+    this.excludedEdges = excludedEdges;
+  }
+
+  /**
+   * Checks whether the given vertex is excluded.
+   *
+   * @param vertex The index of the vertex.
+   * @return {@code true}, if the vertex is excluded.
+   */
+  public boolean isVertexExcluded(int vertex) {
+    return excludedVertices.get(vertex);
+  }
+
+  /**
+   * Checks whether the given edge is excluded.
+   *
+   * @param edge The index of the edge.
+   * @return {@code true}, if the edge is excluded.
+   */
+  public boolean isEdgeExcluded(int edge) {
+    return excludedEdges.get(edge);
+  }
+
+  /**
+   * Checks whether this mask excludes any vertices or edges.
+   *
+   * @return {@code true}, if this mask does not exclude anything.
+   */
+  public boolean isEmpty() {
+    return excludedVertices.isEmpty() && excludedEdges.isEmpty();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof RoutingMask)) {
+      return false;
+    }
+
+    RoutingMask other = (RoutingMask) obj;
+    return excludedVertices.equals(other.excludedVertices)
+        && excludedEdges.equals(other.excludedEdges);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(excludedVertices, excludedEdges);
+  }
+}
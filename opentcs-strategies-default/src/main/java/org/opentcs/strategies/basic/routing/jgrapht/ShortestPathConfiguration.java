@@ -23,7 +23,13 @@ public interface ShortestPathConfiguration {
           "The routing algorithm to be used. Valid values:",
           "'DIJKSTRA': Routes are computed using Dijkstra's algorithm.",
           "'BELLMAN_FORD': Routes are computed using the Bellman-Ford algorithm.",
-          "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm."},
+          "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm.",
+          "'TABLE': Costs and routes for all pairs of points are precomputed and stored in "
+              + "compact tables (requiring memory quadratic in the number of points).",
+          "'LANDMARKS': Routes are computed using A* search guided by precomputed costs to and "
+              + "from a small number of landmark points. Suitable for large plant models.",
+          "'CONTRACTION_HIERARCHY': Routes are computed using a customizable contraction "
+              + "hierarchy. Suitable for very large plant models with many route computations."},
       changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
   )
   Algorithm algorithm();
@@ -46,6 +52,13 @@ public interface ShortestPathConfiguration {
   )
   List<String> edgeEvaluators();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The number of landmark points to be used with the 'LANDMARKS' algorithm.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  int landmarkCount();
+
   /**
    * The available algorithms.
    */
@@ -61,7 +74,19 @@ public interface ShortestPathConfiguration {
     /**
      * The Floyd-Warshall algorithm.
      */
-    FLOYD_WARSHALL(false);
+    FLOYD_WARSHALL(false),
+    /**
+     * Precomputed tables of costs and routes for all pairs of points.
+     */
+    TABLE(false),
+    /**
+     * A* search with landmark-based lower bounds (ALT).
+     */
+    LANDMARKS(false),
+    /**
+     * A customizable contraction hierarchy.
+     */
+    CONTRACTION_HIERARCHY(false);
 
     private final boolean handlingNegativeCosts;
 
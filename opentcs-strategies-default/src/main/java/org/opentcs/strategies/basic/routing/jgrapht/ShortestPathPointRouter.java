@@ -10,8 +10,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import org.jgrapht.GraphPath;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.SingleSourcePaths;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Point;
@@ -38,19 +40,28 @@ public class ShortestPathPointRouter
 
   private final ShortestPathAlgorithm<String, Edge> algo;
 
-  private final Map<String, Point> points = new HashMap<>();
+  private final Map<String, Point> points;
 
   public ShortestPathPointRouter(
       ShortestPathAlgorithm<String, Edge> algo,
       Collection<Point> points
   ) {
-    this.algo = requireNonNull(algo, "algo");
-    requireNonNull(points, "points");
-
-    for (Point point : points) {
-      this.points.put(point.getName(), point);
-    }
+    this(algo, toPointsByName(points));
+  }
 
+  /**
+   * Creates a new instance.
+   *
+   * @param algo The shortest path algorithm.
+   * @param points The points, mapped by their names. The map is not copied and may thus be shared
+   * by multiple point routers, but must not be modified afterwards.
+   */
+  public ShortestPathPointRouter(
+      ShortestPathAlgorithm<String, Edge> algo,
+      Map<String, Point> points
+  ) {
+    this.algo = requireNonNull(algo, "algo");
+    this.points = requireNonNull(points, "points");
   }
 
   @Override
@@ -80,6 +91,39 @@ public class ShortestPathPointRouter
     return result;
   }
 
+  @Override
+  public Map<Point, List<Route.Step>> getRouteSteps(Point srcPoint, Set<Point> destPoints) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoints, "destPoints");
+
+    long timeBefore = System.currentTimeMillis();
+    Map<Point, List<Route.Step>> result = new HashMap<>();
+    SingleSourcePaths<String, Edge> graphPaths = null;
+    for (Point destPoint : destPoints) {
+      if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+        result.put(destPoint, new ArrayList<>());
+        continue;
+      }
+
+      if (graphPaths == null) {
+        graphPaths = algo.getPaths(srcPoint.getName());
+      }
+      GraphPath<String, Edge> graphPath = graphPaths.getPath(destPoint.getName());
+      if (graphPath != null) {
+        result.put(destPoint, translateToSteps(graphPath));
+      }
+    }
+
+    LOG.debug(
+        "Looking up routes from {} to {} points took {} milliseconds.",
+        srcPoint.getName(),
+        destPoints.size(),
+        System.currentTimeMillis() - timeBefore
+    );
+
+    return result;
+  }
+
   @Override
   public long getCosts(
       TCSObjectReference<Point> srcPointRef,
@@ -103,6 +147,22 @@ public class ShortestPathPointRouter
     return (long) graphPath.getWeight();
   }
 
+  /**
+   * Maps the given points by their names.
+   *
+   * @param points The points.
+   * @return The points mapped by their names.
+   */
+  public static Map<String, Point> toPointsByName(Collection<Point> points) {
+    requireNonNull(points, "points");
+
+    Map<String, Point> result = new HashMap<>();
+    for (Point point : points) {
+      result.put(point.getName(), point);
+    }
+    return result;
+  }
+
   private List<Route.Step> translateToSteps(GraphPath<String, Edge> graphPath) {
     List<Edge> edges = graphPath.getEdgeList();
     List<Route.Step> result = new ArrayList<>(edges.size());
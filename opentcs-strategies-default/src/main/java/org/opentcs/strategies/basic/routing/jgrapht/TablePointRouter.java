@@ -0,0 +1,212 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Looks up routes between points in tables of precomputed costs and predecessors for all pairs of
+ * points.
+ * <p>
+ * The tables are stored in primitive arrays, requiring 12 bytes per pair of points. Costs are
+ * looked up in constant time, and routes are reconstructed by following predecessor edges without
+ * any search.
+ * </p>
+ * <p>
+ * Routers {@link #withExclusions excluding} points and paths search routes using A* search, with
+ * the precomputed costs serving as lower bounds.
+ * </p>
+ * <p>
+ * When {@link #withUpdatedGraph updated} for changed edge weights, only the rows of the tables
+ * affected by the changes are repaired, instead of recomputing the tables completely.
+ * </p>
+ * <p>
+ * <em>Note that this implementation does not integrate static routes.</em>
+ * </p>
+ */
+public class TablePointRouter
+    implements
+      MaskablePointRouter {
+
+  private final IndexedGraph graph;
+  /**
+   * The costs of the shortest routes, indexed by source and destination vertex.
+   */
+  private final double[][] costs;
+  /**
+   * The last edge of the shortest routes, indexed by source and destination vertex.
+   */
+  private final int[][] predecessorEdges;
+  /**
+   * Search states available for reuse by routers excluding points and paths.
+   */
+  private final Queue<AbstractSearchingPointRouter.SearchState> searchStates;
+
+  /**
+   * Creates a new instance, computing the tables for the given graph.
+   *
+   * @param graph The graph.
+   */
+  public TablePointRouter(IndexedGraph graph) {
+    this.graph = requireNonNull(graph, "graph");
+    this.searchStates = new ConcurrentLinkedQueue<>();
+
+    int pointCount = graph.getPointCount();
+    this.costs = new double[pointCount][];
+    this.predecessorEdges = new int[pointCount][];
+    IntStream.range(0, pointCount).parallel().forEach(source -> {
+      costs[source] = new double[pointCount];
+      predecessorEdges[source] = new int[pointCount];
+      graph.computeCosts(source, false, costs[source], predecessorEdges[source]);
+    });
+  }
+
+  /**
+   * Creates a new instance for the given updated graph, repairing the tables of the given router.
+   * <p>
+   * Rows of the tables that are not affected by the changed edge weights are shared with the given
+   * router. Affected rows are copied and only their affected entries are recomputed.
+   * </p>
+   *
+   * @param previousRouter The router whose tables are to be repaired.
+   * @param updatedGraph The updated graph.
+   */
+  private TablePointRouter(TablePointRouter previousRouter, IndexedGraph updatedGraph) {
+    this.graph = updatedGraph;
+    this.searchStates = previousRouter.searchStates;
+
+    IndexedGraph previousGraph = previousRouter.graph;
+    int[] changedEdges = IntStream.range(0, updatedGraph.getEdgeCount())
+        .filter(edge -> updatedGraph.edgeWeight(edge) != previousGraph.edgeWeight(edge))
+        .toArray();
+    int pointCount = updatedGraph.getPointCount();
+    this.costs = new double[pointCount][];
+    this.predecessorEdges = new int[pointCount][];
+    IntStream.range(0, pointCount).parallel().forEach(source -> {
+      double[] previousCosts = previousRouter.costs[source];
+      int[] previousPredecessorEdges = previousRouter.predecessorEdges[source];
+      if (updatedGraph.affectsCosts(
+          previousGraph,
+          changedEdges,
+          previousCosts,
+          previousPredecessorEdges
+      )) {
+        costs[source] = Arrays.copyOf(previousCosts, pointCount);
+        predecessorEdges[source] = Arrays.copyOf(previousPredecessorEdges, pointCount);
+        updatedGraph.updateCosts(
+            source,
+            previousGraph,
+            changedEdges,
+            costs[source],
+            predecessorEdges[source]
+        );
+      }
+      else {
+        costs[source] = previousCosts;
+        predecessorEdges[source] = previousPredecessorEdges;
+      }
+    });
+  }
+
+  @Override
+  public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return new ArrayList<>();
+    }
+
+    int source = graph.indexOf(srcPoint.getName());
+    int destination = graph.indexOf(destPoint.getName());
+    if (source < 0 || destination < 0
+        || costs[source][destination] == Double.POSITIVE_INFINITY) {
+      return null;
+    }
+
+    int[] sourcePredecessorEdges = predecessorEdges[source];
+    return graph.toSteps(source, destination, vertex -> sourcePredecessorEdges[vertex]);
+  }
+
+  @Override
+  public long getCosts(
+      TCSObjectReference<Point> srcPointRef,
+      TCSObjectReference<Point> destPointRef
+  ) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRef, "destPointRef");
+
+    if (Objects.equals(srcPointRef.getName(), destPointRef.getName())) {
+      return 0;
+    }
+
+    int source = graph.indexOf(srcPointRef.getName());
+    int destination = graph.indexOf(destPointRef.getName());
+    if (source < 0 || destination < 0
+        || costs[source][destination] == Double.POSITIVE_INFINITY) {
+      return INFINITE_COSTS;
+    }
+
+    return (long) costs[source][destination];
+  }
+
+  @Override
+  public PointRouter withExclusions(Set<Point> pointsToExclude, Set<Path> pathsToExclude) {
+    requireNonNull(pointsToExclude, "pointsToExclude");
+    requireNonNull(pathsToExclude, "pathsToExclude");
+
+    if (pointsToExclude.isEmpty() && pathsToExclude.isEmpty()) {
+      return this;
+    }
+
+    return new MaskedTablePointRouter(new RoutingMask(graph, pointsToExclude, pathsToExclude));
+  }
+
+  @Override
+  public MaskablePointRouter withUpdatedGraph(IndexedGraph updatedGraph) {
+    requireNonNull(updatedGraph, "updatedGraph");
+    checkArgument(
+        updatedGraph.sharesStructureWith(graph),
+        "updatedGraph does not share its structure with this router's graph"
+    );
+
+    return new TablePointRouter(this, updatedGraph);
+  }
+
+  /**
+   * Searches routes excluding points and paths, using the costs in the tables as lower bounds.
+   */
+  private class MaskedTablePointRouter
+      extends
+        AbstractSearchingPointRouter {
+
+    MaskedTablePointRouter(RoutingMask mask) {
+      super(TablePointRouter.this.graph, mask, TablePointRouter.this.searchStates);
+    }
+
+    @Override
+    protected double lowerBound(int vertex, int destination) {
+      return costs[vertex][destination];
+    }
+
+    @Override
+    protected boolean mayBeReachable(int source, int destination) {
+      return costs[source][destination] != Double.POSITIVE_INFINITY;
+    }
+  }
+}
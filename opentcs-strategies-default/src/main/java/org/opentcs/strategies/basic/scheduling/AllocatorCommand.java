@@ -4,6 +4,7 @@ package org.opentcs.strategies.basic.scheduling;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nullable;
 import java.util.Set;
 import org.opentcs.components.kernel.Scheduler.Client;
 import org.opentcs.data.model.TCSResource;
@@ -118,18 +119,49 @@ abstract class AllocatorCommand
         AllocatorCommand {
 
     /**
-     * Creates a new instance.
+     * The resources that have been freed, or {@code null}, if all deferred allocations are to be
+     * retried.
+     */
+    private final Set<TCSResource<?>> freedResources;
+
+    /**
+     * Creates a new instance for retrying all deferred allocations.
      *
      * @param client The scheduler client this command is associated with.
      */
     RetryAllocates(Client client) {
       super(3, client);
+      this.freedResources = null;
+    }
+
+    /**
+     * Creates a new instance for retrying the deferred allocations that may be granted after the
+     * given resources have been freed.
+     *
+     * @param client The scheduler client this command is associated with.
+     * @param freedResources The resources that have been freed.
+     */
+    RetryAllocates(Client client, Set<TCSResource<?>> freedResources) {
+      super(3, client);
+      this.freedResources = requireNonNull(freedResources, "freedResources");
+    }
+
+    /**
+     * Returns the resources that have been freed.
+     *
+     * @return The resources that have been freed, or {@code null}, if all deferred allocations are
+     * to be retried.
+     */
+    @Nullable
+    public Set<TCSResource<?>> getFreedResources() {
+      return freedResources;
     }
 
     @Override
     public String toString() {
       return "RetryAllocates{"
           + "client=" + getClient()
+          + ", freedResources=" + freedResources
           + '}';
     }
   }
@@ -5,7 +5,7 @@ package org.opentcs.strategies.basic.scheduling;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
-import java.util.Queue;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import org.opentcs.components.kernel.Scheduler;
@@ -37,7 +37,7 @@ class AllocatorTask
   /**
    * Allocations deferred because they couldn't be granted, yet.
    */
-  private final Queue<AllocatorCommand.Allocate> deferredAllocations;
+  private final DeferredAllocations deferredAllocations;
   /**
    * Executes tasks.
    */
@@ -58,7 +58,7 @@ class AllocatorTask
       @Nonnull
       ReservationPool reservationPool,
       @Nonnull
-      Queue<AllocatorCommand.Allocate> deferredAllocations,
+      DeferredAllocations deferredAllocations,
       @Nonnull
       Scheduler.Module allocationAdvisor,
       @Nonnull
@@ -85,7 +85,7 @@ class AllocatorTask
       processAllocate((AllocatorCommand.Allocate) command);
     }
     else if (command instanceof AllocatorCommand.RetryAllocates) {
-      scheduleRetryWaitingAllocations();
+      retryAllocates((AllocatorCommand.RetryAllocates) command);
     }
     else if (command instanceof AllocatorCommand.CheckAllocationsPrepared) {
       checkAllocationsPrepared((AllocatorCommand.CheckAllocationsPrepared) command);
@@ -99,9 +99,9 @@ class AllocatorTask
   }
 
   private void processAllocate(AllocatorCommand.Allocate command) {
-    if (!tryAllocate(command)) {
-      LOG.debug("{}: Resources unavailable, deferring allocation...", command.getClient().getId());
-      deferredAllocations.add(command);
+    boolean allocated = tryAllocate(command);
+    deferredAllocations.allocationProcessed(command, allocated);
+    if (!allocated) {
       return;
     }
 
@@ -135,7 +135,7 @@ class AllocatorTask
       );
       undoAllocate(client, resources);
       // See if others want the resources this one didn't, then.
-      scheduleRetryWaitingAllocations();
+      scheduleRetryWaitingAllocations(deferredAllocations.wakeUp(resources));
     }
     // Notify modules about the changes in claimed/allocated resources for this client.
     allocationAdvisor.setAllocationState(
@@ -146,7 +146,7 @@ class AllocatorTask
   }
 
   /**
-   * Allocates the given set of resources, if possible.
+   * Allocates the given set of resources, if possible, and defers the allocation otherwise.
    *
    * @param command Describes the requested allocation.
    * @return <code>true</code> if, and only if, the given resources were allocated.
@@ -162,18 +162,29 @@ class AllocatorTask
             client.getId(),
             resources
         );
+        deferredAllocations.defer(command);
         return false;
       }
 
       LOG.debug("{}: Checking resource availability: {}...", client.getId(), resources);
-      if (!reservationPool.resourcesAvailableForUser(resources, client)) {
-        LOG.debug("{}: Resources unavailable.", client.getId());
+      Set<TCSResource<?>> unavailableResources
+          = reservationPool.unavailableResourcesForUser(resources, client);
+      if (!unavailableResources.isEmpty()) {
+        // Deferring the allocation while holding the lock ensures it is woken up when any of the
+        // unavailable resources is freed.
+        LOG.debug(
+            "{}: Resources unavailable, deferring allocation until freed: {}",
+            client.getId(),
+            unavailableResources
+        );
+        deferredAllocations.deferUntilFreed(command, unavailableResources);
         return false;
       }
 
       LOG.debug("{}: Checking if resources may be allocated...", client.getId());
       if (!allocationAdvisor.mayAllocate(client, resources)) {
-        LOG.debug("{}: Resources may not be allocated.", client.getId());
+        LOG.debug("{}: Resources may not be allocated, deferring allocation...", client.getId());
+        deferredAllocations.defer(command);
         return false;
       }
 
@@ -211,11 +222,23 @@ class AllocatorTask
     }
   }
 
+  private void retryAllocates(AllocatorCommand.RetryAllocates command) {
+    List<AllocatorCommand.Allocate> allocations = command.getFreedResources() == null
+        ? deferredAllocations.wakeUpAll()
+        : deferredAllocations.wakeUp(command.getFreedResources());
+    LOG.debug(
+        "Retrying {} deferred allocation(s), {} allocation(s) still deferred.",
+        allocations.size(),
+        deferredAllocations.size()
+    );
+    scheduleRetryWaitingAllocations(allocations);
+  }
+
   /**
-   * Moves all waiting allocations back into the incoming queue so they can be rechecked.
+   * Moves the given (woken up) allocations back into the incoming queue so they can be rechecked.
    */
-  private void scheduleRetryWaitingAllocations() {
-    for (AllocatorCommand.Allocate allocate : deferredAllocations) {
+  private void scheduleRetryWaitingAllocations(List<AllocatorCommand.Allocate> allocations) {
+    for (AllocatorCommand.Allocate allocate : allocations) {
       kernelExecutor.submit(
           new AllocatorTask(
               reservationPool,
@@ -227,6 +250,5 @@ class AllocatorTask
           )
       );
     }
-    deferredAllocations.clear();
   }
 }
@@ -12,10 +12,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.ResourceAllocationException;
@@ -33,6 +31,7 @@ import org.opentcs.strategies.basic.scheduling.AllocatorCommand.CheckAllocations
 import org.opentcs.strategies.basic.scheduling.AllocatorCommand.RetryAllocates;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventTopic;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,7 +59,7 @@ public class DefaultScheduler
   /**
    * Allocations deferred because they couldn't be granted, yet.
    */
-  private final Queue<AllocatorCommand.Allocate> deferredAllocations = new LinkedBlockingQueue<>();
+  private final DeferredAllocations deferredAllocations = new DeferredAllocations();
   /**
    * Executes scheduling tasks.
    */
@@ -118,7 +117,7 @@ public class DefaultScheduler
     reservationPool.clear();
     allocationAdvisor.initialize();
 
-    eventBus.subscribe(this);
+    eventBus.subscribe(this, EventTopic.ofObjectClass(Vehicle.class));
 
     initialized = true;
   }
@@ -230,12 +229,13 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
+    Set<TCSResource<?>> completelyFreeResources;
     synchronized (globalSyncObject) {
       LOG.debug("{}: Releasing resources: {}", client.getId(), resources);
       reservationPool.free(client, resources);
 
       // Check which resources are now completely free
-      Set<TCSResource<?>> completelyFreeResources = resources.stream()
+      completelyFreeResources = resources.stream()
           .filter(resource -> reservationPool.getReservationEntry(resource).isFree())
           .collect(Collectors.toCollection(HashSet::new));
       new AllocatorTask(
@@ -254,7 +254,7 @@ public class DefaultScheduler
             allocationAdvisor,
             kernelExecutor,
             globalSyncObject,
-            new RetryAllocates(client)
+            new RetryAllocates(client, completelyFreeResources)
         )
     );
   }
@@ -263,8 +263,9 @@ public class DefaultScheduler
   public void freeAll(Client client) {
     requireNonNull(client, "client");
 
+    Set<TCSResource<?>> freedResources;
     synchronized (globalSyncObject) {
-      Set<TCSResource<?>> freedResources = reservationPool.allocatedResources(client);
+      freedResources = reservationPool.allocatedResources(client);
 
       LOG.debug("{}: Releasing all resources...", client.getId());
       reservationPool.freeAll(client);
@@ -286,7 +287,7 @@ public class DefaultScheduler
             allocationAdvisor,
             kernelExecutor,
             globalSyncObject,
-            new RetryAllocates(client)
+            new RetryAllocates(client, freedResources)
         )
     );
   }
@@ -296,7 +297,7 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     synchronized (globalSyncObject) {
       LOG.debug("{}: Clearing pending allocation requests...", client.getId());
-      deferredAllocations.removeIf(allocate -> client.equals(allocate.getClient()));
+      deferredAllocations.clear(client);
       cancelPendingAllocateFutures(client);
     }
   }
@@ -363,6 +364,38 @@ public class DefaultScheduler
     }
   }
 
+  /**
+   * Returns the number of allocations that are currently deferred because they couldn't be
+   * granted, yet.
+   *
+   * @return The number of deferred allocations.
+   */
+  public int getDeferredAllocationCount() {
+    return deferredAllocations.size();
+  }
+
+  /**
+   * Returns the number of deferred allocations that have been woken up to be retried so far.
+   * <p>
+   * Deferred allocations are woken up when resources they are waiting for are freed, and when
+   * rescheduling is requested.
+   * </p>
+   *
+   * @return The number of deferred allocations woken up.
+   */
+  public long getDeferredAllocationWakeUpCount() {
+    return deferredAllocations.getWakeUpCount();
+  }
+
+  /**
+   * Returns the number of deferred allocations that have been granted when retried so far.
+   *
+   * @return The number of successful retries.
+   */
+  public long getSuccessfulAllocationRetryCount() {
+    return deferredAllocations.getSuccessfulRetryCount();
+  }
+
   private void addAllocateFuture(Client client, Future<?> allocateFuture) {
     if (!allocateFutures.containsKey(client)) {
       allocateFutures.put(client, new ArrayList<>());
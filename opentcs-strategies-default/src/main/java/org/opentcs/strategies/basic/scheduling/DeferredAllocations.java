@@ -0,0 +1,244 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.data.model.TCSResource;
+
+/**
+ * Keeps track of allocations deferred because they couldn't be granted, yet.
+ * <p>
+ * Allocations deferred because some of the requested resources are allocated by other clients are
+ * kept in wait queues for these resources, and are only woken up when any of these resources is
+ * freed. Allocations deferred for other reasons (e.g. because a scheduler module did not allow
+ * them) are woken up whenever any resources are freed.
+ * </p>
+ * <p>
+ * Allocations are woken up in the order in which they were deferred.
+ * </p>
+ */
+class DeferredAllocations {
+
+  /**
+   * The deferred allocations, mapped to the reasons they were deferred for.
+   */
+  private final Map<AllocatorCommand.Allocate, Deferral> deferrals = new HashMap<>();
+  /**
+   * The wait queues, i.e. the allocations deferred because of a resource, mapped to the resource.
+   */
+  private final Map<TCSResource<?>, Set<AllocatorCommand.Allocate>> waitQueues = new HashMap<>();
+  /**
+   * The allocations deferred for reasons other than unavailable resources.
+   */
+  private final Set<AllocatorCommand.Allocate> unconditionalDeferrals = new HashSet<>();
+  /**
+   * The allocations that have been woken up, but have not been retried, yet.
+   */
+  private final Set<AllocatorCommand.Allocate> pendingRetries = new HashSet<>();
+  /**
+   * The sequence number for the next deferral.
+   */
+  private long nextSequenceNumber;
+  /**
+   * The number of allocations woken up so far.
+   */
+  private long wakeUpCount;
+  /**
+   * The number of allocations woken up so far that have been granted when retried.
+   */
+  private long successfulRetryCount;
+
+  /**
+   * Creates a new instance.
+   */
+  DeferredAllocations() {
+  }
+
+  /**
+   * Defers the given allocation until any of the given resources is freed.
+   *
+   * @param allocate The allocation.
+   * @param blockingResources The resources that are unavailable for the allocation. If empty, the
+   * allocation is woken up whenever any resources are freed.
+   */
+  synchronized void deferUntilFreed(
+      @Nonnull
+      AllocatorCommand.Allocate allocate,
+      @Nonnull
+      Set<TCSResource<?>> blockingResources
+  ) {
+    requireNonNull(allocate, "allocate");
+    requireNonNull(blockingResources, "blockingResources");
+
+    remove(allocate);
+
+    Deferral deferral = new Deferral(nextSequenceNumber++, Set.copyOf(blockingResources));
+    deferrals.put(allocate, deferral);
+    if (deferral.blockingResources.isEmpty()) {
+      unconditionalDeferrals.add(allocate);
+    }
+    else {
+      for (TCSResource<?> resource : deferral.blockingResources) {
+        waitQueues.computeIfAbsent(resource, res -> new HashSet<>()).add(allocate);
+      }
+    }
+  }
+
+  /**
+   * Defers the given allocation until any resources are freed.
+   *
+   * @param allocate The allocation.
+   */
+  synchronized void defer(
+      @Nonnull
+      AllocatorCommand.Allocate allocate
+  ) {
+    deferUntilFreed(allocate, Set.of());
+  }
+
+  /**
+   * Wakes up the allocations waiting for any of the given (freed) resources and the ones deferred
+   * for other reasons, removing them from this instance.
+   *
+   * @param freedResources The freed resources.
+   * @return The allocations woken up, in the order in which they were deferred.
+   */
+  @Nonnull
+  synchronized List<AllocatorCommand.Allocate> wakeUp(
+      @Nonnull
+      Set<TCSResource<?>> freedResources
+  ) {
+    requireNonNull(freedResources, "freedResources");
+
+    Set<AllocatorCommand.Allocate> allocations = new HashSet<>(unconditionalDeferrals);
+    for (TCSResource<?> resource : freedResources) {
+      allocations.addAll(waitQueues.getOrDefault(resource, Set.of()));
+    }
+    return wakeUpAllocations(allocations);
+  }
+
+  /**
+   * Wakes up all deferred allocations, removing them from this instance.
+   *
+   * @return The allocations woken up, in the order in which they were deferred.
+   */
+  @Nonnull
+  synchronized List<AllocatorCommand.Allocate> wakeUpAll() {
+    return wakeUpAllocations(new HashSet<>(deferrals.keySet()));
+  }
+
+  /**
+   * Removes all allocations of the given client.
+   *
+   * @param client The client.
+   */
+  synchronized void clear(
+      @Nonnull
+      Scheduler.Client client
+  ) {
+    requireNonNull(client, "client");
+
+    deferrals.keySet().stream()
+        .filter(allocate -> client.equals(allocate.getClient()))
+        .toList()
+        .forEach(this::remove);
+    pendingRetries.removeIf(allocate -> client.equals(allocate.getClient()));
+  }
+
+  /**
+   * Records that the given allocation has been processed.
+   *
+   * @param allocate The allocation.
+   * @param granted Whether the allocation has been granted.
+   */
+  synchronized void allocationProcessed(
+      @Nonnull
+      AllocatorCommand.Allocate allocate,
+      boolean granted
+  ) {
+    requireNonNull(allocate, "allocate");
+
+    if (pendingRetries.remove(allocate) && granted) {
+      successfulRetryCount++;
+    }
+  }
+
+  /**
+   * Returns the number of currently deferred allocations.
+   *
+   * @return The number of currently deferred allocations.
+   */
+  synchronized int size() {
+    return deferrals.size();
+  }
+
+  /**
+   * Returns the number of allocations woken up so far.
+   *
+   * @return The number of allocations woken up so far.
+   */
+  synchronized long getWakeUpCount() {
+    return wakeUpCount;
+  }
+
+  /**
+   * Returns the number of allocations woken up so far that have been granted when retried.
+   *
+   * @return The number of successful retries.
+   */
+  synchronized long getSuccessfulRetryCount() {
+    return successfulRetryCount;
+  }
+
+  private List<AllocatorCommand.Allocate> wakeUpAllocations(
+      Set<AllocatorCommand.Allocate> allocations
+  ) {
+    List<AllocatorCommand.Allocate> result = new ArrayList<>(allocations);
+    result.sort(Comparator.comparingLong(allocate -> deferrals.get(allocate).sequenceNumber));
+    result.forEach(this::remove);
+
+    pendingRetries.addAll(result);
+    wakeUpCount += result.size();
+    return result;
+  }
+
+  private void remove(AllocatorCommand.Allocate allocate) {
+    Deferral deferral = deferrals.remove(allocate);
+    if (deferral == null) {
+      return;
+    }
+
+    unconditionalDeferrals.remove(allocate);
+    for (TCSResource<?> resource : deferral.blockingResources) {
+      Set<AllocatorCommand.Allocate> waitQueue = waitQueues.get(resource);
+      waitQueue.remove(allocate);
+      if (waitQueue.isEmpty()) {
+        waitQueues.remove(resource);
+      }
+    }
+  }
+
+  /**
+   * Describes why and when an allocation was deferred.
+   */
+  private static class Deferral {
+
+    private final long sequenceNumber;
+    private final Set<TCSResource<?>> blockingResources;
+
+    Deferral(long sequenceNumber, Set<TCSResource<?>> blockingResources) {
+      this.sequenceNumber = sequenceNumber;
+      this.blockingResources = blockingResources;
+    }
+  }
+}
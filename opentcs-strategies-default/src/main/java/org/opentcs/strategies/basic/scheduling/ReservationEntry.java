@@ -5,6 +5,7 @@ package org.opentcs.strategies.basic.scheduling;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nullable;
 import org.opentcs.components.kernel.Scheduler.Client;
 import org.opentcs.data.model.TCSResource;
 import org.slf4j.Logger;
@@ -25,6 +26,10 @@ public class ReservationEntry {
    * Instance of resource that vehicle may claim for exclusive usage.
    */
   private final TCSResource<?> resource;
+  /**
+   * The pool this entry belongs to, which is notified when the client holding the resource changes.
+   */
+  private final ReservationPool pool;
   /**
    * The client for which the resource is currently reserved.
    */
@@ -42,7 +47,22 @@ public class ReservationEntry {
    * @param reqResource The resource.
    */
   public ReservationEntry(final TCSResource<?> reqResource) {
+    this(reqResource, null);
+  }
+
+  /**
+   * Creates a new instance belonging to the given pool.
+   *
+   * @param reqResource The resource.
+   * @param pool The pool this entry belongs to, or <code>null</code>.
+   */
+  ReservationEntry(
+      final TCSResource<?> reqResource,
+      @Nullable
+      final ReservationPool pool
+  ) {
     this.resource = requireNonNull(reqResource, "reqResource");
+    this.pool = pool;
   }
 
   /**
@@ -75,6 +95,9 @@ public class ReservationEntry {
     if (this.client == null) {
       LOG.debug("Allocating resource {} for client {}", resource, client.getId());
       this.client = client;
+      if (pool != null) {
+        pool.entryAllocated(this);
+      }
     }
     else if (this.client != client) {
       // The resource is already allocated by someone else - may not happen.
@@ -102,7 +125,7 @@ public class ReservationEntry {
     checkState(counter > 0, "counter is already less than 1");
     counter--;
     if (counter == 0) {
-      client = null;
+      releaseClient();
     }
   }
 
@@ -112,7 +135,7 @@ public class ReservationEntry {
    */
   void freeCompletely() {
     counter = 0;
-    client = null;
+    releaseClient();
   }
 
   /**
@@ -136,6 +159,14 @@ public class ReservationEntry {
     return this.client == client;
   }
 
+  private void releaseClient() {
+    Client previousClient = client;
+    client = null;
+    if (pool != null && previousClient != null) {
+      pool.entryFreed(this, previousClient);
+    }
+  }
+
   @Override
   public String toString() {
     return "ReservationEntry{"
@@ -37,6 +37,11 @@ public class ReservationPool {
    * <code>ReservationEntry</code> instances for each <code>TCSResource</code>.
    */
   private final Map<TCSResource<?>, ReservationEntry> reservations = new HashMap<>();
+  /**
+   * The <code>ReservationEntry</code> instances of all allocated resources, by allocating client.
+   */
+  private final Map<Scheduler.Client, Set<ReservationEntry>> allocatedEntriesByClient
+      = new HashMap<>();
 
   /**
    * Creates a new instance.
@@ -57,7 +62,7 @@ public class ReservationPool {
 
     ReservationEntry entry = reservations.get(resource);
     if (entry == null) {
-      entry = new ReservationEntry(resource);
+      entry = new ReservationEntry(resource, this);
       reservations.put(resource, entry);
     }
     return entry;
@@ -176,9 +181,8 @@ public class ReservationPool {
   ) {
     requireNonNull(client, "client");
 
-    return reservations.entrySet().stream()
-        .filter(entry -> entry.getValue().isAllocatedBy(client))
-        .map(entry -> entry.getKey())
+    return allocatedEntriesByClient.getOrDefault(client, Set.of()).stream()
+        .map(ReservationEntry::getResource)
         .collect(Collectors.toSet());
   }
 
@@ -215,6 +219,32 @@ public class ReservationPool {
     return true;
   }
 
+  /**
+   * Returns the resources in the given set of resources that are not available for the given
+   * client, i.e. that are allocated by other clients.
+   *
+   * @param resources The set of resources to be checked.
+   * @param client The client for which to check.
+   * @return The resources in the given set that are not available for the given client.
+   */
+  @Nonnull
+  public Set<TCSResource<?>> unavailableResourcesForUser(
+      @Nonnull
+      Set<TCSResource<?>> resources,
+      @Nonnull
+      Scheduler.Client client
+  ) {
+    requireNonNull(resources, "resources");
+    requireNonNull(client, "client");
+
+    return resources.stream()
+        .filter(resource -> {
+          ReservationEntry entry = getReservationEntry(resource);
+          return !entry.isFree() && !entry.isAllocatedBy(client);
+        })
+        .collect(Collectors.toSet());
+  }
+
   public void free(
       @Nonnull
       Scheduler.Client client,
@@ -236,24 +266,20 @@ public class ReservationPool {
   ) {
     requireNonNull(client, "client");
 
-    reservations.values().stream()
-        .filter(reservationEntry -> reservationEntry.isAllocatedBy(client))
+    // Freeing entries modifies the client's set of allocated entries, so work on a copy.
+    List.copyOf(allocatedEntriesByClient.getOrDefault(client, Set.of()))
         .forEach(reservationEntry -> reservationEntry.freeCompletely());
   }
 
   @Nonnull
   public Map<String, Set<TCSResource<?>>> getAllocations() {
     final Map<String, Set<TCSResource<?>>> result = new HashMap<>();
-    for (Map.Entry<TCSResource<?>, ReservationEntry> curEntry : reservations.entrySet()) {
-      final TCSResource<?> curResource = curEntry.getKey();
-      final Scheduler.Client curUser = curEntry.getValue().getClient();
-      if (curUser != null) {
-        Set<TCSResource<?>> userResources = result.get(curUser.getId());
-        if (userResources == null) {
-          userResources = new HashSet<>();
-        }
-        userResources.add(curResource);
-        result.put(curUser.getId(), userResources);
+    for (Map.Entry<Scheduler.Client, Set<ReservationEntry>> curEntry
+        : allocatedEntriesByClient.entrySet()) {
+      Set<TCSResource<?>> userResources
+          = result.computeIfAbsent(curEntry.getKey().getId(), id -> new HashSet<>());
+      for (ReservationEntry reservationEntry : curEntry.getValue()) {
+        userResources.add(reservationEntry.getResource());
       }
     }
     return result;
@@ -262,6 +288,36 @@ public class ReservationPool {
   public void clear() {
     claimsByClient.clear();
     reservations.clear();
+    allocatedEntriesByClient.clear();
+  }
+
+  /**
+   * Called by a reservation entry of this pool after its resource has been allocated by a client
+   * that did not hold it before.
+   *
+   * @param entry The reservation entry.
+   */
+  void entryAllocated(ReservationEntry entry) {
+    allocatedEntriesByClient.computeIfAbsent(entry.getClient(), client -> new HashSet<>())
+        .add(entry);
+  }
+
+  /**
+   * Called by a reservation entry of this pool after its resource has been freed completely.
+   *
+   * @param entry The reservation entry.
+   * @param client The client that held the resource.
+   */
+  void entryFreed(ReservationEntry entry, Scheduler.Client client) {
+    Set<ReservationEntry> entries = allocatedEntriesByClient.get(client);
+    if (entries == null) {
+      return;
+    }
+
+    entries.remove(entry);
+    if (entries.isEmpty()) {
+      allocatedEntriesByClient.remove(client);
+    }
   }
 
   /**
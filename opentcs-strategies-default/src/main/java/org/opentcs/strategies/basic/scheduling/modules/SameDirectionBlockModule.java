@@ -16,12 +16,14 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.model.Block;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.TCSResource;
+import org.opentcs.data.model.TCSResourceReference;
 import org.opentcs.strategies.basic.scheduling.ReservationPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -199,19 +201,13 @@ public class SameDirectionBlockModule
       Set<TCSResource<?>> resources,
       Block.Type type
   ) {
-    Set<Block> result = new HashSet<>();
-    Set<Block> blocks = plantModelService.fetchObjects(
-        Block.class,
-        block -> block.getType() == type
-    );
-    for (TCSResource<?> resource : resources) {
-      for (Block block : blocks) {
-        if (block.getMembers().contains(resource.getReference())) {
-          result.add(block);
-        }
-      }
-    }
-    return result;
+    Set<TCSResourceReference<?>> resourceRefs = resources.stream()
+        .map(resource -> resource.getReference())
+        .collect(Collectors.toSet());
+
+    return plantModelService.fetchBlocksContaining(resourceRefs).stream()
+        .filter(block -> block.getType() == type)
+        .collect(Collectors.toSet());
   }
 
   @Nullable
@@ -6,7 +6,6 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -155,19 +154,13 @@ public class SingleVehicleBlockModule
       Set<TCSResource<?>> resources,
       Block.Type type
   ) {
-    Set<Block> result = new HashSet<>();
-    Set<Block> blocks = plantModelService.fetchObjects(
-        Block.class,
-        block -> block.getType() == type
-    );
-    for (TCSResource<?> resource : resources) {
-      for (Block block : blocks) {
-        if (block.getMembers().contains(resource.getReference())) {
-          result.add(block);
-        }
-      }
-    }
-    return result;
+    Set<TCSResourceReference<?>> resourceRefs = resources.stream()
+        .map(resource -> resource.getReference())
+        .collect(Collectors.toSet());
+
+    return plantModelService.fetchBlocksContaining(resourceRefs).stream()
+        .filter(block -> block.getType() == type)
+        .collect(Collectors.toSet());
   }
 
   private Set<TCSResource<?>> filterRelevantResources(
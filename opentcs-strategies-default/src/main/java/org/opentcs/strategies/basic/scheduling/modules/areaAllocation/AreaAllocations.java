@@ -2,21 +2,38 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.scheduling.modules.areaAllocation;
 
+import static java.util.Objects.requireNonNull;
+
 import jakarta.inject.Inject;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.index.quadtree.Quadtree;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 
 /**
  * A container for keeping track of areas allocated by vehicles.
+ * <p>
+ * The allocated areas are kept in a spatial index, so that checking whether requested areas are
+ * allocated by other vehicles only requires intersection tests for allocated areas close to the
+ * requested ones.
+ * </p>
  */
 public class AreaAllocations {
 
-  private final Map<TCSObjectReference<Vehicle>, GeometryCollection> allocatedAreasByVehicles
+  private final Map<TCSObjectReference<Vehicle>, List<AllocatedArea>> allocatedAreasByVehicles
       = new HashMap<>();
+  /**
+   * The areas allocated by all vehicles, indexed by their envelopes.
+   */
+  private Quadtree allocatedAreasIndex = new Quadtree();
 
   @Inject
   public AreaAllocations() {
@@ -27,6 +44,7 @@ public class AreaAllocations {
    */
   public void clearAreaAllocations() {
     allocatedAreasByVehicles.clear();
+    allocatedAreasIndex = new Quadtree();
   }
 
   /**
@@ -40,7 +58,35 @@ public class AreaAllocations {
       TCSObjectReference<Vehicle> vehicleRef,
       GeometryCollection allocatedAreas
   ) {
-    allocatedAreasByVehicles.put(vehicleRef, allocatedAreas);
+    requireNonNull(allocatedAreas, "allocatedAreas");
+
+    setAreaAllocation(vehicleRef, CustomGeometryFactory.prepareGeometries(allocatedAreas));
+  }
+
+  /**
+   * Sets the allocation for the given vehicle to the given allocated areas, discarding any previous
+   * area allocation.
+   *
+   * @param vehicleRef The vehicle reference.
+   * @param allocatedAreas The allocated areas to set as the vehicle's current area allocation.
+   */
+  public void setAreaAllocation(
+      TCSObjectReference<Vehicle> vehicleRef,
+      Collection<PreparedGeometry> allocatedAreas
+  ) {
+    requireNonNull(vehicleRef, "vehicleRef");
+    requireNonNull(allocatedAreas, "allocatedAreas");
+
+    clearAreaAllocation(vehicleRef);
+
+    List<AllocatedArea> areas = allocatedAreas.stream()
+        .filter(area -> !area.getGeometry().isEmpty())
+        .map(area -> new AllocatedArea(vehicleRef, area))
+        .toList();
+    for (AllocatedArea area : areas) {
+      allocatedAreasIndex.insert(area.getEnvelope(), area);
+    }
+    allocatedAreasByVehicles.put(vehicleRef, areas);
   }
 
   /**
@@ -49,7 +95,14 @@ public class AreaAllocations {
    * @param vehicleRef The vehicle reference.
    */
   public void clearAreaAllocation(TCSObjectReference<Vehicle> vehicleRef) {
-    allocatedAreasByVehicles.remove(vehicleRef);
+    List<AllocatedArea> areas = allocatedAreasByVehicles.remove(vehicleRef);
+    if (areas == null) {
+      return;
+    }
+
+    for (AllocatedArea area : areas) {
+      allocatedAreasIndex.remove(area.getEnvelope(), area);
+    }
   }
 
   /**
@@ -65,9 +118,80 @@ public class AreaAllocations {
       TCSObjectReference<Vehicle> vehicleRef,
       GeometryCollection requestedAreas
   ) {
-    return allocatedAreasByVehicles.entrySet().stream()
+    requireNonNull(requestedAreas, "requestedAreas");
+
+    return isAreaAllocationAllowed(
+        vehicleRef,
+        CustomGeometryFactory.prepareGeometries(requestedAreas)
+    );
+  }
+
+  /**
+   * Checks if the given vehicle is allowed to allocate the given ares.
+   *
+   * @param vehicleRef The vehicle reference.
+   * @param requestedAreas The requested areas (to be allocated).
+   * @return {@code true}, if the vehicle is allowed to allocate the given areas, otherwise
+   * {@code false} (i.e. in case some of the reuqested areas are already allocated by other
+   * vehicles).
+   */
+  public boolean isAreaAllocationAllowed(
+      TCSObjectReference<Vehicle> vehicleRef,
+      Collection<PreparedGeometry> requestedAreas
+  ) {
+    requireNonNull(requestedAreas, "requestedAreas");
+
+    for (PreparedGeometry requestedArea : requestedAreas) {
+      Geometry requestedGeometry = requestedArea.getGeometry();
+      if (requestedGeometry.isEmpty()) {
+        continue;
+      }
+
+      Envelope requestedEnvelope = requestedGeometry.getEnvelopeInternal();
+      // The index may return candidates that do not even intersect the requested area's envelope.
+      for (Object candidate : allocatedAreasIndex.query(requestedEnvelope)) {
+        AllocatedArea allocatedArea = (AllocatedArea) candidate;
         // Only check areas allocated by vehicles other than the given vehicle.
-        .filter(entry -> !Objects.equals(entry.getKey(), vehicleRef))
-        .noneMatch(entry -> entry.getValue().intersects(requestedAreas));
+        if (!Objects.equals(allocatedArea.getVehicleRef(), vehicleRef)
+            && allocatedArea.getEnvelope().intersects(requestedEnvelope)
+            && allocatedArea.getArea().intersects(requestedGeometry)) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * An area allocated by a vehicle.
+   * <p>
+   * Instances are compared by identity, so that they can be removed from the index even if a
+   * vehicle has allocated equal areas multiple times.
+   * </p>
+   */
+  private static class AllocatedArea {
+
+    private final TCSObjectReference<Vehicle> vehicleRef;
+    private final PreparedGeometry area;
+    private final Envelope envelope;
+
+    AllocatedArea(TCSObjectReference<Vehicle> vehicleRef, PreparedGeometry area) {
+      this.vehicleRef = requireNonNull(vehicleRef, "vehicleRef");
+      this.area = requireNonNull(area, "area");
+      this.envelope = area.getGeometry().getEnvelopeInternal();
+    }
+
+    TCSObjectReference<Vehicle> getVehicleRef() {
+      return vehicleRef;
+    }
+
+    PreparedGeometry getArea() {
+      return area;
+    }
+
+    Envelope getEnvelope() {
+      return envelope;
+    }
   }
 }
@@ -91,7 +91,7 @@ public class AreaAllocator
 
     return areaAllocations.isAreaAllocationAllowed(
         vehicleRef,
-        areaProvider.getAreas(envelopeKey, resources)
+        areaProvider.getPreparedAreas(envelopeKey, resources)
     );
   }
 
@@ -120,6 +120,9 @@ public class AreaAllocator
       return;
     }
 
-    areaAllocations.setAreaAllocation(vehicleRef, areaProvider.getAreas(envelopeKey, resources));
+    areaAllocations.setAreaAllocation(
+        vehicleRef,
+        areaProvider.getPreparedAreas(envelopeKey, resources)
+    );
   }
 }
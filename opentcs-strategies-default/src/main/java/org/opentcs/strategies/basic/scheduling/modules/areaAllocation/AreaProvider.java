@@ -3,8 +3,10 @@
 package org.opentcs.strategies.basic.scheduling.modules.areaAllocation;
 
 import jakarta.annotation.Nonnull;
+import java.util.List;
 import java.util.Set;
 import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.data.model.TCSResource;
 
@@ -29,4 +31,24 @@ public interface AreaProvider
       @Nonnull
       Set<TCSResource<?>> resources
   );
+
+  /**
+   * Provides the areas related to the given envelope key and the given set of resources as
+   * {@link PreparedGeometry}s, which allow repeated intersection tests to be performed efficiently.
+   * <p>
+   * The default implementation prepares the geometries provided by {@link #getAreas}.
+   * </p>
+   *
+   * @param envelopeKey The envelope key.
+   * @param resources The set of resources.
+   * @return The areas related to the given envelope key and the given set of resources.
+   */
+  default List<PreparedGeometry> getPreparedAreas(
+      @Nonnull
+      String envelopeKey,
+      @Nonnull
+      Set<TCSResource<?>> resources
+  ) {
+    return CustomGeometryFactory.prepareGeometries(getAreas(envelopeKey, resources));
+  }
 }
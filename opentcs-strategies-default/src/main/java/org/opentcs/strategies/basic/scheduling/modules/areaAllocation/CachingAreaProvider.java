@@ -8,6 +8,7 @@ import static org.opentcs.strategies.basic.scheduling.modules.areaAllocation.Cus
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -15,6 +16,8 @@ import java.util.Set;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Envelope;
 import org.opentcs.data.model.Path;
@@ -24,6 +27,10 @@ import org.opentcs.data.model.TCSResource;
 /**
  * An {@link AreaProvider} implementation that, upon initialization, computes and caches the areas
  * for the {@link Envelope}s defined at all {@link Point}s and {@link Path}s.
+ * <p>
+ * The areas are cached as {@link PreparedGeometry}s, so that the indexes built for intersection
+ * tests are reused for as long as the areas are.
+ * </p>
  */
 public class CachingAreaProvider
     implements
@@ -31,7 +38,7 @@ public class CachingAreaProvider
 
   private final TCSObjectService objectService;
   private final CustomGeometryFactory geometryFactory = new CustomGeometryFactory();
-  private final Map<CacheKey, Geometry> cache = new HashMap<>();
+  private final Map<CacheKey, PreparedGeometry> cache = new HashMap<>();
   private boolean initialized;
 
   /**
@@ -83,12 +90,29 @@ public class CachingAreaProvider
 
     Geometry[] computedAreas = resources.stream()
         .map(resource -> lookupArea(envelopeKey, resource))
-        .filter(geometry -> geometry != EMPTY_GEOMETRY)
+        .filter(Objects::nonNull)
+        .map(PreparedGeometry::getGeometry)
         .toArray(Geometry[]::new);
 
     return geometryFactory.createGeometryCollection(computedAreas);
   }
 
+  @Override
+  public List<PreparedGeometry> getPreparedAreas(
+      @Nonnull
+      String envelopeKey,
+      @Nonnull
+      Set<TCSResource<?>> resources
+  ) {
+    requireNonNull(envelopeKey, "envelopeKey");
+    requireNonNull(resources, "resources");
+
+    return resources.stream()
+        .map(resource -> lookupArea(envelopeKey, resource))
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
   private void populateCache() {
     Set<Point> points = objectService.fetchObjects(
         Point.class,
@@ -98,7 +122,7 @@ public class CachingAreaProvider
       for (Map.Entry<String, Envelope> entry : point.getVehicleEnvelopes().entrySet()) {
         String envelopeKey = entry.getKey();
         computeArea(envelopeKey, point)
-            .ifPresent(geometry -> cache.put(new CacheKey(envelopeKey, point), geometry));
+            .ifPresent(area -> cache.put(new CacheKey(envelopeKey, point), area));
       }
     }
 
@@ -110,12 +134,12 @@ public class CachingAreaProvider
       for (Map.Entry<String, Envelope> entry : path.getVehicleEnvelopes().entrySet()) {
         String envelopeKey = entry.getKey();
         computeArea(envelopeKey, path)
-            .ifPresent(geometry -> cache.put(new CacheKey(envelopeKey, path), geometry));
+            .ifPresent(area -> cache.put(new CacheKey(envelopeKey, path), area));
       }
     }
   }
 
-  private Optional<Geometry> computeArea(String envelopeKey, TCSResource<?> resource) {
+  private Optional<PreparedGeometry> computeArea(String envelopeKey, TCSResource<?> resource) {
     Map<String, Envelope> vehicleEnvelopes = extractVehicleEnvelopes(resource);
 
     if (!vehicleEnvelopes.containsKey(envelopeKey)) {
@@ -127,7 +151,12 @@ public class CachingAreaProvider
         .map(vertex -> new Coordinate(vertex.getX(), vertex.getY()))
         .toArray(Coordinate[]::new);
 
-    return Optional.of(geometryFactory.createPolygonOrEmptyGeometry(coordinates));
+    Geometry area = geometryFactory.createPolygonOrEmptyGeometry(coordinates);
+    if (area == EMPTY_GEOMETRY) {
+      return Optional.empty();
+    }
+
+    return Optional.of(PreparedGeometryFactory.prepare(area));
   }
 
   private Map<String, Envelope> extractVehicleEnvelopes(TCSResource<?> resource) {
@@ -142,8 +171,8 @@ public class CachingAreaProvider
     }
   }
 
-  private Geometry lookupArea(String envelopeKey, TCSResource<?> resource) {
-    return cache.getOrDefault(new CacheKey(envelopeKey, resource), EMPTY_GEOMETRY);
+  private PreparedGeometry lookupArea(String envelopeKey, TCSResource<?> resource) {
+    return cache.get(new CacheKey(envelopeKey, resource));
   }
 
   /**
@@ -5,11 +5,16 @@ package org.opentcs.strategies.basic.scheduling.modules.areaAllocation;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.IntStream;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
 import org.opentcs.data.model.Envelope;
 import org.opentcs.data.model.Path;
 
@@ -65,4 +70,21 @@ public class CustomGeometryFactory
         return this.createPolygon(coordinates);
     }
   }
+
+  /**
+   * Prepares the geometries contained in the given {@link GeometryCollection}.
+   *
+   * @param geometryCollection The geometry collection.
+   * @return The prepared geometries.
+   */
+  public static List<PreparedGeometry> prepareGeometries(
+      @Nonnull
+      GeometryCollection geometryCollection
+  ) {
+    requireNonNull(geometryCollection, "geometryCollection");
+
+    return IntStream.range(0, geometryCollection.getNumGeometries())
+        .mapToObj(i -> PreparedGeometryFactory.prepare(geometryCollection.getGeometryN(i)))
+        .toList();
+  }
 }
@@ -0,0 +1,70 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.InternalVehicleService;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.AssignmentCandidateCalculator;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.OrderAssigner;
+
+/**
+ * Unit tests for {@link DefaultDispatcher}.
+ */
+class DefaultDispatcherTest {
+
+  private FullDispatchTask fullDispatchTask;
+  private DefaultDispatcherConfiguration configuration;
+  private DefaultDispatcher dispatcher;
+  private Set<TCSObjectReference<Vehicle>> vehicles;
+
+  @BeforeEach
+  void setUp() {
+    fullDispatchTask = mock();
+    configuration = mock();
+    dispatcher = new DefaultDispatcher(
+        mock(OrderReservationPool.class),
+        mock(TransportOrderUtil.class),
+        mock(InternalVehicleService.class),
+        mock(ScheduledExecutorService.class),
+        fullDispatchTask,
+        () -> mock(PeriodicVehicleRedispatchingTask.class),
+        configuration,
+        mock(RerouteUtil.class),
+        mock(OrderAssigner.class),
+        mock(AssignmentCandidateCalculator.class),
+        mock(TransportOrderAssignmentChecker.class)
+    );
+    vehicles = Set.of(new Vehicle("Vehicle-01").getReference());
+  }
+
+  @Test
+  void dispatchOnlyGivenVehiclesIfVehicleScopedDispatchingIsEnabled() {
+    when(configuration.vehicleScopedDispatching()).thenReturn(true);
+
+    dispatcher.dispatch(vehicles);
+
+    verify(fullDispatchTask).run(vehicles);
+    verify(fullDispatchTask, never()).run();
+  }
+
+  @Test
+  void fallBackToFullDispatchRunIfVehicleScopedDispatchingIsDisabled() {
+    when(configuration.vehicleScopedDispatching()).thenReturn(false);
+
+    dispatcher.dispatch(vehicles);
+
+    verify(fullDispatchTask).run();
+    verify(fullDispatchTask, never()).run(any());
+  }
+}
@@ -0,0 +1,118 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.selection.orders.CompositeTransportOrderSelectionFilter;
+import org.opentcs.strategies.basic.dispatching.selection.orders.IsFreelyDispatchableToAnyVehicle;
+import org.opentcs.strategies.basic.dispatching.selection.vehicles.CompositeVehicleSelectionFilter;
+import org.opentcs.strategies.basic.dispatching.selection.vehicles.IsAvailableForAnyOrder;
+
+/**
+ * Unit tests for {@link AssignFreeOrdersPhase}.
+ */
+class AssignFreeOrdersPhaseTest {
+
+  private Vehicle vehicle1;
+  private Vehicle vehicle2;
+  private Vehicle vehicle3;
+  private TransportOrder order1;
+  private TransportOrder order2;
+  private OrderAssigner orderAssigner;
+  private AssignFreeOrdersPhase phase;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    vehicle1 = new Vehicle("Vehicle-01");
+    vehicle2 = new Vehicle("Vehicle-02");
+    vehicle3 = new Vehicle("Vehicle-03");
+    order1 = new TransportOrder("Order-01", List.of())
+        .withState(TransportOrder.State.DISPATCHABLE);
+    order2 = new TransportOrder("Order-02", List.of())
+        .withState(TransportOrder.State.DISPATCHABLE);
+
+    TCSObjectService objectService = mock();
+    when(objectService.fetchObjects(eq(Vehicle.class), any(Predicate.class)))
+        .thenAnswer(
+            invocation -> filter(
+                Set.of(vehicle1, vehicle2, vehicle3),
+                invocation.getArgument(1, Predicate.class)
+            )
+        );
+    when(objectService.fetchObjects(eq(TransportOrder.class), any(Predicate.class)))
+        .thenAnswer(
+            invocation -> filter(Set.of(order1, order2), invocation.getArgument(1, Predicate.class))
+        );
+
+    IsAvailableForAnyOrder isAvailableForAnyOrder = mock();
+    when(isAvailableForAnyOrder.test(any(Vehicle.class))).thenReturn(true);
+    IsFreelyDispatchableToAnyVehicle isFreelyDispatchableToAnyVehicle = mock();
+    when(isFreelyDispatchableToAnyVehicle.test(any(TransportOrder.class))).thenReturn(true);
+    orderAssigner = mock();
+
+    phase = new AssignFreeOrdersPhase(
+        objectService,
+        new CompositeVehicleSelectionFilter(Set.of()),
+        isAvailableForAnyOrder,
+        isFreelyDispatchableToAnyVehicle,
+        new CompositeTransportOrderSelectionFilter(Set.of()),
+        orderAssigner,
+        mock(DispatchingStatusMarker.class)
+    );
+    phase.initialize();
+  }
+
+  @Test
+  void considerAllVehiclesInFullRun() {
+    phase.run();
+
+    assertThat(assignedVehicles(), containsInAnyOrder(vehicle1, vehicle2, vehicle3));
+    assertThat(assignedOrders(), containsInAnyOrder(order1, order2));
+  }
+
+  @Test
+  void considerOnlyGivenVehiclesInScopedRun() {
+    phase.run(Set.of(vehicle1.getReference(), vehicle3.getReference()));
+
+    assertThat(assignedVehicles(), containsInAnyOrder(vehicle1, vehicle3));
+    // Free orders are not bound to specific vehicles, so all of them are still considered.
+    assertThat(assignedOrders(), containsInAnyOrder(order1, order2));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Collection<Vehicle> assignedVehicles() {
+    ArgumentCaptor<Collection<Vehicle>> captor = ArgumentCaptor.forClass(Collection.class);
+    verify(orderAssigner).tryAssignments(captor.capture(), any());
+    return captor.getValue();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Collection<TransportOrder> assignedOrders() {
+    ArgumentCaptor<Collection<TransportOrder>> captor = ArgumentCaptor.forClass(Collection.class);
+    verify(orderAssigner).tryAssignments(any(), captor.capture());
+    return captor.getValue();
+  }
+
+  private static <T> Set<T> filter(Set<T> objects, Predicate<T> predicate) {
+    return objects.stream().filter(predicate).collect(Collectors.toSet());
+  }
+}
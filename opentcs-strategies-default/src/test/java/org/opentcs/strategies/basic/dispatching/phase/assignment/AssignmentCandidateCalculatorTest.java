@@ -0,0 +1,161 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+
+/**
+ * Tests for {@link AssignmentCandidateCalculator}.
+ */
+class AssignmentCandidateCalculatorTest {
+
+  private Point point;
+  private TCSObjectService objectService;
+  private Router router;
+  private DefaultDispatcherConfiguration configuration;
+  private AssignmentCandidateCalculator calculator;
+
+  @BeforeEach
+  void setUp() {
+    point = new Point("point");
+    objectService = mock(TCSObjectService.class);
+    router = mock(Router.class);
+    configuration = mock(DefaultDispatcherConfiguration.class);
+    when(objectService.fetchObject(Point.class, point.getReference())).thenReturn(point);
+    calculator = new AssignmentCandidateCalculator(objectService, router, configuration);
+  }
+
+  @AfterEach
+  void tearDown() {
+    calculator.terminate();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 4})
+  void retainOrderOfTransportOrders(int parallelism) {
+    when(configuration.candidateComputationParallelism()).thenReturn(parallelism);
+    calculator.initialize();
+
+    Vehicle vehicle = new Vehicle("vehicle").withCurrentPosition(point.getReference());
+    List<TransportOrder> orders = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      TransportOrder order = new TransportOrder("order-" + i, List.of());
+      orders.add(order);
+      when(router.getRoute(vehicle, point, order)).thenReturn(Optional.of(someDriveOrders()));
+    }
+
+    assertThat(
+        calculator.computeCandidates(vehicle, orders).stream()
+            .map(AssignmentCandidate::getTransportOrder)
+            .toList(),
+        contains(orders.toArray())
+    );
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 4})
+  void retainOrderOfVehicles(int parallelism) {
+    when(configuration.candidateComputationParallelism()).thenReturn(parallelism);
+    calculator.initialize();
+
+    TransportOrder order = new TransportOrder("order", List.of());
+    List<Vehicle> vehicles = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      Vehicle vehicle = new Vehicle("vehicle-" + i).withCurrentPosition(point.getReference());
+      vehicles.add(vehicle);
+      when(router.getRoute(vehicle, point, order)).thenReturn(Optional.of(someDriveOrders()));
+    }
+
+    assertThat(
+        calculator.computeCandidates(vehicles, order).stream()
+            .map(AssignmentCandidate::getVehicle)
+            .toList(),
+        contains(vehicles.toArray())
+    );
+  }
+
+  @Test
+  void prepareComputationOnCallingThreadBeforeComputingCandidatesInParallel() {
+    when(configuration.candidateComputationParallelism()).thenReturn(4);
+    calculator.initialize();
+
+    // The calling thread usually holds the kernel's global lock while waiting for the candidates,
+    // so accessing the object service must not be left to the threads computing them.
+    Thread callingThread = Thread.currentThread();
+    when(objectService.fetchObject(Point.class, point.getReference()))
+        .thenAnswer(invocation -> {
+          assertThat(Thread.currentThread(), is(callingThread));
+          return point;
+        });
+    TransportOrder order = new TransportOrder("order", List.of());
+    List<Vehicle> vehicles = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      vehicles.add(new Vehicle("vehicle-" + i).withCurrentPosition(point.getReference()));
+    }
+    when(router.getRoute(any(Vehicle.class), eq(point), eq(order)))
+        .thenReturn(Optional.of(someDriveOrders()));
+
+    calculator.computeCandidates(vehicles, order);
+
+    InOrder inOrder = inOrder(router);
+    inOrder.verify(router).prepareRouteComputation(vehicles);
+    inOrder.verify(router, times(10)).getRoute(any(Vehicle.class), eq(point), eq(order));
+  }
+
+  @Test
+  void skipUnroutableTransportOrders() {
+    when(configuration.candidateComputationParallelism()).thenReturn(1);
+    calculator.initialize();
+
+    Vehicle vehicle = new Vehicle("vehicle").withCurrentPosition(point.getReference());
+    TransportOrder routableOrder = new TransportOrder("routable-order", List.of());
+    TransportOrder unroutableOrder = new TransportOrder("unroutable-order", List.of());
+    when(router.getRoute(eq(vehicle), eq(point), any(TransportOrder.class)))
+        .thenReturn(Optional.empty());
+    when(router.getRoute(vehicle, point, routableOrder))
+        .thenReturn(Optional.of(someDriveOrders()));
+
+    assertThat(
+        calculator.computeCandidates(vehicle, List.of(unroutableOrder, routableOrder)).stream()
+            .map(AssignmentCandidate::getTransportOrder)
+            .toList(),
+        contains(routableOrder)
+    );
+  }
+
+  private List<DriveOrder> someDriveOrders() {
+    Route route = new Route(
+        List.of(new Route.Step(null, null, point, Vehicle.Orientation.FORWARD, 0, 10))
+    );
+    return List.of(
+        new DriveOrder(new DriveOrder.Destination(point.getReference())).withRoute(route)
+    );
+  }
+}
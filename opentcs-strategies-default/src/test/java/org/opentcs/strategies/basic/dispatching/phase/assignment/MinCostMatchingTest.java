@@ -0,0 +1,135 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opentcs.strategies.basic.dispatching.phase.assignment.MinCostMatching.INFEASIBLE;
+import static org.opentcs.strategies.basic.dispatching.phase.assignment.MinCostMatching.UNMATCHED;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MinCostMatching}.
+ */
+class MinCostMatchingTest {
+
+  private static final long TIME_BUDGET = 10_000_000_000L;
+
+  @Test
+  void minimizeTotalCosts() {
+    // Matching greedily (row 0 with column 0) would result in total costs of 1 + 10.
+    long[][] costs = {
+        {1, 2},
+        {2, 10}
+    };
+
+    assertThat(
+        new MinCostMatching(TIME_BUDGET).compute(costs).orElseThrow(),
+        is(new int[]{1, 0})
+    );
+  }
+
+  @Test
+  void leaveSurplusRowsUnmatched() {
+    long[][] costs = {
+        {5},
+        {3},
+        {4}
+    };
+
+    assertThat(
+        new MinCostMatching(TIME_BUDGET).compute(costs).orElseThrow(),
+        is(new int[]{UNMATCHED, 0, UNMATCHED})
+    );
+  }
+
+  @Test
+  void leaveSurplusColumnsUnmatched() {
+    long[][] costs = {
+        {5, 3, 4}
+    };
+
+    assertThat(
+        new MinCostMatching(TIME_BUDGET).compute(costs).orElseThrow(),
+        is(new int[]{1})
+    );
+  }
+
+  @Test
+  void preferMoreMatchedPairsOverLowerCosts() {
+    // Matching row 0 with column 0 would be cheaper, but would leave row 1 unmatched.
+    long[][] costs = {
+        {1, 100},
+        {50, INFEASIBLE}
+    };
+
+    assertThat(
+        new MinCostMatching(TIME_BUDGET).compute(costs).orElseThrow(),
+        is(new int[]{1, 0})
+    );
+  }
+
+  @Test
+  void neverMatchInfeasiblePairs() {
+    long[][] costs = {
+        {INFEASIBLE, 1},
+        {INFEASIBLE, 2}
+    };
+
+    assertThat(
+        new MinCostMatching(TIME_BUDGET).compute(costs).orElseThrow(),
+        is(new int[]{1, UNMATCHED})
+    );
+  }
+
+  @Test
+  void handleHugeCostsWithoutOverflow() {
+    long[][] costs = {
+        {Long.MAX_VALUE, 1, INFEASIBLE},
+        {1, Long.MAX_VALUE, Long.MAX_VALUE},
+        {Long.MAX_VALUE, INFEASIBLE, Long.MAX_VALUE - 1}
+    };
+
+    assertThat(
+        new MinCostMatching(TIME_BUDGET).compute(costs).orElseThrow(),
+        is(new int[]{1, 0, 2})
+    );
+  }
+
+  @Test
+  void handleEmptyCostMatrix() {
+    assertThat(
+        new MinCostMatching(TIME_BUDGET).compute(new long[0][0]).orElseThrow(),
+        is(new int[0])
+    );
+    assertThat(
+        new MinCostMatching(TIME_BUDGET).compute(new long[2][0]).orElseThrow(),
+        is(new int[]{UNMATCHED, UNMATCHED})
+    );
+  }
+
+  @Test
+  void returnEmptyResultWhenTimeBudgetExceeded() {
+    MinCostMatching matching = new MinCostMatching(0);
+    long[][] costs = {
+        {1, 2},
+        {2, 1}
+    };
+
+    assertThat(matching.compute(costs).isPresent(), is(false));
+  }
+
+  @Test
+  void rejectNegativeCosts() {
+    long[][] costs = {
+        {-5}
+    };
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new MinCostMatching(TIME_BUDGET).compute(costs)
+    );
+  }
+}
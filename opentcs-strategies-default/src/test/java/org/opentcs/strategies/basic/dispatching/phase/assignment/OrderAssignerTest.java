@@ -0,0 +1,162 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration.OrderAssignmentStrategy;
+import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
+import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeOrderCandidateComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeOrderComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeVehicleCandidateComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeVehicleComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.candidate.CandidateComparatorByInitialRoutingCosts;
+import org.opentcs.strategies.basic.dispatching.selection.candidates.CompositeAssignmentCandidateSelectionFilter;
+
+/**
+ * Unit tests for {@link OrderAssigner}.
+ */
+class OrderAssignerTest {
+
+  private Vehicle vehicle1;
+  private Vehicle vehicle2;
+  private TransportOrder order1;
+  private TransportOrder order2;
+  /**
+   * The initial routing costs for each pair of vehicle and transport order.
+   * Assigning orders one by one (starting with the vehicle closest to the first order) results in
+   * total costs of 1 + 10, while the minimum total costs are 2 + 2.
+   */
+  private Map<Vehicle, Map<TransportOrder, Long>> costs;
+  private DefaultDispatcherConfiguration configuration;
+  private TransportOrderUtil transportOrderUtil;
+  private OrderAssigner orderAssigner;
+
+  @BeforeEach
+  void setUp() {
+    vehicle1 = new Vehicle("Vehicle-01");
+    vehicle2 = new Vehicle("Vehicle-02");
+    order1 = new TransportOrder("Order-01", List.of());
+    order2 = new TransportOrder("Order-02", List.of());
+    costs = Map.of(
+        vehicle1, Map.of(order1, 1L, order2, 2L),
+        vehicle2, Map.of(order1, 2L, order2, 10L)
+    );
+
+    configuration = mock();
+    when(configuration.orderCandidatePriorities())
+        .thenReturn(List.of(CandidateComparatorByInitialRoutingCosts.CONFIGURATION_KEY));
+    when(configuration.minCostMatchingTimeBudget()).thenReturn(10_000L);
+
+    AssignmentCandidateCalculator candidateCalculator = mock();
+    when(candidateCalculator.computeCandidates(any(Vehicle.class), anyCollection()))
+        .thenAnswer(invocation -> {
+          Vehicle vehicle = invocation.getArgument(0);
+          Collection<TransportOrder> orders = invocation.getArgument(1);
+          return orders.stream().map(order -> candidate(vehicle, order)).toList();
+        });
+    when(candidateCalculator.computeCandidates(anyCollection(), any(TransportOrder.class)))
+        .thenAnswer(invocation -> {
+          Collection<Vehicle> vehicles = invocation.getArgument(0);
+          TransportOrder order = invocation.getArgument(1);
+          return vehicles.stream().map(vehicle -> candidate(vehicle, order)).toList();
+        });
+
+    transportOrderUtil = mock();
+    orderAssigner = new OrderAssigner(
+        candidateCalculator,
+        mock(OrderReservationPool.class),
+        new CompositeVehicleComparator(configuration, Map.of()),
+        new CompositeOrderComparator(configuration, Map.of()),
+        new CompositeOrderCandidateComparator(
+            configuration,
+            Map.of(
+                CandidateComparatorByInitialRoutingCosts.CONFIGURATION_KEY,
+                new CandidateComparatorByInitialRoutingCosts()
+            )
+        ),
+        new CompositeVehicleCandidateComparator(configuration, Map.of()),
+        new CompositeAssignmentCandidateSelectionFilter(Set.of()),
+        transportOrderUtil,
+        mock(DispatchingStatusMarker.class),
+        configuration
+    );
+  }
+
+  @Test
+  void assignOrdersOneByOneWithGreedyStrategy() {
+    when(configuration.orderAssignmentStrategy()).thenReturn(OrderAssignmentStrategy.GREEDY);
+
+    orderAssigner.tryAssignments(List.of(vehicle1, vehicle2), List.of(order1, order2));
+
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicle1), eq(order1), any());
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicle2), eq(order2), any());
+  }
+
+  @Test
+  void minimizeTotalCostsWithMinCostMatchingStrategy() {
+    when(configuration.orderAssignmentStrategy())
+        .thenReturn(OrderAssignmentStrategy.MIN_COST_MATCHING);
+
+    orderAssigner.tryAssignments(List.of(vehicle1, vehicle2), List.of(order1, order2));
+
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicle1), eq(order2), any());
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicle2), eq(order1), any());
+  }
+
+  @Test
+  void assignOrdersGreedilyWhenTimeBudgetIsExceeded() {
+    when(configuration.orderAssignmentStrategy())
+        .thenReturn(OrderAssignmentStrategy.MIN_COST_MATCHING);
+    when(configuration.minCostMatchingTimeBudget()).thenReturn(0L);
+
+    orderAssigner.tryAssignments(List.of(vehicle1, vehicle2), List.of(order1, order2));
+
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicle1), eq(order1), any());
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicle2), eq(order2), any());
+    verify(transportOrderUtil, times(2)).assignTransportOrder(any(), any(), any());
+  }
+
+  private AssignmentCandidate candidate(Vehicle vehicle, TransportOrder order) {
+    Point destination = new Point("Point-" + order.getName());
+    Route route = new Route(
+        List.of(
+            new Route.Step(
+                null,
+                new Point("Point-" + vehicle.getName()),
+                destination,
+                Vehicle.Orientation.FORWARD,
+                0,
+                costs.get(vehicle).get(order)
+            )
+        )
+    );
+    return new AssignmentCandidate(
+        vehicle,
+        order,
+        List.of(
+            new DriveOrder(new DriveOrder.Destination(destination.getReference())).withRoute(route)
+        )
+    );
+  }
+}
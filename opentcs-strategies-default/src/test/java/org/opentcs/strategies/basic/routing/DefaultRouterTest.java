@@ -7,21 +7,35 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opentcs.strategies.basic.routing.PointRouter.INFINITE_COSTS;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.DriveOrder.Destination;
+import org.opentcs.data.order.Route;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.routing.jgrapht.PointRouterProvider;
 
@@ -108,4 +122,127 @@ class DefaultRouterTest {
 
     assertThat(defaultRouter.checkGeneralRoutability(order), is(true));
   }
+
+  @Test
+  void computeRouteViaCheapestCombinationOfDestinationPoints() {
+    Vehicle vehicle = new Vehicle("some-vehicle");
+    Point point0 = new Point("P0").withType(Point.Type.HALT_POSITION);
+    Point point1 = new Point("P1").withType(Point.Type.HALT_POSITION);
+    Point point2 = new Point("P2").withType(Point.Type.HALT_POSITION);
+    Point point3 = new Point("P3").withType(Point.Type.HALT_POSITION);
+    LocationType locationType = new LocationType("LT1");
+    Location location = new Location("L1", locationType.getReference());
+    location = location.withAttachedLinks(
+        Set.of(
+            new Location.Link(location.getReference(), point1.getReference()),
+            new Location.Link(location.getReference(), point2.getReference())
+        )
+    );
+    TransportOrder orderViaLocation = new TransportOrder(
+        "t2",
+        List.of(
+            new DriveOrder(
+                new Destination(location.getReference())
+                    .withOperation(Destination.OP_NOP)
+            ),
+            new DriveOrder(
+                new Destination(point3.getReference())
+                    .withOperation(Destination.OP_MOVE)
+            )
+        )
+    );
+
+    when(objectService.fetchObject(Location.class, "L1")).thenReturn(location);
+    when(objectService.fetchObject(LocationType.class, "LT1")).thenReturn(locationType);
+    when(objectService.fetchObject(Point.class, point1.getReference())).thenReturn(point1);
+    when(objectService.fetchObject(Point.class, point2.getReference())).thenReturn(point2);
+    when(objectService.fetchObject(Point.class, "P3")).thenReturn(point3);
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, orderViaLocation))
+        .thenReturn(pointRouter);
+    // The first hop is cheaper via P1, but the whole route is cheaper via P2.
+    when(pointRouter.getCosts(point0, point1)).thenReturn(10L);
+    when(pointRouter.getCosts(point0, point2)).thenReturn(20L);
+    when(pointRouter.getCosts(point1, point3)).thenReturn(100L);
+    when(pointRouter.getCosts(point2, point3)).thenReturn(30L);
+    List<Route.Step> stepsToPoint2 = List.of(
+        new Route.Step(null, point0, point2, Vehicle.Orientation.FORWARD, 0, 20)
+    );
+    List<Route.Step> stepsToPoint3 = List.of(
+        new Route.Step(null, point2, point3, Vehicle.Orientation.FORWARD, 0, 30)
+    );
+    when(pointRouter.getRouteSteps(point0, point2)).thenReturn(stepsToPoint2);
+    when(pointRouter.getRouteSteps(point2, point3)).thenReturn(stepsToPoint3);
+
+    Optional<List<DriveOrder>> result
+        = defaultRouter.getRoute(vehicle, point0, orderViaLocation);
+
+    assertThat(result.isPresent(), is(true));
+    assertThat(result.get().size(), is(2));
+    assertThat(result.get().get(0).getRoute().getSteps(), is(stepsToPoint2));
+    assertThat(result.get().get(1).getRoute().getSteps(), is(stepsToPoint3));
+    // Route steps are computed only for the cheapest combination of destination points.
+    verify(pointRouter, never()).getRouteSteps(point0, point1);
+    verify(pointRouter, never()).getRouteSteps(point1, point3);
+  }
+
+  @Test
+  void computeNoRouteIfAnyDriveOrderIsUnroutable() {
+    Vehicle vehicle = new Vehicle("some-vehicle");
+    Point point0 = new Point("P0").withType(Point.Type.HALT_POSITION);
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, order)).thenReturn(pointRouter);
+    when(pointRouter.getCosts(any(Point.class), any(Point.class))).thenReturn(50L);
+    when(pointRouter.getCosts(any(Point.class), eq(new Point("P2")))).thenReturn(INFINITE_COSTS);
+
+    assertThat(defaultRouter.getRoute(vehicle, point0, order), is(Optional.empty()));
+    verify(pointRouter, never()).getRouteSteps(any(Point.class), any(Point.class));
+  }
+
+  @Test
+  void computeNoRouteIfPointRouterProvidesNoRouteSteps() {
+    Vehicle vehicle = new Vehicle("some-vehicle");
+    Point point0 = new Point("P0").withType(Point.Type.HALT_POSITION);
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, order)).thenReturn(pointRouter);
+    when(pointRouter.getCosts(any(Point.class), any(Point.class))).thenReturn(50L);
+    when(pointRouter.getRouteSteps(any(Point.class), any(Point.class))).thenReturn(null);
+
+    assertThat(defaultRouter.getRoute(vehicle, point0, order), is(Optional.empty()));
+  }
+
+  @Test
+  void createPointRoutersWhenPreparingRouteComputation() {
+    Vehicle vehicle1 = new Vehicle("some-vehicle");
+    Vehicle vehicle2 = new Vehicle("some-other-vehicle");
+
+    defaultRouter.prepareRouteComputation(List.of(vehicle1, vehicle2));
+
+    verify(pointRouterProvider).getPointRouterForVehicle(vehicle1, Set.of());
+    verify(pointRouterProvider).getPointRouterForVehicle(vehicle2, Set.of());
+  }
+
+  @Test
+  void computeRoutesConcurrently()
+      throws Exception {
+    Vehicle vehicle = new Vehicle("some-vehicle");
+    Point point0 = new Point("P0").withType(Point.Type.HALT_POSITION);
+    Point point1 = new Point("P1").withType(Point.Type.HALT_POSITION);
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, Set.of())).thenReturn(pointRouter);
+    when(pointRouter.getRouteSteps(point0, point1)).thenAnswer(invocation -> {
+      // Passing the barrier requires both route computations to be in progress at the same time.
+      barrier.await(5, TimeUnit.SECONDS);
+      return new ArrayList<>();
+    });
+
+    Callable<Optional<Route>> computation
+        = () -> defaultRouter.getRoute(vehicle, point0, point1, Set.of());
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      for (Future<Optional<Route>> result : executor.invokeAll(List.of(computation, computation))) {
+        assertThat(result.get().isPresent(), is(true));
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
 }
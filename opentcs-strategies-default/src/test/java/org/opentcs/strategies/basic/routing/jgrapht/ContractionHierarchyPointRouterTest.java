@@ -0,0 +1,232 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.Route.Step;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Tests for {@link ContractionHierarchyPointRouter}.
+ */
+class ContractionHierarchyPointRouterTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Point pointD;
+
+  private Path pathAB;
+  private Path pathBC;
+  private Path pathAC;
+
+  private Graph<String, Edge> graph;
+  private IndexedGraph indexedGraph;
+
+  private ContractionHierarchyPointRouter pointRouter;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pointD = new Point("D");
+
+    pathAB = new Path("A-->B", pointA.getReference(), pointB.getReference());
+    pathBC = new Path("B-->C", pointB.getReference(), pointC.getReference());
+    pathAC = new Path("A-->C", pointA.getReference(), pointC.getReference());
+
+    Edge edgeAB = new Edge(pathAB, false);
+    Edge edgeBC = new Edge(pathBC, false);
+    Edge edgeAC = new Edge(pathAC, false);
+
+    graph = new DirectedWeightedMultigraph<>(Edge.class);
+    graph.addVertex(pointA.getName());
+    graph.addVertex(pointB.getName());
+    graph.addVertex(pointC.getName());
+    graph.addVertex(pointD.getName());
+    graph.addEdge(pointA.getName(), pointB.getName(), edgeAB);
+    graph.setEdgeWeight(edgeAB, 10);
+    graph.addEdge(pointB.getName(), pointC.getName(), edgeBC);
+    graph.setEdgeWeight(edgeBC, 20);
+    graph.addEdge(pointA.getName(), pointC.getName(), edgeAC);
+    graph.setEdgeWeight(edgeAC, 100);
+    indexedGraph = new IndexedGraph(graph, Set.of(pointA, pointB, pointC, pointD));
+
+    pointRouter = new ContractionHierarchyPointRouter(indexedGraph);
+  }
+
+  @Test
+  void returnZeroCostsIfDestinationIsSource() {
+    assertThat(pointRouter.getCosts(pointA.getReference(), pointA.getReference()), is(0L));
+  }
+
+  @Test
+  void returnEmptyRouteIfDestinationIsSource() {
+    assertThat(pointRouter.getRouteSteps(pointA, pointA), is(empty()));
+  }
+
+  @Test
+  void returnInfiniteCostsIfNoRouteExists() {
+    assertThat(
+        pointRouter.getCosts(pointC.getReference(), pointA.getReference()),
+        is(PointRouter.INFINITE_COSTS)
+    );
+    assertThat(
+        pointRouter.getCosts(pointA.getReference(), pointD.getReference()),
+        is(PointRouter.INFINITE_COSTS)
+    );
+  }
+
+  @Test
+  void returnNullIfNoRouteExists() {
+    assertThat(pointRouter.getRouteSteps(pointC, pointA), is(nullValue()));
+    assertThat(pointRouter.getRouteSteps(pointA, pointD), is(nullValue()));
+  }
+
+  @Test
+  void returnCostsOfCheapestRoute() {
+    assertThat(pointRouter.getCosts(pointA.getReference(), pointC.getReference()), is(30L));
+  }
+
+  @Test
+  void returnStepsOfCheapestRoute() {
+    List<Step> steps = pointRouter.getRouteSteps(pointA, pointC);
+
+    assertThat(steps.stream().map(Step::getPath).toList(), contains(pathAB, pathBC));
+    assertThat(steps.stream().map(Step::getRouteIndex).toList(), contains(0, 1));
+    assertThat(steps.stream().map(Step::getCosts).toList(), contains(10L, 20L));
+  }
+
+  @Test
+  void returnStepsOfCheapestRoutesToMultipleDestinations() {
+    Map<Point, List<Step>> routes
+        = pointRouter.getRouteSteps(pointA, Set.of(pointA, pointB, pointC, pointD));
+
+    assertThat(routes.keySet(), containsInAnyOrder(pointA, pointB, pointC));
+    assertThat(routes.get(pointA), is(empty()));
+    assertThat(routes.get(pointB).stream().map(Step::getPath).toList(), contains(pathAB));
+    assertThat(routes.get(pointC).stream().map(Step::getPath).toList(), contains(pathAB, pathBC));
+    assertThat(routes.get(pointC).stream().map(Step::getCosts).toList(), contains(10L, 20L));
+  }
+
+  @Test
+  void avoidExcludedPaths() {
+    PointRouter maskedRouter = pointRouter.withExclusions(Set.of(), Set.of(pathBC));
+
+    assertThat(maskedRouter.getCosts(pointA.getReference(), pointC.getReference()), is(100L));
+    assertThat(
+        maskedRouter.getRouteSteps(pointA, pointC).stream().map(Step::getPath).toList(),
+        contains(pathAC)
+    );
+  }
+
+  @Test
+  void avoidExcludedPoints() {
+    PointRouter maskedRouter = pointRouter.withExclusions(Set.of(pointB), Set.of());
+
+    assertThat(maskedRouter.getCosts(pointA.getReference(), pointC.getReference()), is(100L));
+    assertThat(
+        maskedRouter.getCosts(pointA.getReference(), pointB.getReference()),
+        is(PointRouter.INFINITE_COSTS)
+    );
+    assertThat(maskedRouter.getRouteSteps(pointA, pointB), is(nullValue()));
+  }
+
+  @Test
+  void leaveOriginalRouterUnaffectedByExclusions() {
+    pointRouter.withExclusions(Set.of(pointB), Set.of(pathBC));
+
+    assertThat(pointRouter.getCosts(pointA.getReference(), pointC.getReference()), is(30L));
+  }
+
+  @Test
+  void reuseRoutersForSameExclusions() {
+    PointRouter excludingRouter = pointRouter.withExclusions(Set.of(), Set.of(pathBC));
+
+    assertThat(
+        pointRouter.withExclusions(Set.of(), Set.of(pathBC)),
+        is(sameInstance(excludingRouter))
+    );
+    assertThat(
+        pointRouter.withExclusions(Set.of(pointB), Set.of()),
+        is(not(sameInstance(excludingRouter)))
+    );
+    assertThat(excludingRouter.getCosts(pointA.getReference(), pointC.getReference()), is(100L));
+  }
+
+  @Test
+  void updateCostsForIncreasedEdgeWeights() {
+    graph.setEdgeWeight(graph.getEdge(pointB.getName(), pointC.getName()), 200);
+    PointRouter updatedRouter = pointRouter.withUpdatedGraph(
+        indexedGraph.withWeightsOf(graph, Set.of(pointA, pointB, pointC, pointD)).orElseThrow()
+    );
+
+    assertThat(updatedRouter.getCosts(pointA.getReference(), pointC.getReference()), is(100L));
+    assertThat(
+        updatedRouter.getRouteSteps(pointA, pointC).stream().map(Step::getPath).toList(),
+        contains(pathAC)
+    );
+    assertThat(pointRouter.getCosts(pointA.getReference(), pointC.getReference()), is(30L));
+  }
+
+  @Test
+  void updateCostsForRemovedAndRestoredEdges() {
+    Edge edgeBC = graph.getEdge(pointB.getName(), pointC.getName());
+    graph.removeEdge(edgeBC);
+    MaskablePointRouter updatedRouter = pointRouter.withUpdatedGraph(
+        indexedGraph.withWeightsOf(graph, Set.of(pointA, pointB, pointC, pointD)).orElseThrow()
+    );
+
+    assertThat(updatedRouter.getCosts(pointA.getReference(), pointC.getReference()), is(100L));
+    assertThat(
+        updatedRouter.getCosts(pointB.getReference(), pointC.getReference()),
+        is(PointRouter.INFINITE_COSTS)
+    );
+
+    graph.addEdge(pointB.getName(), pointC.getName(), edgeBC);
+    graph.setEdgeWeight(edgeBC, 20);
+    updatedRouter = updatedRouter.withUpdatedGraph(
+        indexedGraph.withWeightsOf(graph, Set.of(pointA, pointB, pointC, pointD)).orElseThrow()
+    );
+
+    assertThat(updatedRouter.getCosts(pointA.getReference(), pointC.getReference()), is(30L));
+    assertThat(
+        updatedRouter.getRouteSteps(pointA, pointC).stream().map(Step::getPath).toList(),
+        contains(pathAB, pathBC)
+    );
+  }
+
+  @Test
+  void rejectWeightsOfGraphWithPathsConnectingOtherPoints() {
+    // Simulate a reloaded plant model with a path of the same name connecting other points.
+    Path reloadedPathBC = new Path("B-->C", pointD.getReference(), pointC.getReference());
+    Edge reloadedEdgeBC = new Edge(reloadedPathBC, false);
+    graph.removeEdge(graph.getEdge(pointB.getName(), pointC.getName()));
+    graph.addEdge(pointD.getName(), pointC.getName(), reloadedEdgeBC);
+    graph.setEdgeWeight(reloadedEdgeBC, 20);
+
+    assertThat(
+        indexedGraph.withWeightsOf(graph, Set.of(pointA, pointB, pointC, pointD)).isEmpty(),
+        is(true)
+    );
+  }
+}
@@ -2,17 +2,16 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.routing.jgrapht;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.anyCollection;
-import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
-import java.util.Set;
 import org.jgrapht.graph.DirectedWeightedMultigraph;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,69 +28,47 @@ class GraphProviderTest {
 
   private DefaultModelGraphMapper defaultModelGraphMapper;
   private GroupMapper groupMapper;
-  private GraphMutator graphMutator;
   private GraphProvider graphProvider;
 
   @BeforeEach
   void setUp() {
     defaultModelGraphMapper = mock();
     groupMapper = mock();
-    graphMutator = mock();
     graphProvider = new GraphProvider(
         mock(TCSObjectService.class),
         mock(GeneralModelGraphMapper.class),
         defaultModelGraphMapper,
-        groupMapper,
-        graphMutator
+        groupMapper
     );
   }
 
   @Test
-  void deriveGraphWithSameKeyOnlyOnce() {
+  void computeGraphForSameRoutingGroupOnlyOnce() {
     Vehicle vehicle = new Vehicle("some-vehicle");
+    Vehicle otherVehicle = new Vehicle("some-other-vehicle");
     when(groupMapper.apply(vehicle)).thenReturn("some-group");
+    when(groupMapper.apply(otherVehicle)).thenReturn("some-group");
     when(defaultModelGraphMapper.translateModel(anyCollection(), anyCollection(), eq(vehicle)))
         .thenReturn(new DirectedWeightedMultigraph<>(Edge.class));
-    when(graphMutator.deriveGraph(anySet(), anySet(), any(GraphResult.class)))
-        .thenReturn(
-            new GraphResult(
-                vehicle,
-                Set.of(),
-                Set.of(),
-                Set.of(),
-                Set.of(),
-                new DirectedWeightedMultigraph<>(Edge.class)
-            )
-        );
 
-    graphProvider.getDerivedGraphResult(vehicle, Set.of(), Set.of());
-    verify(graphMutator).deriveGraph(anySet(), anySet(), any(GraphResult.class));
+    GraphResult graphResult = graphProvider.getGraphResult(vehicle);
 
-    graphProvider.getDerivedGraphResult(vehicle, Set.of(), Set.of());
-    verifyNoMoreInteractions(graphMutator);
+    assertThat(graphProvider.getGraphResult(otherVehicle), is(sameInstance(graphResult)));
+    verify(defaultModelGraphMapper).translateModel(anyCollection(), anyCollection(), eq(vehicle));
   }
 
   @Test
-  void deriveGraphWithSameKeyAgainAfterInvalidation() {
+  void computeGraphForSameRoutingGroupAgainAfterInvalidation() {
     Vehicle vehicle = new Vehicle("some-vehicle");
     when(groupMapper.apply(vehicle)).thenReturn("some-group");
     when(defaultModelGraphMapper.translateModel(anyCollection(), anyCollection(), eq(vehicle)))
         .thenReturn(new DirectedWeightedMultigraph<>(Edge.class));
-    when(graphMutator.deriveGraph(anySet(), anySet(), any(GraphResult.class)))
-        .thenReturn(
-            new GraphResult(
-                vehicle,
-                Set.of(),
-                Set.of(),
-                Set.of(),
-                Set.of(),
-                new DirectedWeightedMultigraph<>(Edge.class)
-            )
-        );
 
-    graphProvider.getDerivedGraphResult(vehicle, Set.of(), Set.of());
+    graphProvider.getGraphResult(vehicle);
     graphProvider.invalidate();
-    graphProvider.getDerivedGraphResult(vehicle, Set.of(), Set.of());
-    verify(graphMutator, times(2)).deriveGraph(anySet(), anySet(), any(GraphResult.class));
+    graphProvider.getGraphResult(vehicle);
+
+    verify(defaultModelGraphMapper, times(2))
+        .translateModel(anyCollection(), anyCollection(), eq(vehicle));
   }
 }
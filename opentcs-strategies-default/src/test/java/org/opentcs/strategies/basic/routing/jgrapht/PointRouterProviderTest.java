@@ -172,6 +172,22 @@ public class PointRouterProviderTest {
     return vehicle;
   }
 
+  @Test
+  void shouldInvalidatePointRouterFactory() {
+    pointRouterProvider.invalidate();
+
+    verify(graphProvider).invalidate();
+    verify(pointRouterFactory).invalidate();
+  }
+
+  @Test
+  void shouldInvalidatePointRouterFactoryForEmptyTopologyUpdate() {
+    pointRouterProvider.updateRoutingTopology(Set.of());
+
+    verify(graphProvider).invalidate();
+    verify(pointRouterFactory).invalidate();
+  }
+
   /**
    * Stream filter to check if the second argument of the invocation is equal to the object's name.
    *
@@ -0,0 +1,103 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.data.model.Point;
+
+/**
+ * Unit tests for {@link DeferredAllocations}.
+ */
+class DeferredAllocationsTest {
+
+  private Point point1;
+  private Point point2;
+  private Scheduler.Client client1;
+  private Scheduler.Client client2;
+  private DeferredAllocations deferredAllocations;
+
+  @BeforeEach
+  void setUp() {
+    point1 = new Point("point1");
+    point2 = new Point("point2");
+    client1 = mock();
+    client2 = mock();
+    deferredAllocations = new DeferredAllocations();
+  }
+
+  @Test
+  void wakeUpOnlyAllocationsWaitingForFreedResources() {
+    AllocatorCommand.Allocate allocate1 = new AllocatorCommand.Allocate(client1, Set.of(point1));
+    AllocatorCommand.Allocate allocate2 = new AllocatorCommand.Allocate(client2, Set.of(point2));
+    deferredAllocations.deferUntilFreed(allocate1, Set.of(point1));
+    deferredAllocations.deferUntilFreed(allocate2, Set.of(point2));
+
+    assertThat(deferredAllocations.wakeUp(Set.of(point1)), contains(allocate1));
+    assertThat(deferredAllocations.size(), is(1));
+    assertThat(deferredAllocations.wakeUp(Set.of(point1)), is(empty()));
+    assertThat(deferredAllocations.wakeUp(Set.of(point2)), contains(allocate2));
+    assertThat(deferredAllocations.size(), is(0));
+  }
+
+  @Test
+  void wakeUpAllocationsDeferredForOtherReasonsWhenAnyResourcesAreFreed() {
+    AllocatorCommand.Allocate allocate1 = new AllocatorCommand.Allocate(client1, Set.of(point1));
+    deferredAllocations.defer(allocate1);
+
+    assertThat(deferredAllocations.wakeUp(Set.of(point2)), contains(allocate1));
+  }
+
+  @Test
+  void wakeUpAllocationsInOrderOfDeferral() {
+    AllocatorCommand.Allocate allocate1 = new AllocatorCommand.Allocate(client1, Set.of(point1));
+    AllocatorCommand.Allocate allocate2 = new AllocatorCommand.Allocate(client2, Set.of(point2));
+    deferredAllocations.deferUntilFreed(allocate2, Set.of(point2));
+    deferredAllocations.deferUntilFreed(allocate1, Set.of(point1, point2));
+
+    assertThat(deferredAllocations.wakeUpAll(), contains(allocate2, allocate1));
+  }
+
+  @Test
+  void removeAllocationsOfClearedClient() {
+    AllocatorCommand.Allocate allocate1 = new AllocatorCommand.Allocate(client1, Set.of(point1));
+    AllocatorCommand.Allocate allocate2 = new AllocatorCommand.Allocate(client2, Set.of(point1));
+    deferredAllocations.deferUntilFreed(allocate1, Set.of(point1));
+    deferredAllocations.deferUntilFreed(allocate2, Set.of(point1));
+
+    deferredAllocations.clear(client1);
+
+    assertThat(deferredAllocations.wakeUp(Set.of(point1)), contains(allocate2));
+  }
+
+  @Test
+  void countWakeUpsAndSuccessfulRetries() {
+    AllocatorCommand.Allocate allocate1 = new AllocatorCommand.Allocate(client1, Set.of(point1));
+    AllocatorCommand.Allocate allocate2 = new AllocatorCommand.Allocate(client2, Set.of(point1));
+    deferredAllocations.deferUntilFreed(allocate1, Set.of(point1));
+    deferredAllocations.deferUntilFreed(allocate2, Set.of(point1));
+
+    deferredAllocations.wakeUp(Set.of(point1));
+    deferredAllocations.allocationProcessed(allocate1, true);
+    deferredAllocations.allocationProcessed(allocate2, false);
+
+    assertThat(deferredAllocations.getWakeUpCount(), is(2L));
+    assertThat(deferredAllocations.getSuccessfulRetryCount(), is(1L));
+
+    // Allocations that have not been woken up are not counted as retries.
+    deferredAllocations.allocationProcessed(
+        new AllocatorCommand.Allocate(client1, Set.of(point2)),
+        true
+    );
+
+    assertThat(deferredAllocations.getSuccessfulRetryCount(), is(1L));
+  }
+}
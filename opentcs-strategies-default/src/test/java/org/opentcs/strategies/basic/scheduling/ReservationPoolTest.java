@@ -122,6 +122,46 @@ class ReservationPoolTest {
     assertThat(reservationPool.getAllocations(), is(anEmptyMap()));
   }
 
+  @Test
+  void reflectAllocatedResourcesPerClient() {
+    Scheduler.Client otherClient = new TestClient();
+    Point point1 = new Point("point1");
+    Point point2 = new Point("point2");
+    reservationPool.getReservationEntry(point1).allocate(client);
+    reservationPool.getReservationEntry(point1).allocate(client);
+    reservationPool.getReservationEntry(point2).allocate(otherClient);
+
+    assertThat(reservationPool.allocatedResources(client), is(Set.of(point1)));
+    assertThat(reservationPool.allocatedResources(otherClient), is(Set.of(point2)));
+
+    // The resource is allocated twice, so it is still allocated after being freed once.
+    reservationPool.free(client, Set.of(point1));
+    assertThat(reservationPool.allocatedResources(client), is(Set.of(point1)));
+
+    reservationPool.free(client, Set.of(point1));
+    assertThat(reservationPool.allocatedResources(client), is(empty()));
+    assertThat(reservationPool.allocatedResources(otherClient), is(Set.of(point2)));
+  }
+
+  @Test
+  void reflectResourcesUnavailableForUser() {
+    Scheduler.Client otherClient = new TestClient();
+    Point point1 = new Point("point1");
+    Point point2 = new Point("point2");
+    Point point3 = new Point("point3");
+    reservationPool.getReservationEntry(point1).allocate(client);
+    reservationPool.getReservationEntry(point2).allocate(otherClient);
+
+    assertThat(
+        reservationPool.unavailableResourcesForUser(Set.of(point1, point2, point3), client),
+        is(Set.of(point2))
+    );
+    assertThat(
+        reservationPool.unavailableResourcesForUser(Set.of(point1, point2, point3), otherClient),
+        is(Set.of(point1))
+    );
+  }
+
   /**
    * A dummy client for cases in which we need to provide a client but do not have a real one.
    */
@@ -5,7 +5,6 @@ package org.opentcs.strategies.basic.scheduling.modules;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -51,7 +50,7 @@ class SingleVehicleBlockModuleTest {
     Scheduler.Client client = new SampleClient();
     ModelData model = new ModelData();
 
-    when(plantModelService.fetchObjects(eq(Block.class), any())).thenReturn(new HashSet<>());
+    when(plantModelService.fetchBlocksContaining(any())).thenReturn(new HashSet<>());
     assertTrue(module.mayAllocate(client, model.resourcesToAllocate));
   }
 
@@ -60,7 +59,7 @@ class SingleVehicleBlockModuleTest {
     Scheduler.Client client = new SampleClient();
     ModelData model = new ModelData();
 
-    when(plantModelService.fetchObjects(eq(Block.class), any()))
+    when(plantModelService.fetchBlocksContaining(any()))
         .thenReturn(new HashSet<>(Arrays.asList(model.getBlock())));
     when(plantModelService.expandResources(any())).thenReturn(model.getBlockResources());
     when(reservationPool.resourcesAvailableForUser(model.getBlockResources(), client))
@@ -73,7 +72,7 @@ class SingleVehicleBlockModuleTest {
     Scheduler.Client client = new SampleClient();
     ModelData model = new ModelData();
 
-    when(plantModelService.fetchObjects(eq(Block.class), any()))
+    when(plantModelService.fetchBlocksContaining(any()))
         .thenReturn(new HashSet<>(Arrays.asList(model.getBlock())));
     when(plantModelService.expandResources(any())).thenReturn(model.getBlockResources());
     when(reservationPool.resourcesAvailableForUser(model.getBlockResources(), client))
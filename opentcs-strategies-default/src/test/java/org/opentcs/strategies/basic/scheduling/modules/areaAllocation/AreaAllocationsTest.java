@@ -106,6 +106,62 @@ class AreaAllocationsTest {
     assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), requestedArea));
   }
 
+  @Test
+  void allowAreaAllocationWhenAreaIsNotIntersectingAreasAllocatedByOtherVehicles() {
+    // Arrange
+    GeometryCollection allocatedArea = createCollectionWithOneGeometry(
+        new Coordinate(0, 0),
+        new Coordinate(0, 10),
+        new Coordinate(10, 10),
+        new Coordinate(10, 0),
+        new Coordinate(0, 0)
+    );
+    GeometryCollection requestedArea = createCollectionWithOneGeometry(
+        new Coordinate(20, 0),
+        new Coordinate(20, 10),
+        new Coordinate(30, 10),
+        new Coordinate(30, 0),
+        new Coordinate(20, 0)
+    );
+    areaAllocations.setAreaAllocation(
+        new Vehicle("some-other-vehicle").getReference(),
+        allocatedArea
+    );
+
+    // Act & Assert
+    assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), requestedArea));
+  }
+
+  @Test
+  void allowAreaAllocationWhenAreaIsNoLongerAllocatedByAnotherVehicle() {
+    // Arrange
+    GeometryCollection requestedArea = createCollectionWithOneGeometry(
+        new Coordinate(0, 0),
+        new Coordinate(0, 10),
+        new Coordinate(10, 10),
+        new Coordinate(10, 0),
+        new Coordinate(0, 0)
+    );
+    GeometryCollection otherArea = createCollectionWithOneGeometry(
+        new Coordinate(20, 0),
+        new Coordinate(20, 10),
+        new Coordinate(30, 10),
+        new Coordinate(30, 0),
+        new Coordinate(20, 0)
+    );
+    Vehicle vehicle2 = new Vehicle("some-other-vehicle");
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), requestedArea);
+
+    // Act & Assert: Replacing the other vehicle's allocation
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), otherArea);
+    assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), requestedArea));
+    assertFalse(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), otherArea));
+
+    // Act & Assert: Clearing the other vehicle's allocation
+    areaAllocations.clearAreaAllocation(vehicle2.getReference());
+    assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), otherArea));
+  }
+
   private GeometryCollection createCollectionWithOneGeometry(Coordinate... coordinates) {
     GeometryFactory geometryFactory = new GeometryFactory();
     return geometryFactory.createGeometryCollection(
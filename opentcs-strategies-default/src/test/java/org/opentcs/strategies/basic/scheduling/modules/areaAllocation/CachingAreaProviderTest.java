@@ -125,6 +125,14 @@ class CachingAreaProviderTest {
         "some-envelope-key", Set.of(point3, path2)
     );
     assertThat(result.getNumGeometries(), is(1));
+
+    // Act & Assert: Prepared areas
+    assertThat(
+        areaProvider.getPreparedAreas(
+            "some-envelope-key", Set.of(point2, path1, point3, path2)
+        ).size(),
+        is(3)
+    );
   }
 
   @Test